@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.action.execution.impl;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -47,6 +48,7 @@ import org.wso2.carbon.identity.action.execution.model.Request;
 import org.wso2.carbon.identity.action.execution.model.Success;
 import org.wso2.carbon.identity.action.execution.model.SuccessStatus;
 import org.wso2.carbon.identity.action.execution.util.APIClient;
+import org.wso2.carbon.identity.action.execution.util.ActionCircuitBreaker;
 import org.wso2.carbon.identity.action.execution.util.ActionExecutionDiagnosticLogger;
 import org.wso2.carbon.identity.action.execution.util.ActionExecutorConfig;
 import org.wso2.carbon.identity.action.execution.util.AuthMethods;
@@ -57,14 +59,10 @@ import org.wso2.carbon.identity.action.management.model.Action;
 import org.wso2.carbon.identity.action.management.model.AuthProperty;
 import org.wso2.carbon.identity.action.management.model.Authentication;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
-import org.wso2.carbon.identity.core.ThreadLocalAwareExecutors;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 /**
@@ -76,15 +74,20 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
 
     private static final Log LOG = LogFactory.getLog(ActionExecutorServiceImpl.class);
 
-    private static final int THREAD_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+    private static final ObjectWriter REQUEST_WRITER =
+            new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_EMPTY).writer();
+    private static final ObjectWriter RESPONSE_WRITER = new ObjectMapper().writer();
     private static final ActionExecutorServiceImpl INSTANCE = new ActionExecutorServiceImpl();
     private static final ActionExecutionDiagnosticLogger DIAGNOSTIC_LOGGER = new ActionExecutionDiagnosticLogger();
     private final APIClient apiClient;
-    private final ExecutorService executorService = ThreadLocalAwareExecutors.newFixedThreadPool(THREAD_POOL_SIZE);
+    private final ActionCircuitBreaker circuitBreaker;
 
     private ActionExecutorServiceImpl() {
 
         apiClient = new APIClient();
+        ActionExecutorConfig config = ActionExecutorConfig.getInstance();
+        circuitBreaker = config.isCircuitBreakerEnabled() ? new ActionCircuitBreaker(
+                config.getCircuitBreakerFailureThreshold(), config.getCircuitBreakerOpenDurationInMillis()) : null;
     }
 
     public static ActionExecutorServiceImpl getInstance() {
@@ -260,8 +263,7 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
 
             logActionRequest(action, payload);
 
-            ActionInvocationResponse actionInvocationResponse =
-                    executeActionAsynchronously(action, authenticationMethod, payload);
+            ActionInvocationResponse actionInvocationResponse = invokeAction(action, authenticationMethod, payload);
             return processActionResponse(action, actionInvocationResponse, eventContext, actionRequest,
                     actionExecutionResponseProcessor);
         } catch (ActionMgtException | JsonProcessingException | ActionExecutionResponseProcessorException e) {
@@ -269,18 +271,34 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
         }
     }
 
-    private ActionInvocationResponse executeActionAsynchronously(Action action,
-                                                                 AuthMethods.AuthMethod authenticationMethod,
-                                                                 String payload) throws ActionExecutionException {
+    /**
+     * Call the endpoint of the action on the current thread. The result is needed to continue the flow, hence handing
+     * the call over to another thread would only keep one more thread waiting for the endpoint.
+     */
+    private ActionInvocationResponse invokeAction(Action action, AuthMethods.AuthMethod authenticationMethod,
+                                                  String payload) throws ActionExecutionException {
 
-        String apiEndpoint = action.getEndpoint().getUri();
-        CompletableFuture<ActionInvocationResponse> actionExecutor = CompletableFuture.supplyAsync(
-                () -> apiClient.callAPI(apiEndpoint, authenticationMethod, payload), executorService);
+        if (circuitBreaker == null) {
+            return apiClient.callAPI(action.getEndpoint().getUri(), authenticationMethod, payload);
+        }
+        if (!circuitBreaker.allowInvocation(action.getId())) {
+            throw new ActionExecutionException("Endpoint of action: " + action.getId() + " is unavailable. " +
+                    "Skipped invoking the action until the endpoint recovers.");
+        }
+        boolean endpointResponded = false;
         try {
-            return actionExecutor.get();
-        } catch (InterruptedException | ExecutionException e) {
-            throw new ActionExecutionException("Error occurred while executing action: " + action.getId(),
-                    e);
+            ActionInvocationResponse actionInvocationResponse =
+                    apiClient.callAPI(action.getEndpoint().getUri(), authenticationMethod, payload);
+            // An endpoint which responds with an error payload is reachable, only the lack of a response counts.
+            endpointResponded = actionInvocationResponse.getResponse() != null;
+            return actionInvocationResponse;
+        } finally {
+            // Recorded in all cases, so that a trial invocation which throws does not leave the circuit half open.
+            if (endpointResponded) {
+                circuitBreaker.recordSuccess(action.getId());
+            } else {
+                circuitBreaker.recordFailure(action.getId());
+            }
         }
     }
 
@@ -447,28 +465,22 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
 
     private String serializeRequest(ActionExecutionRequest request) throws JsonProcessingException {
 
-        ObjectMapper requestObjectmapper = new ObjectMapper();
-        requestObjectmapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-        requestObjectmapper.setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
-        return requestObjectmapper.writeValueAsString(request);
+        return REQUEST_WRITER.writeValueAsString(request);
     }
 
     private String serializeSuccessResponse(ActionInvocationSuccessResponse response) throws JsonProcessingException {
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(response);
+        return RESPONSE_WRITER.writeValueAsString(response);
     }
 
     private String serializeErrorResponse(ActionInvocationErrorResponse response) throws JsonProcessingException {
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(response);
+        return RESPONSE_WRITER.writeValueAsString(response);
     }
 
     private String serializeFailureResponse(ActionInvocationFailureResponse response) throws JsonProcessingException {
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(response);
+        return RESPONSE_WRITER.writeValueAsString(response);
     }
 
     private List<PerformableOperation> validatePerformableOperations(
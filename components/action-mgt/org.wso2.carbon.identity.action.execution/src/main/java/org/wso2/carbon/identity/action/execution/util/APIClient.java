@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.action.execution.util;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.HttpEntity;
@@ -44,6 +45,7 @@ import org.wso2.carbon.identity.action.execution.model.ActionInvocationSuccessRe
 import java.io.IOException;
 import java.net.SocketTimeoutException;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * This class is responsible for making API calls to the external services.
@@ -53,6 +55,12 @@ public class APIClient {
     private static final Log LOG = LogFactory.getLog(APIClient.class);
     private static final ActionExecutionDiagnosticLogger DIAGNOSTIC_LOGGER = new ActionExecutionDiagnosticLogger();
     private static final String ACTION_STATUS = "actionStatus";
+    private static final int MAX_RETRY_BACKOFF_IN_MILLIS = 2000;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectReader SUCCESS_RESPONSE_READER =
+            OBJECT_MAPPER.readerFor(ActionInvocationSuccessResponse.class);
+    private static final ObjectReader FAILURE_RESPONSE_READER =
+            OBJECT_MAPPER.readerFor(ActionInvocationFailureResponse.class);
     private final CloseableHttpClient httpClient;
 
     public APIClient() {
@@ -71,6 +79,8 @@ public class APIClient {
                 .build();
         PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
         connectionManager.setMaxTotal(ActionExecutorConfig.getInstance().getHttpConnectionPoolSize());
+        // Actions of a tenant usually share an endpoint, hence allow it to use the whole pool instead of the default 2.
+        connectionManager.setDefaultMaxPerRoute(ActionExecutorConfig.getInstance().getHttpConnectionPoolSize());
         httpClient = HttpClientBuilder.create().setDefaultRequestConfig(config).setConnectionManager(connectionManager)
                 .build();
     }
@@ -122,6 +132,9 @@ public class APIClient {
                 request.releaseConnection();
             }
             attempts++;
+            if (attempts < retryCount && !waitBeforeRetry(attempts)) {
+                break;
+            }
         }
 
         LOG.warn("Maximum retry attempts reached for API: " + request.getURI());
@@ -129,6 +142,29 @@ public class APIClient {
                 .errorLog("Failed to execute the action request or maximum retry attempts reached.").build();
     }
 
+    /**
+     * Wait before retrying the request. The delay grows exponentially with the number of attempts made and is
+     * randomized so that requests failed at the same time are not retried at the same time.
+     *
+     * @param attempts Number of attempts made so far.
+     * @return False if the thread was interrupted while waiting.
+     */
+    private boolean waitBeforeRetry(int attempts) {
+
+        int backoff = ActionExecutorConfig.getInstance().getHttpRequestRetryBackoffInMillis();
+        if (backoff <= 0) {
+            return true;
+        }
+        long maxDelay = Math.min(MAX_RETRY_BACKOFF_IN_MILLIS, (long) backoff << Math.min(attempts - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxDelay / 2, maxDelay + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     private ActionInvocationResponse handleResponse(HttpResponse response) {
 
         int statusCode = response.getStatusLine().getStatusCode();
@@ -241,16 +277,16 @@ public class APIClient {
 
         try {
             String jsonResponse = validateJsonResponse(responseEntity);
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rootNode = objectMapper.readTree(jsonResponse);
+            JsonNode rootNode = OBJECT_MAPPER.readTree(jsonResponse);
             String actionStatus = rootNode.path(ACTION_STATUS).asText();
             if (actionStatus.isEmpty()) {
                 throw new ActionInvocationException("Reading JSON response failed.");
             }
+            // Bind the already parsed tree instead of parsing the response again.
             if (actionStatus.equals(ActionExecutionStatus.Status.SUCCESS.name())) {
-                return objectMapper.readValue(jsonResponse, ActionInvocationSuccessResponse.class);
+                return SUCCESS_RESPONSE_READER.readValue(rootNode);
             } else {
-                return objectMapper.readValue(jsonResponse, ActionInvocationFailureResponse.class);
+                return FAILURE_RESPONSE_READER.readValue(rootNode);
             }
         } catch (IOException e) {
             throw new ActionInvocationException("Reading JSON response failed.", e);
@@ -261,8 +297,7 @@ public class APIClient {
 
         try {
             String jsonResponse = validateJsonResponse(responseEntity);
-            ObjectMapper objectMapper = new ObjectMapper();
-            return objectMapper.readValue(jsonResponse, returnType);
+            return OBJECT_MAPPER.readerFor(returnType).readValue(jsonResponse);
         } catch (IOException e) {
             throw new ActionInvocationException("Parsing JSON response failed.", e);
         }
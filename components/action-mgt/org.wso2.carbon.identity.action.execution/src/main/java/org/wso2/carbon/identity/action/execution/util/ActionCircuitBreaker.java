@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Circuit breaker which keeps track of the availability of the endpoint of each action.
+ * <p>
+ * After the configured number of consecutive failed invocations of an action, the circuit of the action is opened and
+ * invocations are rejected without calling the endpoint until the open duration elapses. Then a single trial
+ * invocation is allowed. The circuit is closed if the trial succeeds and opened again if it fails.
+ * <p>
+ * Only actions with failed invocations are tracked. The number of tracked actions is bounded, and actions without
+ * failures for longer than the idle period, such as deleted actions, are evicted when the bound is reached.
+ */
+public class ActionCircuitBreaker {
+
+    private static final Log LOG = LogFactory.getLog(ActionCircuitBreaker.class);
+    private static final int DEFAULT_MAX_TRACKED_ACTIONS = 10000;
+    private static final long MIN_IDLE_EVICTION_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final int maxTrackedActions;
+    private final long idleEvictionNanos;
+    private final Map<String, CircuitState> circuits = new ConcurrentHashMap<>();
+
+    public ActionCircuitBreaker(int failureThreshold, long openDurationInMillis) {
+
+        this(failureThreshold, openDurationInMillis, DEFAULT_MAX_TRACKED_ACTIONS);
+    }
+
+    ActionCircuitBreaker(int failureThreshold, long openDurationInMillis, int maxTrackedActions) {
+
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, openDurationInMillis));
+        this.maxTrackedActions = Math.max(1, maxTrackedActions);
+        this.idleEvictionNanos = Math.max(openDurationNanos, MIN_IDLE_EVICTION_NANOS);
+    }
+
+    /**
+     * Check whether the endpoint of the action can be invoked.
+     *
+     * @param actionId Action ID.
+     * @return False if the circuit of the action is open.
+     */
+    public boolean allowInvocation(String actionId) {
+
+        CircuitState circuit = circuits.get(actionId);
+        if (circuit == null || !circuit.open) {
+            return true;
+        }
+        if (System.nanoTime() - circuit.openedAt < openDurationNanos) {
+            return false;
+        }
+        // Allow only one trial invocation once the open duration has elapsed.
+        return circuit.trialInProgress.compareAndSet(false, true);
+    }
+
+    /**
+     * Record a successful invocation of the endpoint of the action.
+     *
+     * @param actionId Action ID.
+     */
+    public void recordSuccess(String actionId) {
+
+        CircuitState circuit = circuits.remove(actionId);
+        if (circuit != null && circuit.open && LOG.isDebugEnabled()) {
+            LOG.debug("Closing the circuit of action: " + actionId + " as the endpoint is available again.");
+        }
+    }
+
+    /**
+     * Record a failed invocation of the endpoint of the action.
+     *
+     * @param actionId Action ID.
+     */
+    public void recordFailure(String actionId) {
+
+        if (!circuits.containsKey(actionId) && circuits.size() >= maxTrackedActions) {
+            evictIdleCircuits();
+            if (circuits.size() >= maxTrackedActions) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Maximum number of tracked actions reached. Failure of action: " + actionId +
+                            " is not tracked.");
+                }
+                return;
+            }
+        }
+        CircuitState circuit = circuits.computeIfAbsent(actionId, id -> new CircuitState());
+        circuit.lastFailureAt = System.nanoTime();
+        int failures = circuit.consecutiveFailures.incrementAndGet();
+        if (circuit.trialInProgress.get() || failures >= failureThreshold) {
+            synchronized (circuit) {
+                if (!circuit.open) {
+                    LOG.warn("Opening the circuit of action: " + actionId + " after " + failures +
+                            " consecutive failed invocations.");
+                }
+                circuit.openedAt = System.nanoTime();
+                circuit.open = true;
+                circuit.trialInProgress.set(false);
+            }
+        }
+    }
+
+    /**
+     * Check whether the circuit of the action is open.
+     *
+     * @param actionId Action ID.
+     * @return True if invocations of the action are currently rejected.
+     */
+    public boolean isOpen(String actionId) {
+
+        CircuitState circuit = circuits.get(actionId);
+        return circuit != null && circuit.open;
+    }
+
+    /**
+     * Get the number of actions whose failures are currently tracked.
+     *
+     * @return Number of tracked actions.
+     */
+    int getTrackedActionCount() {
+
+        return circuits.size();
+    }
+
+    private void evictIdleCircuits() {
+
+        long now = System.nanoTime();
+        circuits.values().removeIf(circuit ->
+                !circuit.trialInProgress.get() && now - circuit.lastFailureAt > idleEvictionNanos);
+    }
+
+    /**
+     * Failure state of the endpoint of an action.
+     */
+    private static class CircuitState {
+
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final AtomicBoolean trialInProgress = new AtomicBoolean();
+        private volatile boolean open;
+        private volatile long openedAt;
+        private volatile long lastFailureAt;
+    }
+}
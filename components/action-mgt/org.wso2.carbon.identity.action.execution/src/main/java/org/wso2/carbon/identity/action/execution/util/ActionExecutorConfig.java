@@ -50,11 +50,18 @@ public class ActionExecutorConfig {
     private static final String HTTP_CONNECTION_TIMEOUT_PROPERTY = "Actions.HTTPClient.HTTPConnectionTimeout";
     private static final String HTTP_CONNECTION_POOL_SIZE_PROPERTY = "Actions.HTTPClient.HTTPConnectionPoolSize";
     private static final String HTTP_REQUEST_RETRY_COUNT_PROPERTY = "Actions.HTTPClient.HTTPRequestRetryCount";
+    private static final String HTTP_REQUEST_RETRY_BACKOFF_PROPERTY = "Actions.HTTPClient.HTTPRequestRetryBackoff";
+    private static final String CIRCUIT_BREAKER_ENABLE_PROPERTY = "Actions.CircuitBreaker.Enable";
+    private static final String CIRCUIT_BREAKER_FAILURE_THRESHOLD_PROPERTY = "Actions.CircuitBreaker.FailureThreshold";
+    private static final String CIRCUIT_BREAKER_OPEN_DURATION_PROPERTY = "Actions.CircuitBreaker.OpenDuration";
     private static final int DEFAULT_HTTP_REQUEST_RETRY_COUNT = 2;
     private static final int DEFAULT_HTTP_CONNECTION_POOL_SIZE = 20;
     private static final int DEFAULT_HTTP_READ_TIMEOUT_IN_MILLIS = 5000;
     private static final int DEFAULT_HTTP_CONNECTION_REQUEST_TIMEOUT_IN_MILLIS = 2000;
     private static final int DEFAULT_HTTP_CONNECTION_TIMEOUT_IN_MILLIS = 2000;
+    private static final int DEFAULT_HTTP_REQUEST_RETRY_BACKOFF_IN_MILLIS = 100;
+    private static final int DEFAULT_CIRCUIT_BREAKER_FAILURE_THRESHOLD = 5;
+    private static final int DEFAULT_CIRCUIT_BREAKER_OPEN_DURATION_IN_MILLIS = 30000;
 
     private ActionExecutorConfig() {
 
@@ -136,7 +143,7 @@ public class ActionExecutorConfig {
      */
     public int getHttpReadTimeoutInMillis() {
 
-        return parseTimeoutConfig(HTTP_READ_TIMEOUT_PROPERTY, DEFAULT_HTTP_READ_TIMEOUT_IN_MILLIS);
+        return parseIntegerConfig(HTTP_READ_TIMEOUT_PROPERTY, DEFAULT_HTTP_READ_TIMEOUT_IN_MILLIS);
     }
 
     /**
@@ -147,7 +154,7 @@ public class ActionExecutorConfig {
      */
     public int getHttpConnectionRequestTimeoutInMillis() {
 
-        return parseTimeoutConfig(HTTP_CONNECTION_REQUEST_TIMEOUT_PROPERTY,
+        return parseIntegerConfig(HTTP_CONNECTION_REQUEST_TIMEOUT_PROPERTY,
                 DEFAULT_HTTP_CONNECTION_REQUEST_TIMEOUT_IN_MILLIS);
     }
 
@@ -159,22 +166,67 @@ public class ActionExecutorConfig {
      */
     public int getHttpConnectionTimeoutInMillis() {
 
-        return parseTimeoutConfig(HTTP_CONNECTION_TIMEOUT_PROPERTY, DEFAULT_HTTP_CONNECTION_TIMEOUT_IN_MILLIS);
+        return parseIntegerConfig(HTTP_CONNECTION_TIMEOUT_PROPERTY, DEFAULT_HTTP_CONNECTION_TIMEOUT_IN_MILLIS);
     }
 
-    private int parseTimeoutConfig(String timeoutTypeName, int defaultTimeout) {
+    /**
+     * Retrieves the base delay before retrying a failed HTTP request. The delay is doubled for each subsequent
+     * attempt and randomized to spread the retries of concurrent requests.
+     *
+     * @return The HTTP request retry backoff int value in milliseconds.
+     */
+    public int getHttpRequestRetryBackoffInMillis() {
+
+        return parseIntegerConfig(HTTP_REQUEST_RETRY_BACKOFF_PROPERTY, DEFAULT_HTTP_REQUEST_RETRY_BACKOFF_IN_MILLIS);
+    }
+
+    /**
+     * Returns whether invocations of an action should be rejected without calling the endpoint, while the endpoint
+     * of the action keeps failing.
+     *
+     * @return 'true' if the circuit breaker is enabled, 'false' otherwise.
+     */
+    public boolean isCircuitBreakerEnabled() {
+
+        return Boolean.parseBoolean((String) IdentityConfigParser.getInstance().getConfiguration()
+                .get(CIRCUIT_BREAKER_ENABLE_PROPERTY));
+    }
+
+    /**
+     * Retrieves the number of consecutive failed invocations of an action after which its circuit is opened.
+     *
+     * @return The circuit breaker failure threshold.
+     */
+    public int getCircuitBreakerFailureThreshold() {
+
+        return parseIntegerConfig(CIRCUIT_BREAKER_FAILURE_THRESHOLD_PROPERTY,
+                DEFAULT_CIRCUIT_BREAKER_FAILURE_THRESHOLD);
+    }
+
+    /**
+     * Retrieves the duration for which invocations of an action are rejected once its circuit is opened.
+     *
+     * @return The circuit breaker open duration int value in milliseconds.
+     */
+    public int getCircuitBreakerOpenDurationInMillis() {
+
+        return parseIntegerConfig(CIRCUIT_BREAKER_OPEN_DURATION_PROPERTY,
+                DEFAULT_CIRCUIT_BREAKER_OPEN_DURATION_IN_MILLIS);
+    }
+
+    private int parseIntegerConfig(String propertyName, int defaultValue) {
 
-        int timeoutPropertyValue = defaultTimeout;
-        String timeoutValue = (String) IdentityConfigParser.getInstance().getConfiguration().get(timeoutTypeName);
-        if (StringUtils.isNotBlank(timeoutValue)) {
+        int propertyValue = defaultValue;
+        String value = (String) IdentityConfigParser.getInstance().getConfiguration().get(propertyName);
+        if (StringUtils.isNotBlank(value)) {
             try {
-                timeoutPropertyValue = Integer.parseInt(timeoutValue);
+                propertyValue = Integer.parseInt(value);
             } catch (NumberFormatException e) {
-                LOG.debug("Failed to read " + timeoutTypeName + " property in identity.xml." +
-                        " Expects a number. Using the default value: " + defaultTimeout, e);
+                LOG.debug("Failed to read " + propertyName + " property in identity.xml." +
+                        " Expects a number. Using the default value: " + defaultValue, e);
             }
         }
-        return timeoutPropertyValue;
+        return propertyValue;
     }
 
     private boolean isActionTypeEnabled(String actionTypePropertyName) {
@@ -57,6 +57,7 @@ import org.wso2.carbon.identity.action.execution.model.Tenant;
 import org.wso2.carbon.identity.action.execution.model.User;
 import org.wso2.carbon.identity.action.execution.model.UserStore;
 import org.wso2.carbon.identity.action.execution.util.APIClient;
+import org.wso2.carbon.identity.action.execution.util.ActionCircuitBreaker;
 import org.wso2.carbon.identity.action.execution.util.ActionExecutionDiagnosticLogger;
 import org.wso2.carbon.identity.action.execution.util.ActionExecutorConfig;
 import org.wso2.carbon.identity.action.execution.util.RequestFilter;
@@ -82,9 +83,11 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
 
 public class ActionExecutorServiceImplTest {
 
@@ -409,6 +412,45 @@ public class ActionExecutorServiceImplTest {
         verify(apiClient).callAPI(any(), any(), eq(payload));
     }
 
+    @Test
+    public void testCircuitTrialWhichThrowsAllowsNextTrial() throws Exception {
+
+        ActionType actionType = ActionType.PRE_ISSUE_ACCESS_TOKEN;
+        Map<String, Object> eventContext = Collections.emptyMap();
+        Action action = createAction();
+        when(actionManagementService.getActionsByActionType(any(), any())).thenReturn(
+                Collections.singletonList(action));
+        actionExecutionRequestBuilderFactory.when(
+                        () -> ActionExecutionRequestBuilderFactory.getActionExecutionRequestBuilder(any()))
+                .thenReturn(actionExecutionRequestBuilder);
+        actionExecutionResponseProcessorFactory.when(() -> ActionExecutionResponseProcessorFactory
+                        .getActionExecutionResponseProcessor(any()))
+                .thenReturn(actionExecutionResponseProcessor);
+        ActionExecutionRequest actionExecutionRequest = createActionExecutionRequest(actionType);
+        when(actionExecutionRequestBuilder.getSupportedActionType()).thenReturn(actionType);
+        when(actionExecutionRequestBuilder.buildActionExecutionRequest(eventContext)).thenReturn(
+                actionExecutionRequest);
+        when(apiClient.callAPI(any(), any(), any())).thenThrow(new IllegalStateException("Connection reset."));
+
+        // Every invocation opens the circuit, and the open duration elapses immediately.
+        setField(actionExecutorService, "circuitBreaker", new ActionCircuitBreaker(1, 0));
+        try {
+            for (int i = 0; i < 3; i++) {
+                try {
+                    actionExecutorService.execute(actionType, eventContext, "tenantDomain");
+                    fail("Expected the invocation to fail.");
+                } catch (IllegalStateException e) {
+                    // Expected, the endpoint call failed.
+                }
+            }
+            // The second and the third invocations are trials, which are only allowed if the failed trial
+            // before them has been recorded.
+            verify(apiClient, times(3)).callAPI(any(), any(), any());
+        } finally {
+            setField(actionExecutorService, "circuitBreaker", null);
+        }
+    }
+
     @Test
     public void testExecuteSuccess() throws Exception {
         // Setup
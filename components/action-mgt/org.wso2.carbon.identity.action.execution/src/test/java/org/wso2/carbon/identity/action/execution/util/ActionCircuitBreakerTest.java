@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.util;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ActionCircuitBreakerTest {
+
+    private static final String ACTION_ID = "action-1";
+    private static final String OTHER_ACTION_ID = "action-2";
+
+    @Test
+    public void testCircuitOpensAfterConsecutiveFailures() {
+
+        ActionCircuitBreaker circuitBreaker = new ActionCircuitBreaker(2, 60000);
+
+        circuitBreaker.recordFailure(ACTION_ID);
+        assertTrue(circuitBreaker.allowInvocation(ACTION_ID));
+        circuitBreaker.recordFailure(ACTION_ID);
+
+        assertTrue(circuitBreaker.isOpen(ACTION_ID));
+        assertFalse(circuitBreaker.allowInvocation(ACTION_ID));
+        assertTrue(circuitBreaker.allowInvocation(OTHER_ACTION_ID));
+    }
+
+    @Test
+    public void testSuccessResetsFailures() {
+
+        ActionCircuitBreaker circuitBreaker = new ActionCircuitBreaker(2, 60000);
+
+        circuitBreaker.recordFailure(ACTION_ID);
+        circuitBreaker.recordSuccess(ACTION_ID);
+        circuitBreaker.recordFailure(ACTION_ID);
+
+        assertFalse(circuitBreaker.isOpen(ACTION_ID));
+        assertTrue(circuitBreaker.allowInvocation(ACTION_ID));
+    }
+
+    @Test
+    public void testSingleTrialAfterOpenDuration() {
+
+        ActionCircuitBreaker circuitBreaker = new ActionCircuitBreaker(1, 0);
+        circuitBreaker.recordFailure(ACTION_ID);
+
+        assertTrue(circuitBreaker.allowInvocation(ACTION_ID));
+        assertFalse(circuitBreaker.allowInvocation(ACTION_ID), "Only one trial invocation should be allowed.");
+
+        circuitBreaker.recordSuccess(ACTION_ID);
+        assertFalse(circuitBreaker.isOpen(ACTION_ID));
+        assertTrue(circuitBreaker.allowInvocation(ACTION_ID));
+    }
+
+    @Test
+    public void testFailedTrialReopensCircuit() {
+
+        ActionCircuitBreaker circuitBreaker = new ActionCircuitBreaker(3, 0);
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.recordFailure(ACTION_ID);
+        }
+
+        assertTrue(circuitBreaker.allowInvocation(ACTION_ID));
+        circuitBreaker.recordFailure(ACTION_ID);
+
+        assertTrue(circuitBreaker.isOpen(ACTION_ID));
+        assertTrue(circuitBreaker.allowInvocation(ACTION_ID), "A new trial should be allowed after reopening.");
+    }
+
+    @Test
+    public void testTrackedActionsAreBounded() {
+
+        ActionCircuitBreaker circuitBreaker = new ActionCircuitBreaker(1, 60000, 1);
+        circuitBreaker.recordFailure(ACTION_ID);
+        circuitBreaker.recordFailure(OTHER_ACTION_ID);
+
+        assertEquals(circuitBreaker.getTrackedActionCount(), 1);
+        assertTrue(circuitBreaker.isOpen(ACTION_ID));
+        assertFalse(circuitBreaker.isOpen(OTHER_ACTION_ID));
+        assertTrue(circuitBreaker.allowInvocation(OTHER_ACTION_ID));
+    }
+}
@@ -378,4 +378,23 @@ public class ActionExecutorConfigTest {
         when(mockIdentityConfigParser.getConfiguration()).thenReturn(configMap);
         Assert.assertEquals(2, actionExecutorConfig.getHttpRequestRetryCount());
     }
+
+    @Test
+    public void testGetHttpRequestRetryBackoff() {
+
+        Map<String, Object> configMap = new HashMap<>();
+        configMap.put("Actions.HTTPClient.HTTPRequestRetryBackoff", "250");
+        when(mockIdentityConfigParser.getConfiguration()).thenReturn(configMap);
+        Assert.assertEquals(250, actionExecutorConfig.getHttpRequestRetryBackoffInMillis());
+    }
+
+    @Test
+    public void testGetHttpRequestRetryBackoffForInvalidConfig() {
+
+        //If the server configuration value is not a number, the default http request retry backoff of 100 is parsed
+        Map<String, Object> configMap = new HashMap<>();
+        configMap.put("Actions.HTTPClient.HTTPRequestRetryBackoff", "value");
+        when(mockIdentityConfigParser.getConfiguration()).thenReturn(configMap);
+        Assert.assertEquals(100, actionExecutorConfig.getHttpRequestRetryBackoffInMillis());
+    }
 }
@@ -111,6 +111,19 @@ public class ApplicationConstants {
     public static final String TRUSTED_APP_CONSENT_REQUIRED_PROPERTY = "ApplicationMgt.TrustedAppConsentRequired";
     public static final String TRUSTED_APP_MAX_THUMBPRINT_COUNT_PROPERTY =
             "ApplicationMgt.TrustedAppMaxThumbprintCount";
+    public static final String PARALLEL_APPLICATION_LOAD_ENABLE_PROPERTY =
+            "ApplicationMgt.ParallelApplicationLoad.Enable";
+    public static final String PARALLEL_APPLICATION_LOAD_POOL_SIZE_PROPERTY =
+            "ApplicationMgt.ParallelApplicationLoad.PoolSize";
+    public static final int DEFAULT_PARALLEL_APPLICATION_LOAD_POOL_SIZE = 10;
+    public static final String CACHE_WARM_UP_ENABLE_PROPERTY = "ApplicationMgt.CacheWarmUp.Enable";
+    public static final String CACHE_WARM_UP_APPLICATIONS_PER_TENANT_PROPERTY =
+            "ApplicationMgt.CacheWarmUp.ApplicationsPerTenant";
+    public static final String CACHE_WARM_UP_SNAPSHOT_INTERVAL_PROPERTY = "ApplicationMgt.CacheWarmUp.SnapshotInterval";
+    public static final String CACHE_WARM_UP_STARTUP_DELAY_PROPERTY = "ApplicationMgt.CacheWarmUp.StartupDelay";
+    public static final int DEFAULT_CACHE_WARM_UP_APPLICATIONS_PER_TENANT = 100;
+    public static final long DEFAULT_CACHE_WARM_UP_SNAPSHOT_INTERVAL_SECONDS = 600;
+    public static final long DEFAULT_CACHE_WARM_UP_STARTUP_DELAY_SECONDS = 60;
 
     public static final String NON_EXISTING_USER_CODE = "30007 - ";
 
@@ -181,6 +194,24 @@ public class ApplicationConstants {
         }
     }
 
+    /**
+     * Sections of a service provider which can be loaded selectively, in addition to the basic application data and
+     * the service provider properties.
+     */
+    public enum ApplicationSection {
+
+        INBOUND_AUTHENTICATION,
+        LOCAL_AND_OUTBOUND_AUTHENTICATION,
+        INBOUND_PROVISIONING,
+        OUTBOUND_PROVISIONING,
+        CLAIM_CONFIGURATION,
+        ROLE_MAPPINGS,
+        REQUEST_PATH_AUTHENTICATORS,
+        ASSOCIATED_ROLES,
+        TRUSTED_APP_METADATA,
+        PERMISSIONS
+    }
+
     /**
      * Grouping of constants related to database SP_APP table.
      */
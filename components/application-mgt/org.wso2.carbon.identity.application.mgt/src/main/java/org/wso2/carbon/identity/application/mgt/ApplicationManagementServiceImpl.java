@@ -57,6 +57,7 @@ import org.wso2.carbon.identity.application.common.model.User;
 import org.wso2.carbon.identity.application.common.model.script.AuthenticationScriptConfig;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.Error;
+import org.wso2.carbon.identity.application.mgt.ApplicationConstants.ApplicationSection;
 import org.wso2.carbon.identity.application.mgt.cache.IdentityServiceProviderCache;
 import org.wso2.carbon.identity.application.mgt.cache.IdentityServiceProviderCacheKey;
 import org.wso2.carbon.identity.application.mgt.cache.ServiceProviderTemplateCache;
@@ -124,6 +125,7 @@ import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -770,14 +772,15 @@ public class ApplicationManagementServiceImpl extends ApplicationManagementServi
                 throw buildClientException(APPLICATION_NOT_FOUND, msg);
             }
 
+            // The stored flags are read from the service provider properties, hence no other section is loaded.
+            ServiceProvider storedApp = appDAO.getApplication(serviceProvider.getApplicationID(),
+                    EnumSet.noneOf(ApplicationSection.class));
+
             // Updating the isManagement flag of application is blocked. So updating it to stored value
-            boolean isManagementApp = appDAO.getApplication(serviceProvider.getApplicationID())
-                    .isManagementApp();
-            serviceProvider.setManagementApp(isManagementApp);
+            serviceProvider.setManagementApp(storedApp.isManagementApp());
 
             // Updating the isB2BSelfService flag of application is blocked, thus set it to stored value
-            serviceProvider.setB2BSelfServiceApp(appDAO.getApplication(serviceProvider.getApplicationID())
-                    .isB2BSelfServiceApp());
+            serviceProvider.setB2BSelfServiceApp(storedApp.isB2BSelfServiceApp());
 
             doPreUpdateChecks(storedAppName, serviceProvider, tenantDomain, username);
             appDAO.updateApplication(serviceProvider, tenantDomain);
@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.mgt.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.application.mgt.ApplicationMgtSystemConfig;
+import org.wso2.carbon.identity.application.mgt.ApplicationMgtUtil;
+import org.wso2.carbon.identity.application.mgt.dao.ApplicationDAO;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.utils.CarbonUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.CACHE_WARM_UP_APPLICATIONS_PER_TENANT_PROPERTY;
+import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.CACHE_WARM_UP_ENABLE_PROPERTY;
+import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.CACHE_WARM_UP_SNAPSHOT_INTERVAL_PROPERTY;
+import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.CACHE_WARM_UP_STARTUP_DELAY_PROPERTY;
+import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.DEFAULT_CACHE_WARM_UP_APPLICATIONS_PER_TENANT;
+import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.DEFAULT_CACHE_WARM_UP_SNAPSHOT_INTERVAL_SECONDS;
+import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.DEFAULT_CACHE_WARM_UP_STARTUP_DELAY_SECONDS;
+
+/**
+ * Warms up the service provider caches after a restart.
+ * <p>
+ * The applications retrieved through the cache backed application DAO are counted per tenant. The most frequently
+ * retrieved applications of each tenant are periodically written to a snapshot file on the local disk, followed by
+ * the applications of the previous snapshot. Only the application IDs are written, never the application data. On
+ * startup, the applications of the snapshot are loaded through the application DAO, which adds them to the caches.
+ */
+public class ApplicationCacheWarmUpManager {
+
+    private static final Log log = LogFactory.getLog(ApplicationCacheWarmUpManager.class);
+    private static final String SNAPSHOT_FILE_NAME = "application-cache-warm-up.properties";
+    private static final String ID_SEPARATOR = ",";
+    // Upper bound of the applications counted per tenant, to bound the memory used for counting.
+    private static final int MAX_COUNTED_APPLICATIONS_FACTOR = 10;
+
+    private static volatile ApplicationCacheWarmUpManager instance;
+
+    private Path snapshotFile;
+    private final int applicationsPerTenant;
+    private final Map<String, Map<Integer, LongAdder>> accessCounts = new ConcurrentHashMap<>();
+    private final Properties snapshot = new Properties();
+    private volatile boolean enabled;
+    private volatile Thread warmUpThread;
+    private ScheduledExecutorService scheduler;
+
+    ApplicationCacheWarmUpManager(Path snapshotFile, int applicationsPerTenant, boolean enabled) {
+
+        this.snapshotFile = snapshotFile;
+        this.applicationsPerTenant = applicationsPerTenant;
+        this.enabled = enabled;
+    }
+
+    public static ApplicationCacheWarmUpManager getInstance() {
+
+        if (instance == null) {
+            synchronized (ApplicationCacheWarmUpManager.class) {
+                if (instance == null) {
+                    // The snapshot file is resolved on start, as the carbon home is not set in every environment.
+                    instance = new ApplicationCacheWarmUpManager(null,
+                            (int) readPositiveLong(CACHE_WARM_UP_APPLICATIONS_PER_TENANT_PROPERTY,
+                                    DEFAULT_CACHE_WARM_UP_APPLICATIONS_PER_TENANT), false);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Start counting application retrievals, schedule the cache warm-up and the periodic snapshots, if cache warm-up
+     * is enabled.
+     */
+    public synchronized void start() {
+
+        if (!Boolean.parseBoolean(IdentityUtil.getProperty(CACHE_WARM_UP_ENABLE_PROPERTY)) || scheduler != null) {
+            return;
+        }
+        if (snapshotFile == null) {
+            snapshotFile = Paths.get(CarbonUtils.getCarbonHome(), "repository", "data", "identity",
+                    SNAPSHOT_FILE_NAME);
+        }
+        loadSnapshot();
+        enabled = true;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ApplicationCacheWarmUp");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long snapshotInterval = readPositiveLong(CACHE_WARM_UP_SNAPSHOT_INTERVAL_PROPERTY,
+                DEFAULT_CACHE_WARM_UP_SNAPSHOT_INTERVAL_SECONDS);
+        scheduler.schedule(this::warmUpCaches, readPositiveLong(CACHE_WARM_UP_STARTUP_DELAY_PROPERTY,
+                DEFAULT_CACHE_WARM_UP_STARTUP_DELAY_SECONDS), TimeUnit.SECONDS);
+        scheduler.scheduleWithFixedDelay(this::writeSnapshot, snapshotInterval, snapshotInterval, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Write a final snapshot and stop the scheduled tasks.
+     */
+    public synchronized void stop() {
+
+        if (scheduler == null) {
+            return;
+        }
+        enabled = false;
+        scheduler.shutdownNow();
+        scheduler = null;
+        writeSnapshot();
+    }
+
+    /**
+     * Count a retrieval of an application.
+     *
+     * @param tenantDomain  Tenant domain of the application.
+     * @param applicationId Application ID.
+     */
+    public void recordAccess(String tenantDomain, int applicationId) {
+
+        // Retrievals made to warm up the caches are not counted.
+        if (!enabled || tenantDomain == null || applicationId <= 0 || Thread.currentThread() == warmUpThread) {
+            return;
+        }
+        Map<Integer, LongAdder> counts = accessCounts.computeIfAbsent(tenantDomain,
+                domain -> new ConcurrentHashMap<>());
+        LongAdder count = counts.get(applicationId);
+        if (count == null) {
+            if (counts.size() >= applicationsPerTenant * MAX_COUNTED_APPLICATIONS_FACTOR) {
+                return;
+            }
+            count = counts.computeIfAbsent(applicationId, id -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    /**
+     * Rank the applications of each tenant and write the snapshot. Applications retrieved since the last snapshot
+     * come first, ordered by their retrieval count, followed by the applications of the last snapshot.
+     */
+    synchronized void writeSnapshot() {
+
+        for (String tenantDomain : new ArrayList<>(accessCounts.keySet())) {
+            Map<Integer, LongAdder> counts = accessCounts.remove(tenantDomain);
+            Set<Integer> applicationIds = new LinkedHashSet<>();
+            counts.entrySet().stream()
+                    .sorted(Comparator.comparingLong(
+                            (Map.Entry<Integer, LongAdder> entry) -> entry.getValue().sum()).reversed())
+                    .forEach(entry -> applicationIds.add(entry.getKey()));
+            applicationIds.addAll(getApplicationIds(tenantDomain));
+            setApplicationIds(tenantDomain, applicationIds);
+        }
+
+        try {
+            Files.createDirectories(snapshotFile.getParent());
+            Path tempFile = Files.createTempFile(snapshotFile.getParent(), SNAPSHOT_FILE_NAME, ".tmp");
+            try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                snapshot.store(outputStream, "Most frequently retrieved application IDs of each tenant.");
+            }
+            Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("Error while writing the application cache warm-up snapshot: " + snapshotFile, e);
+        }
+    }
+
+    synchronized void loadSnapshot() {
+
+        if (!Files.isRegularFile(snapshotFile)) {
+            return;
+        }
+        try (InputStream inputStream = Files.newInputStream(snapshotFile)) {
+            snapshot.load(inputStream);
+        } catch (IOException e) {
+            log.warn("Error while reading the application cache warm-up snapshot: " + snapshotFile, e);
+        }
+    }
+
+    /**
+     * @param tenantDomain Tenant domain.
+     * @return IDs of the applications of the tenant in the snapshot, most frequently retrieved first.
+     */
+    synchronized List<Integer> getApplicationIds(String tenantDomain) {
+
+        List<Integer> applicationIds = new ArrayList<>();
+        for (String applicationId : StringUtils.split(snapshot.getProperty(tenantDomain, ""), ID_SEPARATOR)) {
+            try {
+                applicationIds.add(Integer.parseInt(applicationId.trim()));
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring invalid application ID: " + applicationId + " in the cache warm-up snapshot.");
+            }
+        }
+        return applicationIds;
+    }
+
+    /**
+     * Remove applications from the snapshot of a tenant, keeping the order of the rest.
+     *
+     * @param tenantDomain   Tenant domain.
+     * @param applicationIds IDs of the applications to remove.
+     */
+    synchronized void removeApplicationIds(String tenantDomain, Set<Integer> applicationIds) {
+
+        Set<Integer> remainingApplicationIds = new LinkedHashSet<>(getApplicationIds(tenantDomain));
+        remainingApplicationIds.removeAll(applicationIds);
+        setApplicationIds(tenantDomain, remainingApplicationIds);
+    }
+
+    private synchronized void setApplicationIds(String tenantDomain, Set<Integer> applicationIds) {
+
+        if (applicationIds.isEmpty()) {
+            snapshot.remove(tenantDomain);
+            return;
+        }
+        snapshot.setProperty(tenantDomain, applicationIds.stream()
+                .limit(applicationsPerTenant)
+                .map(String::valueOf)
+                .collect(Collectors.joining(ID_SEPARATOR)));
+    }
+
+    private void warmUpCaches() {
+
+        List<String> tenantDomains;
+        synchronized (this) {
+            tenantDomains = new ArrayList<>(snapshot.stringPropertyNames());
+        }
+        long startTime = System.currentTimeMillis();
+        int loadedApplications = 0;
+        warmUpThread = Thread.currentThread();
+        try {
+            for (String tenantDomain : tenantDomains) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                loadedApplications += warmUpTenant(tenantDomain);
+            }
+        } finally {
+            warmUpThread = null;
+        }
+        log.info("Warmed up the application caches with " + loadedApplications + " applications of " +
+                tenantDomains.size() + " tenants in " + (System.currentTimeMillis() - startTime) + " ms.");
+    }
+
+    private int warmUpTenant(String tenantDomain) {
+
+        List<Integer> applicationIds = getApplicationIds(tenantDomain);
+        int loadedApplications = 0;
+        Set<Integer> missingApplicationIds = new LinkedHashSet<>();
+        try {
+            ApplicationMgtUtil.startTenantFlow(tenantDomain);
+            ApplicationDAO applicationDAO = ApplicationMgtSystemConfig.getInstance().getApplicationDAO();
+            for (int applicationId : applicationIds) {
+                if (Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+                try {
+                    ServiceProvider serviceProvider = applicationDAO.getApplication(applicationId);
+                    if (serviceProvider != null) {
+                        loadedApplications++;
+                    } else {
+                        missingApplicationIds.add(applicationId);
+                    }
+                } catch (IdentityApplicationManagementException | RuntimeException e) {
+                    // Keep the application in the snapshot, as the failure may only be temporary.
+                    if (log.isDebugEnabled()) {
+                        log.debug("Skipping application: " + applicationId + " of tenant: " + tenantDomain +
+                                " in the cache warm-up.", e);
+                    }
+                }
+            }
+        } catch (IdentityApplicationManagementException | RuntimeException e) {
+            log.warn("Error while warming up the application caches of tenant: " + tenantDomain, e);
+            return 0;
+        } finally {
+            ApplicationMgtUtil.endTenantFlow();
+        }
+
+        if (!missingApplicationIds.isEmpty()) {
+            // Drop the applications which no longer exist from the snapshot.
+            removeApplicationIds(tenantDomain, missingApplicationIds);
+        }
+        return loadedApplications;
+    }
+
+    private static long readPositiveLong(String property, long defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                long parsedValue = Long.parseLong(value.trim());
+                if (parsedValue > 0) {
+                    return parsedValue;
+                }
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + value + " configured for " + property + ". Defaulting to " +
+                        defaultValue, e);
+            }
+        }
+        return defaultValue;
+    }
+}
@@ -27,11 +27,13 @@ import org.wso2.carbon.identity.application.common.model.RoleV2;
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
 import org.wso2.carbon.identity.application.common.model.TrustedApp;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.PlatformType;
+import org.wso2.carbon.identity.application.mgt.ApplicationConstants.ApplicationSection;
 
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * This interface access the data storage layer to store/update and delete application configurations.
@@ -370,6 +372,21 @@ public interface ApplicationDAO {
         return new ServiceProvider();
     }
 
+    /**
+     * Get the service provider with only the given sections loaded, in addition to the basic application data and
+     * the service provider properties.
+     *
+     * @param applicationId Application identifier.
+     * @param sections      Sections to be loaded.
+     * @return Service provider, or null if there is no application with the given identifier.
+     * @throws IdentityApplicationManagementException Error when obtaining the service provider.
+     */
+    default ServiceProvider getApplication(int applicationId, Set<ApplicationSection> sections)
+            throws IdentityApplicationManagementException {
+
+        return getApplication(applicationId);
+    }
+
     /**
      * Method that return the application id of the main application for a given shared application id.
      *
@@ -70,6 +70,7 @@ import org.wso2.carbon.identity.application.common.util.IdentityApplicationManag
 import org.wso2.carbon.identity.application.mgt.AbstractInboundAuthenticatorConfig;
 import org.wso2.carbon.identity.application.mgt.ApplicationConstants;
 import org.wso2.carbon.identity.application.mgt.ApplicationConstants.ApplicationInboundTableColumns;
+import org.wso2.carbon.identity.application.mgt.ApplicationConstants.ApplicationSection;
 import org.wso2.carbon.identity.application.mgt.ApplicationConstants.ApplicationTableColumns;
 import org.wso2.carbon.identity.application.mgt.ApplicationMgtSystemConfig;
 import org.wso2.carbon.identity.application.mgt.ApplicationMgtUtil;
@@ -123,6 +124,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -130,6 +132,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.OptionalInt;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -2089,7 +2093,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
 
         int tenantID = CarbonContext.getThreadLocalCarbonContext().getTenantId();
 
-        Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+        Connection connection = IdentityDatabaseUtil.getReadOnlyDBConnection();
         PreparedStatement getAppNamesStmt = null;
         ResultSet appNameResultSet = null;
         String sqlQuery;
@@ -2226,68 +2230,66 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
     @Override
     public ServiceProvider getApplication(int applicationId) throws IdentityApplicationManagementException {
 
-        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+        return getApplication(applicationId, EnumSet.allOf(ApplicationSection.class));
+    }
 
-            // Load basic application data
-            ServiceProvider serviceProvider = getBasicApplicationData(applicationId, connection);
-            if (serviceProvider == null) {
-                return null;
+    @Override
+    public ServiceProvider getApplication(int applicationId, Set<ApplicationSection> sections)
+            throws IdentityApplicationManagementException {
+
+        // Permissions are read from the registry, the other sections from the database.
+        EnumSet<ApplicationSection> databaseSections = EnumSet.noneOf(ApplicationSection.class);
+        databaseSections.addAll(sections);
+        databaseSections.remove(ApplicationSection.PERMISSIONS);
+        try {
+            ServiceProvider serviceProvider;
+            int tenantID;
+            List<ServiceProviderProperty> propertyList;
+            boolean loadSectionsInParallel = databaseSections.size() > 1 && ApplicationSectionLoadExecutor.isEnabled();
+            try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+
+                // Load basic application data
+                serviceProvider = getBasicApplicationData(applicationId, connection);
+                if (serviceProvider == null) {
+                    return null;
+                }
+                tenantID = IdentityTenantUtil.getTenantId(serviceProvider.getTenantDomain());
+                propertyList = getServicePropertiesBySpId(connection, applicationId);
+
+                serviceProvider.setJwksUri(getJwksUri(propertyList));
+                serviceProvider.setTemplateId(getTemplateId(propertyList));
+                serviceProvider.setTemplateVersion(getTemplateVersion(propertyList));
+                serviceProvider.setApplicationEnabled(getIsApplicationEnabled(propertyList));
+                serviceProvider.setManagementApp(getIsManagementApp(propertyList));
+                serviceProvider.setB2BSelfServiceApp(getIsB2BSSApp(propertyList));
+                serviceProvider.setAPIBasedAuthenticationEnabled(getIsAPIBasedAuthenticationEnabled(propertyList));
+                ClientAttestationMetaData clientAttestationMetaData = new ClientAttestationMetaData();
+                clientAttestationMetaData.setAttestationEnabled(getIsAttestationEnabled(propertyList));
+                clientAttestationMetaData.setAndroidPackageName(getAndroidPackageName(propertyList));
+                clientAttestationMetaData.setAppleAppId(getAppleAppId(propertyList));
+                if (StringUtils.isNotEmpty(clientAttestationMetaData.getAndroidPackageName())
+                        && clientAttestationMetaData.isAttestationEnabled()) {
+                    clientAttestationMetaData.setAndroidAttestationServiceCredentials
+                            (getAndroidAttestationServiceCredentials(serviceProvider));
+                }
+                serviceProvider.setClientAttestationMetaData(clientAttestationMetaData);
+
+                if (!loadSectionsInParallel) {
+                    for (ApplicationSection section : databaseSections) {
+                        loadApplicationSection(serviceProvider, section, connection, tenantID, propertyList);
+                    }
+                }
+            }
+            if (loadSectionsInParallel) {
+                // The connection of the basic data is released first, so that no thread holds more than one
+                // connection while waiting for another one from the pool.
+                loadApplicationSectionsInParallel(serviceProvider, new ArrayList<>(databaseSections), tenantID,
+                        propertyList);
             }
-            int tenantID = IdentityTenantUtil.getTenantId(serviceProvider.getTenantDomain());
-            List<ServiceProviderProperty> propertyList = getServicePropertiesBySpId(connection, applicationId);
-
-            serviceProvider.setJwksUri(getJwksUri(propertyList));
-            serviceProvider.setTemplateId(getTemplateId(propertyList));
-            serviceProvider.setTemplateVersion(getTemplateVersion(propertyList));
-            serviceProvider.setApplicationEnabled(getIsApplicationEnabled(propertyList));
-            serviceProvider.setManagementApp(getIsManagementApp(propertyList));
-            serviceProvider.setB2BSelfServiceApp(getIsB2BSSApp(propertyList));
-            serviceProvider.setAPIBasedAuthenticationEnabled(getIsAPIBasedAuthenticationEnabled(propertyList));
-            ClientAttestationMetaData clientAttestationMetaData = new ClientAttestationMetaData();
-            clientAttestationMetaData.setAttestationEnabled(getIsAttestationEnabled(propertyList));
-            clientAttestationMetaData.setAndroidPackageName(getAndroidPackageName(propertyList));
-            clientAttestationMetaData.setAppleAppId(getAppleAppId(propertyList));
-            if (StringUtils.isNotEmpty(clientAttestationMetaData.getAndroidPackageName())
-                    && clientAttestationMetaData.isAttestationEnabled()) {
-                clientAttestationMetaData.setAndroidAttestationServiceCredentials
-                        (getAndroidAttestationServiceCredentials(serviceProvider));
-            }
-            serviceProvider.setClientAttestationMetaData(clientAttestationMetaData);
-            serviceProvider.setTrustedAppMetadata(
-                    getSpTrustedAppMetadata(applicationId, connection, tenantID, propertyList));
-            serviceProvider.setInboundAuthenticationConfig(getInboundAuthenticationConfig(
-                    applicationId, connection, tenantID));
-            serviceProvider
-                    .setLocalAndOutBoundAuthenticationConfig(getLocalAndOutboundAuthenticationConfig(
-                            applicationId, connection, tenantID, propertyList));
-
-            serviceProvider.setInboundProvisioningConfig(getInboundProvisioningConfiguration(
-                    applicationId, connection, tenantID));
-
-            serviceProvider.setOutboundProvisioningConfig(getOutboundProvisioningConfiguration(
-                    applicationId, connection, tenantID));
-
-            // Load Claim Mapping
-            serviceProvider.setClaimConfig(getClaimConfiguration(applicationId, connection,
-                    tenantID));
-
-            // Load Role Mappings
-            List<RoleMapping> roleMappings = getRoleMappingOfApplication(applicationId, connection,
-                    tenantID);
-            PermissionsAndRoleConfig permissionAndRoleConfig = new PermissionsAndRoleConfig();
-            permissionAndRoleConfig.setRoleMappings(roleMappings.toArray(new RoleMapping[0]));
-            serviceProvider.setPermissionAndRoleConfig(permissionAndRoleConfig);
-
-            RequestPathAuthenticatorConfig[] requestPathAuthenticators = getRequestPathAuthenticators(
-                    applicationId, connection, tenantID);
-            serviceProvider.setRequestPathAuthenticatorConfigs(requestPathAuthenticators);
 
             serviceProvider.setSpProperties(propertyList.toArray(new ServiceProviderProperty[0]));
             serviceProvider.setCertificateContent(getCertificateContent(propertyList));
 
-            // Set role associations.
-            serviceProvider.setAssociatedRolesConfig(
-                    getAssociatedRoles(serviceProvider.getApplicationResourceId(), connection, tenantID));
             // Will be supported with 'Advance Consent Management Feature'.
             /*
             ConsentConfig consentConfig = serviceProvider.getConsentConfig();
@@ -2298,8 +2300,10 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             serviceProvider.setConsentConfig(consentConfig);
             */
 
-            String serviceProviderName = serviceProvider.getApplicationName();
-            loadApplicationPermissions(serviceProviderName, serviceProvider);
+            if (sections.contains(ApplicationSection.PERMISSIONS)) {
+                String serviceProviderName = serviceProvider.getApplicationName();
+                loadApplicationPermissions(serviceProviderName, serviceProvider);
+            }
             return serviceProvider;
         } catch (SQLException | CertificateRetrievingException e) {
             throw new IdentityApplicationManagementException("Failed to get service provider with id: " + applicationId,
@@ -2307,14 +2311,134 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         }
     }
 
+    /**
+     * Load the given sections of the service provider concurrently, each on a database connection of its own. The
+     * first section is loaded by the calling thread. The calling thread should not hold a database connection, since
+     * the section loads wait for connections of the same pool.
+     */
+    private void loadApplicationSectionsInParallel(ServiceProvider serviceProvider, List<ApplicationSection> sections,
+                                                   int tenantID, List<ServiceProviderProperty> propertyList)
+            throws SQLException, IdentityApplicationManagementException {
+
+        String tenantDomain = serviceProvider.getTenantDomain();
+        String username = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
+        List<Future<Void>> sectionLoads = new ArrayList<>(sections.size() - 1);
+        for (ApplicationSection section : sections.subList(1, sections.size())) {
+            sectionLoads.add(ApplicationSectionLoadExecutor.getExecutor().submit(() -> {
+                try {
+                    ApplicationMgtUtil.startTenantFlow(tenantDomain, username);
+                    try (Connection sectionConnection = IdentityDatabaseUtil.getDBConnection(false)) {
+                        loadApplicationSection(serviceProvider, section, sectionConnection, tenantID, propertyList);
+                    }
+                } finally {
+                    ApplicationMgtUtil.endTenantFlow();
+                }
+                return null;
+            }));
+        }
+        try {
+            try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+                loadApplicationSection(serviceProvider, sections.get(0), connection, tenantID, propertyList);
+            }
+            for (Future<Void> sectionLoad : sectionLoads) {
+                sectionLoad.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdentityApplicationManagementException("Interrupted while loading the service provider with " +
+                    "id: " + serviceProvider.getApplicationID(), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            if (cause instanceof IdentityApplicationManagementException) {
+                throw (IdentityApplicationManagementException) cause;
+            }
+            throw new IdentityApplicationManagementException("Error while loading the service provider with id: " +
+                    serviceProvider.getApplicationID(), cause);
+        } finally {
+            for (Future<Void> sectionLoad : sectionLoads) {
+                sectionLoad.cancel(true);
+            }
+        }
+    }
+
+    private void loadApplicationSection(ServiceProvider serviceProvider, ApplicationSection section,
+                                        Connection connection, int tenantID,
+                                        List<ServiceProviderProperty> propertyList)
+            throws SQLException, IdentityApplicationManagementException {
+
+        int applicationId = serviceProvider.getApplicationID();
+        switch (section) {
+            case TRUSTED_APP_METADATA:
+                serviceProvider.setTrustedAppMetadata(
+                        getSpTrustedAppMetadata(applicationId, connection, tenantID, propertyList));
+                break;
+            case INBOUND_AUTHENTICATION:
+                serviceProvider.setInboundAuthenticationConfig(getInboundAuthenticationConfig(
+                        applicationId, connection, tenantID));
+                break;
+            case LOCAL_AND_OUTBOUND_AUTHENTICATION:
+                serviceProvider.setLocalAndOutBoundAuthenticationConfig(getLocalAndOutboundAuthenticationConfig(
+                        applicationId, connection, tenantID, propertyList));
+                break;
+            case INBOUND_PROVISIONING:
+                serviceProvider.setInboundProvisioningConfig(getInboundProvisioningConfiguration(
+                        applicationId, connection, tenantID));
+                break;
+            case OUTBOUND_PROVISIONING:
+                serviceProvider.setOutboundProvisioningConfig(getOutboundProvisioningConfiguration(
+                        applicationId, connection, tenantID));
+                break;
+            case CLAIM_CONFIGURATION:
+                serviceProvider.setClaimConfig(getClaimConfiguration(applicationId, connection, tenantID));
+                break;
+            case ROLE_MAPPINGS:
+                List<RoleMapping> roleMappings = getRoleMappingOfApplication(applicationId, connection, tenantID);
+                PermissionsAndRoleConfig permissionAndRoleConfig = new PermissionsAndRoleConfig();
+                permissionAndRoleConfig.setRoleMappings(roleMappings.toArray(new RoleMapping[0]));
+                serviceProvider.setPermissionAndRoleConfig(permissionAndRoleConfig);
+                break;
+            case REQUEST_PATH_AUTHENTICATORS:
+                serviceProvider.setRequestPathAuthenticatorConfigs(getRequestPathAuthenticators(
+                        applicationId, connection, tenantID));
+                break;
+            case ASSOCIATED_ROLES:
+                // The allowed audience is taken from the already loaded properties instead of reading it again.
+                serviceProvider.setAssociatedRolesConfig(getAssociatedRoles(
+                        serviceProvider.getApplicationResourceId(), getAllowedRoleAudience(propertyList), connection,
+                        tenantID));
+                break;
+            default:
+                break;
+        }
+    }
+
+    private String getAllowedRoleAudience(List<ServiceProviderProperty> propertyList) {
+
+        return propertyList.stream()
+                .filter(property -> ALLOWED_ROLE_AUDIENCE_PROPERTY_NAME.equals(property.getName()))
+                .findFirst()
+                .map(ServiceProviderProperty::getValue)
+                .orElse(StringUtils.EMPTY);
+    }
+
     private AssociatedRolesConfig getAssociatedRoles(String applicationId, Connection connection, int tenantID)
             throws IdentityApplicationManagementException {
 
+        String allowedAudience = getSPPropertyValueByPropertyKey(applicationId, ALLOWED_ROLE_AUDIENCE_PROPERTY_NAME,
+                IdentityTenantUtil.getTenantDomain(tenantID));
+        return getAssociatedRoles(applicationId, allowedAudience, connection, tenantID);
+    }
+
+    private AssociatedRolesConfig getAssociatedRoles(String applicationId, String allowedAudience,
+                                                     Connection connection, int tenantID)
+            throws IdentityApplicationManagementException {
+
         String tenantDomain = IdentityTenantUtil.getTenantDomain(tenantID);
         AssociatedRolesConfig associatedRolesConfig = new AssociatedRolesConfig();
         List<String> associatedRoleIds = new ArrayList<>();
-        String allowedAudience =
-                getSPPropertyValueByPropertyKey(applicationId, ALLOWED_ROLE_AUDIENCE_PROPERTY_NAME, tenantDomain);
         if (RoleConstants.APPLICATION.equalsIgnoreCase(allowedAudience)) {
             try (NamedPreparedStatement preparedStatement = new NamedPreparedStatement(connection,
                     ApplicationMgtDBQueries.LOAD_ASSOCIATED_ROLES)) {
@@ -4021,7 +4145,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             log.debug("Getting the count of all applications for the tenantID: " + tenantID);
         }
 
-        Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+        Connection connection = IdentityDatabaseUtil.getReadOnlyDBConnection();
         PreparedStatement getAppNamesStmt = null;
         ResultSet appNameResultSet = null;
 
@@ -5936,7 +6060,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
 
         List<ApplicationBasicInfo> applicationBasicInfoList = new ArrayList<>();
 
-        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+        try (Connection connection = IdentityDatabaseUtil.getReadOnlyDBConnection()) {
             String databaseVendorType = connection.getMetaData().getDatabaseProductName();
 
             try (NamedPreparedStatement statement =
@@ -5979,7 +6103,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
 
         int count = 0;
         String filterResolvedForSQL = resolveSQLFilter(filter);
-        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+        try (Connection connection = IdentityDatabaseUtil.getReadOnlyDBConnection()) {
 
             try (NamedPreparedStatement statement =
                          new NamedPreparedStatement(connection,
@@ -6259,7 +6383,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
 
         List<ApplicationBasicInfo> applicationBasicInfoList = new ArrayList<>();
 
-        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+        try (Connection connection = IdentityDatabaseUtil.getReadOnlyDBConnection()) {
             String databaseVendorType = connection.getMetaData().getDatabaseProductName();
 
             try (NamedPreparedStatement statement =
@@ -6289,7 +6413,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
     private int getCountOfDiscoverableApplications(String tenantDomain) throws IdentityApplicationManagementException {
 
         int count;
-        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+        try (Connection connection = IdentityDatabaseUtil.getReadOnlyDBConnection()) {
 
             try (NamedPreparedStatement statement =
                          new NamedPreparedStatement(connection,
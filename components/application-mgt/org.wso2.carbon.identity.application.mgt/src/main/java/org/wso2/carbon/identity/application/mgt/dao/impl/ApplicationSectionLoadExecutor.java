@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.mgt.dao.impl;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.DEFAULT_PARALLEL_APPLICATION_LOAD_POOL_SIZE;
+import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.PARALLEL_APPLICATION_LOAD_ENABLE_PROPERTY;
+import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.PARALLEL_APPLICATION_LOAD_POOL_SIZE_PROPERTY;
+
+/**
+ * Executor which loads the sections of a service provider on separate database connections, when parallel application
+ * loading is enabled.
+ */
+public final class ApplicationSectionLoadExecutor {
+
+    private static final Log log = LogFactory.getLog(ApplicationSectionLoadExecutor.class);
+    private static volatile ExecutorService executor;
+
+    private ApplicationSectionLoadExecutor() {
+
+    }
+
+    /**
+     * @return True if the sections of a service provider should be loaded in parallel.
+     */
+    static boolean isEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(PARALLEL_APPLICATION_LOAD_ENABLE_PROPERTY));
+    }
+
+    static ExecutorService getExecutor() {
+
+        if (executor == null) {
+            synchronized (ApplicationSectionLoadExecutor.class) {
+                if (executor == null) {
+                    AtomicInteger threadCount = new AtomicInteger();
+                    executor = Executors.newFixedThreadPool(readPoolSize(), runnable -> {
+                        Thread thread = new Thread(runnable, "ApplicationSectionLoader-" +
+                                threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Stop the threads which load service provider sections.
+     */
+    public static void shutdown() {
+
+        synchronized (ApplicationSectionLoadExecutor.class) {
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
+            }
+        }
+    }
+
+    private static int readPoolSize() {
+
+        String poolSize = IdentityUtil.getProperty(PARALLEL_APPLICATION_LOAD_POOL_SIZE_PROPERTY);
+        if (StringUtils.isNotBlank(poolSize)) {
+            try {
+                int value = Integer.parseInt(poolSize.trim());
+                if (value > 0) {
+                    return value;
+                }
+            } catch (NumberFormatException e) {
+                log.warn("Invalid parallel application load pool size: " + poolSize + ". Defaulting to " +
+                        DEFAULT_PARALLEL_APPLICATION_LOAD_POOL_SIZE, e);
+            }
+        }
+        return DEFAULT_PARALLEL_APPLICATION_LOAD_POOL_SIZE;
+    }
+}
@@ -32,6 +32,8 @@ import org.wso2.carbon.identity.application.common.model.LocalAndOutboundAuthent
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
 import org.wso2.carbon.identity.application.common.model.SpTrustedAppMetadata;
 import org.wso2.carbon.identity.application.common.model.TrustedApp;
+import org.wso2.carbon.identity.application.mgt.ApplicationConstants.ApplicationSection;
+import org.wso2.carbon.identity.application.mgt.cache.ApplicationCacheWarmUpManager;
 import org.wso2.carbon.identity.application.mgt.cache.IdentityServiceProviderCache;
 import org.wso2.carbon.identity.application.mgt.cache.IdentityServiceProviderCacheEntry;
 import org.wso2.carbon.identity.application.mgt.cache.IdentityServiceProviderCacheKey;
@@ -63,6 +65,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.PlatformType;
 
@@ -114,6 +117,7 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
                 throw new IdentityApplicationManagementException(error, e);
             }
         }
+        recordAccess(serviceProvider);
         return serviceProvider;
     }
 
@@ -129,9 +133,21 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
             }
             addToCache(serviceProvider, serviceProvider.getTenantDomain());
         }
+        recordAccess(serviceProvider);
         return serviceProvider;
     }
 
+    /**
+     * Get the service provider with only the given sections loaded. The service provider cache holds fully loaded
+     * service providers only, hence partial loads neither read from nor populate it.
+     */
+    @Override
+    public ServiceProvider getApplication(int appId, Set<ApplicationSection> sections)
+            throws IdentityApplicationManagementException {
+
+        return appDAO.getApplication(appId, sections);
+    }
+
     public String getApplicationName(int applicationID) throws IdentityApplicationManagementException {
 
         ServiceProvider applicationFromCache = getApplicationFromCache(applicationID,
@@ -481,6 +497,7 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
                 addToCache(application, tenantDomain);
             }
         }
+        recordAccess(application);
         return application;
     }
 
@@ -599,6 +616,14 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         }
     }
 
+    private void recordAccess(ServiceProvider serviceProvider) {
+
+        if (serviceProvider != null) {
+            ApplicationCacheWarmUpManager.getInstance().recordAccess(serviceProvider.getTenantDomain(),
+                    serviceProvider.getApplicationID());
+        }
+    }
+
     private void addAppBasicInfoToCache(ApplicationBasicInfo appBasicInfo, String tenantDomain) {
 
         if (log.isDebugEnabled()) {
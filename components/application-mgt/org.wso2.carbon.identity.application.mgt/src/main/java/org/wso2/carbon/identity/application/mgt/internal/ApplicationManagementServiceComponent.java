@@ -48,6 +48,8 @@ import org.wso2.carbon.identity.application.mgt.ApplicationMgtSystemConfig;
 import org.wso2.carbon.identity.application.mgt.AuthorizedAPIManagementService;
 import org.wso2.carbon.identity.application.mgt.AuthorizedAPIManagementServiceImpl;
 import org.wso2.carbon.identity.application.mgt.DiscoverableApplicationManager;
+import org.wso2.carbon.identity.application.mgt.cache.ApplicationCacheWarmUpManager;
+import org.wso2.carbon.identity.application.mgt.dao.impl.ApplicationSectionLoadExecutor;
 import org.wso2.carbon.identity.application.mgt.defaultsequence.DefaultAuthSeqMgtService;
 import org.wso2.carbon.identity.application.mgt.defaultsequence.DefaultAuthSeqMgtServiceImpl;
 import org.wso2.carbon.identity.application.mgt.inbound.protocol.ApplicationInboundAuthConfigHandler;
@@ -126,6 +128,7 @@ public class ApplicationManagementServiceComponent {
             bundleContext.registerService(IdentityProviderMgtListener.class.getName(),
                     new ApplicationIdentityProviderMgtListener(), null);
             ApplicationMgtSystemConfig.getInstance();
+            ApplicationCacheWarmUpManager.getInstance().start();
             bundleContext.registerService(ApplicationMgtListener.class.getName(), new ApplicationMgtAuditLogger(),
                     null);
             bundleContext.registerService(DefaultAuthSeqMgtService.class.getName(),
@@ -170,6 +173,8 @@ public class ApplicationManagementServiceComponent {
 
     @Deactivate
     protected void deactivate(ComponentContext context) {
+        ApplicationCacheWarmUpManager.getInstance().stop();
+        ApplicationSectionLoadExecutor.shutdown();
         if (log.isDebugEnabled()) {
             log.debug("Identity ApplicationManagementComponent bundle is deactivated");
         }
@@ -61,6 +61,9 @@ import org.wso2.carbon.identity.application.common.model.ServiceProviderProperty
 import org.wso2.carbon.identity.application.common.model.SpTrustedAppMetadata;
 import org.wso2.carbon.identity.application.common.model.TrustedApp;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.PlatformType;
+import org.wso2.carbon.identity.application.mgt.ApplicationConstants.ApplicationSection;
+import org.wso2.carbon.identity.application.mgt.dao.impl.ApplicationDAOImpl;
+import org.wso2.carbon.identity.application.mgt.dao.impl.ApplicationSectionLoadExecutor;
 import org.wso2.carbon.identity.application.mgt.inbound.dto.ApplicationDTO;
 import org.wso2.carbon.identity.application.mgt.inbound.dto.InboundProtocolConfigurationDTO;
 import org.wso2.carbon.identity.application.mgt.inbound.dto.InboundProtocolsDTO;
@@ -112,6 +115,7 @@ import java.sql.PreparedStatement;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -132,6 +136,7 @@ import static org.wso2.carbon.CarbonConstants.REGISTRY_SYSTEM_USERNAME;
 import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.TEMPLATE_ID_SP_PROPERTY_NAME;
 import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.TEMPLATE_VERSION_SP_PROPERTY_NAME;
 import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.IS_FRAGMENT_APP;
+import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.PARALLEL_APPLICATION_LOAD_ENABLE_PROPERTY;
 import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.PORTAL_NAMES_CONFIG_ELEMENT;
 import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.TRUSTED_APP_CONSENT_REQUIRED_PROPERTY;
 import static org.wso2.carbon.identity.certificate.management.constant.CertificateMgtErrors.ERROR_INVALID_CERTIFICATE_CONTENT;
@@ -1381,6 +1386,69 @@ public class ApplicationManagementServiceImplTest {
                 REGISTRY_SYSTEM_USERNAME);
     }
 
+    @Test
+    public void testGetApplicationWithRequiredSections() throws Exception {
+
+        ServiceProvider inputSP = new ServiceProvider();
+        inputSP.setApplicationName(APPLICATION_NAME_1);
+        addApplicationConfigurations(inputSP);
+        String resourceId = applicationManagementService.createApplication(inputSP, SUPER_TENANT_DOMAIN_NAME,
+                REGISTRY_SYSTEM_USERNAME);
+        ServiceProvider fullSP =
+                applicationManagementService.getApplicationByResourceId(resourceId, SUPER_TENANT_DOMAIN_NAME);
+
+        ServiceProvider partialSP = new ApplicationDAOImpl().getApplication(fullSP.getApplicationID(),
+                EnumSet.of(ApplicationSection.INBOUND_AUTHENTICATION));
+
+        Assert.assertEquals(partialSP.getApplicationResourceId(), resourceId);
+        Assert.assertEquals(partialSP.getInboundAuthenticationConfig().getInboundAuthenticationRequestConfigs().length,
+                fullSP.getInboundAuthenticationConfig().getInboundAuthenticationRequestConfigs().length);
+        Assert.assertNull(partialSP.getInboundProvisioningConfig());
+        Assert.assertNull(partialSP.getOutboundProvisioningConfig());
+        Assert.assertNull(partialSP.getClaimConfig());
+        Assert.assertNotNull(partialSP.getSpProperties());
+
+        applicationManagementService.deleteApplication(inputSP.getApplicationName(), SUPER_TENANT_DOMAIN_NAME,
+                REGISTRY_SYSTEM_USERNAME);
+    }
+
+    @Test
+    public void testGetApplicationWithParallelSectionLoad() throws Exception {
+
+        ServiceProvider inputSP = new ServiceProvider();
+        inputSP.setApplicationName(APPLICATION_NAME_1);
+        addApplicationConfigurations(inputSP);
+        String resourceId = applicationManagementService.createApplication(inputSP, SUPER_TENANT_DOMAIN_NAME,
+                REGISTRY_SYSTEM_USERNAME);
+        ServiceProvider sequentiallyLoadedSP =
+                applicationManagementService.getApplicationByResourceId(resourceId, SUPER_TENANT_DOMAIN_NAME);
+
+        try (MockedStatic<IdentityUtil> identityUtil = Mockito.mockStatic(IdentityUtil.class,
+                Mockito.CALLS_REAL_METHODS)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(PARALLEL_APPLICATION_LOAD_ENABLE_PROPERTY))
+                    .thenReturn("true");
+            ServiceProvider parallelLoadedSP =
+                    new ApplicationDAOImpl().getApplication(sequentiallyLoadedSP.getApplicationID());
+
+            Assert.assertEquals(parallelLoadedSP.getApplicationResourceId(), resourceId);
+            Assert.assertEquals(
+                    parallelLoadedSP.getInboundAuthenticationConfig().getInboundAuthenticationRequestConfigs().length,
+                    sequentiallyLoadedSP.getInboundAuthenticationConfig()
+                            .getInboundAuthenticationRequestConfigs().length);
+            Assert.assertEquals(parallelLoadedSP.getClaimConfig().getClaimMappings().length,
+                    sequentiallyLoadedSP.getClaimConfig().getClaimMappings().length);
+            Assert.assertEquals(parallelLoadedSP.getPermissionAndRoleConfig().getRoleMappings().length,
+                    sequentiallyLoadedSP.getPermissionAndRoleConfig().getRoleMappings().length);
+            Assert.assertNotNull(parallelLoadedSP.getLocalAndOutBoundAuthenticationConfig());
+            Assert.assertNotNull(parallelLoadedSP.getInboundProvisioningConfig());
+            Assert.assertNotNull(parallelLoadedSP.getOutboundProvisioningConfig());
+        } finally {
+            ApplicationSectionLoadExecutor.shutdown();
+            applicationManagementService.deleteApplication(inputSP.getApplicationName(), SUPER_TENANT_DOMAIN_NAME,
+                    REGISTRY_SYSTEM_USERNAME);
+        }
+    }
+
     @Test(groups = "certificate", priority = 1)
     public void testAddApplicationWithCertificate() throws CertificateMgtException {
 
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.mgt.cache;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests of {@link ApplicationCacheWarmUpManager}.
+ */
+public class ApplicationCacheWarmUpManagerTest {
+
+    private static final String TENANT_DOMAIN = "abc.com";
+
+    private Path snapshotDirectory;
+    private Path snapshotFile;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+
+        snapshotDirectory = Files.createTempDirectory("app-cache-warm-up");
+        snapshotFile = snapshotDirectory.resolve("snapshot.properties");
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+
+        try (Stream<Path> paths = Files.walk(snapshotDirectory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testSnapshotRanksApplicationsByRetrievals() {
+
+        ApplicationCacheWarmUpManager manager = new ApplicationCacheWarmUpManager(snapshotFile, 2, true);
+        record(manager, 1, 1);
+        record(manager, 2, 3);
+        record(manager, 3, 2);
+        manager.writeSnapshot();
+
+        assertTrue(Files.isRegularFile(snapshotFile));
+        ApplicationCacheWarmUpManager restartedManager = new ApplicationCacheWarmUpManager(snapshotFile, 2, true);
+        restartedManager.loadSnapshot();
+        assertEquals(restartedManager.getApplicationIds(TENANT_DOMAIN), Arrays.asList(2, 3));
+        assertEquals(restartedManager.getApplicationIds("other.com"), Collections.emptyList());
+    }
+
+    @Test
+    public void testRecentRetrievalsPrecedePreviousSnapshot() {
+
+        ApplicationCacheWarmUpManager manager = new ApplicationCacheWarmUpManager(snapshotFile, 3, true);
+        record(manager, 1, 5);
+        record(manager, 2, 4);
+        manager.writeSnapshot();
+
+        record(manager, 7, 2);
+        record(manager, 2, 1);
+        manager.writeSnapshot();
+
+        assertEquals(manager.getApplicationIds(TENANT_DOMAIN), Arrays.asList(7, 2, 1));
+    }
+
+    @Test
+    public void testRetrievalsAreNotCountedWhenDisabled() {
+
+        ApplicationCacheWarmUpManager manager = new ApplicationCacheWarmUpManager(snapshotFile, 3, false);
+        record(manager, 1, 1);
+        manager.writeSnapshot();
+
+        assertEquals(manager.getApplicationIds(TENANT_DOMAIN), Collections.emptyList());
+    }
+
+    @Test
+    public void testRemovedApplicationsAreDroppedFromSnapshot() {
+
+        ApplicationCacheWarmUpManager manager = new ApplicationCacheWarmUpManager(snapshotFile, 4, true);
+        record(manager, 1, 4);
+        record(manager, 2, 3);
+        record(manager, 3, 2);
+        record(manager, 4, 1);
+        manager.writeSnapshot();
+
+        manager.removeApplicationIds(TENANT_DOMAIN, new HashSet<>(Arrays.asList(2, 5)));
+        assertEquals(manager.getApplicationIds(TENANT_DOMAIN), Arrays.asList(1, 3, 4));
+    }
+
+    private void record(ApplicationCacheWarmUpManager manager, int applicationId, int times) {
+
+        for (int i = 0; i < times; i++) {
+            manager.recordAccess(TENANT_DOMAIN, applicationId);
+        }
+    }
+}
@@ -138,7 +138,8 @@ public class GraalSerializer implements JsGenericSerializer<Context> {
         } else if (value instanceof GraalSerializableJsFunction) {
             GraalSerializableJsFunction serializableJsFunction = (GraalSerializableJsFunction) value;
             try {
-                return context.eval("js", "(" + serializableJsFunction.getSource() + ")");
+                return context.eval(GraalSourceCache.getInstance().getFunctionSource(
+                        serializableJsFunction.getSource()));
             } catch (Exception e) {
                 log.error("Error when recreating JS Object", e);
             }
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.graalvm.polyglot.Source;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.DEFAULT_GRAALJS_SOURCE_CACHE_SIZE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SOURCE_CACHE_SIZE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_LANGUAGE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_SOURCE;
+
+/**
+ * Least recently used cache of GraalJS sources of adaptive scripts and serialized script functions.
+ * <p>
+ * Equal sources evaluated in contexts of the same engine share the code parsed by the engine. Handing out the same
+ * source object for the same script avoids building a new source, and wrapping function sources, on every evaluation.
+ */
+public final class GraalSourceCache {
+
+    private static final Log LOG = LogFactory.getLog(GraalSourceCache.class);
+    private final Map<String, Source> scriptSources;
+    private final Map<String, Source> functionSources;
+
+    GraalSourceCache(int maxSize) {
+
+        this.scriptSources = createLruMap(maxSize);
+        this.functionSources = createLruMap(maxSize);
+    }
+
+    public static GraalSourceCache getInstance() {
+
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Get the source of a script which is evaluated as it is, such as the adaptive script of an application.
+     *
+     * @param script Script.
+     * @return Source of the script.
+     */
+    public Source getScriptSource(String script) {
+
+        Source source;
+        synchronized (scriptSources) {
+            source = scriptSources.get(script);
+        }
+        if (source == null) {
+            source = Source.newBuilder(POLYGLOT_LANGUAGE, script, POLYGLOT_SOURCE).buildLiteral();
+            synchronized (scriptSources) {
+                scriptSources.put(script, source);
+            }
+        }
+        return source;
+    }
+
+    /**
+     * Get the source which evaluates to the serialized function, i.e. the function source wrapped in parentheses.
+     *
+     * @param functionSource Source code of the function.
+     * @return Source evaluating to the function.
+     */
+    public Source getFunctionSource(String functionSource) {
+
+        Source source;
+        synchronized (functionSources) {
+            source = functionSources.get(functionSource);
+        }
+        if (source == null) {
+            source = Source.newBuilder(POLYGLOT_LANGUAGE, "(" + functionSource + ")", POLYGLOT_SOURCE)
+                    .buildLiteral();
+            synchronized (functionSources) {
+                functionSources.put(functionSource, source);
+            }
+        }
+        return source;
+    }
+
+    /**
+     * Remove all cached sources.
+     */
+    public void clear() {
+
+        synchronized (scriptSources) {
+            scriptSources.clear();
+        }
+        synchronized (functionSources) {
+            functionSources.clear();
+        }
+    }
+
+    int size() {
+
+        synchronized (scriptSources) {
+            synchronized (functionSources) {
+                return scriptSources.size() + functionSources.size();
+            }
+        }
+    }
+
+    private static Map<String, Source> createLruMap(int maxSize) {
+
+        return new LinkedHashMap<String, Source>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 3725069514178442263L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Source> eldest) {
+
+                return size() > maxSize;
+            }
+        };
+    }
+
+    private static int readCacheSize() {
+
+        String cacheSize = IdentityUtil.getProperty(GRAALJS_SOURCE_CACHE_SIZE);
+        if (cacheSize != null) {
+            try {
+                return Integer.parseInt(cacheSize.trim());
+            } catch (NumberFormatException e) {
+                LOG.warn("Error while parsing the GraalJS source cache size. Defaulting to " +
+                        DEFAULT_GRAALJS_SOURCE_CACHE_SIZE, e);
+            }
+        }
+        return DEFAULT_GRAALJS_SOURCE_CACHE_SIZE;
+    }
+
+    /**
+     * Creates the shared cache on first use, after the identity configuration is available.
+     */
+    private static final class Holder {
+
+        private static final GraalSourceCache INSTANCE = new GraalSourceCache(readCacheSize());
+    }
+}
@@ -20,7 +20,9 @@ package org.wso2.carbon.identity.application.authentication.framework.config.mod
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.commons.lang.StringUtils;
 import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.HostAccess;
 import org.graalvm.polyglot.ResourceLimits;
 import org.graalvm.polyglot.Value;
@@ -47,6 +49,7 @@ import java.util.Map;
 
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.DEFAULT_GRAALJS_SCRIPT_STATEMENTS_LIMIT;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SCRIPT_STATEMENTS_LIMIT;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SHARED_ENGINE_ENABLE;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.JS_FUNC_SELECT_ACR_FROM;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.JS_LOG;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_LANGUAGE;
@@ -61,11 +64,18 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
 
     private static final Log LOG = LogFactory.getLog(JsGraalGraphBuilderFactory.class);
     private static final String JS_BINDING_CURRENT_CONTEXT = "JS_BINDING_CURRENT_CONTEXT";
+    private static final String WARN_INTERPRETER_ONLY_OPTION = "engine.WarnInterpreterOnly";
     private int javascriptResourceLimit = 0;
+    private boolean sharedEngineEnabled = false;
+    private volatile Engine sharedEngine;
+    private volatile ResourceLimits sharedResourceLimits;
+    private volatile HostAccess sharedHostAccess;
 
     public void init() {
 
         setJavascriptResourceLimit();
+        sharedEngineEnabled = Boolean.parseBoolean(
+                StringUtils.trim(IdentityUtil.getProperty(GRAALJS_SHARED_ENGINE_ENABLE)));
     }
 
     @SuppressWarnings("unchecked")
@@ -106,11 +116,27 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
 
     public Context createEngine(AuthenticationContext authenticationContext) {
 
-        Context context = Context.newBuilder(POLYGLOT_LANGUAGE)
-                .allowHostAccess(getHostAccess())
-                .resourceLimits(getResourceLimits())
-                .option("engine.WarnInterpreterOnly", "false")
-                .build();
+        Context context;
+        if (sharedEngineEnabled) {
+            /*
+             * Contexts of a shared engine reuse the code the engine has already parsed and compiled for the same
+             * sources. Each authentication still gets its own context, so the statement limit and the script
+             * globals stay isolated per authentication. All contexts of the engine must use the same resource
+             * limits, hence the limits and the host access are built once along with the engine.
+             */
+            Engine engine = getSharedEngine();
+            context = Context.newBuilder(POLYGLOT_LANGUAGE)
+                    .engine(engine)
+                    .allowHostAccess(sharedHostAccess)
+                    .resourceLimits(sharedResourceLimits)
+                    .build();
+        } else {
+            context = Context.newBuilder(POLYGLOT_LANGUAGE)
+                    .allowHostAccess(getHostAccess())
+                    .resourceLimits(getResourceLimits())
+                    .option(WARN_INTERPRETER_ONLY_OPTION, "false")
+                    .build();
+        }
 
         Value bindings = context.getBindings(POLYGLOT_LANGUAGE);
         bindings.putMember(JS_FUNC_SELECT_ACR_FROM, new GraalSelectAcrFromFunction());
@@ -118,6 +144,41 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
         return context;
     }
 
+    /**
+     * Close the engine shared by the contexts created by this factory, if any. Scripts which are still being executed
+     * on the engine are cancelled.
+     */
+    public void close() {
+
+        Engine engine;
+        synchronized (this) {
+            engine = sharedEngine;
+            sharedEngine = null;
+        }
+        if (engine != null) {
+            engine.close(true);
+        }
+    }
+
+    private Engine getSharedEngine() {
+
+        Engine engine = sharedEngine;
+        if (engine == null) {
+            synchronized (this) {
+                engine = sharedEngine;
+                if (engine == null) {
+                    sharedResourceLimits = getResourceLimits();
+                    sharedHostAccess = getHostAccess();
+                    engine = Engine.newBuilder()
+                            .option(WARN_INTERPRETER_ONLY_OPTION, "false")
+                            .build();
+                    sharedEngine = engine;
+                }
+            }
+        }
+        return engine;
+    }
+
     public ResourceLimits getResourceLimits() {
 
         ResourceLimits.Builder resourceLimitsBuilder = ResourceLimits.newBuilder();
@@ -244,6 +244,8 @@ public abstract class JsClaims extends AbstractJSContextMemberObject implements
             claimUriMap.put(claimUri, String.valueOf(claimValue));
             ((AbstractUserStoreManager) userRealm.getUserStoreManager())
                     .setUserClaimValuesWithID(authenticatedUser.getUserId(), claimUriMap, null);
+            // Local claim values retrieved earlier in the flow are no longer current.
+            getContext().removeProperty(FrameworkConstants.PROJECTED_LOCAL_CLAIM_VALUES);
         } catch (UserStoreClientException e) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug(String.format("Error when setting claim : %s of user: %s to value: %s. Error Message: %s",
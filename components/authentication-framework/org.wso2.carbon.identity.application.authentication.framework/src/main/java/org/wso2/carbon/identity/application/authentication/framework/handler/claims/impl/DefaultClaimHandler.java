@@ -46,6 +46,7 @@ import org.wso2.carbon.identity.application.common.model.ClaimMapping;
 import org.wso2.carbon.identity.application.common.model.IdPGroup;
 import org.wso2.carbon.identity.application.common.model.IdentityProvider;
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.application.common.model.script.AuthenticationScriptConfig;
 import org.wso2.carbon.identity.application.mgt.ApplicationConstants;
 import org.wso2.carbon.identity.base.IdentityConstants;
 import org.wso2.carbon.identity.central.log.mgt.utils.LogConstants;
@@ -64,6 +65,7 @@ import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
 import org.wso2.carbon.utils.DiagnosticLog;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -74,10 +76,12 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static org.apache.commons.collections.CollectionUtils.isNotEmpty;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.Config.ENABLE_LOCAL_CLAIM_PROJECTION;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.Config.SEND_ONLY_LOCALLY_MAPPED_ROLES_OF_IDP;
 import static org.wso2.carbon.identity.core.util.IdentityUtil.getLocalGroupsClaimURI;
 
@@ -90,6 +94,8 @@ public class DefaultClaimHandler implements ClaimHandler {
             FrameworkConstants.SERVICE_PROVIDER_SUBJECT_CLAIM_VALUE;
     private static final Log log = LogFactory.getLog(DefaultClaimHandler.class);
     private static volatile DefaultClaimHandler instance;
+    private static final Pattern LOCAL_CLAIM_URI_PATTERN = Pattern.compile(
+            Pattern.quote(ApplicationConstants.LOCAL_IDP_DEFAULT_CLAIM_DIALECT + "/") + "[\\w./-]*\\w");
     private static boolean returnOnlyMappedLocalRoles = false;
 
     static {
@@ -767,8 +773,15 @@ public class DefaultClaimHandler implements ClaimHandler {
         // key:value -> sp_dialect:claim_value
         Map<String, String> spRequestedClaims = new HashMap<>();
 
-        // Retrieve all non-null user claim values against local claim uris.
-        allLocalClaims = retrieveAllNunNullUserClaimValues(authenticatedUser, claimManager, appConfig, userStore);
+        if (isLocalClaimProjectionEnabled()) {
+            // Retrieve only the user claim values needed to build the claims of the application.
+            allLocalClaims = retrieveProjectedUserClaimValues(authenticatedUser, claimManager, appConfig, userStore,
+                    context);
+        } else {
+            // Retrieve all non-null user claim values against local claim uris.
+            allLocalClaims = retrieveAllNunNullUserClaimValues(authenticatedUser, claimManager, appConfig,
+                    userStore);
+        }
 
         boolean useAppAssociatedRoles = isAppRoleResolverExists() || !CarbonConstants.ENABLE_LEGACY_AUTHZ_RUNTIME;
         boolean isRoleClaimRequested = (requestedClaimMappings.get(FrameworkConstants.ROLES_CLAIM) != null);
@@ -984,6 +997,129 @@ public class DefaultClaimHandler implements ClaimHandler {
         return allLocalClaims;
     }
 
+    private static boolean isLocalClaimProjectionEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(ENABLE_LOCAL_CLAIM_PROJECTION));
+    }
+
+    /**
+     * Retrieve the non-null values of the local claims needed to build the claims of the application, instead of all
+     * the local claims of the user. Values retrieved for the user are kept in the authentication context, hence later
+     * steps of the same flow only retrieve the claims which were not retrieved before.
+     */
+    Map<String, String> retrieveProjectedUserClaimValues(AuthenticatedUser authenticatedUser,
+                                                         ClaimManager claimManager,
+                                                         ApplicationConfig appConfig,
+                                                         AbstractUserStoreManager userStore,
+                                                         AuthenticationContext context)
+            throws FrameworkException {
+
+        String tenantDomain = authenticatedUser.getTenantDomain();
+        Map<String, String> projectedLocalClaims = new HashMap<>();
+        try {
+            Set<String> claimURIs = getProjectedLocalClaimURIs(claimManager, appConfig);
+            String userId = authenticatedUser.getUserId();
+            ProjectedLocalClaims retrievedClaims;
+            Object property = context.getProperty(FrameworkConstants.PROJECTED_LOCAL_CLAIM_VALUES);
+            if (property instanceof ProjectedLocalClaims && userId.equals(((ProjectedLocalClaims) property).userId)) {
+                retrievedClaims = (ProjectedLocalClaims) property;
+            } else {
+                retrievedClaims = new ProjectedLocalClaims(userId);
+            }
+
+            List<String> missingClaimURIs = claimURIs.stream()
+                    .filter(claimURI -> !retrievedClaims.claimURIs.contains(claimURI))
+                    .collect(Collectors.toList());
+            if (!missingClaimURIs.isEmpty()) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Retrieving " + missingClaimURIs.size() + " local claims of user: " +
+                            authenticatedUser.getLoggableUserId());
+                }
+                Map<String, String> claimValues = userStore.getUserClaimValuesWithID(userId,
+                        missingClaimURIs.toArray(new String[0]), null);
+                retrievedClaims.claimURIs.addAll(missingClaimURIs);
+                if (claimValues != null) {
+                    retrievedClaims.claimValues.putAll(claimValues);
+                }
+                context.setProperty(FrameworkConstants.PROJECTED_LOCAL_CLAIM_VALUES, retrievedClaims);
+            }
+
+            for (String claimURI : claimURIs) {
+                String claimValue = retrievedClaims.claimValues.get(claimURI);
+                if (claimValue != null) {
+                    projectedLocalClaims.put(claimURI, claimValue);
+                }
+            }
+        } catch (UserStoreException e) {
+            if (e.getMessage().contains("UserNotFound")) {
+                if (log.isDebugEnabled()) {
+                    log.debug("User " + authenticatedUser.getLoggableUserId() + " not found in user store");
+                }
+            } else {
+                throw new FrameworkException("Error occurred while getting user claims for " +
+                        authenticatedUser.getLoggableUserId() + " in " + tenantDomain, e);
+            }
+        } catch (UserIdNotFoundException e) {
+            throw new FrameworkException("User id is not available for user: " +
+                    authenticatedUser.getLoggableMaskedUserId(), e);
+        }
+        return projectedLocalClaims;
+    }
+
+    /**
+     * Get the local claims needed to build the claims of the application. These are the requested and mandatory
+     * claims, the subject claim, the role claims, the IdP type claim and the local claims referred by the adaptive
+     * authentication script of the application.
+     */
+    private Set<String> getProjectedLocalClaimURIs(ClaimManager claimManager, ApplicationConfig appConfig)
+            throws UserStoreException {
+
+        Map<String, String> spToLocalClaimMappings = appConfig.getClaimMappings();
+        if (spToLocalClaimMappings == null) {
+            spToLocalClaimMappings = new HashMap<>();
+        }
+
+        Set<String> claimURIs = new HashSet<>();
+        if (appConfig.getRequestedClaimMappings() != null) {
+            claimURIs.addAll(appConfig.getRequestedClaimMappings().values());
+        }
+        if (appConfig.getMandatoryClaimMappings() != null) {
+            claimURIs.addAll(appConfig.getMandatoryClaimMappings().values());
+        }
+        for (String spClaimURI : new String[]{appConfig.getSubjectClaimUri(), appConfig.getRoleClaim()}) {
+            if (StringUtils.isNotBlank(spClaimURI)) {
+                claimURIs.add(spClaimURI);
+                claimURIs.add(spToLocalClaimMappings.get(spClaimURI));
+            }
+        }
+        claimURIs.add(getLocalGroupsClaimURI());
+        claimURIs.add(FrameworkConstants.LOCAL_ROLE_CLAIM_URI);
+        claimURIs.add(FrameworkConstants.ROLES_CLAIM);
+        claimURIs.add(FrameworkConstants.APP_ROLES_CLAIM);
+        claimURIs.add(FrameworkConstants.IDP_TYPE_CLAIM);
+
+        ServiceProvider serviceProvider = appConfig.getServiceProvider();
+        if (serviceProvider != null && serviceProvider.getLocalAndOutBoundAuthenticationConfig() != null) {
+            AuthenticationScriptConfig scriptConfig = serviceProvider.getLocalAndOutBoundAuthenticationConfig()
+                    .getAuthenticationScriptConfig();
+            if (scriptConfig != null && scriptConfig.isEnabled() && StringUtils.isNotBlank(scriptConfig.getContent())) {
+                Matcher matcher = LOCAL_CLAIM_URI_PATTERN.matcher(scriptConfig.getContent());
+                while (matcher.find()) {
+                    claimURIs.add(matcher.group());
+                }
+            }
+        }
+
+        // Only the claims of the local dialect can be retrieved from the user store.
+        Set<String> localClaimURIs = new HashSet<>();
+        for (org.wso2.carbon.user.api.ClaimMapping mapping : claimManager
+                .getAllClaimMappings(ApplicationConstants.LOCAL_IDP_DEFAULT_CLAIM_DIALECT)) {
+            localClaimURIs.add(mapping.getClaim().getClaimUri());
+        }
+        claimURIs.retainAll(localClaimURIs);
+        return claimURIs;
+    }
+
     private AbstractUserStoreManager getUserStoreManager(String tenantDomain, UserRealm realm) throws
             FrameworkException {
         AbstractUserStoreManager userStore;
@@ -1380,4 +1516,22 @@ public class DefaultClaimHandler implements ClaimHandler {
                 .getHighestPriorityApplicationRolesResolver();
         return (appRolesResolver != null);
     }
+
+    /**
+     * Local claim values of a user retrieved during an authentication flow, together with the claims they were
+     * retrieved for, so that claims without a value are not retrieved again.
+     */
+    private static class ProjectedLocalClaims implements Serializable {
+
+        private static final long serialVersionUID = -3168716253712907415L;
+
+        private final String userId;
+        private final Set<String> claimURIs = new HashSet<>();
+        private final Map<String, String> claimValues = new HashMap<>();
+
+        ProjectedLocalClaims(String userId) {
+
+            this.userId = userId;
+        }
+    }
 }
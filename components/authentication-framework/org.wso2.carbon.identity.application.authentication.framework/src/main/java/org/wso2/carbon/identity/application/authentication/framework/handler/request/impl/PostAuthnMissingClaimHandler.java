@@ -445,6 +445,7 @@ public class PostAuthnMissingClaimHandler extends AbstractPostAuthnHandler {
                 AbstractUserStoreManager userStoreManager = (AbstractUserStoreManager) realm.getUserStoreManager();
 
                 userStoreManager.setUserClaimValuesWithID(user.getUserId(), localIdpClaims, null);
+                context.removeProperty(FrameworkConstants.PROJECTED_LOCAL_CLAIM_VALUES);
             } catch (UserStoreException e) {
                 if (e instanceof UserStoreClientException) {
                     context.setProperty(POST_AUTH_MISSING_CLAIMS_ERROR, e.getMessage());
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.wso2.carbon.identity.application.authentication.framework.cache.AuthenticationContextCacheEntry;
+import org.wso2.carbon.identity.application.authentication.framework.cache.SessionContextCacheEntry;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.ApplicationConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.AuthenticatorConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.SequenceConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.StepConfig;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthHistory;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
+import org.wso2.carbon.identity.application.authentication.framework.context.SessionAuthHistory;
+import org.wso2.carbon.identity.application.authentication.framework.context.SessionContext;
+import org.wso2.carbon.identity.application.authentication.framework.exception.SessionSerializerException;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedIdPData;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.application.common.model.Claim;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.application.common.model.User;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Session serializer with a compact encoding for the framework's own session model classes.
+ * <p>
+ * Java serialization writes the full class descriptor (class name, serialVersionUID and field names and types) of
+ * every class the first time it appears in a stream. For the session and authentication context graphs this metadata
+ * makes up a large share of each stored blob. This serializer replaces the descriptor of each registered class with
+ * its index in a fixed class table and a fingerprint of its serialized fields, and falls back to the regular
+ * descriptor for any other class. The fingerprint is verified on read, so a blob written by a node with a different
+ * shape of a registered class fails instead of being read incorrectly.
+ * <p>
+ * Every blob starts with a header carrying a format version and flags, which allows the payload to be compressed
+ * with Deflate. Blobs without the header are read as plain Java serialized objects, so session data written by
+ * {@link JavaSessionSerializer} remains readable after switching to this serializer.
+ */
+public class CompactSessionSerializer implements SessionSerializer {
+
+    private static final byte[] MAGIC = {'W', 'S'};
+    private static final int FORMAT_VERSION = 1;
+    private static final int FLAG_DEFLATE = 1;
+    private static final int HEADER_LENGTH = MAGIC.length + 2;
+    private static final int INITIAL_BUFFER_SIZE = 4096;
+
+    private static final int DESCRIPTOR_FULL = 0;
+    private static final int DESCRIPTOR_REGISTERED = 1;
+
+    /*
+     * Class table of the compact encoding. The index of a class is written to the stream, so entries must only ever
+     * be appended to this list.
+     */
+    private static final List<Class<?>> REGISTERED_CLASSES = Collections.unmodifiableList(Arrays.asList(
+            HashMap.class,
+            ArrayList.class,
+            LinkedHashMap.class,
+            HashSet.class,
+            LinkedHashSet.class,
+            LinkedList.class,
+            ConcurrentHashMap.class,
+            Number.class,
+            Integer.class,
+            Long.class,
+            Boolean.class,
+            CacheEntry.class,
+            SessionContextCacheEntry.class,
+            AuthenticationContextCacheEntry.class,
+            MessageContext.class,
+            AuthenticationContext.class,
+            SessionContext.class,
+            SessionAuthHistory.class,
+            AuthHistory.class,
+            SequenceConfig.class,
+            StepConfig.class,
+            AuthenticatorConfig.class,
+            ApplicationConfig.class,
+            AuthenticatedIdPData.class,
+            User.class,
+            AuthenticatedUser.class,
+            ClaimMapping.class,
+            Claim.class));
+
+    private static final Map<String, Integer> CLASS_INDEXES = new HashMap<>();
+    private static final ObjectStreamClass[] CLASS_DESCRIPTORS = new ObjectStreamClass[REGISTERED_CLASSES.size()];
+    private static final long[] CLASS_FINGERPRINTS = new long[REGISTERED_CLASSES.size()];
+
+    static {
+        for (int i = 0; i < REGISTERED_CLASSES.size(); i++) {
+            ObjectStreamClass descriptor = ObjectStreamClass.lookup(REGISTERED_CLASSES.get(i));
+            CLASS_INDEXES.put(descriptor.getName(), i);
+            CLASS_DESCRIPTORS[i] = descriptor;
+            CLASS_FINGERPRINTS[i] = fingerprint(descriptor);
+        }
+    }
+
+    private final boolean compressionEnabled;
+
+    public CompactSessionSerializer() {
+
+        this(false);
+    }
+
+    /**
+     * @param compressionEnabled Whether the serialized session objects should be compressed with Deflate.
+     */
+    public CompactSessionSerializer(boolean compressionEnabled) {
+
+        this.compressionEnabled = compressionEnabled;
+    }
+
+    @Override
+    public InputStream serializeSessionObject(Object value) throws SessionSerializerException {
+
+        ExposedByteArrayOutputStream baos = new ExposedByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        baos.write(MAGIC, 0, MAGIC.length);
+        baos.write(FORMAT_VERSION);
+        baos.write(compressionEnabled ? FLAG_DEFLATE : 0);
+        Deflater deflater = compressionEnabled ? new Deflater(Deflater.BEST_SPEED) : null;
+        try {
+            OutputStream payload = compressionEnabled ? new DeflaterOutputStream(baos, deflater) : baos;
+            try (ObjectOutputStream oos = new CompactObjectOutputStream(payload)) {
+                oos.writeObject(value);
+            }
+        } catch (IOException e) {
+            throw new SessionSerializerException("Error while serializing the session object", e);
+        } finally {
+            if (deflater != null) {
+                deflater.end();
+            }
+        }
+        return baos.toInputStream();
+    }
+
+    @Override
+    public Object deSerializeSessionObject(InputStream inputStream) throws SessionSerializerException {
+
+        try {
+            InputStream bufferedStream = new BufferedInputStream(inputStream);
+            bufferedStream.mark(HEADER_LENGTH);
+            byte[] header = new byte[HEADER_LENGTH];
+            int read = readFully(bufferedStream, header);
+            if (read < HEADER_LENGTH || header[0] != MAGIC[0] || header[1] != MAGIC[1]) {
+                // Blob written by the Java session serializer.
+                bufferedStream.reset();
+                return new ObjectInputStream(bufferedStream).readObject();
+            }
+            if (header[2] != FORMAT_VERSION) {
+                throw new SessionSerializerException("Unsupported session object format version: " + header[2],
+                        null);
+            }
+            InputStream payload = (header[3] & FLAG_DEFLATE) != 0 ?
+                    new InflaterInputStream(bufferedStream) : bufferedStream;
+            try (ObjectInputStream ois = new CompactObjectInputStream(payload)) {
+                return ois.readObject();
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new SessionSerializerException("Error while de serializing the session object", e);
+        }
+    }
+
+    private static int readFully(InputStream inputStream, byte[] buffer) throws IOException {
+
+        int total = 0;
+        while (total < buffer.length) {
+            int read = inputStream.read(buffer, total, buffer.length - total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    /**
+     * Fingerprint of the serialized form of a class, derived from its serialVersionUID and serializable fields.
+     */
+    private static long fingerprint(ObjectStreamClass descriptor) {
+
+        long fingerprint = descriptor.getSerialVersionUID();
+        for (ObjectStreamField field : descriptor.getFields()) {
+            fingerprint = 31 * fingerprint + field.getName().hashCode();
+            fingerprint = 31 * fingerprint + field.getTypeCode();
+            if (field.getTypeString() != null) {
+                fingerprint = 31 * fingerprint + field.getTypeString().hashCode();
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Object output stream which writes registered class descriptors as class table references.
+     */
+    private static class CompactObjectOutputStream extends ObjectOutputStream {
+
+        CompactObjectOutputStream(OutputStream out) throws IOException {
+
+            super(out);
+        }
+
+        @Override
+        protected void writeClassDescriptor(ObjectStreamClass descriptor) throws IOException {
+
+            Integer index = CLASS_INDEXES.get(descriptor.getName());
+            if (index == null) {
+                writeByte(DESCRIPTOR_FULL);
+                super.writeClassDescriptor(descriptor);
+                return;
+            }
+            writeByte(DESCRIPTOR_REGISTERED);
+            writeShort(index);
+            writeLong(CLASS_FINGERPRINTS[index]);
+        }
+    }
+
+    /**
+     * Object input stream which resolves class table references written by {@link CompactObjectOutputStream}.
+     */
+    private static class CompactObjectInputStream extends ObjectInputStream {
+
+        CompactObjectInputStream(InputStream in) throws IOException {
+
+            super(in);
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+
+            int type = readByte();
+            if (type == DESCRIPTOR_FULL) {
+                return super.readClassDescriptor();
+            }
+            if (type != DESCRIPTOR_REGISTERED) {
+                throw new InvalidClassException("Unknown class descriptor type: " + type);
+            }
+            int index = readUnsignedShort();
+            long fingerprint = readLong();
+            if (index >= CLASS_DESCRIPTORS.length) {
+                throw new InvalidClassException("Unknown class table index: " + index);
+            }
+            if (CLASS_FINGERPRINTS[index] != fingerprint) {
+                throw new InvalidClassException(CLASS_DESCRIPTORS[index].getName(),
+                        "Serialized form does not match the local class");
+            }
+            return CLASS_DESCRIPTORS[index];
+        }
+    }
+
+    /**
+     * Byte array output stream which hands over its buffer without copying it.
+     */
+    private static class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+
+        ExposedByteArrayOutputStream(int size) {
+
+            super(size);
+        }
+
+        InputStream toInputStream() {
+
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+}
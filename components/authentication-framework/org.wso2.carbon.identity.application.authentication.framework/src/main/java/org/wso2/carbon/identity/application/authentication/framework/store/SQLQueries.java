@@ -59,9 +59,32 @@ public class SQLQueries {
     public static final String SQL_SELECT_SESSION_ID_OF_USER_ID =
             "SELECT SESSION_ID FROM IDN_AUTH_USER_SESSION_MAPPING WHERE USER_ID = ?";
 
-    public static final String SQL_SELECT_TERMINATED_SESSION_IDS =
-            "SELECT SESSION_ID FROM IDN_AUTH_SESSION_STORE WHERE SESSION_TYPE = '" + SESSION_CONTEXT_CACHE_NAME
-                    + "' AND EXPIRY_TIME < ?";
+    /**
+     * Queries to retrieve the next page of terminated session IDs in session ID order. The page size is formatted
+     * into the queries.
+     */
+    public static final String SQL_SELECT_TERMINATED_SESSION_IDS_MYSQL =
+            "SELECT DISTINCT SESSION_ID FROM IDN_AUTH_SESSION_STORE WHERE SESSION_TYPE = '" +
+                    SESSION_CONTEXT_CACHE_NAME + "' AND EXPIRY_TIME < ? AND SESSION_ID > ? ORDER BY SESSION_ID " +
+                    "LIMIT %d";
+
+    public static final String SQL_SELECT_TERMINATED_SESSION_IDS_DB2 =
+            "SELECT DISTINCT SESSION_ID FROM IDN_AUTH_SESSION_STORE WHERE SESSION_TYPE = '" +
+                    SESSION_CONTEXT_CACHE_NAME + "' AND EXPIRY_TIME < ? AND SESSION_ID > ? ORDER BY SESSION_ID " +
+                    "FETCH FIRST %d ROWS ONLY";
+
+    public static final String SQL_SELECT_TERMINATED_SESSION_IDS_MSSQL =
+            "SELECT DISTINCT TOP (%d) SESSION_ID FROM IDN_AUTH_SESSION_STORE WHERE SESSION_TYPE = '" +
+                    SESSION_CONTEXT_CACHE_NAME + "' AND EXPIRY_TIME < ? AND SESSION_ID > ? ORDER BY SESSION_ID";
+
+    public static final String SQL_SELECT_TERMINATED_SESSION_IDS_INFORMIX =
+            "SELECT FIRST %d DISTINCT SESSION_ID FROM IDN_AUTH_SESSION_STORE WHERE SESSION_TYPE = '" +
+                    SESSION_CONTEXT_CACHE_NAME + "' AND EXPIRY_TIME < ? AND SESSION_ID > ? ORDER BY SESSION_ID";
+
+    public static final String SQL_SELECT_TERMINATED_SESSION_IDS_ORACLE =
+            "SELECT SESSION_ID FROM (SELECT DISTINCT SESSION_ID FROM IDN_AUTH_SESSION_STORE WHERE SESSION_TYPE = '" +
+                    SESSION_CONTEXT_CACHE_NAME + "' AND EXPIRY_TIME < ? AND SESSION_ID > ? ORDER BY SESSION_ID) " +
+                    "WHERE ROWNUM <= %d";
 
     /**
      * Query to retrieve user session mapping.
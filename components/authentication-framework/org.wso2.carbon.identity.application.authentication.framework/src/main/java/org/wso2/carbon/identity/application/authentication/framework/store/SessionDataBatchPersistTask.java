@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+
+/**
+ * Write-behind task to persist and remove session data. Operations are drained from the queue in bounded batches,
+ * repeated operations for the same session key and type are collapsed so only the latest one is written, and the
+ * remaining operations are flushed to the database with JDBC batch updates.
+ */
+public class SessionDataBatchPersistTask implements Runnable {
+
+    private static final Log log = LogFactory.getLog(SessionDataBatchPersistTask.class);
+    private static final String KEY_SEPARATOR = "\u0000";
+    private final BlockingDeque<SessionContextDO> sessionContextQueue;
+    private final int batchSize;
+    private static volatile boolean running;
+
+    public SessionDataBatchPersistTask(BlockingDeque<SessionContextDO> sessionContextQueue, int batchSize) {
+
+        this.sessionContextQueue = sessionContextQueue;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public void run() {
+
+        log.debug("Session Context batch persist consumer is started");
+
+        running = true;
+        List<SessionContextDO> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(sessionContextQueue.take());
+                sessionContextQueue.drainTo(batch, batchSize - 1);
+                List<SessionContextDO> coalescedBatch = coalesce(batch);
+                if (log.isDebugEnabled()) {
+                    log.debug("Session Data batch persisting Task is started to run. Drained: " + batch.size() +
+                            ", after coalescing: " + coalescedBatch.size());
+                }
+                long startTime = System.nanoTime();
+                SessionDataStore.getInstance().persistSessionDataBatch(coalescedBatch);
+                SessionDataPersistMetrics.getInstance().recordFlush(batch.size(), coalescedBatch.size(),
+                        System.nanoTime() - startTime);
+            } catch (InterruptedException e) {
+                //ignore
+                log.error(e);
+            } catch (RuntimeException e) {
+                // Keep the consumer alive so that a single failing batch does not stop persistence.
+                log.error("Error while persisting session data batch", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Collapse the operations of a batch so that only the latest operation for each session key and type remains.
+     * The order in which the keys were first seen is preserved.
+     *
+     * @param batch Operations drained from the queue.
+     * @return Latest operation for each session key and type.
+     */
+    static List<SessionContextDO> coalesce(List<SessionContextDO> batch) {
+
+        Map<String, SessionContextDO> latestOperations = new LinkedHashMap<>();
+        for (SessionContextDO sessionContextDO : batch) {
+            String operationKey = sessionContextDO.getKey() + KEY_SEPARATOR + sessionContextDO.getType();
+            SessionContextDO existing = latestOperations.get(operationKey);
+            if (existing == null || sessionContextDO.getNanoTime() >= existing.getNanoTime()) {
+                latestOperations.put(operationKey, sessionContextDO);
+            }
+        }
+        return new ArrayList<>(latestOperations.values());
+    }
+
+    public static void shutdown() {
+
+        running = false;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Counters of the asynchronous session data persistence pipeline, exposed over JMX.
+ */
+public class SessionDataPersistMetrics implements SessionDataPersistMetricsMBean {
+
+    private static final Log log = LogFactory.getLog(SessionDataPersistMetrics.class);
+    private static final String OBJECT_NAME = "org.wso2.carbon.identity:type=SessionDataPersist";
+    private static final SessionDataPersistMetrics instance = new SessionDataPersistMetrics();
+
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong flushedBatchCount = new AtomicLong();
+    private final AtomicLong drainedEntryCount = new AtomicLong();
+    private final AtomicLong flushedEntryCount = new AtomicLong();
+    private final AtomicLong totalFlushLatencyNanos = new AtomicLong();
+    private final AtomicLong maxFlushLatencyNanos = new AtomicLong();
+
+    private SessionDataPersistMetrics() {
+
+    }
+
+    public static SessionDataPersistMetrics getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Register the metrics with the platform MBean server. Registration failures are logged and ignored, since the
+     * metrics are not required for the persistence pipeline to function.
+     */
+    void register() {
+
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (!mBeanServer.isRegistered(objectName)) {
+                mBeanServer.registerMBean(this, objectName);
+            }
+        } catch (JMException e) {
+            log.warn("Error while registering session data persistence metrics MBean: " + OBJECT_NAME, e);
+        }
+    }
+
+    void recordEnqueued() {
+
+        enqueuedCount.incrementAndGet();
+    }
+
+    void recordRejected() {
+
+        rejectedCount.incrementAndGet();
+    }
+
+    /**
+     * Record a flushed batch.
+     *
+     * @param drainedEntries   Number of operations drained from the queue.
+     * @param flushedEntries   Number of operations written after coalescing.
+     * @param flushLatencyNano Time taken to write the batch, in nanoseconds.
+     */
+    void recordFlush(int drainedEntries, int flushedEntries, long flushLatencyNano) {
+
+        flushedBatchCount.incrementAndGet();
+        drainedEntryCount.addAndGet(drainedEntries);
+        flushedEntryCount.addAndGet(flushedEntries);
+        totalFlushLatencyNanos.addAndGet(flushLatencyNano);
+        maxFlushLatencyNanos.accumulateAndGet(flushLatencyNano, Math::max);
+    }
+
+    @Override
+    public int getQueueDepth() {
+
+        return SessionDataStore.getSessionContextQueueSize();
+    }
+
+    @Override
+    public long getEnqueuedCount() {
+
+        return enqueuedCount.get();
+    }
+
+    @Override
+    public long getRejectedCount() {
+
+        return rejectedCount.get();
+    }
+
+    @Override
+    public long getFlushedBatchCount() {
+
+        return flushedBatchCount.get();
+    }
+
+    @Override
+    public long getFlushedEntryCount() {
+
+        return flushedEntryCount.get();
+    }
+
+    @Override
+    public long getCoalescedEntryCount() {
+
+        return drainedEntryCount.get() - flushedEntryCount.get();
+    }
+
+    @Override
+    public double getAverageBatchSize() {
+
+        long batches = flushedBatchCount.get();
+        return batches == 0 ? 0 : (double) drainedEntryCount.get() / batches;
+    }
+
+    @Override
+    public double getCoalesceRatio() {
+
+        long drained = drainedEntryCount.get();
+        return drained == 0 ? 0 : (double) getCoalescedEntryCount() / drained;
+    }
+
+    @Override
+    public double getAverageFlushLatencyMillis() {
+
+        long batches = flushedBatchCount.get();
+        return batches == 0 ? 0 : toMillis(totalFlushLatencyNanos.get()) / batches;
+    }
+
+    @Override
+    public double getMaxFlushLatencyMillis() {
+
+        return toMillis(maxFlushLatencyNanos.get());
+    }
+
+    private static double toMillis(long nanos) {
+
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
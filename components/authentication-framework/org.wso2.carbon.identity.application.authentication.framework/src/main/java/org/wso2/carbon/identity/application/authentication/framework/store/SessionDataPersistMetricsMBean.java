@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+/**
+ * JMX view of the asynchronous session data persistence pipeline.
+ */
+public interface SessionDataPersistMetricsMBean {
+
+    /**
+     * @return Number of session context operations currently waiting in the persistence queue.
+     */
+    int getQueueDepth();
+
+    /**
+     * @return Number of session context operations accepted into the persistence queue.
+     */
+    long getEnqueuedCount();
+
+    /**
+     * @return Number of session context operations that could not be queued and were handled by the caller.
+     */
+    long getRejectedCount();
+
+    /**
+     * @return Number of batches flushed to the database.
+     */
+    long getFlushedBatchCount();
+
+    /**
+     * @return Number of operations written to the database after coalescing.
+     */
+    long getFlushedEntryCount();
+
+    /**
+     * @return Number of operations dropped because a newer operation for the same key and type was in the batch.
+     */
+    long getCoalescedEntryCount();
+
+    /**
+     * @return Average number of operations drained from the queue per batch.
+     */
+    double getAverageBatchSize();
+
+    /**
+     * @return Ratio of coalesced operations to drained operations.
+     */
+    double getCoalesceRatio();
+
+    /**
+     * @return Average time taken to flush a batch, in milliseconds.
+     */
+    double getAverageFlushLatencyMillis();
+
+    /**
+     * @return Maximum time taken to flush a batch, in milliseconds.
+     */
+    double getMaxFlushLatencyMillis();
+}
@@ -42,6 +42,10 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -127,12 +131,19 @@ public class SessionDataStore {
     private static final String INFORMIX_DATABASE = "Informix";
 
     private static final int DEFAULT_DELETE_LIMIT = 50000;
+    private static final int DEFAULT_WRITE_BEHIND_BATCH_SIZE = 100;
+    private static final String BACKPRESSURE_POLICY_BLOCK = "Block";
+    private static final String BACKPRESSURE_POLICY_CALLER_RUNS = "CallerRuns";
     public static final String DEFAULT_SESSION_STORE_TABLE_NAME = "IDN_AUTH_SESSION_STORE";
     private static final String CACHE_MANAGER_NAME = "IdentityApplicationManagementCacheManager";
     public static final String DEFAULT_TEMP_SESSION_STORE_TABLE_NAME = "IDN_AUTH_TEMP_SESSION_STORE";
     private static int maxSessionDataPoolSize = 100;
     private static int maxTempDataPoolSize = 50;
-    private static BlockingDeque<SessionContextDO> sessionContextQueue = new LinkedBlockingDeque();
+    private static int sessionDataQueueCapacity = Integer.MAX_VALUE;
+    private static boolean writeBehindEnabled = false;
+    private static int writeBehindBatchSize = DEFAULT_WRITE_BEHIND_BATCH_SIZE;
+    private static String backpressurePolicy = BACKPRESSURE_POLICY_CALLER_RUNS;
+    private static BlockingDeque<SessionContextDO> sessionContextQueue;
     private static BlockingDeque<SessionContextDO> tempAuthnContextDataDeleteQueue = new LinkedBlockingDeque();
     private static volatile SessionDataStore instance;
     private boolean enablePersist;
@@ -184,18 +195,47 @@ public class SessionDataStore {
                 maxTempDataPoolSize = Integer.parseInt(maxTempDataPoolSizeValue);
             }
 
+            String queueCapacityValue
+                    = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.QueueCapacity");
+            if (StringUtils.isNotBlank(queueCapacityValue) && Integer.parseInt(queueCapacityValue) > 0) {
+                sessionDataQueueCapacity = Integer.parseInt(queueCapacityValue);
+            }
+
+            String backpressurePolicyValue
+                    = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.BackpressurePolicy");
+            if (BACKPRESSURE_POLICY_BLOCK.equalsIgnoreCase(backpressurePolicyValue)) {
+                backpressurePolicy = BACKPRESSURE_POLICY_BLOCK;
+            }
+
+            writeBehindEnabled = Boolean.parseBoolean(
+                    IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.WriteBehind.Enable"));
+            String writeBehindBatchSizeValue
+                    = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.WriteBehind.BatchSize");
+            if (StringUtils.isNotBlank(writeBehindBatchSizeValue)) {
+                writeBehindBatchSize = Integer.parseInt(writeBehindBatchSizeValue);
+            }
+
         } catch (NumberFormatException e) {
             if (log.isDebugEnabled()) {
                 log.debug("Exception ignored : ", e);
             }
             log.warn("One or more pool size configurations cause NumberFormatException. Default values would be used");
         }
+        sessionContextQueue = new LinkedBlockingDeque<>(sessionDataQueueCapacity);
         if (maxSessionDataPoolSize > 0) {
             log.info("Thread pool size for session persistent consumer : " + maxSessionDataPoolSize);
             ExecutorService threadPool = Executors.newFixedThreadPool(maxSessionDataPoolSize);
             for (int i = 0; i < maxSessionDataPoolSize; i++) {
-                threadPool.execute(new SessionDataPersistTask(sessionContextQueue));
+                if (writeBehindEnabled) {
+                    threadPool.execute(new SessionDataBatchPersistTask(sessionContextQueue, writeBehindBatchSize));
+                } else {
+                    threadPool.execute(new SessionDataPersistTask(sessionContextQueue));
+                }
+            }
+            if (writeBehindEnabled) {
+                log.info("Session data write-behind is enabled with batch size : " + writeBehindBatchSize);
             }
+            SessionDataPersistMetrics.getInstance().register();
         }
         if (tempDataCleanupEnabled && maxTempDataPoolSize > 0) {
             log.info("Thread pool size for temporary authentication context data delete task: " + maxTempDataPoolSize);
@@ -384,11 +424,11 @@ public class SessionDataStore {
             return;
         }
         long nanoTime = FrameworkUtils.getCurrentStandardNano();
-        if (maxSessionDataPoolSize > 0 && !isTempCache(type)) {
-            sessionContextQueue.push(new SessionContextDO(key, type, entry, nanoTime, tenantId));
-        } else {
-            persistSessionData(key, type, entry, nanoTime, tenantId);
+        if (maxSessionDataPoolSize > 0 && !isTempCache(type)
+                && enqueueSessionContext(new SessionContextDO(key, type, entry, nanoTime, tenantId))) {
+            return;
         }
+        persistSessionData(key, type, entry, nanoTime, tenantId);
     }
 
     public void clearSessionData(String key, String type) {
@@ -396,11 +436,54 @@ public class SessionDataStore {
             return;
         }
         long nanoTime = FrameworkUtils.getCurrentStandardNano();
-        if (maxSessionDataPoolSize > 0 && !isTempCache(type)) {
-            sessionContextQueue.push(new SessionContextDO(key, type, null, nanoTime));
+        if (maxSessionDataPoolSize > 0 && !isTempCache(type)
+                && enqueueSessionContext(new SessionContextDO(key, type, null, nanoTime))) {
+            return;
+        }
+        removeSessionData(key, type, nanoTime);
+    }
+
+    /**
+     * Adds a session context operation to the persistence queue. When the queue is full, the configured backpressure
+     * policy decides whether the caller waits for space ("Block") or performs the operation itself ("CallerRuns").
+     *
+     * @param sessionContextDO Session context operation.
+     * @return True if the operation was queued, false if the caller should perform it synchronously.
+     */
+    private boolean enqueueSessionContext(SessionContextDO sessionContextDO) {
+
+        boolean queued;
+        if (BACKPRESSURE_POLICY_BLOCK.equals(backpressurePolicy)) {
+            try {
+                sessionContextQueue.putFirst(sessionContextDO);
+                queued = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                queued = false;
+            }
         } else {
-            removeSessionData(key, type, nanoTime);
+            queued = sessionContextQueue.offerFirst(sessionContextDO);
         }
+        if (queued) {
+            SessionDataPersistMetrics.getInstance().recordEnqueued();
+        } else {
+            SessionDataPersistMetrics.getInstance().recordRejected();
+            if (log.isDebugEnabled()) {
+                log.debug("Session data persistence queue is full. Persisting session data of key : " +
+                        sessionContextDO.getKey() + " type : " + sessionContextDO.getType() + " synchronously.");
+            }
+        }
+        return queued;
+    }
+
+    /**
+     * Returns the number of session context operations waiting in the persistence queue.
+     *
+     * @return Size of the persistence queue.
+     */
+    static int getSessionContextQueueSize() {
+
+        return sessionContextQueue.size();
     }
 
     /**
@@ -410,6 +493,7 @@ public class SessionDataStore {
 
         TempAuthContextDataDeleteTask.shutdown();
         SessionDataPersistTask.shutdown();
+        SessionDataBatchPersistTask.shutdown();
     }
 
     /**
@@ -607,6 +691,123 @@ public class SessionDataStore {
         }
     }
 
+    /**
+     * Persists a batch of STORE and DELETE operations. Operations are grouped by target table and written with JDBC
+     * batch updates in a single transaction. If the batch cannot be written, each operation is retried individually
+     * so that a single failing operation does not discard the rest of the batch.
+     *
+     * @param sessionContextDOs Session context operations to be persisted.
+     */
+    public void persistSessionDataBatch(List<SessionContextDO> sessionContextDOs) {
+
+        if (!enablePersist || sessionContextDOs.isEmpty()) {
+            return;
+        }
+        Map<String, List<SessionContextDO>> storeOperations = new LinkedHashMap<>();
+        Map<String, List<SessionContextDO>> deleteOperations = new LinkedHashMap<>();
+        for (SessionContextDO sessionContextDO : sessionContextDOs) {
+            String type = sessionContextDO.getType();
+            if (sessionContextDO.getEntry() != null) {
+                storeOperations.computeIfAbsent(getSessionStoreDBQuery(sqlInsertSTORE, type),
+                        k -> new ArrayList<>()).add(sessionContextDO);
+            } else if (tempDataCleanupEnabled && maxTempDataPoolSize > 0 && isTempCache(type)) {
+                removeSessionData(sessionContextDO.getKey(), type, sessionContextDO.getNanoTime());
+            } else if (getSessionContextDataByOperation(sessionContextDO.getKey(), type, OPERATION_DELETE) == null) {
+                deleteOperations.computeIfAbsent(getSessionStoreDBQuery(sqlInsertDELETE, type),
+                        k -> new ArrayList<>()).add(sessionContextDO);
+            }
+        }
+        if (storeOperations.isEmpty() && deleteOperations.isEmpty()) {
+            return;
+        }
+
+        Connection connection;
+        try {
+            connection = IdentityDatabaseUtil.getSessionDBConnection(true);
+        } catch (IdentityRuntimeException e) {
+            log.error(e.getMessage(), e);
+            return;
+        }
+        boolean batchFailed = false;
+        try {
+            for (Map.Entry<String, List<SessionContextDO>> operations : storeOperations.entrySet()) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(operations.getKey())) {
+                    for (SessionContextDO sessionContextDO : operations.getValue()) {
+                        addStoreOperationToBatch(preparedStatement, sessionContextDO);
+                    }
+                    preparedStatement.executeBatch();
+                }
+            }
+            for (Map.Entry<String, List<SessionContextDO>> operations : deleteOperations.entrySet()) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(operations.getKey())) {
+                    for (SessionContextDO sessionContextDO : operations.getValue()) {
+                        preparedStatement.setString(1, sessionContextDO.getKey());
+                        preparedStatement.setString(2, sessionContextDO.getType());
+                        preparedStatement.setString(3, OPERATION_DELETE);
+                        preparedStatement.setLong(4, sessionContextDO.getNanoTime());
+                        preparedStatement.setLong(5, sessionContextDO.getNanoTime() +
+                                getCleanupTimeout(sessionContextDO.getType(), MultitenantConstants.INVALID_TENANT_ID));
+                        preparedStatement.addBatch();
+                    }
+                    preparedStatement.executeBatch();
+                }
+            }
+            IdentityDatabaseUtil.commitTransaction(connection);
+        } catch (SQLException | IOException | SessionSerializerException e) {
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            log.error("Error while storing session data batch. Retrying the operations individually.", e);
+            batchFailed = true;
+        } finally {
+            IdentityDatabaseUtil.closeConnection(connection);
+        }
+        if (batchFailed) {
+            retryIndividually(storeOperations, deleteOperations);
+            return;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Persisted a batch of " + sessionContextDOs.size() + " SessionContextData operations to DB.");
+        }
+    }
+
+    private void addStoreOperationToBatch(PreparedStatement preparedStatement, SessionContextDO sessionContextDO)
+            throws SQLException, IOException, SessionSerializerException {
+
+        Object entry = sessionContextDO.getEntry();
+        long validityPeriodNano = 0L;
+        if (entry instanceof CacheEntry) {
+            validityPeriodNano = ((CacheEntry) entry).getValidityPeriod();
+        }
+        if (validityPeriodNano == 0L) {
+            validityPeriodNano = getCleanupTimeout(sessionContextDO.getType(), sessionContextDO.getTenantId());
+        }
+        preparedStatement.setString(1, sessionContextDO.getKey());
+        preparedStatement.setString(2, sessionContextDO.getType());
+        preparedStatement.setString(3, OPERATION_STORE);
+        setBlobObject(preparedStatement, entry, 4);
+        preparedStatement.setLong(5, sessionContextDO.getNanoTime());
+        preparedStatement.setLong(6, sessionContextDO.getNanoTime() + validityPeriodNano);
+        preparedStatement.setInt(7, sessionContextDO.getTenantId());
+        preparedStatement.addBatch();
+    }
+
+    private void retryIndividually(Map<String, List<SessionContextDO>> storeOperations,
+                                   Map<String, List<SessionContextDO>> deleteOperations) {
+
+        for (List<SessionContextDO> operations : storeOperations.values()) {
+            for (SessionContextDO sessionContextDO : operations) {
+                persistSessionData(sessionContextDO.getKey(), sessionContextDO.getType(), sessionContextDO.getEntry(),
+                        sessionContextDO.getNanoTime(), sessionContextDO.getTenantId());
+            }
+        }
+        for (List<SessionContextDO> operations : deleteOperations.values()) {
+            for (SessionContextDO sessionContextDO : operations) {
+                removeSessionData(sessionContextDO.getKey(), sessionContextDO.getType(),
+                        sessionContextDO.getNanoTime());
+            }
+        }
+    }
+
     /**
      * Removes temporary authn context data from the table if temporary data cleanup is enabled.
      *
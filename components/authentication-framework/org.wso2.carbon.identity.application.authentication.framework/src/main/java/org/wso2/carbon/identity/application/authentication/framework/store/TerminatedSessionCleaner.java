@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkUtils;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Removes the user session mapping, session app info and session meta data records of terminated sessions.
+ * <p>
+ * Terminated session IDs are read page by page in session ID order, starting after the last ID of the previous page,
+ * so that only one page is held in memory. The records of each page are deleted and committed before the next page is
+ * read, hence locks on the session tables are held only for the duration of a page. The tables of a page can be
+ * cleaned in parallel, and the load on the database can be limited further with a pause between pages. A run can be
+ * limited in time, in which case the next run resumes after the last session ID cleaned by the previous run.
+ */
+public class TerminatedSessionCleaner {
+
+    private static final Log log = LogFactory.getLog(TerminatedSessionCleaner.class);
+    // Sorts before all session IDs. An empty string is not used, since Oracle treats it as null.
+    private static final String START_SESSION_ID = " ";
+    private static final String MYSQL_DATABASE = "MySQL";
+    private static final String MARIA_DATABASE = "MariaDB";
+    private static final String H2_DATABASE = "H2";
+    private static final String DB2_DATABASE = "DB2";
+    private static final String MS_SQL_DATABASE = "MS SQL";
+    private static final String MICROSOFT_DATABASE = "Microsoft";
+    private static final String POSTGRESQL_DATABASE = "PostgreSQL";
+    private static final String INFORMIX_DATABASE = "Informix";
+    private static final String[][] SESSION_TABLES = {
+            {"IDN_AUTH_USER_SESSION_MAPPING", SQLQueries.SQL_DELETE_TERMINATED_SESSION_DATA},
+            {"IDN_AUTH_SESSION_APP_INFO", SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_APP_INFO},
+            {"IDN_AUTH_SESSION_META_DATA", SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_META_DATA}
+    };
+
+    private final int pageSize;
+    private final long pageIntervalMillis;
+    private final long maxRunTimeMillis;
+    private final ExecutorService deleteExecutor;
+    private final UserSessionCleanUpMetrics metrics = new UserSessionCleanUpMetrics();
+    private String terminatedSessionIdsQuery;
+    private String resumeSessionId = START_SESSION_ID;
+    private long passStartMillis;
+
+    /**
+     * @param pageSize           Number of terminated sessions cleaned per page.
+     * @param parallelism        Number of session tables cleaned in parallel. Tables are cleaned one after the other
+     *                           if the value is 1 or less.
+     * @param pageIntervalMillis Pause between two pages, in milliseconds.
+     * @param maxRunTimeMillis   Maximum duration of a run, in milliseconds, after which the run stops at the end of
+     *                           the current page. A value of 0 or less lets a run clean all terminated sessions.
+     */
+    public TerminatedSessionCleaner(int pageSize, int parallelism, long pageIntervalMillis, long maxRunTimeMillis) {
+
+        this.pageSize = Math.max(1, pageSize);
+        this.pageIntervalMillis = pageIntervalMillis;
+        this.maxRunTimeMillis = maxRunTimeMillis;
+        if (parallelism > 1) {
+            AtomicInteger threadCount = new AtomicInteger();
+            this.deleteExecutor = Executors.newFixedThreadPool(Math.min(parallelism, SESSION_TABLES.length),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "TerminatedSessionCleaner-" +
+                                threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        } else {
+            this.deleteExecutor = null;
+        }
+    }
+
+    /**
+     * Remove the records of sessions which expired before now, continuing from where the previous run stopped.
+     */
+    public synchronized void removeExpiredSessionRecords() {
+
+        long runStartNanos = System.nanoTime();
+        long runStartMillis = System.currentTimeMillis();
+        long deadlineNanos = runStartNanos + TimeUnit.MILLISECONDS.toNanos(maxRunTimeMillis);
+        long expiryTime = FrameworkUtils.getCurrentStandardNano();
+        String lastSessionId = resumeSessionId;
+        if (START_SESSION_ID.equals(lastSessionId)) {
+            passStartMillis = runStartMillis;
+        }
+        long removedSessions = 0;
+        long deletedRows = 0;
+        boolean completed = false;
+
+        try {
+            while (true) {
+                List<String> sessionIds = getTerminatedSessionIds(expiryTime, lastSessionId);
+                if (sessionIds.isEmpty()) {
+                    completed = true;
+                    break;
+                }
+                deletedRows += deleteSessionRecords(sessionIds);
+                removedSessions += sessionIds.size();
+                lastSessionId = sessionIds.get(sessionIds.size() - 1);
+                if (sessionIds.size() < pageSize) {
+                    completed = true;
+                    break;
+                }
+                if (maxRunTimeMillis > 0 && System.nanoTime() - deadlineNanos >= 0) {
+                    break;
+                }
+                if (pageIntervalMillis > 0) {
+                    Thread.sleep(pageIntervalMillis);
+                }
+            }
+        } catch (SQLException e) {
+            log.error("Error while removing expired session information from the database.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Removing expired session information was interrupted.");
+        }
+
+        // Start from the beginning after a complete pass, otherwise continue after the last cleaned page.
+        resumeSessionId = completed ? START_SESSION_ID : lastSessionId;
+        metrics.recordRun(removedSessions, deletedRows, System.nanoTime() - runStartNanos,
+                completed ? passStartMillis : -1, !completed);
+        if (log.isDebugEnabled()) {
+            log.debug("Removed " + deletedRows + " records of " + removedSessions + " terminated sessions." +
+                    (completed ? "" : " Cleanup will resume after session: " + lastSessionId));
+        }
+    }
+
+    /**
+     * @return Metrics of the runs of this cleaner.
+     */
+    public UserSessionCleanUpMetrics getMetrics() {
+
+        return metrics;
+    }
+
+    /**
+     * Stop the threads used to clean the session tables in parallel.
+     */
+    public void shutdown() {
+
+        if (deleteExecutor != null) {
+            deleteExecutor.shutdownNow();
+        }
+    }
+
+    private List<String> getTerminatedSessionIds(long expiryTime, String afterSessionId) throws SQLException {
+
+        List<String> sessionIds = new ArrayList<>(Math.min(pageSize, 1024));
+        try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(false);
+             PreparedStatement preparedStatement = connection.prepareStatement(
+                     getTerminatedSessionIdsQuery(connection))) {
+            preparedStatement.setFetchSize(Math.min(pageSize, 1000));
+            preparedStatement.setLong(1, expiryTime);
+            preparedStatement.setString(2, afterSessionId);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    sessionIds.add(resultSet.getString(1));
+                }
+            }
+        }
+        return sessionIds;
+    }
+
+    /**
+     * Get the query of a page of terminated session IDs for the database of the session store, with the page size
+     * formatted into it.
+     */
+    private String getTerminatedSessionIdsQuery(Connection connection) throws SQLException {
+
+        if (terminatedSessionIdsQuery != null) {
+            return terminatedSessionIdsQuery;
+        }
+        String nonFormattedQuery;
+        String driverName = connection.getMetaData().getDriverName();
+        if (driverName.contains(MYSQL_DATABASE) || driverName.contains(MARIA_DATABASE)
+                || driverName.contains(H2_DATABASE) || driverName.contains(POSTGRESQL_DATABASE)) {
+            nonFormattedQuery = SQLQueries.SQL_SELECT_TERMINATED_SESSION_IDS_MYSQL;
+        } else if (connection.getMetaData().getDatabaseProductName().contains(DB2_DATABASE)) {
+            nonFormattedQuery = SQLQueries.SQL_SELECT_TERMINATED_SESSION_IDS_DB2;
+        } else if (driverName.contains(MS_SQL_DATABASE) || driverName.contains(MICROSOFT_DATABASE)) {
+            nonFormattedQuery = SQLQueries.SQL_SELECT_TERMINATED_SESSION_IDS_MSSQL;
+        } else if (driverName.contains(INFORMIX_DATABASE)) {
+            nonFormattedQuery = SQLQueries.SQL_SELECT_TERMINATED_SESSION_IDS_INFORMIX;
+        } else {
+            nonFormattedQuery = SQLQueries.SQL_SELECT_TERMINATED_SESSION_IDS_ORACLE;
+        }
+        terminatedSessionIdsQuery = String.format(nonFormattedQuery, pageSize);
+        return terminatedSessionIdsQuery;
+    }
+
+    private long deleteSessionRecords(List<String> sessionIds) throws SQLException, InterruptedException {
+
+        if (deleteExecutor == null) {
+            long deletedRows = 0;
+            for (String[] table : SESSION_TABLES) {
+                deletedRows += deleteSessionRecords(sessionIds, table[0], table[1]);
+            }
+            return deletedRows;
+        }
+
+        List<Future<Long>> deletions = new ArrayList<>(SESSION_TABLES.length);
+        for (String[] table : SESSION_TABLES) {
+            deletions.add(deleteExecutor.submit(() -> deleteSessionRecords(sessionIds, table[0], table[1])));
+        }
+        long deletedRows = 0;
+        SQLException error = null;
+        for (Future<Long> deletion : deletions) {
+            try {
+                deletedRows += deletion.get();
+            } catch (ExecutionException e) {
+                if (error == null) {
+                    error = e.getCause() instanceof SQLException ? (SQLException) e.getCause() :
+                            new SQLException("Error while removing terminated session records.", e.getCause());
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+        return deletedRows;
+    }
+
+    /**
+     * Delete the records of the given sessions from a table in a transaction of its own.
+     */
+    private long deleteSessionRecords(List<String> sessionIds, String tableName, String deleteQuery)
+            throws SQLException {
+
+        try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(true)) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(deleteQuery)) {
+                for (String sessionId : sessionIds) {
+                    preparedStatement.setString(1, sessionId);
+                    preparedStatement.addBatch();
+                }
+                long deletedRows = 0;
+                for (int updateCount : preparedStatement.executeBatch()) {
+                    if (updateCount > 0) {
+                        deletedRows += updateCount;
+                    } else if (updateCount == Statement.SUCCESS_NO_INFO) {
+                        deletedRows++;
+                    }
+                }
+                IdentityDatabaseUtil.commitTransaction(connection);
+                if (log.isDebugEnabled()) {
+                    log.debug("Removed " + deletedRows + " records of " + sessionIds.size() +
+                            " terminated sessions from " + tableName + ".");
+                }
+                return deletedRows;
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw e;
+            }
+        }
+    }
+}
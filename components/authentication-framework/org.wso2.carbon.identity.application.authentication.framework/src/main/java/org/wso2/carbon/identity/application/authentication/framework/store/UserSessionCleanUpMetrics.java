@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Counters of the terminated session cleanup, exposed over JMX.
+ */
+public class UserSessionCleanUpMetrics implements UserSessionCleanUpMetricsMBean {
+
+    private static final Log log = LogFactory.getLog(UserSessionCleanUpMetrics.class);
+    private static final String OBJECT_NAME = "org.wso2.carbon.identity:type=UserSessionCleanUp";
+
+    private final AtomicLong runCount = new AtomicLong();
+    private final AtomicLong removedSessionCount = new AtomicLong();
+    private final AtomicLong deletedRowCount = new AtomicLong();
+    private volatile long lastRunDeletedRows;
+    private volatile long lastRunDurationNanos;
+    private volatile long lastCompletedPassStartMillis = -1;
+    private volatile boolean resumePending;
+
+    /**
+     * Register the metrics with the platform MBean server. Registration failures are logged and ignored, since the
+     * metrics are not required for the cleanup to function.
+     */
+    void register() {
+
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (!mBeanServer.isRegistered(objectName)) {
+                mBeanServer.registerMBean(this, objectName);
+            }
+        } catch (JMException e) {
+            log.warn("Error while registering user session cleanup metrics MBean: " + OBJECT_NAME, e);
+        }
+    }
+
+    /**
+     * Record a cleanup run.
+     *
+     * @param removedSessions          Number of terminated sessions whose records were removed.
+     * @param deletedRows              Number of records removed from the session tables.
+     * @param durationNanos            Duration of the run, in nanoseconds.
+     * @param completedPassStartMillis Start time of the pass completed by the run, or -1 if the run did not complete
+     *                                 a pass.
+     * @param resumePending            Whether the next run resumes the pass of this run.
+     */
+    void recordRun(long removedSessions, long deletedRows, long durationNanos, long completedPassStartMillis,
+                   boolean resumePending) {
+
+        runCount.incrementAndGet();
+        removedSessionCount.addAndGet(removedSessions);
+        deletedRowCount.addAndGet(deletedRows);
+        lastRunDeletedRows = deletedRows;
+        lastRunDurationNanos = durationNanos;
+        if (completedPassStartMillis >= 0) {
+            lastCompletedPassStartMillis = completedPassStartMillis;
+        }
+        this.resumePending = resumePending;
+    }
+
+    @Override
+    public long getRunCount() {
+
+        return runCount.get();
+    }
+
+    @Override
+    public long getRemovedSessionCount() {
+
+        return removedSessionCount.get();
+    }
+
+    @Override
+    public long getDeletedRowCount() {
+
+        return deletedRowCount.get();
+    }
+
+    @Override
+    public double getLastRunDeletedRowsPerSecond() {
+
+        long durationNanos = lastRunDurationNanos;
+        return durationNanos == 0 ? 0 : (double) lastRunDeletedRows * TimeUnit.SECONDS.toNanos(1) / durationNanos;
+    }
+
+    @Override
+    public double getLastRunDurationMillis() {
+
+        return (double) lastRunDurationNanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public long getCleanUpLagMillis() {
+
+        long passStartMillis = lastCompletedPassStartMillis;
+        return passStartMillis < 0 ? -1 : System.currentTimeMillis() - passStartMillis;
+    }
+
+    @Override
+    public boolean isResumePending() {
+
+        return resumePending;
+    }
+}
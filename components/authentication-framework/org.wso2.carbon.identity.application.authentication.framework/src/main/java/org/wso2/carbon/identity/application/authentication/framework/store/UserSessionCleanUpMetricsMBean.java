@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+/**
+ * JMX view of the terminated session cleanup of the user session store.
+ */
+public interface UserSessionCleanUpMetricsMBean {
+
+    /**
+     * @return Number of cleanup runs.
+     */
+    long getRunCount();
+
+    /**
+     * @return Number of terminated sessions whose records were removed.
+     */
+    long getRemovedSessionCount();
+
+    /**
+     * @return Number of records removed from the session tables.
+     */
+    long getDeletedRowCount();
+
+    /**
+     * @return Number of records removed per second by the last run.
+     */
+    double getLastRunDeletedRowsPerSecond();
+
+    /**
+     * @return Duration of the last run, in milliseconds.
+     */
+    double getLastRunDurationMillis();
+
+    /**
+     * @return Time elapsed since the start of the last complete pass over the terminated sessions, in milliseconds.
+     * Records of sessions terminated before that are guaranteed to be removed. -1 if no pass has completed yet.
+     */
+    long getCleanUpLagMillis();
+
+    /**
+     * @return True if the last run stopped before all terminated sessions were cleaned and the next run resumes it.
+     */
+    boolean isResumePending();
+}
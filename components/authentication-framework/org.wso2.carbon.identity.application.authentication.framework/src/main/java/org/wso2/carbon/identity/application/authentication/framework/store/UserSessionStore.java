@@ -26,7 +26,6 @@ import org.wso2.carbon.database.utils.jdbc.exceptions.TransactionException;
 import org.wso2.carbon.identity.application.authentication.framework.context.AuthHistory;
 import org.wso2.carbon.identity.application.authentication.framework.exception.DuplicatedAuthUserException;
 import org.wso2.carbon.identity.application.authentication.framework.exception.UserSessionException;
-import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkUtils;
 import org.wso2.carbon.identity.application.authentication.framework.util.SessionMgtConstants;
 import org.wso2.carbon.identity.application.common.model.User;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
@@ -41,10 +40,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLIntegrityConstraintViolationException;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.LOCAL_IDP_NAME;
@@ -60,11 +57,17 @@ public class UserSessionStore {
     private static final String FEDERATED_USER_DOMAIN = "FEDERATED";
     private static final String DELETE_CHUNK_SIZE_PROPERTY = "JDBCPersistenceManager.SessionDataPersist" +
             ".UserSessionMapping.DeleteChunkSize";
+    private static final String CLEAN_UP_PROPERTY_PREFIX = "JDBCPersistenceManager.SessionDataPersist" +
+            ".UserSessionMapping.CleanUp.";
+    private static final String DELETE_PARALLELISM_PROPERTY = CLEAN_UP_PROPERTY_PREFIX + "DeleteParallelism";
+    private static final String CHUNK_INTERVAL_PROPERTY = CLEAN_UP_PROPERTY_PREFIX + "ChunkInterval";
+    private static final String MAX_RUN_TIME_PROPERTY = CLEAN_UP_PROPERTY_PREFIX + "MaxRunTime";
     private static final String IDN_AUTH_USER_SESSION_MAPPING_TABLE = "IDN_AUTH_USER_SESSION_MAPPING";
     private static final String IDN_AUTH_SESSION_APP_INFO_TABLE = "IDN_AUTH_SESSION_APP_INFO_TABLE";
     private static final String IDN_AUTH_SESSION_META_DATA_TABLE = "IDN_AUTH_SESSION_META_DATA";
 
     private int deleteChunkSize = 10000;
+    private final TerminatedSessionCleaner terminatedSessionCleaner;
 
     private UserSessionStore() {
 
@@ -72,6 +75,25 @@ public class UserSessionStore {
         if (StringUtils.isNotBlank(deleteChunkSizeString)) {
             deleteChunkSize = Integer.parseInt(deleteChunkSizeString);
         }
+        terminatedSessionCleaner = new TerminatedSessionCleaner(deleteChunkSize,
+                (int) readCleanUpProperty(DELETE_PARALLELISM_PROPERTY, 1),
+                readCleanUpProperty(CHUNK_INTERVAL_PROPERTY, 0),
+                readCleanUpProperty(MAX_RUN_TIME_PROPERTY, 0));
+        terminatedSessionCleaner.getMetrics().register();
+    }
+
+    private static long readCleanUpProperty(String property, long defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + value + " configured for " + property + ". Defaulting to " +
+                        defaultValue, e);
+            }
+        }
+        return defaultValue;
     }
 
     public static UserSessionStore getInstance() {
@@ -427,41 +449,24 @@ public class UserSessionStore {
 
     /**
      * Removes all the expired session records from relevant tables.
+     * <p>
+     * Terminated sessions are cleaned in pages of the configured delete chunk size, each committed on its own. If a
+     * maximum run time is configured, the next invocation resumes where the previous one stopped.
      */
     public void removeExpiredSessionRecords() {
 
         if (log.isDebugEnabled()) {
             log.debug("Removing information of expired and deleted sessions.");
         }
+        terminatedSessionCleaner.removeExpiredSessionRecords();
+    }
 
-        try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(true)) {
-            Set<String> terminatedAuthSessionIds = getSessionsTerminated(connection);
-            String[] sessionsToRemove = new String[terminatedAuthSessionIds.size()];
-            terminatedAuthSessionIds.toArray(sessionsToRemove);
-
-            if (!terminatedAuthSessionIds.isEmpty()) {
-
-                if (log.isDebugEnabled()) {
-                    log.debug(terminatedAuthSessionIds.size() + " number of sessions should be removed from the " +
-                            "database. Removing in " + deleteChunkSize + " size batches.");
-                }
-
-                deleteSessionDataFromTable(sessionsToRemove, connection, IDN_AUTH_USER_SESSION_MAPPING_TABLE,
-                        SQLQueries.SQL_DELETE_TERMINATED_SESSION_DATA);
-                deleteSessionDataFromTable(sessionsToRemove, connection, IDN_AUTH_SESSION_APP_INFO_TABLE,
-                        SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_APP_INFO);
-                deleteSessionDataFromTable(sessionsToRemove, connection, IDN_AUTH_SESSION_META_DATA_TABLE,
-                        SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_META_DATA);
+    /**
+     * Method to stop the threads used to remove expired session records, when the component is deactivated.
+     */
+    public void stopService() {
 
-                IdentityDatabaseUtil.commitTransaction(connection);
-            } else {
-                if (log.isDebugEnabled()) {
-                    log.debug("No expired sessions found to remove.");
-                }
-            }
-        } catch (SQLException e) {
-            log.error("Error while removing expired session information from the database.", e);
-        }
+        terminatedSessionCleaner.shutdown();
     }
 
     /**
@@ -495,31 +500,6 @@ public class UserSessionStore {
         }
     }
 
-    private Set<String> getSessionsTerminated(Connection connection) throws SQLException {
-
-        Set<String> terminatedSessionIds = new HashSet<>();
-
-        /**
-         * Retrieve only sessions which have an expiry time less than the current time.
-         * As the session cleanup task deletes only entries matching the same condition, in case sessions that are
-         * being marked as deleted are also retrieved that might load a huge amount of entries to the memory all the
-         * time. Yet those entries will be removed from the IDN_AUTH_USER_SESSION_MAPPING_TABLE table on the first
-         * execution, and there after every time the loop will be executed and the table will be scanned for a non
-         * existing entry.
-         */
-        try (PreparedStatement preparedStatement = connection.prepareStatement(SQLQueries
-                .SQL_SELECT_TERMINATED_SESSION_IDS)) {
-            preparedStatement.setLong(1, FrameworkUtils.getCurrentStandardNano());
-            try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                while (resultSet.next()) {
-                    terminatedSessionIds.add(resultSet.getString(1));
-                }
-            }
-        }
-
-        return terminatedSessionIds;
-    }
-
     /**
      * This method is used to chunk-wise deletion of records of a given table.
      *
@@ -51,6 +51,7 @@ public abstract class FrameworkConstants {
     public static final String PROVISIONED_SOURCE_ID_CLAIM = "http://wso2.org/claims/identity/userSourceId";
     public static final String IDP_TYPE_CLAIM = "http://wso2.org/claims/identity/idpType";
     public static final String UNFILTERED_LOCAL_CLAIM_VALUES = "UNFILTERED_LOCAL_CLAIM_VALUES";
+    public static final String PROJECTED_LOCAL_CLAIM_VALUES = "PROJECTED_LOCAL_CLAIM_VALUES";
     public static final String UNFILTERED_LOCAL_CLAIMS_FOR_NULL_VALUES = "UNFILTERED_LOCAL_CLAIMS_FOR_NULL_VALUES";
     public static final String UNFILTERED_IDP_CLAIM_VALUES = "UNFILTERED_IDP_CLAIM_VALUES";
     public static final String UNFILTERED_SP_CLAIM_VALUES = "UNFILTERED_SP_CLAIM_VALUES";
@@ -295,6 +296,7 @@ public abstract class FrameworkConstants {
                 + ".ReturnOnlyMappedLocalRoles";
         public static final String SEND_MANUALLY_ADDED_LOCAL_ROLES_OF_IDP = "FederatedRoleManagement"
                 + ".ReturnManuallyAddedLocalRoles";
+        public static final String ENABLE_LOCAL_CLAIM_PROJECTION = "LocalClaimProjection.Enable";
 
         /**
          * Configuration name for setting the url for receiving tenant list upon any modification to a tenant
@@ -373,6 +375,16 @@ public abstract class FrameworkConstants {
         public static final String SKIP_LOCAL_USER_SEARCH_FOR_AUTHENTICATION_FLOW_HANDLERS =
                 "SkipLocalUserSearchForAuthenticationFlowHandlers";
 
+        /**
+         * Configurations used to select the default session serializer.
+         */
+        public static final String SESSION_SERIALIZER_TYPE =
+                "JDBCPersistenceManager.SessionDataPersist.Serializer.Type";
+        public static final String SESSION_SERIALIZER_COMPRESSION =
+                "JDBCPersistenceManager.SessionDataPersist.Serializer.Compression";
+        public static final String SESSION_SERIALIZER_TYPE_COMPACT = "Compact";
+        public static final String SESSION_SERIALIZER_COMPRESSION_DEFLATE = "Deflate";
+
         /**
          * Configuration used for session data storage optimization.
          */
@@ -684,6 +696,9 @@ public abstract class FrameworkConstants {
         public static final String GRAALJS_SCRIPT_STATEMENTS_LIMIT
                 = "AdaptiveAuth.GraalJS.ScriptStatementsLimit";
         public static final int DEFAULT_GRAALJS_SCRIPT_STATEMENTS_LIMIT = 0;
+        public static final String GRAALJS_SHARED_ENGINE_ENABLE = "AdaptiveAuth.GraalJS.SharedEngine.Enable";
+        public static final String GRAALJS_SOURCE_CACHE_SIZE = "AdaptiveAuth.GraalJS.SourceCacheSize";
+        public static final int DEFAULT_GRAALJS_SOURCE_CACHE_SIZE = 1000;
     }
 
     /**
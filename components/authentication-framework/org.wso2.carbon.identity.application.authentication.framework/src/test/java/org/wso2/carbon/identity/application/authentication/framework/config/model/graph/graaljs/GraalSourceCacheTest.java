@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Source;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+@Test
+public class GraalSourceCacheTest {
+
+    private static final String FUNCTION_SOURCE = "function(a, b) { return a + b; }";
+
+    @Test
+    public void testSourcesAreReused() {
+
+        GraalSourceCache sourceCache = new GraalSourceCache(10);
+        Source scriptSource = sourceCache.getScriptSource("var a = 1;");
+
+        assertSame(sourceCache.getScriptSource("var a = 1;"), scriptSource);
+        assertSame(sourceCache.getFunctionSource(FUNCTION_SOURCE), sourceCache.getFunctionSource(FUNCTION_SOURCE));
+        assertEquals(sourceCache.size(), 2);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedSourceIsEvicted() {
+
+        GraalSourceCache sourceCache = new GraalSourceCache(2);
+        Source first = sourceCache.getScriptSource("var a = 1;");
+        Source second = sourceCache.getScriptSource("var b = 2;");
+        sourceCache.getScriptSource("var a = 1;");
+        sourceCache.getScriptSource("var c = 3;");
+
+        assertSame(sourceCache.getScriptSource("var a = 1;"), first);
+        assertNotSame(sourceCache.getScriptSource("var b = 2;"), second);
+    }
+
+    @Test
+    public void testFunctionSourceEvaluatesToFunction() {
+
+        GraalSourceCache sourceCache = new GraalSourceCache(10);
+        try (Context context = Context.newBuilder("js").option("engine.WarnInterpreterOnly", "false").build()) {
+            assertEquals(context.eval(sourceCache.getFunctionSource(FUNCTION_SOURCE)).execute(1, 2).asInt(), 3);
+        }
+    }
+}
@@ -35,14 +35,28 @@ import org.wso2.carbon.identity.application.authentication.framework.util.Framew
 import org.wso2.carbon.identity.application.common.model.ClaimMapping;
 import org.wso2.carbon.identity.application.common.model.IdPGroup;
 import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.common.model.LocalAndOutboundAuthenticationConfig;
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.application.common.model.script.AuthenticationScriptConfig;
+import org.wso2.carbon.user.api.Claim;
+import org.wso2.carbon.user.api.ClaimManager;
+import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class DefaultClaimHandlerTest {
@@ -146,4 +160,66 @@ public class DefaultClaimHandlerTest {
             Assert.assertEquals(applicationRoles, mappedApplicationRoles);
         }
     }
+
+    @Test
+    public void testRetrieveProjectedUserClaimValues() throws Exception {
+
+        String userId = "testUserId";
+        String emailClaim = "http://wso2.org/claims/emailaddress";
+        String lastNameClaim = "http://wso2.org/claims/lastname";
+        String givenNameClaim = "http://wso2.org/claims/givenname";
+
+        ClaimManager claimManager = mock(ClaimManager.class);
+        List<org.wso2.carbon.user.api.ClaimMapping> localClaimMappings = new ArrayList<>();
+        for (String claimURI : Arrays.asList(emailClaim, lastNameClaim, givenNameClaim)) {
+            Claim claim = new Claim();
+            claim.setClaimUri(claimURI);
+            org.wso2.carbon.user.api.ClaimMapping localClaimMapping = mock(org.wso2.carbon.user.api.ClaimMapping.class);
+            when(localClaimMapping.getClaim()).thenReturn(claim);
+            localClaimMappings.add(localClaimMapping);
+        }
+        when(claimManager.getAllClaimMappings(eq("http://wso2.org/claims")))
+                .thenReturn(localClaimMappings.toArray(new org.wso2.carbon.user.api.ClaimMapping[0]));
+
+        AuthenticationScriptConfig scriptConfig = new AuthenticationScriptConfig();
+        scriptConfig.setEnabled(true);
+        scriptConfig.setContent("var onLoginRequest = function(context) { executeStep(1, { onSuccess: " +
+                "function(context) { var lastName = context.currentKnownSubject.localClaims[" +
+                "'http://wso2.org/claims/lastname']; } }); };");
+        LocalAndOutboundAuthenticationConfig outboundConfig = new LocalAndOutboundAuthenticationConfig();
+        outboundConfig.setAuthenticationScriptConfig(scriptConfig);
+        ServiceProvider serviceProvider = new ServiceProvider();
+        serviceProvider.setLocalAndOutBoundAuthenticationConfig(outboundConfig);
+
+        when(applicationConfig.getServiceProvider()).thenReturn(serviceProvider);
+        when(applicationConfig.getClaimMappings()).thenReturn(Collections.singletonMap(emailClaim, emailClaim));
+        when(applicationConfig.getRequestedClaimMappings())
+                .thenReturn(Collections.singletonMap(emailClaim, emailClaim));
+        when(applicationConfig.getMandatoryClaimMappings()).thenReturn(new HashMap<>());
+
+        Map<String, String> claimValues = new HashMap<>();
+        claimValues.put(emailClaim, "user@wso2.com");
+        claimValues.put(lastNameClaim, "Doe");
+        AbstractUserStoreManager userStoreManager = mock(AbstractUserStoreManager.class);
+        when(userStoreManager.getUserClaimValuesWithID(eq(userId), any(String[].class), isNull()))
+                .thenAnswer(invocation -> {
+                    String[] claimURIs = invocation.getArgument(1);
+                    Assert.assertEquals(new HashSet<>(Arrays.asList(claimURIs)),
+                            new HashSet<>(Arrays.asList(emailClaim, lastNameClaim)));
+                    return new HashMap<>(claimValues);
+                });
+
+        AuthenticatedUser authenticatedUser = new AuthenticatedUser();
+        authenticatedUser.setUserId(userId);
+        authenticatedUser.setTenantDomain("carbon.super");
+        AuthenticationContext context = new AuthenticationContext();
+
+        DefaultClaimHandler defaultClaimHandler = new DefaultClaimHandler();
+        Assert.assertEquals(defaultClaimHandler.retrieveProjectedUserClaimValues(authenticatedUser, claimManager,
+                applicationConfig, userStoreManager, context), claimValues);
+        // Claims retrieved earlier in the same flow are not retrieved again.
+        Assert.assertEquals(defaultClaimHandler.retrieveProjectedUserClaimValues(authenticatedUser, claimManager,
+                applicationConfig, userStoreManager, context), claimValues);
+        verify(userStoreManager, times(1)).getUserClaimValuesWithID(eq(userId), any(String[].class), isNull());
+    }
 }
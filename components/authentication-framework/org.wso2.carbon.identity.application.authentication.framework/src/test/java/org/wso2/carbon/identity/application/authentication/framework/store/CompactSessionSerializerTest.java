@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.SequenceConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.StepConfig;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthHistory;
+import org.wso2.carbon.identity.application.authentication.framework.context.SessionContext;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedIdPData;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link CompactSessionSerializer}.
+ */
+public class CompactSessionSerializerTest {
+
+    @DataProvider
+    public Object[][] getCompressionOptions() {
+
+        return new Object[][]{
+                {false},
+                {true}
+        };
+    }
+
+    @Test(dataProvider = "getCompressionOptions")
+    public void testRoundTrip(boolean compressionEnabled) throws Exception {
+
+        CompactSessionSerializer serializer = new CompactSessionSerializer(compressionEnabled);
+        SessionContext sessionContext = buildSessionContext();
+
+        SessionContext deserialized = (SessionContext) serializer.deSerializeSessionObject(
+                serializer.serializeSessionObject(sessionContext));
+
+        SequenceConfig sequenceConfig = deserialized.getAuthenticatedSequences().get("app1");
+        assertEquals(sequenceConfig.getName(), "app1");
+        assertEquals(sequenceConfig.getStepMap().size(), 2);
+        assertEquals(sequenceConfig.getAuthenticatedUser().getUserName(), "federatedUser");
+        assertEquals(deserialized.getAuthenticatedIdPs().get("Google").getUser().getFederatedIdPName(), "Google");
+        assertEquals(deserialized.getSessionAuthHistory().getHistory().size(), 2);
+        assertTrue(deserialized.isRememberMe());
+    }
+
+    @Test(dataProvider = "getCompressionOptions")
+    public void testSerializedFormIsSmallerThanJavaSerialization(boolean compressionEnabled) throws Exception {
+
+        SessionContext sessionContext = buildSessionContext();
+        InputStream javaBlob = new JavaSessionSerializer().serializeSessionObject(sessionContext);
+        InputStream compactBlob = new CompactSessionSerializer(compressionEnabled)
+                .serializeSessionObject(sessionContext);
+
+        assertTrue(compactBlob.available() < javaBlob.available());
+    }
+
+    @Test
+    public void testReadJavaSerializedBlob() throws Exception {
+
+        InputStream javaBlob = new JavaSessionSerializer().serializeSessionObject(buildSessionContext());
+
+        SessionContext deserialized =
+                (SessionContext) new CompactSessionSerializer().deSerializeSessionObject(javaBlob);
+
+        assertEquals(deserialized.getAuthenticatedSequences().get("app1").getName(), "app1");
+    }
+
+    private SessionContext buildSessionContext() {
+
+        AuthenticatedUser user = new AuthenticatedUser();
+        user.setUserName("federatedUser");
+        user.setFederatedUser(true);
+        user.setFederatedIdPName("Google");
+        user.setAuthenticatedSubjectIdentifier("federatedUser@google.com");
+
+        Map<Integer, StepConfig> stepMap = new HashMap<>();
+        for (int order = 1; order <= 2; order++) {
+            StepConfig stepConfig = new StepConfig();
+            stepConfig.setOrder(order);
+            stepConfig.setAuthenticatedUser(user);
+            stepConfig.setAuthenticatedIdP("Google");
+            stepMap.put(order, stepConfig);
+        }
+        SequenceConfig sequenceConfig = new SequenceConfig();
+        sequenceConfig.setName("app1");
+        sequenceConfig.setStepMap(stepMap);
+        sequenceConfig.setAuthenticatedUser(user);
+
+        AuthenticatedIdPData authenticatedIdPData = new AuthenticatedIdPData();
+        authenticatedIdPData.setIdpName("Google");
+        authenticatedIdPData.setUser(user);
+
+        SessionContext sessionContext = new SessionContext();
+        sessionContext.getAuthenticatedSequences().put("app1", sequenceConfig);
+        sessionContext.getAuthenticatedIdPs().put("Google", authenticatedIdPData);
+        sessionContext.setRememberMe(true);
+        sessionContext.getSessionAuthHistory().push(
+                new AuthHistory("BasicAuthenticator", "LOCAL"));
+        sessionContext.getSessionAuthHistory().push(
+                new AuthHistory("GoogleOIDCAuthenticator", "Google"));
+        return sessionContext;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Unit tests for {@link SessionDataBatchPersistTask}.
+ */
+public class SessionDataBatchPersistTaskTest {
+
+    @Test
+    public void testCoalesceKeepsLatestOperationPerKeyAndType() {
+
+        SessionContextDO firstStore = new SessionContextDO("key1", "AppAuthFrameworkSessionContextCache",
+                "entry1", 100);
+        SessionContextDO secondStore = new SessionContextDO("key1", "AppAuthFrameworkSessionContextCache",
+                "entry2", 300);
+        SessionContextDO otherType = new SessionContextDO("key1", "AuthenticationContextCache", "entry3", 200);
+        SessionContextDO delete = new SessionContextDO("key2", "AppAuthFrameworkSessionContextCache", null, 400);
+        SessionContextDO olderStore = new SessionContextDO("key2", "AppAuthFrameworkSessionContextCache",
+                "entry4", 50);
+
+        // The queue is consumed newest first, so older operations may appear later in the drained batch.
+        List<SessionContextDO> coalesced = SessionDataBatchPersistTask.coalesce(
+                Arrays.asList(secondStore, otherType, delete, firstStore, olderStore));
+
+        assertEquals(coalesced.size(), 3);
+        assertEquals(coalesced.get(0).getEntry(), "entry2");
+        assertEquals(coalesced.get(1).getEntry(), "entry3");
+        assertNull(coalesced.get(2).getEntry());
+        assertEquals(coalesced.get(2).getNanoTime(), 400);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.mockito.MockedStatic;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mockStatic;
+
+/**
+ * Unit tests of {@link TerminatedSessionCleaner}.
+ */
+public class TerminatedSessionCleanerTest extends DataStoreBaseTest {
+
+    private static final String DB_NAME = "TERMINATED_SESSION_CLEANER";
+    private static final String SESSION_TYPE = "AppAuthFrameworkSessionContextCache";
+    private static final String LIVE_SESSION_ID = "session-live";
+    private static final int EXPIRED_SESSION_COUNT = 5;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+
+        initH2DB(DB_NAME, getDatabaseScriptFilePath("user_session_store_h2.sql"));
+        for (int i = 0; i < EXPIRED_SESSION_COUNT; i++) {
+            addSession("session-" + i, 1L);
+        }
+        addSession(LIVE_SESSION_ID, Long.MAX_VALUE);
+    }
+
+    @AfterClass
+    public void tearDown() throws Exception {
+
+        closeH2DB(DB_NAME);
+    }
+
+    @Test
+    public void testRemoveExpiredSessionRecordsInTimeSlicedRuns() throws Exception {
+
+        TerminatedSessionCleaner cleaner = new TerminatedSessionCleaner(2, 1, 5, 1);
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getSessionDBConnection(anyBoolean()))
+                    .thenAnswer(invocation -> getConnection(DB_NAME));
+
+            cleaner.removeExpiredSessionRecords();
+            Assert.assertTrue(cleaner.getMetrics().isResumePending());
+            Assert.assertEquals(cleaner.getMetrics().getCleanUpLagMillis(), -1);
+            Assert.assertTrue(countSessionMappings() > 1);
+
+            for (int run = 0; run < EXPIRED_SESSION_COUNT && cleaner.getMetrics().isResumePending(); run++) {
+                cleaner.removeExpiredSessionRecords();
+            }
+        } finally {
+            cleaner.shutdown();
+        }
+
+        UserSessionCleanUpMetrics metrics = cleaner.getMetrics();
+        Assert.assertFalse(metrics.isResumePending());
+        Assert.assertEquals(metrics.getRemovedSessionCount(), EXPIRED_SESSION_COUNT);
+        Assert.assertEquals(metrics.getDeletedRowCount(), EXPIRED_SESSION_COUNT * 3);
+        Assert.assertTrue(metrics.getCleanUpLagMillis() >= 0);
+        Assert.assertEquals(countSessionMappings(), 1);
+        Assert.assertEquals(countRows("SELECT COUNT(*) FROM IDN_AUTH_SESSION_APP_INFO"), 1);
+        Assert.assertEquals(countRows("SELECT COUNT(*) FROM IDN_AUTH_SESSION_META_DATA"), 1);
+    }
+
+    private void addSession(String sessionId, long expiryTime) throws Exception {
+
+        try (Connection connection = getConnection(DB_NAME)) {
+            try (PreparedStatement statement = connection.prepareStatement("INSERT INTO IDN_AUTH_SESSION_STORE " +
+                    "(SESSION_ID, SESSION_TYPE, OPERATION, TIME_CREATED, EXPIRY_TIME) VALUES (?, ?, 'STORE', 1, ?)")) {
+                statement.setString(1, sessionId);
+                statement.setString(2, SESSION_TYPE);
+                statement.setLong(3, expiryTime);
+                statement.executeUpdate();
+            }
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO IDN_AUTH_USER_SESSION_MAPPING (USER_ID, SESSION_ID) VALUES ('user', ?)")) {
+                statement.setString(1, sessionId);
+                statement.executeUpdate();
+            }
+            try (PreparedStatement statement = connection.prepareStatement("INSERT INTO IDN_AUTH_SESSION_APP_INFO " +
+                    "(SESSION_ID, SUBJECT, APP_ID, INBOUND_AUTH_TYPE) VALUES (?, 'user', 1, 'oauth2')")) {
+                statement.setString(1, sessionId);
+                statement.executeUpdate();
+            }
+            try (PreparedStatement statement = connection.prepareStatement("INSERT INTO IDN_AUTH_SESSION_META_DATA " +
+                    "(SESSION_ID, PROPERTY_TYPE, `VALUE`) VALUES (?, 'IP', 'localhost')")) {
+                statement.setString(1, sessionId);
+                statement.executeUpdate();
+            }
+        }
+    }
+
+    private int countSessionMappings() throws Exception {
+
+        return countRows("SELECT COUNT(*) FROM IDN_AUTH_USER_SESSION_MAPPING");
+    }
+
+    private int countRows(String query) throws Exception {
+
+        try (Connection connection = getConnection(DB_NAME);
+             PreparedStatement statement = connection.prepareStatement(query);
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+}
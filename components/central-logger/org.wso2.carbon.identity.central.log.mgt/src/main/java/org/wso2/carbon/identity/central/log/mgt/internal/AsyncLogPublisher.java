@@ -0,0 +1,514 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.central.log.mgt.internal;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.slf4j.MDC;
+import org.wso2.carbon.CarbonConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.services.IdentityEventService;
+import org.wso2.carbon.utils.AuditLog;
+import org.wso2.carbon.utils.DiagnosticLog;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.wso2.carbon.identity.event.IdentityEventConstants.Event.PUBLISH_AUDIT_LOG;
+import static org.wso2.carbon.identity.event.IdentityEventConstants.Event.PUBLISH_DIAGNOSTIC_LOG;
+
+/**
+ * Publishes audit and diagnostic logs from a background thread.
+ * <p>
+ * Request threads write log records, along with the tenant and correlation ID of the request, into a fixed size ring
+ * buffer whose slots are allocated up front, and return without building the log event or invoking the event
+ * handlers. Multiple request threads claim slots with a compare-and-set on the write position, so they take no lock
+ * and allocate nothing. A single drainer thread copies up to a batch of records out of the buffer at once, frees
+ * their slots and fires their log events through the identity event service within a tenant flow of the tenant
+ * which logged them. The drainer sleeps while the buffer is empty and is woken by the next record. When the buffer
+ * is full a record is either dropped or the request thread waits for free space, depending on the configured
+ * overflow policy.
+ */
+public class AsyncLogPublisher implements AsyncLogPublisherMBean {
+
+    public static final String OVERFLOW_POLICY_DROP = "Drop";
+    public static final String OVERFLOW_POLICY_BLOCK = "Block";
+
+    private static final Log log = LogFactory.getLog(AsyncLogPublisher.class);
+    private static final String OBJECT_NAME = "org.wso2.carbon.identity:type=CentralLogPublisher";
+    private static final String CORRELATION_ID_MDC = "Correlation-ID";
+    private static final int AUDIT_LOG = 1;
+    private static final int DIAGNOSTIC_LOG = 2;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final long BLOCKED_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final int capacity;
+    private final int mask;
+    private final int batchSize;
+    private final boolean blockWhenFull;
+
+    /*
+     * Slot sequences of the ring buffer. A slot at position p is free for writing when its sequence is p, and holds
+     * a published record when its sequence is p + 1. The records are kept in plain arrays, made visible to the
+     * drainer by the write of the slot sequence.
+     */
+    private final AtomicLongArray sequences;
+    private final LogRecords slots;
+    private final AtomicLong writePosition = new AtomicLong();
+    private volatile long readPosition;
+    private volatile boolean drainerWaiting;
+
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong blockedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+
+    private volatile boolean running;
+    private volatile Thread drainerThread;
+
+    /**
+     * @param bufferSize     Number of records the buffer can hold. Rounded up to a power of two.
+     * @param batchSize      Maximum number of records published per drain.
+     * @param overflowPolicy Policy applied when the buffer is full, either Drop or Block. Any other value is treated
+     *                       as Drop.
+     */
+    public AsyncLogPublisher(int bufferSize, int batchSize, String overflowPolicy) {
+
+        this.capacity = toPowerOfTwo(bufferSize);
+        this.mask = capacity - 1;
+        this.batchSize = Math.max(1, batchSize);
+        this.blockWhenFull = OVERFLOW_POLICY_BLOCK.equalsIgnoreCase(overflowPolicy);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.slots = new LogRecords(capacity);
+    }
+
+    /**
+     * Start the drainer thread and register the publisher with the platform MBean server.
+     */
+    public synchronized void start() {
+
+        if (running) {
+            return;
+        }
+        running = true;
+        drainerThread = new Thread(this::drain, "CentralLogPublisher");
+        drainerThread.setDaemon(true);
+        drainerThread.start();
+        registerMBean();
+        if (log.isDebugEnabled()) {
+            log.debug("Asynchronous central log publisher started with buffer capacity: " + capacity +
+                    ", batch size: " + batchSize + " and overflow policy: " + getOverflowPolicy());
+        }
+    }
+
+    /**
+     * Stop the drainer thread after publishing the records which are already in the buffer.
+     */
+    public synchronized void shutdown() {
+
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(drainerThread);
+        try {
+            drainerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        unregisterMBean();
+    }
+
+    /**
+     * Queue an audit log to be published in the tenant of the current flow.
+     *
+     * @param auditLog Audit log.
+     * @return False if the publisher is not running, in which case the caller should publish the log itself.
+     */
+    public boolean publishAuditLog(AuditLog auditLog) {
+
+        return enqueue(AUDIT_LOG, auditLog, 0);
+    }
+
+    /**
+     * Queue a diagnostic log to be published in the tenant of the current flow.
+     *
+     * @param diagnosticLog Diagnostic log.
+     * @param tenantId      Tenant ID of the diagnostic log, resolved by the caller.
+     * @return False if the publisher is not running, in which case the caller should publish the log itself.
+     */
+    public boolean publishDiagnosticLog(DiagnosticLog diagnosticLog, int tenantId) {
+
+        return enqueue(DIAGNOSTIC_LOG, diagnosticLog, tenantId);
+    }
+
+    private boolean enqueue(int type, Object record, int logTenantId) {
+
+        if (!running) {
+            return false;
+        }
+        boolean blocked = false;
+        while (!offer(type, record, logTenantId)) {
+            if (!blockWhenFull) {
+                droppedCount.incrementAndGet();
+                return true;
+            }
+            if (!running) {
+                return false;
+            }
+            if (!blocked) {
+                blocked = true;
+                blockedCount.incrementAndGet();
+            }
+            LockSupport.parkNanos(BLOCKED_PARK_NANOS);
+        }
+        enqueuedCount.incrementAndGet();
+        if (drainerWaiting) {
+            LockSupport.unpark(drainerThread);
+        }
+        return true;
+    }
+
+    private boolean offer(int type, Object record, int logTenantId) {
+
+        long position = writePosition.get();
+        int index;
+        while (true) {
+            index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (writePosition.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = writePosition.get();
+            } else if (difference < 0) {
+                // The slot still holds a record from the previous lap, so the buffer is full.
+                return false;
+            } else {
+                position = writePosition.get();
+            }
+        }
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        slots.set(index, type, record, logTenantId, carbonContext.getTenantDomain(), carbonContext.getTenantId(),
+                MDC.get(CORRELATION_ID_MDC));
+        // A volatile write, so that a drainer which is about to wait either sees the record or is woken up.
+        sequences.set(index, position + 1);
+        return true;
+    }
+
+    private void drain() {
+
+        LogRecords batch = new LogRecords(batchSize);
+        while (running || readPosition != writePosition.get()) {
+            int size = takeBatch(batch);
+            if (size == 0) {
+                awaitRecords();
+                continue;
+            }
+            try {
+                publishBatch(batch, size);
+            } catch (RuntimeException e) {
+                // Keep the drainer alive so that a single failing batch does not stop log publishing.
+                log.error("Error while publishing central logs", e);
+            } finally {
+                batch.clear(size);
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Asynchronous central log publisher stopped.");
+        }
+    }
+
+    /**
+     * Copy up to a batch of records out of the buffer and free their slots.
+     *
+     * @param batch Records to copy into.
+     * @return Number of records copied.
+     */
+    private int takeBatch(LogRecords batch) {
+
+        int size = 0;
+        long position = readPosition;
+        while (size < batchSize) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            slots.moveTo(index, batch, size);
+            sequences.lazySet(index, position + capacity);
+            position++;
+            size++;
+        }
+        readPosition = position;
+        return size;
+    }
+
+    /**
+     * Wait until a record is written, the publisher is stopped or the idle timeout passes.
+     */
+    private void awaitRecords() {
+
+        drainerWaiting = true;
+        try {
+            if (running && sequences.get((int) (readPosition & mask)) != readPosition + 1) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        } finally {
+            drainerWaiting = false;
+        }
+    }
+
+    /**
+     * Publish a batch of records, starting one tenant flow for each run of records logged in the same tenant.
+     */
+    private void publishBatch(LogRecords batch, int size) {
+
+        batchCount.incrementAndGet();
+        IdentityEventService eventMgtService =
+                CentralLogMgtServiceComponentHolder.getInstance().getIdentityEventService();
+        if (eventMgtService == null) {
+            failedCount.addAndGet(size);
+            return;
+        }
+        int start = 0;
+        while (start < size) {
+            int end = start + 1;
+            while (end < size && batch.isSameTenant(start, end)) {
+                end++;
+            }
+            try {
+                PrivilegedCarbonContext.startTenantFlow();
+                PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                carbonContext.setTenantDomain(batch.tenantDomains[start]);
+                carbonContext.setTenantId(batch.tenantIds[start]);
+                for (int i = start; i < end; i++) {
+                    publish(eventMgtService, batch, i);
+                }
+            } finally {
+                PrivilegedCarbonContext.endTenantFlow();
+            }
+            start = end;
+        }
+    }
+
+    private void publish(IdentityEventService eventMgtService, LogRecords batch, int index) {
+
+        String correlationId = batch.correlationIds[index];
+        if (correlationId != null) {
+            MDC.put(CORRELATION_ID_MDC, correlationId);
+        }
+        try {
+            Event event;
+            if (batch.types[index] == AUDIT_LOG) {
+                Map<String, Object> auditLogProperties = new HashMap<>();
+                auditLogProperties.put(CarbonConstants.LogEventConstants.AUDIT_LOG, batch.records[index]);
+                event = new Event(PUBLISH_AUDIT_LOG, auditLogProperties);
+            } else {
+                Map<String, Object> diagnosticLogProperties = new HashMap<>();
+                diagnosticLogProperties.put(CarbonConstants.LogEventConstants.DIAGNOSTIC_LOG, batch.records[index]);
+                diagnosticLogProperties.put(CarbonConstants.LogEventConstants.TENANT_ID, batch.logTenantIds[index]);
+                event = new Event(PUBLISH_DIAGNOSTIC_LOG, diagnosticLogProperties);
+            }
+            eventMgtService.handleEvent(event);
+            publishedCount.incrementAndGet();
+        } catch (IdentityEventException | RuntimeException e) {
+            // A failing record must not prevent publishing the rest of the batch.
+            failedCount.incrementAndGet();
+            log.error("Error occurred when firing the central log event.", e);
+        } finally {
+            if (correlationId != null) {
+                MDC.remove(CORRELATION_ID_MDC);
+            }
+        }
+    }
+
+    private static int toPowerOfTwo(int size) {
+
+        if (size >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        int capacity = 1;
+        while (capacity < size) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private void registerMBean() {
+
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (!mBeanServer.isRegistered(objectName)) {
+                mBeanServer.registerMBean(this, objectName);
+            }
+        } catch (JMException e) {
+            log.warn("Error while registering central log publisher MBean: " + OBJECT_NAME, e);
+        }
+    }
+
+    private void unregisterMBean() {
+
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            log.warn("Error while unregistering central log publisher MBean: " + OBJECT_NAME, e);
+        }
+    }
+
+    @Override
+    public int getBufferCapacity() {
+
+        return capacity;
+    }
+
+    @Override
+    public int getBufferDepth() {
+
+        long depth = writePosition.get() - readPosition;
+        return (int) Math.max(0, Math.min(depth, capacity));
+    }
+
+    @Override
+    public String getOverflowPolicy() {
+
+        return blockWhenFull ? OVERFLOW_POLICY_BLOCK : OVERFLOW_POLICY_DROP;
+    }
+
+    @Override
+    public long getEnqueuedCount() {
+
+        return enqueuedCount.get();
+    }
+
+    @Override
+    public long getPublishedCount() {
+
+        return publishedCount.get();
+    }
+
+    @Override
+    public long getDroppedCount() {
+
+        return droppedCount.get();
+    }
+
+    @Override
+    public long getBlockedCount() {
+
+        return blockedCount.get();
+    }
+
+    @Override
+    public long getFailedCount() {
+
+        return failedCount.get();
+    }
+
+    @Override
+    public long getBatchCount() {
+
+        return batchCount.get();
+    }
+
+    /**
+     * Log records along with the request context they were logged in, kept in preallocated arrays indexed by slot.
+     */
+    private static final class LogRecords {
+
+        private final int[] types;
+        private final Object[] records;
+        private final int[] logTenantIds;
+        private final String[] tenantDomains;
+        private final int[] tenantIds;
+        private final String[] correlationIds;
+
+        private LogRecords(int size) {
+
+            this.types = new int[size];
+            this.records = new Object[size];
+            this.logTenantIds = new int[size];
+            this.tenantDomains = new String[size];
+            this.tenantIds = new int[size];
+            this.correlationIds = new String[size];
+        }
+
+        private void set(int index, int type, Object record, int logTenantId, String tenantDomain, int tenantId,
+                         String correlationId) {
+
+            types[index] = type;
+            records[index] = record;
+            logTenantIds[index] = logTenantId;
+            tenantDomains[index] = tenantDomain;
+            tenantIds[index] = tenantId;
+            correlationIds[index] = correlationId;
+        }
+
+        /**
+         * Copy a record to another set of records and release the references held by this one.
+         */
+        private void moveTo(int index, LogRecords target, int targetIndex) {
+
+            target.set(targetIndex, types[index], records[index], logTenantIds[index], tenantDomains[index],
+                    tenantIds[index], correlationIds[index]);
+            clear(index, index + 1);
+        }
+
+        private void clear(int size) {
+
+            clear(0, size);
+        }
+
+        private void clear(int from, int to) {
+
+            Arrays.fill(records, from, to, null);
+            Arrays.fill(tenantDomains, from, to, null);
+            Arrays.fill(correlationIds, from, to, null);
+        }
+
+        private boolean isSameTenant(int index, int otherIndex) {
+
+            return tenantIds[index] == tenantIds[otherIndex] &&
+                    Objects.equals(tenantDomains[index], tenantDomains[otherIndex]);
+        }
+    }
+}
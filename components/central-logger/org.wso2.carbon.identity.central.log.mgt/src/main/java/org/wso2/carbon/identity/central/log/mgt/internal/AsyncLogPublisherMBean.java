@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.central.log.mgt.internal;
+
+/**
+ * JMX view of the asynchronous audit and diagnostic log publisher.
+ */
+public interface AsyncLogPublisherMBean {
+
+    /**
+     * @return Number of records the buffer can hold.
+     */
+    int getBufferCapacity();
+
+    /**
+     * @return Number of records currently waiting in the buffer.
+     */
+    int getBufferDepth();
+
+    /**
+     * @return Policy applied when the buffer is full, either Drop or Block.
+     */
+    String getOverflowPolicy();
+
+    /**
+     * @return Number of records accepted into the buffer.
+     */
+    long getEnqueuedCount();
+
+    /**
+     * @return Number of records published by the background publisher.
+     */
+    long getPublishedCount();
+
+    /**
+     * @return Number of records dropped because the buffer was full.
+     */
+    long getDroppedCount();
+
+    /**
+     * @return Number of records for which the caller had to wait for free space in the buffer.
+     */
+    long getBlockedCount();
+
+    /**
+     * @return Number of records which could not be published due to an error.
+     */
+    long getFailedCount();
+
+    /**
+     * @return Number of batches drained from the buffer.
+     */
+    long getBatchCount();
+}
@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.central.log.mgt.internal;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.osgi.framework.BundleContext;
@@ -31,9 +32,17 @@ import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.central.log.mgt.hanlder.CentralLogger;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
 
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ASYNC_LOG_PUBLISHER_BATCH_SIZE;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ASYNC_LOG_PUBLISHER_BUFFER_SIZE;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ASYNC_LOG_PUBLISHER_OVERFLOW_POLICY;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.DEFAULT_ASYNC_LOG_PUBLISHER_BATCH_SIZE;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.DEFAULT_ASYNC_LOG_PUBLISHER_BUFFER_SIZE;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ENABLE_ASYNC_LOG_PUBLISHER;
+
 /**
  * OSGi declarative services component which handled activation and deactivation of central logger event handler.
  */
@@ -57,6 +66,39 @@ public class CentralLogMgtServiceComponent {
             log.debug("Central logger event handler is activated.");
         }
         LoggerUtils.getLogMaskingConfigValue();
+        startAsyncLogPublisher();
+    }
+
+    private void startAsyncLogPublisher() {
+
+        if (!Boolean.parseBoolean(IdentityUtil.getProperty(ENABLE_ASYNC_LOG_PUBLISHER))) {
+            return;
+        }
+        AsyncLogPublisher asyncLogPublisher = new AsyncLogPublisher(
+                getIntProperty(ASYNC_LOG_PUBLISHER_BUFFER_SIZE, DEFAULT_ASYNC_LOG_PUBLISHER_BUFFER_SIZE),
+                getIntProperty(ASYNC_LOG_PUBLISHER_BATCH_SIZE, DEFAULT_ASYNC_LOG_PUBLISHER_BATCH_SIZE),
+                StringUtils.defaultIfBlank(IdentityUtil.getProperty(ASYNC_LOG_PUBLISHER_OVERFLOW_POLICY),
+                        AsyncLogPublisher.OVERFLOW_POLICY_DROP));
+        asyncLogPublisher.start();
+        CentralLogMgtServiceComponentHolder.getInstance().setAsyncLogPublisher(asyncLogPublisher);
+        if (log.isDebugEnabled()) {
+            log.debug("Asynchronous central log publishing is enabled.");
+        }
+    }
+
+    private int getIntProperty(String propertyName, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(propertyName);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value: " + value + " configured for " + propertyName + ". Using the default value: "
+                    + defaultValue);
+            return defaultValue;
+        }
     }
 
     @Deactivate
@@ -65,6 +107,11 @@ public class CentralLogMgtServiceComponent {
         if (log.isDebugEnabled()) {
             log.debug("Central logger event handler is deactivated.");
         }
+        AsyncLogPublisher asyncLogPublisher = CentralLogMgtServiceComponentHolder.getInstance().getAsyncLogPublisher();
+        if (asyncLogPublisher != null) {
+            CentralLogMgtServiceComponentHolder.getInstance().setAsyncLogPublisher(null);
+            asyncLogPublisher.shutdown();
+        }
         // Unregistering Central logger event handler.
         if (serviceRegistration != null) {
             serviceRegistration.unregister();
@@ -38,6 +38,7 @@ public class CentralLogMgtServiceComponentHolder {
     }
 
     private IdentityEventService identityEventService;
+    private AsyncLogPublisher asyncLogPublisher;
 
     /**
      * Set identity event service.
@@ -58,4 +59,24 @@ public class CentralLogMgtServiceComponentHolder {
 
         return identityEventService;
     }
+
+    /**
+     * Set asynchronous log publisher.
+     *
+     * @param asyncLogPublisher Asynchronous log publisher.
+     */
+    public void setAsyncLogPublisher(AsyncLogPublisher asyncLogPublisher) {
+
+        this.asyncLogPublisher = asyncLogPublisher;
+    }
+
+    /**
+     * Return asynchronous log publisher.
+     *
+     * @return Asynchronous log publisher, or null if asynchronous log publishing is disabled.
+     */
+    public AsyncLogPublisher getAsyncLogPublisher() {
+
+        return asyncLogPublisher;
+    }
 }
@@ -37,6 +37,16 @@ public class LogConstants {
     public static final Pattern LOG_MASKING_PATTERN = Pattern.compile("(?<=.).(?=.)");
     public static final String LOGGABLE_USER_CLAIMS = "LoggableUserClaims.LoggableUserClaim";
 
+    /**
+     * Constants related to asynchronous publishing of audit and diagnostic logs.
+     */
+    public static final String ENABLE_ASYNC_LOG_PUBLISHER = "CentralLogPublisher.Async.Enable";
+    public static final String ASYNC_LOG_PUBLISHER_BUFFER_SIZE = "CentralLogPublisher.Async.BufferSize";
+    public static final String ASYNC_LOG_PUBLISHER_BATCH_SIZE = "CentralLogPublisher.Async.BatchSize";
+    public static final String ASYNC_LOG_PUBLISHER_OVERFLOW_POLICY = "CentralLogPublisher.Async.OverflowPolicy";
+    public static final int DEFAULT_ASYNC_LOG_PUBLISHER_BUFFER_SIZE = 8192;
+    public static final int DEFAULT_ASYNC_LOG_PUBLISHER_BATCH_SIZE = 256;
+
 
     /**
      * Define common and reusable Input keys for diagnostic logs.
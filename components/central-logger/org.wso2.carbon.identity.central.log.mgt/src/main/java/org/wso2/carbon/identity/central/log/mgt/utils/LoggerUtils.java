@@ -29,6 +29,7 @@ import org.json.JSONObject;
 import org.slf4j.MDC;
 import org.wso2.carbon.CarbonConstants;
 import org.wso2.carbon.context.CarbonContext;
+import org.wso2.carbon.identity.central.log.mgt.internal.AsyncLogPublisher;
 import org.wso2.carbon.identity.central.log.mgt.internal.CentralLogMgtServiceComponentHolder;
 import org.wso2.carbon.identity.core.util.IdentityConfigParser;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
@@ -101,6 +102,11 @@ public class LoggerUtils {
             if (!isLoggingEnabled) {
                 return;
             }
+            AsyncLogPublisher asyncLogPublisher =
+                    CentralLogMgtServiceComponentHolder.getInstance().getAsyncLogPublisher();
+            if (asyncLogPublisher != null && asyncLogPublisher.publishAuditLog(auditLogBuilder.build())) {
+                return;
+            }
             IdentityEventService eventMgtService =
                     CentralLogMgtServiceComponentHolder.getInstance().getIdentityEventService();
             Event auditEvent = new Event(PUBLISH_AUDIT_LOG,
@@ -140,18 +146,23 @@ public class LoggerUtils {
                                                  Map<String, Object> configurations) {
 
         try {
-            Map<String, Object> diagnosticLogProperties = new HashMap<>();
             String id = UUID.randomUUID().toString();
             Instant recordedAt = parseDateTime(Instant.now().toString());
             String requestId = MDC.get(CORRELATION_ID_MDC);
             String flowId = MDC.get(FLOW_ID_MDC);
             DiagnosticLog diagnosticLog = new DiagnosticLog(id, recordedAt, requestId, flowId, resultStatus,
                     resultMessage, actionId, componentId, input, configurations);
+            int tenantId =
+                    IdentityTenantUtil.getTenantId(CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+            AsyncLogPublisher asyncLogPublisher =
+                    CentralLogMgtServiceComponentHolder.getInstance().getAsyncLogPublisher();
+            if (asyncLogPublisher != null && asyncLogPublisher.publishDiagnosticLog(diagnosticLog, tenantId)) {
+                return;
+            }
             IdentityEventService eventMgtService =
                     CentralLogMgtServiceComponentHolder.getInstance().getIdentityEventService();
+            Map<String, Object> diagnosticLogProperties = new HashMap<>();
             diagnosticLogProperties.put(CarbonConstants.LogEventConstants.DIAGNOSTIC_LOG, diagnosticLog);
-            int tenantId =
-                    IdentityTenantUtil.getTenantId(CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
             diagnosticLogProperties.put(CarbonConstants.LogEventConstants.TENANT_ID, tenantId);
             Event diagnosticLogEvent = new Event(PUBLISH_DIAGNOSTIC_LOG, diagnosticLogProperties);
             eventMgtService.handleEvent(diagnosticLogEvent);
@@ -169,17 +180,23 @@ public class LoggerUtils {
     public static void triggerDiagnosticLogEvent(DiagnosticLog.DiagnosticLogBuilder diagnosticLogBuilder) {
 
         try {
-            Map<String, Object> diagnosticLogProperties = new HashMap<>();
             DiagnosticLog diagnosticLog = diagnosticLogBuilder.build();
             /* As the Console application is used to access the identity server resources, the diagnostic logs are not
             required to be emitted. */
             if (isConsoleApp(diagnosticLog)) {
                 return;
             }
+            int tenantId = resolveTenantId();
+            AsyncLogPublisher asyncLogPublisher =
+                    CentralLogMgtServiceComponentHolder.getInstance().getAsyncLogPublisher();
+            if (asyncLogPublisher != null && asyncLogPublisher.publishDiagnosticLog(diagnosticLog, tenantId)) {
+                return;
+            }
             IdentityEventService eventMgtService =
                     CentralLogMgtServiceComponentHolder.getInstance().getIdentityEventService();
+            Map<String, Object> diagnosticLogProperties = new HashMap<>();
             diagnosticLogProperties.put(CarbonConstants.LogEventConstants.DIAGNOSTIC_LOG, diagnosticLog);
-            diagnosticLogProperties.put(CarbonConstants.LogEventConstants.TENANT_ID, resolveTenantId());
+            diagnosticLogProperties.put(CarbonConstants.LogEventConstants.TENANT_ID, tenantId);
             Event diagnosticLogEvent = new Event(PUBLISH_DIAGNOSTIC_LOG, diagnosticLogProperties);
             eventMgtService.handleEvent(diagnosticLogEvent);
         } catch (IdentityEventException e) {
@@ -255,7 +272,7 @@ public class LoggerUtils {
     public static String getMaskedContent(String content) {
 
         if (StringUtils.isNotEmpty(content)) {
-            return LogConstants.LOG_MASKING_PATTERN.matcher(content).replaceAll(LogConstants.MASKING_CHARACTER);
+            return LogMaskingEngine.mask(content);
         }
         return content;
     }
@@ -269,10 +286,9 @@ public class LoggerUtils {
     public static Map<String, String> getMaskedClaimsMap(Map<String, String> claims) {
 
         Map<String, String> maskedClaims = new HashMap<>();
-        List<String> loggableClaims = getLoggableClaimURIs();
         if (MapUtils.isNotEmpty(claims)) {
             for (Map.Entry<String, String> entry : claims.entrySet()) {
-                if (LogConstants.USER_ID_CLAIM_URI.equals(entry.getKey()) || loggableClaims.contains(entry.getKey())) {
+                if (LogMaskingEngine.isLoggableClaim(entry.getKey())) {
                     maskedClaims.put(entry.getKey(), entry.getValue());
                 } else {
                     maskedClaims.put(entry.getKey(), getMaskedContent(entry.getValue()));
@@ -291,8 +307,7 @@ public class LoggerUtils {
      */
     public static String getMaskedClaimValue(String claimURI, String claimValue) {
 
-        List<String> loggableClaims = getLoggableClaimURIs();
-        if (LogConstants.USER_ID_CLAIM_URI.equals(claimURI) || loggableClaims.contains(claimURI)) {
+        if (LogMaskingEngine.isLoggableClaim(claimURI)) {
             return claimValue;
         }
         return getMaskedContent(claimValue);
@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.central.log.mgt.internal;
+
+import org.slf4j.MDC;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.CarbonConstants;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.services.IdentityEventService;
+import org.wso2.carbon.utils.AuditLog;
+import org.wso2.carbon.utils.DiagnosticLog;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.base.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+import static org.wso2.carbon.base.MultitenantConstants.SUPER_TENANT_ID;
+import static org.wso2.carbon.identity.event.IdentityEventConstants.Event.PUBLISH_AUDIT_LOG;
+import static org.wso2.carbon.identity.event.IdentityEventConstants.Event.PUBLISH_DIAGNOSTIC_LOG;
+
+public class AsyncLogPublisherTest {
+
+    private static final String CORRELATION_ID_MDC = "Correlation-ID";
+    private static final String TENANT_DOMAIN = "wso2.com";
+    private static final int TENANT_ID = 1;
+
+    private final List<PublishedEvent> publishedEvents = Collections.synchronizedList(new ArrayList<>());
+    private volatile CountDownLatch publishing;
+    private volatile CountDownLatch release;
+    private AsyncLogPublisher asyncLogPublisher;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        String carbonHome = Paths.get(System.getProperty("user.dir"), "target", "test-classes", "repository")
+                .toString();
+        System.setProperty(CarbonBaseConstants.CARBON_HOME, carbonHome);
+        publishedEvents.clear();
+        publishing = new CountDownLatch(1);
+        release = new CountDownLatch(0);
+
+        IdentityEventService identityEventService = mock(IdentityEventService.class);
+        doAnswer(invocation -> {
+            publishing.countDown();
+            assertTrue(release.await(10, TimeUnit.SECONDS));
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            publishedEvents.add(new PublishedEvent(invocation.getArgument(0), carbonContext.getTenantDomain(),
+                    carbonContext.getTenantId(), MDC.get(CORRELATION_ID_MDC)));
+            return null;
+        }).when(identityEventService).handleEvent(any(Event.class));
+        CentralLogMgtServiceComponentHolder.getInstance().setIdentityEventService(identityEventService);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        if (asyncLogPublisher != null) {
+            release = new CountDownLatch(0);
+            asyncLogPublisher.shutdown();
+        }
+        CentralLogMgtServiceComponentHolder.getInstance().setIdentityEventService(null);
+    }
+
+    @Test
+    public void testLogsArePublishedInTenantOfRequest() {
+
+        asyncLogPublisher = startPublisher(8, 8, AsyncLogPublisher.OVERFLOW_POLICY_BLOCK);
+        AuditLog auditLog = mock(AuditLog.class);
+        DiagnosticLog diagnosticLog = mock(DiagnosticLog.class);
+
+        assertTrue(publishAuditLog(auditLog, TENANT_DOMAIN, TENANT_ID, "correlation-1"));
+        assertTrue(publishDiagnosticLog(diagnosticLog, SUPER_TENANT_DOMAIN_NAME, SUPER_TENANT_ID, "correlation-2"));
+        asyncLogPublisher.shutdown();
+
+        assertEquals(publishedEvents.size(), 2);
+        PublishedEvent auditLogEvent = publishedEvents.get(0);
+        assertEquals(auditLogEvent.event.getEventName(), PUBLISH_AUDIT_LOG);
+        assertEquals(auditLogEvent.event.getEventProperties().get(CarbonConstants.LogEventConstants.AUDIT_LOG),
+                auditLog);
+        assertEquals(auditLogEvent.tenantDomain, TENANT_DOMAIN);
+        assertEquals(auditLogEvent.tenantId, TENANT_ID);
+        assertEquals(auditLogEvent.correlationId, "correlation-1");
+
+        PublishedEvent diagnosticLogEvent = publishedEvents.get(1);
+        assertEquals(diagnosticLogEvent.event.getEventName(), PUBLISH_DIAGNOSTIC_LOG);
+        assertEquals(diagnosticLogEvent.event.getEventProperties()
+                .get(CarbonConstants.LogEventConstants.DIAGNOSTIC_LOG), diagnosticLog);
+        assertEquals(diagnosticLogEvent.event.getEventProperties().get(CarbonConstants.LogEventConstants.TENANT_ID),
+                SUPER_TENANT_ID);
+        assertEquals(diagnosticLogEvent.tenantDomain, SUPER_TENANT_DOMAIN_NAME);
+        assertEquals(diagnosticLogEvent.tenantId, SUPER_TENANT_ID);
+        assertEquals(diagnosticLogEvent.correlationId, "correlation-2");
+
+        assertEquals(asyncLogPublisher.getEnqueuedCount(), 2);
+        assertEquals(asyncLogPublisher.getPublishedCount(), 2);
+        assertEquals(asyncLogPublisher.getFailedCount(), 0);
+    }
+
+    @Test
+    public void testLogsArePublishedInBatches() throws Exception {
+
+        asyncLogPublisher = startPublisher(16, 4, AsyncLogPublisher.OVERFLOW_POLICY_BLOCK);
+        release = new CountDownLatch(1);
+
+        // Hold the drainer on the first log so that the rest of the logs are queued together.
+        publishAuditLog(mock(AuditLog.class), TENANT_DOMAIN, TENANT_ID, null);
+        assertTrue(publishing.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 10; i++) {
+            publishAuditLog(mock(AuditLog.class), i < 5 ? TENANT_DOMAIN : SUPER_TENANT_DOMAIN_NAME,
+                    i < 5 ? TENANT_ID : SUPER_TENANT_ID, null);
+        }
+        assertEquals(asyncLogPublisher.getBufferDepth(), 10);
+        release.countDown();
+        asyncLogPublisher.shutdown();
+
+        assertEquals(publishedEvents.size(), 11);
+        assertEquals(asyncLogPublisher.getBatchCount(), 4);
+        assertEquals(asyncLogPublisher.getBufferDepth(), 0);
+        for (int i = 0; i < publishedEvents.size(); i++) {
+            assertEquals(publishedEvents.get(i).tenantDomain, i < 6 ? TENANT_DOMAIN : SUPER_TENANT_DOMAIN_NAME);
+        }
+    }
+
+    @Test
+    public void testLogsArePublishedInOrderAcrossBufferLaps() {
+
+        asyncLogPublisher = startPublisher(4, 3, AsyncLogPublisher.OVERFLOW_POLICY_BLOCK);
+        List<AuditLog> auditLogs = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            AuditLog auditLog = mock(AuditLog.class);
+            auditLogs.add(auditLog);
+            assertTrue(publishAuditLog(auditLog, TENANT_DOMAIN, TENANT_ID, "correlation-" + i));
+        }
+        asyncLogPublisher.shutdown();
+
+        assertEquals(asyncLogPublisher.getBufferCapacity(), 4);
+        assertEquals(publishedEvents.size(), 50);
+        for (int i = 0; i < publishedEvents.size(); i++) {
+            assertEquals(publishedEvents.get(i).event.getEventProperties()
+                    .get(CarbonConstants.LogEventConstants.AUDIT_LOG), auditLogs.get(i));
+            assertEquals(publishedEvents.get(i).correlationId, "correlation-" + i);
+        }
+        assertEquals(asyncLogPublisher.getBufferDepth(), 0);
+    }
+
+    @Test
+    public void testLogsAreDroppedWhenQueueIsFull() throws Exception {
+
+        asyncLogPublisher = startPublisher(1, 1, AsyncLogPublisher.OVERFLOW_POLICY_DROP);
+        release = new CountDownLatch(1);
+
+        publishAuditLog(mock(AuditLog.class), TENANT_DOMAIN, TENANT_ID, null);
+        assertTrue(publishing.await(10, TimeUnit.SECONDS));
+        assertTrue(publishAuditLog(mock(AuditLog.class), TENANT_DOMAIN, TENANT_ID, null));
+        assertTrue(publishAuditLog(mock(AuditLog.class), TENANT_DOMAIN, TENANT_ID, null));
+        release.countDown();
+        asyncLogPublisher.shutdown();
+
+        assertEquals(asyncLogPublisher.getEnqueuedCount(), 2);
+        assertEquals(asyncLogPublisher.getDroppedCount(), 1);
+        assertEquals(asyncLogPublisher.getPublishedCount(), 2);
+    }
+
+    @Test
+    public void testCallerWaitsWhenQueueIsFull() throws Exception {
+
+        asyncLogPublisher = startPublisher(1, 1, AsyncLogPublisher.OVERFLOW_POLICY_BLOCK);
+        release = new CountDownLatch(1);
+
+        publishAuditLog(mock(AuditLog.class), TENANT_DOMAIN, TENANT_ID, null);
+        assertTrue(publishing.await(10, TimeUnit.SECONDS));
+        publishAuditLog(mock(AuditLog.class), TENANT_DOMAIN, TENANT_ID, null);
+        Thread caller = new Thread(() -> publishAuditLog(mock(AuditLog.class), TENANT_DOMAIN, TENANT_ID, null));
+        caller.start();
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (asyncLogPublisher.getBlockedCount() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(asyncLogPublisher.getBlockedCount(), 1);
+        assertTrue(caller.isAlive());
+
+        release.countDown();
+        caller.join(TimeUnit.SECONDS.toMillis(10));
+        asyncLogPublisher.shutdown();
+
+        assertEquals(asyncLogPublisher.getEnqueuedCount(), 3);
+        assertEquals(asyncLogPublisher.getDroppedCount(), 0);
+        assertEquals(asyncLogPublisher.getPublishedCount(), 3);
+    }
+
+    @Test
+    public void testLogsAreNotAcceptedWhenNotRunning() {
+
+        asyncLogPublisher = new AsyncLogPublisher(8, 8, AsyncLogPublisher.OVERFLOW_POLICY_BLOCK);
+        assertFalse(asyncLogPublisher.publishAuditLog(mock(AuditLog.class)));
+
+        asyncLogPublisher.start();
+        asyncLogPublisher.shutdown();
+        assertFalse(asyncLogPublisher.publishDiagnosticLog(mock(DiagnosticLog.class), SUPER_TENANT_ID));
+        assertEquals(asyncLogPublisher.getEnqueuedCount(), 0);
+    }
+
+    private AsyncLogPublisher startPublisher(int bufferSize, int batchSize, String overflowPolicy) {
+
+        AsyncLogPublisher publisher = new AsyncLogPublisher(bufferSize, batchSize, overflowPolicy);
+        publisher.start();
+        return publisher;
+    }
+
+    private boolean publishAuditLog(AuditLog auditLog, String tenantDomain, int tenantId, String correlationId) {
+
+        startTenantFlow(tenantDomain, tenantId, correlationId);
+        try {
+            return asyncLogPublisher.publishAuditLog(auditLog);
+        } finally {
+            endTenantFlow();
+        }
+    }
+
+    private boolean publishDiagnosticLog(DiagnosticLog diagnosticLog, String tenantDomain, int tenantId,
+                                         String correlationId) {
+
+        startTenantFlow(tenantDomain, tenantId, correlationId);
+        try {
+            return asyncLogPublisher.publishDiagnosticLog(diagnosticLog, tenantId);
+        } finally {
+            endTenantFlow();
+        }
+    }
+
+    private static void startTenantFlow(String tenantDomain, int tenantId, String correlationId) {
+
+        PrivilegedCarbonContext.startTenantFlow();
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain);
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(tenantId);
+        if (correlationId != null) {
+            MDC.put(CORRELATION_ID_MDC, correlationId);
+        }
+    }
+
+    private static void endTenantFlow() {
+
+        MDC.remove(CORRELATION_ID_MDC);
+        PrivilegedCarbonContext.endTenantFlow();
+    }
+
+    /**
+     * An event received by the identity event service along with the context it was published in.
+     */
+    private static class PublishedEvent {
+
+        private final Event event;
+        private final String tenantDomain;
+        private final int tenantId;
+        private final String correlationId;
+
+        private PublishedEvent(Event event, String tenantDomain, int tenantId, String correlationId) {
+
+            this.event = event;
+            this.tenantDomain = tenantDomain;
+            this.tenantId = tenantId;
+            this.correlationId = correlationId;
+        }
+    }
+}
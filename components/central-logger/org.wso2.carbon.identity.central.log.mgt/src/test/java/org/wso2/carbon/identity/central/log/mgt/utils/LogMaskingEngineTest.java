@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.central.log.mgt.utils;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+public class LogMaskingEngineTest {
+
+    @DataProvider(name = "maskingData")
+    public Object[][] maskingData() {
+
+        StringBuilder longValue = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            longValue.append((char) ('a' + i % 26));
+        }
+        return new Object[][]{
+                {""},
+                {"a"},
+                {"ab"},
+                {"abc"},
+                {"john.doe@example.com"},
+                {"  spaced value  "},
+                {"line1\nline2"},
+                {"a\nb"},
+                {"ab\r\ncd"},
+                {"\n\nabc\n"},
+                {"first second\u0085third"},
+                {"emoji \uD83D\uDE00 value"},
+                {"\uD83D\uDE00\uD83D\uDE01\uD83D\uDE02"},
+                {"lone \uD83D surrogate"},
+                {longValue.toString()}
+        };
+    }
+
+    @Test(dataProvider = "maskingData")
+    public void testMask(String content) {
+
+        String expected = LogConstants.LOG_MASKING_PATTERN.matcher(content).replaceAll(LogConstants.MASKING_CHARACTER);
+        assertEquals(LogMaskingEngine.mask(content), expected);
+    }
+
+    @Test
+    public void testMaskNull() {
+
+        assertNull(LogMaskingEngine.mask(null));
+    }
+}
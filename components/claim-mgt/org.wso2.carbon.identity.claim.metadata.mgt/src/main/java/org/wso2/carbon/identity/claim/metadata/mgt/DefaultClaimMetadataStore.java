@@ -19,11 +19,11 @@ package org.wso2.carbon.identity.claim.metadata.mgt;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimResolutionIndex;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.claim.metadata.mgt.internal.IdentityClaimManagementServiceDataHolder;
 import org.wso2.carbon.identity.claim.metadata.mgt.internal.ReadOnlyClaimMetadataManager;
 import org.wso2.carbon.identity.claim.metadata.mgt.internal.ReadWriteClaimMetadataManager;
-import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimDialect;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
 import org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants;
@@ -38,6 +38,7 @@ import org.wso2.carbon.user.core.claim.inmemory.ClaimConfig;
 import org.wso2.carbon.user.core.listener.ClaimManagerListener;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static org.wso2.carbon.identity.base.IdentityConstants.ServerConfig.SKIP_CLAIM_METADATA_PERSISTENCE;
@@ -65,6 +66,7 @@ public class DefaultClaimMetadataStore implements ClaimMetadataStore {
             if (!skipClaimMetadataPersistence() && dbBasedClaimMetadataManager.getClaimDialects(tenantId).isEmpty()) {
                 IdentityClaimManagementServiceDataHolder.getInstance().getClaimConfigInitDAO()
                         .initClaimConfig(claimConfig, tenantId);
+                unifiedClaimMetadataManager.invalidateClaimResolutionIndex(tenantId);
             }
         } catch (ClaimMetadataException e) {
             log.error("Error while retrieving claim dialects", e);
@@ -125,54 +127,29 @@ public class DefaultClaimMetadataStore implements ClaimMetadataStore {
         }
 
         try {
-            // Add listener
-
-            List<LocalClaim> localClaimList = this.unifiedClaimMetadataManager.getLocalClaims(tenantId);
-
-            // Add listener
-
-            for (LocalClaim localClaim : localClaimList) {
-                if (localClaim.getClaimURI().equalsIgnoreCase(claimURI)) {
-                    return getMappedAttribute(domainName, localClaim, tenantId);
+            ClaimResolutionIndex claimResolutionIndex = unifiedClaimMetadataManager.getClaimResolutionIndex(tenantId);
+            LocalClaim localClaim = claimResolutionIndex.resolveLocalClaim(claimURI);
+            if (localClaim == null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Returning NULL for getAttributeName() for domain : " + domainName + ", claim URI : " +
+                            claimURI);
                 }
+                return null;
             }
 
-
-            // For backward compatibility
-            List<ClaimDialect> claimDialects = unifiedClaimMetadataManager.getClaimDialects(tenantId);
-
-            for (ClaimDialect claimDialect : claimDialects) {
-                if (ClaimConstants.LOCAL_CLAIM_DIALECT_URI.equalsIgnoreCase(claimDialect.getClaimDialectURI())) {
-                    continue;
-                }
-
-                List<ExternalClaim> externalClaims = unifiedClaimMetadataManager.getExternalClaims(claimDialect
-                        .getClaimDialectURI(), tenantId);
-
-                for (ExternalClaim externalClaim : externalClaims) {
-                    if (externalClaim.getClaimURI().equalsIgnoreCase(claimURI)) {
-
-                        for (LocalClaim localClaim : localClaimList) {
-                            if (localClaim.getClaimURI().equalsIgnoreCase(externalClaim.getMappedLocalClaim())) {
-                                if (log.isDebugEnabled()) {
-                                    log.debug("Picking mapped attribute for external claim : " + externalClaim
-                                            .getClaimURI() + " using mapped local claim : " + localClaim.getClaimURI());
-                                }
-                                return getMappedAttribute(domainName, localClaim, tenantId);
-                            }
-                        }
-
-                    }
-                }
+            if (log.isDebugEnabled() && !localClaim.getClaimURI().equalsIgnoreCase(claimURI)) {
+                log.debug("Picking mapped attribute for external claim : " + claimURI + " using mapped local claim : "
+                        + localClaim.getClaimURI());
             }
-
-            if (log.isDebugEnabled()) {
-                log.debug("Returning NULL for getAttributeName() for domain : " + domainName + ", claim URI : " +
-                        claimURI);
+            String mappedAttribute = claimResolutionIndex.getMappedAttribute(domainName, claimURI);
+            if (StringUtils.isNotBlank(mappedAttribute)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Assigned mapped attribute : " + mappedAttribute + " from user store domain : " +
+                            domainName + " for claim : " + localClaim.getClaimURI() + " in tenant : " + tenantId);
+                }
+                return mappedAttribute;
             }
-
-            return null;
-
+            return getMappedAttribute(domainName, localClaim, tenantId);
         } catch (ClaimMetadataException e) {
             throw new UserStoreException(e.getMessage(), e);
         }
@@ -238,38 +215,10 @@ public class DefaultClaimMetadataStore implements ClaimMetadataStore {
     @Deprecated
     public Claim getClaim(String claimURI) throws UserStoreException {
         try {
-            List<LocalClaim> localClaims = unifiedClaimMetadataManager.getLocalClaims(this.tenantId);
-
-            for (LocalClaim localClaim : localClaims) {
-                if (localClaim.getClaimURI().equalsIgnoreCase(claimURI)) {
-                    ClaimMapping claimMapping = ClaimMetadataUtils.convertLocalClaimToClaimMapping(localClaim, this
-                            .tenantId);
-                    return claimMapping.getClaim();
-                }
-            }
-
-            // For backward compatibility
-            List<ClaimDialect> claimDialects = unifiedClaimMetadataManager.getClaimDialects(tenantId);
-
-            for (ClaimDialect claimDialect : claimDialects) {
-                if (ClaimConstants.LOCAL_CLAIM_DIALECT_URI.equalsIgnoreCase(claimDialect.getClaimDialectURI())) {
-                    continue;
-                }
-
-                List<ExternalClaim> externalClaims = unifiedClaimMetadataManager.getExternalClaims(claimDialect
-                        .getClaimDialectURI(), tenantId);
-
-                for (ExternalClaim externalClaim : externalClaims) {
-                    if (externalClaim.getClaimURI().equalsIgnoreCase(claimURI)) {
-
-                        for (LocalClaim localClaim : localClaims) {
-                            ClaimMapping claimMapping = ClaimMetadataUtils.convertLocalClaimToClaimMapping
-                                    (localClaim, this.tenantId);
-                            return claimMapping.getClaim();
-                        }
-
-                    }
-                }
+            LocalClaim localClaim = unifiedClaimMetadataManager.getClaimResolutionIndex(this.tenantId)
+                    .resolveLocalClaim(claimURI);
+            if (localClaim != null) {
+                return ClaimMetadataUtils.convertLocalClaimToClaimMapping(localClaim, this.tenantId).getClaim();
             }
 
             if (log.isDebugEnabled()) {
@@ -285,40 +234,10 @@ public class DefaultClaimMetadataStore implements ClaimMetadataStore {
     @Deprecated
     public ClaimMapping getClaimMapping(String claimURI) throws UserStoreException {
         try {
-            List<LocalClaim> localClaims = unifiedClaimMetadataManager.getLocalClaims(this.tenantId);
-
-            for (LocalClaim localClaim : localClaims) {
-                if (localClaim.getClaimURI().equalsIgnoreCase(claimURI)) {
-                    ClaimMapping claimMapping = ClaimMetadataUtils.convertLocalClaimToClaimMapping(localClaim, this
-                            .tenantId);
-                    return claimMapping;
-                }
-            }
-
-            // For backward compatibility
-            List<ClaimDialect> claimDialects = unifiedClaimMetadataManager.getClaimDialects(tenantId);
-
-            for (ClaimDialect claimDialect : claimDialects) {
-                if (ClaimConstants.LOCAL_CLAIM_DIALECT_URI.equalsIgnoreCase(claimDialect.getClaimDialectURI())) {
-                    continue;
-                }
-
-                List<ExternalClaim> externalClaims = unifiedClaimMetadataManager.getExternalClaims(claimDialect
-                        .getClaimDialectURI(), tenantId);
-
-                for (ExternalClaim externalClaim : externalClaims) {
-                    if (externalClaim.getClaimURI().equalsIgnoreCase(claimURI)) {
-
-                        for (LocalClaim localClaim : localClaims) {
-                            if (localClaim.getClaimURI().equalsIgnoreCase(externalClaim.getMappedLocalClaim())) {
-                                ClaimMapping claimMapping = ClaimMetadataUtils.convertLocalClaimToClaimMapping
-                                        (localClaim, this.tenantId);
-                                return claimMapping;
-                            }
-                        }
-
-                    }
-                }
+            LocalClaim localClaim = unifiedClaimMetadataManager.getClaimResolutionIndex(this.tenantId)
+                    .resolveLocalClaim(claimURI);
+            if (localClaim != null) {
+                return ClaimMetadataUtils.convertLocalClaimToClaimMapping(localClaim, this.tenantId);
             }
 
             if (log.isDebugEnabled()) {
@@ -358,13 +277,15 @@ public class DefaultClaimMetadataStore implements ClaimMetadataStore {
             try {
                 List<ExternalClaim> externalClaims = unifiedClaimMetadataManager.getExternalClaims(dialectUri,
                         this.tenantId);
-                List<LocalClaim> localClaims = unifiedClaimMetadataManager.getLocalClaims(this.tenantId);
+                ClaimResolutionIndex claimResolutionIndex =
+                        unifiedClaimMetadataManager.getClaimResolutionIndex(this.tenantId);
 
                 List<ClaimMapping> claimMappings = new ArrayList<>();
 
                 for (ExternalClaim externalClaim : externalClaims) {
+                    LocalClaim localClaim = claimResolutionIndex.getLocalClaim(externalClaim.getMappedLocalClaim());
                     ClaimMapping claimMapping = ClaimMetadataUtils.convertExternalClaimToClaimMapping(externalClaim,
-                            localClaims, this.tenantId);
+                            localClaim != null ? Collections.singletonList(localClaim) : null, this.tenantId);
                     claimMappings.add(claimMapping);
                 }
 
@@ -18,6 +18,8 @@
 
 package org.wso2.carbon.identity.claim.metadata.mgt;
 
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimResolutionIndex;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimResolutionIndexCache;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataClientException;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.claim.metadata.mgt.internal.ReadOnlyClaimMetadataManager;
@@ -31,6 +33,7 @@ import org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -104,6 +107,7 @@ public class UnifiedClaimMetadataManager implements ReadWriteClaimMetadataManage
     public void addClaimDialect(ClaimDialect claimDialect, int tenantId) throws ClaimMetadataException {
 
         this.dbBasedClaimMetadataManager.addClaimDialect(claimDialect, tenantId);
+        invalidateClaimResolutionIndex(tenantId);
     }
 
     /**
@@ -126,6 +130,7 @@ public class UnifiedClaimMetadataManager implements ReadWriteClaimMetadataManage
         }
 
         this.dbBasedClaimMetadataManager.renameClaimDialect(oldClaimDialect, newClaimDialect, tenantId);
+        invalidateClaimResolutionIndex(tenantId);
     }
 
     /**
@@ -144,6 +149,7 @@ public class UnifiedClaimMetadataManager implements ReadWriteClaimMetadataManage
         }
 
         this.dbBasedClaimMetadataManager.removeClaimDialect(claimDialect, tenantId);
+        invalidateClaimResolutionIndex(tenantId);
     }
 
     /**
@@ -214,6 +220,7 @@ public class UnifiedClaimMetadataManager implements ReadWriteClaimMetadataManage
             addSystemDefaultDialectToDB(ClaimConstants.LOCAL_CLAIM_DIALECT_URI, tenantId);
         }
         this.dbBasedClaimMetadataManager.addLocalClaim(localClaim, tenantId);
+        invalidateClaimResolutionIndex(tenantId);
     }
 
     /**
@@ -228,6 +235,7 @@ public class UnifiedClaimMetadataManager implements ReadWriteClaimMetadataManage
         localClaim.getClaimProperties().remove(ClaimConstants.IS_SYSTEM_CLAIM);
         if (isLocalClaimInDB(localClaim.getClaimURI(), tenantId)) {
             this.dbBasedClaimMetadataManager.updateLocalClaim(localClaim, tenantId);
+            invalidateClaimResolutionIndex(tenantId);
         } else {
             this.addLocalClaim(localClaim, tenantId);
         }
@@ -266,6 +274,7 @@ public class UnifiedClaimMetadataManager implements ReadWriteClaimMetadataManage
             localClaim.setClaimProperties(localClaimMap.get(localClaim.getClaimURI()).getClaimProperties());
         }
         this.dbBasedClaimMetadataManager.updateLocalClaimMappings(localClaimList, tenantId, userStoreDomain);
+        invalidateClaimResolutionIndex(tenantId);
     }
 
     /**
@@ -284,6 +293,7 @@ public class UnifiedClaimMetadataManager implements ReadWriteClaimMetadataManage
         }
 
         this.dbBasedClaimMetadataManager.removeLocalClaim(localClaimURI, tenantId);
+        invalidateClaimResolutionIndex(tenantId);
     }
 
     /**
@@ -388,6 +398,7 @@ public class UnifiedClaimMetadataManager implements ReadWriteClaimMetadataManage
             addSystemDefaultLocalClaimToDB(externalClaim.getMappedLocalClaim(), tenantId);
         }
         this.dbBasedClaimMetadataManager.addExternalClaim(externalClaim, tenantId);
+        invalidateClaimResolutionIndex(tenantId);
     }
 
     /**
@@ -406,6 +417,7 @@ public class UnifiedClaimMetadataManager implements ReadWriteClaimMetadataManage
         }
         if (isExternalClaimInDB(externalClaim.getClaimURI(), externalClaim.getClaimDialectURI(), tenantId)) {
             this.dbBasedClaimMetadataManager.updateExternalClaim(externalClaim, tenantId);
+            invalidateClaimResolutionIndex(tenantId);
         } else {
             this.addExternalClaim(externalClaim, tenantId);
         }
@@ -429,6 +441,21 @@ public class UnifiedClaimMetadataManager implements ReadWriteClaimMetadataManage
         }
 
         this.dbBasedClaimMetadataManager.removeExternalClaim(externalClaimDialectURI, externalClaimURI, tenantId);
+        invalidateClaimResolutionIndex(tenantId);
+    }
+
+    /**
+     * Get the index which resolves local and external claim URIs of the tenant to local claims. The index is built
+     * from the unified view of the claim metadata on first use and rebuilt after the claim metadata is changed.
+     *
+     * @param tenantId Tenant ID.
+     * @return Claim resolution index.
+     * @throws ClaimMetadataException If an error occurs while retrieving the claim metadata.
+     */
+    public ClaimResolutionIndex getClaimResolutionIndex(int tenantId) throws ClaimMetadataException {
+
+        return ClaimResolutionIndexCache.getInstance().getValueFromCache(tenantId, tenantId,
+                this::buildClaimResolutionIndex);
     }
 
     /**
@@ -465,6 +492,7 @@ public class UnifiedClaimMetadataManager implements ReadWriteClaimMetadataManage
     public void removeClaimMappingAttributes(int tenantId, String userstoreDomain) throws ClaimMetadataException {
 
         this.dbBasedClaimMetadataManager.removeClaimMappingAttributes(tenantId, userstoreDomain);
+        invalidateClaimResolutionIndex(tenantId);
     }
 
     /**
@@ -475,6 +503,7 @@ public class UnifiedClaimMetadataManager implements ReadWriteClaimMetadataManage
     public void removeAllClaimDialects(int tenantId) throws ClaimMetadataException {
 
         this.dbBasedClaimMetadataManager.removeAllClaimDialects(tenantId);
+        invalidateClaimResolutionIndex(tenantId);
     }
 
     /**
@@ -596,6 +625,27 @@ public class UnifiedClaimMetadataManager implements ReadWriteClaimMetadataManage
         }
     }
 
+    private ClaimResolutionIndex buildClaimResolutionIndex(int tenantId) throws ClaimMetadataException {
+
+        Map<String, List<ExternalClaim>> externalClaimsByDialect = new LinkedHashMap<>();
+        for (ClaimDialect claimDialect : getClaimDialects(tenantId)) {
+            if (ClaimConstants.LOCAL_CLAIM_DIALECT_URI.equalsIgnoreCase(claimDialect.getClaimDialectURI())) {
+                continue;
+            }
+            externalClaimsByDialect.put(claimDialect.getClaimDialectURI(),
+                    getExternalClaims(claimDialect.getClaimDialectURI(), tenantId));
+        }
+        return ClaimResolutionIndex.build(getLocalClaims(tenantId), externalClaimsByDialect);
+    }
+
+    /**
+     * Remove the claim resolution index of the tenant, so that it is rebuilt with the changed claim metadata.
+     */
+    void invalidateClaimResolutionIndex(int tenantId) {
+
+        ClaimResolutionIndexCache.getInstance().clearCacheEntry(tenantId, tenantId);
+    }
+
     private void markAsSystemClaim(Claim claim) {
 
         claim.setClaimProperty(ClaimConstants.IS_SYSTEM_CLAIM, Boolean.TRUE.toString());
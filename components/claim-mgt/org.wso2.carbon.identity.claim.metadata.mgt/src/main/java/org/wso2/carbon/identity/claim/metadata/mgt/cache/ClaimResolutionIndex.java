@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.wso2.carbon.identity.claim.metadata.mgt.model.AttributeMapping;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable index which resolves claim URIs of a tenant to local claims and user store attributes.
+ * <p>
+ * Claim URIs are matched ignoring case. A claim URI is resolved to the local claim with that URI, or else to the local
+ * claim mapped to the first external claim with that URI, in the order of the claim dialects the index is built from.
+ */
+public class ClaimResolutionIndex implements Serializable {
+
+    private static final long serialVersionUID = -6354328157426603981L;
+
+    private final Map<String, LocalClaim> localClaims;
+    private final Map<String, LocalClaim> externalClaims;
+    private final Map<String, Map<String, LocalClaim>> externalClaimsByDialect;
+    private final Map<String, Map<String, String>> mappedAttributesByDomain;
+
+    private ClaimResolutionIndex(Map<String, LocalClaim> localClaims, Map<String, LocalClaim> externalClaims,
+                                 Map<String, Map<String, LocalClaim>> externalClaimsByDialect,
+                                 Map<String, Map<String, String>> mappedAttributesByDomain) {
+
+        this.localClaims = localClaims;
+        this.externalClaims = externalClaims;
+        this.externalClaimsByDialect = externalClaimsByDialect;
+        this.mappedAttributesByDomain = mappedAttributesByDomain;
+    }
+
+    /**
+     * Build the index.
+     *
+     * @param localClaims             Local claims of the tenant.
+     * @param externalClaimsByDialect External claims of the tenant against the external claim dialect URIs, in the
+     *                                order of the dialects.
+     * @return Claim resolution index.
+     */
+    public static ClaimResolutionIndex build(List<LocalClaim> localClaims,
+                                             Map<String, List<ExternalClaim>> externalClaimsByDialect) {
+
+        Map<String, LocalClaim> localClaimIndex = new HashMap<>();
+        Map<String, Map<String, String>> mappedAttributeIndex = new HashMap<>();
+        for (LocalClaim localClaim : localClaims) {
+            String claimKey = toKey(localClaim.getClaimURI());
+            if (localClaimIndex.putIfAbsent(claimKey, localClaim) != null) {
+                continue;
+            }
+            for (AttributeMapping mappedAttribute : localClaim.getMappedAttributes()) {
+                mappedAttributeIndex.computeIfAbsent(mappedAttribute.getUserStoreDomain(), domain -> new HashMap<>())
+                        .putIfAbsent(claimKey, mappedAttribute.getAttributeName());
+            }
+        }
+
+        Map<String, LocalClaim> externalClaimIndex = new HashMap<>();
+        Map<String, Map<String, LocalClaim>> dialectIndex = new HashMap<>();
+        for (Map.Entry<String, List<ExternalClaim>> dialect : externalClaimsByDialect.entrySet()) {
+            Map<String, LocalClaim> claimsOfDialect = new HashMap<>();
+            for (ExternalClaim externalClaim : dialect.getValue()) {
+                if (externalClaim.getMappedLocalClaim() == null) {
+                    continue;
+                }
+                LocalClaim localClaim = localClaimIndex.get(toKey(externalClaim.getMappedLocalClaim()));
+                if (localClaim != null) {
+                    String claimKey = toKey(externalClaim.getClaimURI());
+                    claimsOfDialect.putIfAbsent(claimKey, localClaim);
+                    externalClaimIndex.putIfAbsent(claimKey, localClaim);
+                }
+            }
+            dialectIndex.putIfAbsent(toKey(dialect.getKey()), Collections.unmodifiableMap(claimsOfDialect));
+        }
+
+        mappedAttributeIndex.replaceAll((domain, mappedAttributes) -> Collections.unmodifiableMap(mappedAttributes));
+        return new ClaimResolutionIndex(Collections.unmodifiableMap(localClaimIndex),
+                Collections.unmodifiableMap(externalClaimIndex), Collections.unmodifiableMap(dialectIndex),
+                Collections.unmodifiableMap(mappedAttributeIndex));
+    }
+
+    /**
+     * Get the local claim with the given URI.
+     *
+     * @param localClaimURI Local claim URI.
+     * @return Local claim, or null if there is no local claim with the URI.
+     */
+    public LocalClaim getLocalClaim(String localClaimURI) {
+
+        if (localClaimURI == null) {
+            return null;
+        }
+        return localClaims.get(toKey(localClaimURI));
+    }
+
+    /**
+     * Resolve a local or external claim URI to a local claim.
+     *
+     * @param claimURI Local claim URI, or external claim URI of any dialect.
+     * @return Local claim with the URI, or else the local claim mapped to an external claim with the URI. Null if the
+     * claim URI cannot be resolved.
+     */
+    public LocalClaim resolveLocalClaim(String claimURI) {
+
+        if (claimURI == null) {
+            return null;
+        }
+        String claimKey = toKey(claimURI);
+        LocalClaim localClaim = localClaims.get(claimKey);
+        return localClaim != null ? localClaim : externalClaims.get(claimKey);
+    }
+
+    /**
+     * Get the local claim mapped to an external claim of a dialect.
+     *
+     * @param claimDialectURI  External claim dialect URI.
+     * @param externalClaimURI External claim URI.
+     * @return Mapped local claim, or null if the dialect has no such external claim.
+     */
+    public LocalClaim getMappedLocalClaim(String claimDialectURI, String externalClaimURI) {
+
+        if (claimDialectURI == null || externalClaimURI == null) {
+            return null;
+        }
+        Map<String, LocalClaim> claimsOfDialect = externalClaimsByDialect.get(toKey(claimDialectURI));
+        return claimsOfDialect != null ? claimsOfDialect.get(toKey(externalClaimURI)) : null;
+    }
+
+    /**
+     * Get the attribute of a user store domain which a claim is mapped to.
+     *
+     * @param userStoreDomain User store domain name.
+     * @param claimURI        Local claim URI, or external claim URI of any dialect.
+     * @return Attribute name mapped for the user store domain, or null if the claim has no mapping for the domain.
+     */
+    public String getMappedAttribute(String userStoreDomain, String claimURI) {
+
+        LocalClaim localClaim = resolveLocalClaim(claimURI);
+        if (localClaim == null || userStoreDomain == null) {
+            return null;
+        }
+        Map<String, String> mappedAttributes = mappedAttributesByDomain.get(userStoreDomain.toUpperCase());
+        return mappedAttributes != null ? mappedAttributes.get(toKey(localClaim.getClaimURI())) : null;
+    }
+
+    private static String toKey(String claimURI) {
+
+        return claimURI.toLowerCase(Locale.ENGLISH);
+    }
+}
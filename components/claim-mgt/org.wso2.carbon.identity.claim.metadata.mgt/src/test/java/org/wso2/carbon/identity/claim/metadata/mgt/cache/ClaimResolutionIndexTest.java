@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.AttributeMapping;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class ClaimResolutionIndexTest {
+
+    private static final String LOCAL_CLAIM_EMAIL = "http://wso2.org/claims/emailaddress";
+    private static final String LOCAL_CLAIM_USERNAME = "http://wso2.org/claims/username";
+    private static final String OIDC_DIALECT = "http://wso2.org/oidc/claim";
+    private static final String SCIM2_DIALECT = "urn:ietf:params:scim:schemas:core:2.0:User";
+    private static final String CUSTOM_DIALECT = "http://custom.org/claims";
+
+    private LocalClaim emailClaim;
+    private LocalClaim usernameClaim;
+    private ClaimResolutionIndex claimResolutionIndex;
+
+    @BeforeMethod
+    public void setUp() {
+
+        emailClaim = new LocalClaim(LOCAL_CLAIM_EMAIL, Arrays.asList(new AttributeMapping("PRIMARY", "mail"),
+                new AttributeMapping("SECONDARY", "email")), Collections.emptyMap());
+        usernameClaim = new LocalClaim(LOCAL_CLAIM_USERNAME,
+                Collections.singletonList(new AttributeMapping("PRIMARY", "uid")), Collections.emptyMap());
+
+        Map<String, List<ExternalClaim>> externalClaims = new LinkedHashMap<>();
+        externalClaims.put(OIDC_DIALECT, Arrays.asList(
+                new ExternalClaim(OIDC_DIALECT, "email", LOCAL_CLAIM_EMAIL),
+                new ExternalClaim(OIDC_DIALECT, "preferred_username", LOCAL_CLAIM_USERNAME)));
+        externalClaims.put(SCIM2_DIALECT, Collections.singletonList(
+                new ExternalClaim(SCIM2_DIALECT, "urn:ietf:params:scim:schemas:core:2.0:User:userName",
+                        LOCAL_CLAIM_USERNAME)));
+        externalClaims.put(CUSTOM_DIALECT, Arrays.asList(
+                new ExternalClaim(CUSTOM_DIALECT, "email", LOCAL_CLAIM_USERNAME),
+                new ExternalClaim(CUSTOM_DIALECT, "http://custom.org/claims/unmapped",
+                        "http://wso2.org/claims/nonExisting")));
+        claimResolutionIndex = ClaimResolutionIndex.build(Arrays.asList(emailClaim, usernameClaim), externalClaims);
+    }
+
+    @Test
+    public void testResolveLocalClaim() {
+
+        assertSame(claimResolutionIndex.resolveLocalClaim(LOCAL_CLAIM_EMAIL), emailClaim);
+        assertSame(claimResolutionIndex.resolveLocalClaim("HTTP://WSO2.ORG/CLAIMS/EMAILADDRESS"), emailClaim);
+        assertSame(claimResolutionIndex.resolveLocalClaim("urn:ietf:params:scim:schemas:core:2.0:User:userName"),
+                usernameClaim);
+        // The external claim of the first dialect is picked when several dialects have the same claim URI.
+        assertSame(claimResolutionIndex.resolveLocalClaim("email"), emailClaim);
+        assertNull(claimResolutionIndex.resolveLocalClaim("http://custom.org/claims/unmapped"));
+        assertNull(claimResolutionIndex.resolveLocalClaim(null));
+    }
+
+    @Test
+    public void testGetLocalClaim() {
+
+        assertSame(claimResolutionIndex.getLocalClaim(LOCAL_CLAIM_USERNAME), usernameClaim);
+        assertNull(claimResolutionIndex.getLocalClaim("preferred_username"));
+    }
+
+    @Test
+    public void testGetMappedLocalClaim() {
+
+        assertSame(claimResolutionIndex.getMappedLocalClaim(OIDC_DIALECT, "email"), emailClaim);
+        assertSame(claimResolutionIndex.getMappedLocalClaim(CUSTOM_DIALECT, "email"), usernameClaim);
+        assertNull(claimResolutionIndex.getMappedLocalClaim(SCIM2_DIALECT, "email"));
+        assertNull(claimResolutionIndex.getMappedLocalClaim("http://nonexisting.org", "email"));
+    }
+
+    @Test
+    public void testGetMappedAttribute() {
+
+        assertEquals(claimResolutionIndex.getMappedAttribute("PRIMARY", LOCAL_CLAIM_EMAIL), "mail");
+        assertEquals(claimResolutionIndex.getMappedAttribute("secondary", LOCAL_CLAIM_EMAIL), "email");
+        assertEquals(claimResolutionIndex.getMappedAttribute("PRIMARY", "preferred_username"), "uid");
+        assertNull(claimResolutionIndex.getMappedAttribute("SECONDARY", LOCAL_CLAIM_USERNAME));
+        assertNull(claimResolutionIndex.getMappedAttribute("PRIMARY", "http://custom.org/claims/unmapped"));
+    }
+}
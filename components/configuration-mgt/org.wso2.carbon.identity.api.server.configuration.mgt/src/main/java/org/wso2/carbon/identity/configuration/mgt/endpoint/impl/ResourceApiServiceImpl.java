@@ -34,6 +34,7 @@ import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
@@ -254,7 +255,13 @@ public class ResourceApiServiceImpl extends ResourceApiService {
 
         try {
             InputStream fileStream = getConfigurationManager().getFileById(resourceType,resourceName,fileId);
-            return Response.ok().type(MediaType.APPLICATION_OCTET_STREAM).entity(fileStream).build();
+            Response.ResponseBuilder responseBuilder = Response.ok().type(MediaType.APPLICATION_OCTET_STREAM)
+                    .entity(fileStream);
+            String eTag = getConfigurationManager().getFileETag(resourceType, resourceName, fileId);
+            if (eTag != null) {
+                responseBuilder.header(HttpHeaders.ETAG, eTag);
+            }
+            return responseBuilder.build();
         } catch (ConfigurationManagementClientException e) {
             return handleBadRequestResponse(e, LOG);
         } catch (ConfigurationManagementException e) {
@@ -333,6 +333,22 @@ public interface ConfigurationManager {
     void deleteFileById(String resourceType, String resourceName, String fileId)
             throws ConfigurationManagementException;
 
+    /**
+     * This API is used to get the entity tag of the given file, which changes whenever the content of the file
+     * changes. The entity tag is available only for files which are cached on this node.
+     *
+     * @param resourceType resource type name.
+     * @param resourceName resource name.
+     * @param fileId       Id representing the file.
+     * @return Entity tag of the file, or null if it is not known without reading the file.
+     * @throws ConfigurationManagementException Resource management exception.
+     */
+    default String getFileETag(String resourceType, String resourceName, String fileId)
+            throws ConfigurationManagementException {
+
+        return null;
+    }
+
     /**
      * This function is used to get a resource by the resource id.
      *
@@ -1001,6 +1001,15 @@ public class ConfigurationManagerImpl implements ConfigurationManager {
         }
     }
 
+    @Override
+    public String getFileETag(String resourceType, String resourceName, String fileId)
+            throws ConfigurationManagementException {
+
+        validateRequest(resourceType, resourceName, fileId);
+        String contentHash = getConfigurationDAO().getFileContentHash(resourceType, resourceName, fileId);
+        return contentHash != null ? "\"" + contentHash + "\"" : null;
+    }
+
     private void validateRequest(String resourceTypeName, String resourceName)
             throws ConfigurationManagementClientException {
 
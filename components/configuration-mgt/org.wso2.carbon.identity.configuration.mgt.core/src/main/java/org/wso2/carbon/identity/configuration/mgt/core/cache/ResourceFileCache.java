@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.configuration.mgt.core.cache;
+
+import org.wso2.carbon.identity.application.common.cache.BaseCache;
+
+/**
+ * Represents the cache that holds the content hash of the configuration resource files by id
+ * {@link org.wso2.carbon.identity.configuration.mgt.core.model.ResourceFile}. Removing an entry invalidates the
+ * locally stored content of the file on all nodes of the cluster.
+ */
+public class ResourceFileCache extends BaseCache<ResourceFileCacheKey, ResourceFileCacheEntry> {
+
+    private static final String RESOURCE_FILE_CACHE_NAME = "ConfigurationResourceFileCache";
+    private static volatile ResourceFileCache instance;
+
+    private ResourceFileCache() {
+
+        super(RESOURCE_FILE_CACHE_NAME);
+    }
+
+    public static ResourceFileCache getInstance() {
+
+        if (instance == null) {
+            synchronized (ResourceFileCache.class) {
+                if (instance == null) {
+                    instance = new ResourceFileCache();
+                }
+            }
+        }
+        return instance;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.configuration.mgt.core.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.application.common.cache.CacheEntry;
+
+/**
+ * Represents a cache entry for the content of a
+ * {@link org.wso2.carbon.identity.configuration.mgt.core.model.ResourceFile}. The content itself is kept on the local
+ * disk of each node, and the entry holds the hash which identifies it.
+ */
+public class ResourceFileCacheEntry extends CacheEntry {
+
+    private final String resourceType;
+    private final String resourceName;
+    private final String contentHash;
+
+    public ResourceFileCacheEntry(String resourceType, String resourceName, String contentHash) {
+
+        this.resourceType = resourceType;
+        this.resourceName = resourceName;
+        this.contentHash = contentHash;
+    }
+
+    public String getResourceType() {
+
+        return resourceType;
+    }
+
+    public String getResourceName() {
+
+        return resourceName;
+    }
+
+    public String getContentHash() {
+
+        return contentHash;
+    }
+
+    /**
+     * Check whether the file was read through the given resource.
+     *
+     * @param resourceType Resource type name.
+     * @param resourceName Resource name.
+     * @return True if the file belongs to the given resource.
+     */
+    public boolean isFileOf(String resourceType, String resourceName) {
+
+        return StringUtils.equals(this.resourceType, resourceType) && StringUtils.equals(this.resourceName,
+                resourceName);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.configuration.mgt.core.cache;
+
+import org.wso2.carbon.identity.application.common.cache.BaseCache;
+
+/**
+ * Represents the cache that holds the versions of sets of configuration resources. A version is a random token which
+ * is replaced whenever a resource of the set changes, by removing the entry from this cache on all nodes of the
+ * cluster. Resource lists cached on a node are used only while the versions they were read with are current.
+ */
+public class ResourceListVersionCache extends BaseCache<ResourceListVersionCacheKey, ResourceListVersionCacheEntry> {
+
+    private static final String RESOURCE_LIST_VERSION_CACHE_NAME = "ConfigurationResourceListVersionCache";
+    private static volatile ResourceListVersionCache instance;
+
+    private ResourceListVersionCache() {
+
+        super(RESOURCE_LIST_VERSION_CACHE_NAME);
+    }
+
+    public static ResourceListVersionCache getInstance() {
+
+        if (instance == null) {
+            synchronized (ResourceListVersionCache.class) {
+                if (instance == null) {
+                    instance = new ResourceListVersionCache();
+                }
+            }
+        }
+        return instance;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.configuration.mgt.core.cache;
+
+import org.wso2.carbon.identity.application.common.cache.BaseCache;
+
+/**
+ * Represents the cache that holds the configuration resource types by name and by id
+ * {@link org.wso2.carbon.identity.configuration.mgt.core.model.ResourceType}.
+ */
+public class ResourceTypeCache extends BaseCache<ResourceCacheKey, ResourceTypeCacheEntry> {
+
+    private static final String RESOURCE_TYPE_CACHE_NAME = "ConfigurationResourceTypeCache";
+    private static volatile ResourceTypeCache instance;
+
+    private ResourceTypeCache() {
+
+        super(RESOURCE_TYPE_CACHE_NAME);
+    }
+
+    public static ResourceTypeCache getInstance() {
+
+        if (instance == null) {
+            synchronized (ResourceTypeCache.class) {
+                if (instance == null) {
+                    instance = new ResourceTypeCache();
+                }
+            }
+        }
+        return instance;
+    }
+}
@@ -70,6 +70,15 @@ public class ConfigurationConstants {
     public static final String TENANT_NAME_FROM_CONTEXT = "TenantNameFromContext";
     public static final String PATH_SEPARATOR = "/";
     public static final String CORRELATION_ID_MDC = "Correlation-ID";
+    public static final String FILE_CACHE_ENABLE = "ConfigurationStore.FileCache.Enable";
+    public static final String FILE_CACHE_DIRECTORY = "ConfigurationStore.FileCache.Directory";
+    public static final String FILE_CACHE_MAX_SIZE = "ConfigurationStore.FileCache.MaxSizeInBytes";
+    public static final String FILE_CACHE_MAX_FILE_SIZE = "ConfigurationStore.FileCache.MaxFileSizeInBytes";
+    public static final long DEFAULT_FILE_CACHE_MAX_SIZE = 100L * 1024 * 1024;
+    public static final long DEFAULT_FILE_CACHE_MAX_FILE_SIZE = 5L * 1024 * 1024;
+    public static final String RESOURCE_LIST_CACHE_ENABLE = "ConfigurationStore.ResourceListCache.Enable";
+    public static final String RESOURCE_LIST_CACHE_MAX_ENTRIES = "ConfigurationStore.ResourceListCache.MaxEntries";
+    public static final int DEFAULT_RESOURCE_LIST_CACHE_MAX_ENTRIES = 1000;
 
 
     public enum ErrorMessages {
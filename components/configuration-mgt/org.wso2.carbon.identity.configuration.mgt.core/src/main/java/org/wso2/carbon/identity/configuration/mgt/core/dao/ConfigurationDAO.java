@@ -240,6 +240,21 @@ public interface ConfigurationDAO {
     InputStream getFileById(String resourceType, String resourceName, String fileId) throws
             ConfigurationManagementException;
 
+    /**
+     * Get the hash of the content of the file, if it is known without reading the file.
+     *
+     * @param resourceType resource type name.
+     * @param resourceName resource name.
+     * @param fileId       Id of the file.
+     * @return Hash of the content of the file, or null if it is not known.
+     * @throws ConfigurationManagementException Configuration Management Exception.
+     */
+    default String getFileContentHash(String resourceType, String resourceName, String fileId)
+            throws ConfigurationManagementException {
+
+        return null;
+    }
+
     /**
      * Get files for the {@link Resource}.
      *
@@ -22,8 +22,19 @@ import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByIdCache;
 import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByNameCache;
 import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByNameCacheKey;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceCacheKey;
 import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceCacheEntry;
 import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByIdCacheKey;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceFileCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceFileCacheEntry;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceFileCacheKey;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceListVersionCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceListVersionCacheEntry;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceListVersionCacheKey;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceTypeByIdCacheKey;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceTypeByNameCacheKey;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceTypeCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceTypeCacheEntry;
 import org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants;
 import org.wso2.carbon.identity.configuration.mgt.core.dao.ConfigurationDAO;
 import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementException;
@@ -31,16 +42,24 @@ import org.wso2.carbon.identity.configuration.mgt.core.internal.ConfigurationMan
 import org.wso2.carbon.identity.configuration.mgt.core.model.Attribute;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Resource;
 import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceFile;
+import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceSearchBean;
 import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceType;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
 import org.wso2.carbon.identity.configuration.mgt.core.search.Condition;
+import org.wso2.carbon.identity.configuration.mgt.core.search.PlaceholderSQL;
+import org.wso2.carbon.identity.configuration.mgt.core.search.PrimitiveConditionValidator;
+import org.wso2.carbon.identity.configuration.mgt.core.search.exception.PrimitiveConditionValidationException;
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import static org.wso2.carbon.identity.configuration.mgt.core.util.ConfigurationUtils.handleClientException;
+import static org.wso2.carbon.identity.configuration.mgt.core.util.ConfigurationUtils.handleServerException;
 
 /**
  * This is a wrapper data access object to the default data access object to provide caching functionalities.
@@ -48,15 +67,36 @@ import static org.wso2.carbon.identity.configuration.mgt.core.util.Configuration
 public class CachedBackedConfigurationDAO implements ConfigurationDAO {
 
     private static final Log log = LogFactory.getLog(CachedBackedConfigurationDAO.class);
+    private static final String TENANT_RESOURCES_VERSION_SCOPE = "TenantResources";
+    private static final String RESOURCE_TYPES_VERSION_SCOPE = "ResourceTypes";
+    private static final String SEARCH_VERSION_SCOPE = "Search";
+    private static final String RESOURCES_BY_TYPE_KEY_PREFIX = "ResourcesByType:";
+    private static final String SEARCH_KEY_PREFIX = "Search:";
     private final ConfigurationDAO configurationDAO;
     private final ResourceByIdCache resourceByIdCache;
     private final ResourceByNameCache resourceByNameCache;
+    private final ResourceFileCache resourceFileCache;
+    private final ResourceFileStore resourceFileStore;
+    private final ResourceTypeCache resourceTypeCache;
+    private final ResourceListVersionCache resourceListVersionCache;
+    private final ResourceListCache resourceListCache;
 
     public CachedBackedConfigurationDAO(ConfigurationDAO configurationDAO) {
     
+        this(configurationDAO, ResourceFileStore.getInstance(), ResourceListCache.getInstance());
+    }
+
+    CachedBackedConfigurationDAO(ConfigurationDAO configurationDAO, ResourceFileStore resourceFileStore,
+                                 ResourceListCache resourceListCache) {
+
         this.configurationDAO = configurationDAO;
         this.resourceByIdCache = ResourceByIdCache.getInstance();
         this.resourceByNameCache = ResourceByNameCache.getInstance();
+        this.resourceFileCache = ResourceFileCache.getInstance();
+        this.resourceFileStore = resourceFileStore;
+        this.resourceTypeCache = ResourceTypeCache.getInstance();
+        this.resourceListVersionCache = ResourceListVersionCache.getInstance();
+        this.resourceListCache = resourceListCache;
     }
 
     @Override
@@ -68,7 +108,28 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
     @Override
     public Resources getTenantResources(Condition condition) throws ConfigurationManagementException {
 
-        return configurationDAO.getTenantResources(condition);
+        String searchKey = resourceListCache.isEnabled() ? getSearchKey(condition) : null;
+        if (searchKey == null) {
+            return configurationDAO.getTenantResources(condition);
+        }
+        // Searches may span tenants, hence any change to a resource invalidates all search results.
+        String version = getResourceListVersion(SEARCH_VERSION_SCOPE,
+                MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        List<Resource> resourceList = resourceListCache.get(searchKey, version);
+        if (resourceList != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache hit for resource search. Search: " + searchKey);
+            }
+            return new Resources(resourceList);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Cache miss for resource search. Search: " + searchKey);
+        }
+        Resources resources = configurationDAO.getTenantResources(condition);
+        if (resources != null && resources.getResources() != null) {
+            resourceListCache.put(searchKey, version, resources.getResources());
+        }
+        return resources;
     }
 
     @Override
@@ -125,23 +186,43 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
     @Override
     public void deleteResourceById(int tenantId, String resourceId) throws ConfigurationManagementException {
 
+        List<String> fileIds = getFileIdsOfResource(resourceId);
         configurationDAO.deleteResourceById(tenantId, resourceId);
         deleteCacheByResourceId(resourceId, tenantId);
+        deleteFilesFromCache(fileIds, tenantId);
+        invalidateResourceLists(tenantId);
     }
 
     @Override
     public void replaceResourceWithFiles(Resource resource) throws ConfigurationManagementException {
 
+        List<String> fileIds = getFileIdsOfResource(resource.getResourceId());
         configurationDAO.replaceResourceWithFiles(resource);
         deleteResourceFromCache(resource);
+        if (resource.getFiles() != null) {
+            for (ResourceFile file : resource.getFiles()) {
+                fileIds.add(file.getId());
+            }
+        }
+        deleteFilesFromCache(fileIds, getCurrentTenantDomain());
+        invalidateResourceLists(resource.getTenantDomain());
     }
 
     @Override
     public void deleteResourceByName(int tenantId, String resourceTypeId, String name)
             throws ConfigurationManagementException {
 
+        List<String> fileIds = new ArrayList<>();
+        if (resourceFileStore.isEnabled()) {
+            Resource resource = configurationDAO.getResourceByName(tenantId, resourceTypeId, name);
+            if (resource != null) {
+                fileIds = getFileIdsOfResource(resource.getResourceId());
+            }
+        }
         configurationDAO.deleteResourceByName(tenantId, resourceTypeId, name);
         deleteCacheByResourceByName(name, tenantId);
+        deleteFilesFromCache(fileIds, tenantId);
+        invalidateResourceLists(tenantId);
     }
 
     @Override
@@ -149,6 +230,7 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
 
         configurationDAO.addResource(resource);
         addResourceToCache(resource);
+        invalidateResourceLists(resource.getTenantDomain());
     }
 
     @Override
@@ -156,36 +238,77 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
 
         configurationDAO.replaceResource(resource);
         deleteResourceFromCache(resource);
+        invalidateResourceLists(resource.getTenantDomain());
     }
 
     @Override
     public void addResourceType(ResourceType resourceType) throws ConfigurationManagementException {
 
         configurationDAO.addResourceType(resourceType);
+        deleteResourceTypeFromCache(resourceType);
     }
 
     @Override
     public void replaceResourceType(ResourceType resourceType) throws ConfigurationManagementException {
 
+        // The existing name is needed to remove the resource type from the cache by name on all nodes.
+        ResourceType existingResourceType = configurationDAO.getResourceTypeById(resourceType.getId());
         configurationDAO.replaceResourceType(resourceType);
+        deleteResourceTypeFromCache(existingResourceType);
+        deleteResourceTypeFromCache(resourceType);
+        invalidateResourceTypes();
     }
 
     @Override
     public ResourceType getResourceTypeByName(String resourceTypeName) throws ConfigurationManagementException {
 
-        return configurationDAO.getResourceTypeByName(resourceTypeName);
+        ResourceType resourceType = getResourceTypeFromCache(new ResourceTypeByNameCacheKey(resourceTypeName));
+        if (resourceType != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache hit for resource type by it's name. Resource type name: " + resourceTypeName);
+            }
+            return resourceType;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Cache miss for resource type by it's name. Resource type name: " + resourceTypeName);
+        }
+        resourceType = configurationDAO.getResourceTypeByName(resourceTypeName);
+        addResourceTypeToCache(resourceType);
+        return resourceType;
     }
 
     @Override
     public ResourceType getResourceTypeById(String resourceTypeId) throws ConfigurationManagementException {
 
-        return configurationDAO.getResourceTypeById(resourceTypeId);
+        ResourceType resourceType = getResourceTypeFromCache(new ResourceTypeByIdCacheKey(resourceTypeId));
+        if (resourceType != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache hit for resource type by it's id. Resource type id: " + resourceTypeId);
+            }
+            return resourceType;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Cache miss for resource type by it's id. Resource type id: " + resourceTypeId);
+        }
+        resourceType = configurationDAO.getResourceTypeById(resourceTypeId);
+        addResourceTypeToCache(resourceType);
+        return resourceType;
     }
 
     @Override
     public void deleteResourceTypeByName(String resourceTypeName) throws ConfigurationManagementException {
 
+        // The id is needed to remove the resource type from the cache by id on all nodes.
+        ResourceType resourceType = configurationDAO.getResourceTypeByName(resourceTypeName);
         configurationDAO.deleteResourceTypeByName(resourceTypeName);
+        resourceTypeCache.clearCacheEntry(new ResourceTypeByNameCacheKey(resourceTypeName));
+        deleteResourceTypeFromCache(resourceType);
+        if (resourceFileStore.isEnabled()) {
+            // The files of the resources of the type are deleted with them in every tenant, which may be done by the
+            // database without the resources passing through this cache, hence all the file cache entries are removed.
+            resourceFileCache.clear();
+        }
+        invalidateResourceTypes();
     }
 
     @Override
@@ -199,6 +322,7 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
             throws ConfigurationManagementException {
 
         configurationDAO.updateAttribute(attributeId, resourceId, attribute);
+        invalidateResourceLists(getCurrentTenantDomain());
     }
 
     @Override
@@ -206,6 +330,7 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
             throws ConfigurationManagementException {
 
         configurationDAO.addAttribute(attributeId, resourceId, attribute);
+        invalidateResourceLists(getCurrentTenantDomain());
     }
 
     @Override
@@ -213,6 +338,7 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
             throws ConfigurationManagementException {
 
         configurationDAO.replaceAttribute(attributeId, resourceId, attribute);
+        invalidateResourceLists(getCurrentTenantDomain());
     }
 
     @Override
@@ -220,6 +346,7 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
             throws ConfigurationManagementException {
 
         configurationDAO.deleteAttribute(attributeId, resourceId, attributeKey);
+        invalidateResourceLists(getCurrentTenantDomain());
     }
 
     @Override
@@ -227,13 +354,61 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
             throws ConfigurationManagementException {
 
         configurationDAO.addFile(fileId, resourceId, fileName, fileStream);
+        invalidateResourceLists(getCurrentTenantDomain());
     }
 
     @Override
     public InputStream getFileById(String resourceType, String resourceName, String fileId)
             throws ConfigurationManagementException {
 
-        return configurationDAO.getFileById(resourceType, resourceName, fileId);
+        if (!resourceFileStore.isEnabled()) {
+            return configurationDAO.getFileById(resourceType, resourceName, fileId);
+        }
+        ResourceFileCacheKey resourceFileCacheKey = new ResourceFileCacheKey(fileId, getCurrentTenantDomain());
+        ResourceFileCacheEntry resourceFileCacheEntry = resourceFileCache.getValueFromCache(resourceFileCacheKey);
+        if (resourceFileCacheEntry != null && resourceFileCacheEntry.isFileOf(resourceType, resourceName)) {
+            InputStream fileStream = resourceFileStore.read(resourceFileCacheEntry.getContentHash());
+            if (fileStream != null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Cache hit for resource file by it's id. File id: " + fileId);
+                }
+                return fileStream;
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Cache miss for resource file by it's id. File id: " + fileId);
+        }
+
+        InputStream fileStream = configurationDAO.getFileById(resourceType, resourceName, fileId);
+        if (fileStream == null) {
+            return null;
+        }
+        try {
+            ResourceFileStore.StoredContent storedContent = resourceFileStore.store(fileStream);
+            if (storedContent.isStored()) {
+                resourceFileCache.addToCache(resourceFileCacheKey, new ResourceFileCacheEntry(resourceType,
+                        resourceName, storedContent.getContentHash()));
+            }
+            return storedContent.getStream();
+        } catch (IOException e) {
+            throw handleServerException(ConfigurationConstants.ErrorMessages.ERROR_CODE_GET_FILE, fileId, e);
+        }
+    }
+
+    @Override
+    public String getFileContentHash(String resourceType, String resourceName, String fileId)
+            throws ConfigurationManagementException {
+
+        if (!resourceFileStore.isEnabled()) {
+            return configurationDAO.getFileContentHash(resourceType, resourceName, fileId);
+        }
+        ResourceFileCacheEntry resourceFileCacheEntry = resourceFileCache.getValueFromCache(
+                new ResourceFileCacheKey(fileId, getCurrentTenantDomain()));
+        if (resourceFileCacheEntry != null && resourceFileCacheEntry.isFileOf(resourceType, resourceName) &&
+                resourceFileStore.contains(resourceFileCacheEntry.getContentHash())) {
+            return resourceFileCacheEntry.getContentHash();
+        }
+        return null;
     }
 
     @Override
@@ -255,18 +430,49 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
             throws ConfigurationManagementException {
 
         configurationDAO.deleteFileById(resourceType, resourceName, fileId);
+        if (resourceFileStore.isEnabled()) {
+            resourceFileCache.clearCacheEntry(new ResourceFileCacheKey(fileId, getCurrentTenantDomain()));
+        }
+        invalidateResourceLists(getCurrentTenantDomain());
     }
 
     @Override
     public void deleteFiles(String resourceId) throws ConfigurationManagementException {
 
+        List<String> fileIds = getFileIdsOfResource(resourceId);
         configurationDAO.deleteFiles(resourceId);
+        deleteFilesFromCache(fileIds, getCurrentTenantDomain());
+        invalidateResourceLists(getCurrentTenantDomain());
     }
 
     @Override
     public List getResourcesByType(int tenantId, String resourceTypeId) throws ConfigurationManagementException {
 
-        return configurationDAO.getResourcesByType(tenantId, resourceTypeId);
+        if (!resourceListCache.isEnabled()) {
+            return configurationDAO.getResourcesByType(tenantId, resourceTypeId);
+        }
+        String tenantDomain = getTenantDomain(tenantId);
+        String key = RESOURCES_BY_TYPE_KEY_PREFIX + tenantDomain + ":" + resourceTypeId;
+        // Resources hold the name of their type, hence changes to resource types invalidate the lists too.
+        String version = getResourceListVersion(TENANT_RESOURCES_VERSION_SCOPE, tenantDomain) + ":" +
+                getResourceListVersion(RESOURCE_TYPES_VERSION_SCOPE, MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        List<Resource> resourceList = resourceListCache.get(key, version);
+        if (resourceList != null) {
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Cache hit for resources by type. Resource type id: %s, Tenant domain: %s",
+                        resourceTypeId, tenantDomain));
+            }
+            return resourceList;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Cache miss for resources by type. Resource type id: %s, Tenant domain: %s",
+                    resourceTypeId, tenantDomain));
+        }
+        List<Resource> resources = configurationDAO.getResourcesByType(tenantId, resourceTypeId);
+        if (resources != null) {
+            resourceListCache.put(key, version, resources);
+        }
+        return resources;
     }
 
     @Override
@@ -285,38 +491,81 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
             }
             throw handleClientException(ConfigurationConstants.ErrorMessages.ERROR_CODE_RESOURCES_DOES_NOT_EXISTS);
         }
+        List<String> fileIds = new ArrayList<>();
+        if (resourceFileStore.isEnabled()) {
+            for (ResourceFile file : configurationDAO.getFilesByResourceType(resourceTypeId, tenantId)) {
+                fileIds.add(file.getId());
+            }
+        }
         configurationDAO.deleteResourcesByType(tenantId, resourceTypeId);
         for (Resource resource : resourceList) {
             deleteResourceFromCache(resource);
         }
+        deleteFilesFromCache(fileIds, tenantId);
+        invalidateResourceLists(tenantId);
     }
 
     private Resource getResourceFromCacheById(String resourceId, int tenantId)
             throws ConfigurationManagementException {
 
-        try {
-            String tenantDomain = ConfigurationManagerComponentDataHolder.getInstance().getRealmService()
-                    .getTenantManager().getDomain(tenantId);
-            return getResourceFromCacheById(resourceId, tenantDomain);
-        } catch (UserStoreException e) {
-            throw new ConfigurationManagementException("Error when setting tenant domain. ",
-                    ConfigurationConstants.ErrorMessages.ERROR_CODE_UNEXPECTED.getCode(), e);
-        }
+        return getResourceFromCacheById(resourceId, getTenantDomain(tenantId));
     }
 
     private Resource getResourceFromCacheByName(String resourceName, int tenantId)
             throws ConfigurationManagementException {
 
+        return getResourceFromCacheByName(resourceName, getTenantDomain(tenantId));
+    }
+
+    private String getTenantDomain(int tenantId) throws ConfigurationManagementException {
+
         try {
-            String tenantDomain = ConfigurationManagerComponentDataHolder.getInstance().getRealmService()
-                    .getTenantManager().getDomain(tenantId);
-            return getResourceFromCacheByName(resourceName, tenantDomain);
+            return ConfigurationManagerComponentDataHolder.getInstance().getRealmService().getTenantManager()
+                    .getDomain(tenantId);
         } catch (UserStoreException e) {
             throw new ConfigurationManagementException("Error when setting tenant domain. ",
                     ConfigurationConstants.ErrorMessages.ERROR_CODE_UNEXPECTED.getCode(), e);
         }
     }
 
+    private String getCurrentTenantDomain() {
+
+        return PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+    }
+
+    /**
+     * Get the ids of the files of the resource, to remove the files from the file cache once the resource is
+     * changed. The files are not looked up if the file cache is disabled.
+     */
+    private List<String> getFileIdsOfResource(String resourceId) throws ConfigurationManagementException {
+
+        List<String> fileIds = new ArrayList<>();
+        if (resourceFileStore.isEnabled() && resourceId != null) {
+            for (ResourceFile file : configurationDAO.getFiles(resourceId, null, null)) {
+                fileIds.add(file.getId());
+            }
+        }
+        return fileIds;
+    }
+
+    private void deleteFilesFromCache(List<String> fileIds, int tenantId) throws ConfigurationManagementException {
+
+        if (!fileIds.isEmpty()) {
+            deleteFilesFromCache(fileIds, getTenantDomain(tenantId));
+        }
+    }
+
+    private void deleteFilesFromCache(List<String> fileIds, String tenantDomain) {
+
+        for (String fileId : fileIds) {
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Resource file cache entry deleted. File id: %s, Tenant domain: %s", fileId,
+                        tenantDomain));
+            }
+            resourceFileCache.clearCacheEntry(new ResourceFileCacheKey(fileId, tenantDomain));
+        }
+    }
+
     private Resource getResourceFromCacheById(String resourceId, String tenantDomain)
             throws ConfigurationManagementException {
 
@@ -407,4 +656,119 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
         }
         deleteResourceFromCache(resource);
     }
+
+    private ResourceType getResourceTypeFromCache(ResourceCacheKey resourceTypeCacheKey) {
+
+        ResourceTypeCacheEntry resourceTypeCacheEntry = resourceTypeCache.getValueFromCache(resourceTypeCacheKey);
+        return resourceTypeCacheEntry != null ? resourceTypeCacheEntry.getResourceType() : null;
+    }
+
+    private void addResourceTypeToCache(ResourceType resourceType) {
+
+        if (resourceType == null) {
+            return;
+        }
+        ResourceTypeCacheEntry resourceTypeCacheEntry = new ResourceTypeCacheEntry(resourceType);
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Resource type cache entries created. Resource type name: %s, Resource type " +
+                    "id: %s", resourceType.getName(), resourceType.getId()));
+        }
+        resourceTypeCache.addToCache(new ResourceTypeByNameCacheKey(resourceType.getName()), resourceTypeCacheEntry);
+        resourceTypeCache.addToCache(new ResourceTypeByIdCacheKey(resourceType.getId()), resourceTypeCacheEntry);
+    }
+
+    private void deleteResourceTypeFromCache(ResourceType resourceType) {
+
+        if (resourceType == null) {
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Resource type cache entries deleted. Resource type name: %s, Resource type " +
+                    "id: %s", resourceType.getName(), resourceType.getId()));
+        }
+        if (resourceType.getName() != null) {
+            resourceTypeCache.clearCacheEntry(new ResourceTypeByNameCacheKey(resourceType.getName()));
+        }
+        if (resourceType.getId() != null) {
+            resourceTypeCache.clearCacheEntry(new ResourceTypeByIdCacheKey(resourceType.getId()));
+        }
+    }
+
+    /**
+     * Get the current version of a set of resources. A new version is created if the set has no version on this
+     * node, e.g. after the version was invalidated.
+     */
+    private String getResourceListVersion(String scope, String tenantDomain) {
+
+        ResourceListVersionCacheKey resourceListVersionCacheKey = new ResourceListVersionCacheKey(scope,
+                tenantDomain);
+        ResourceListVersionCacheEntry resourceListVersionCacheEntry =
+                resourceListVersionCache.getValueFromCache(resourceListVersionCacheKey);
+        if (resourceListVersionCacheEntry != null) {
+            return resourceListVersionCacheEntry.getVersion();
+        }
+        String version = UUID.randomUUID().toString();
+        resourceListVersionCache.addToCache(resourceListVersionCacheKey, new ResourceListVersionCacheEntry(version));
+        return version;
+    }
+
+    private void invalidateResourceLists(int tenantId) throws ConfigurationManagementException {
+
+        if (resourceListCache.isEnabled()) {
+            invalidateResourceLists(getTenantDomain(tenantId));
+        }
+    }
+
+    /**
+     * Invalidate the cached resource lists of the tenant and all cached search results, on all nodes. Must be called
+     * after the change to the resources is committed. The tenant of the current flow is used if no tenant is given.
+     */
+    private void invalidateResourceLists(String tenantDomain) {
+
+        if (!resourceListCache.isEnabled()) {
+            return;
+        }
+        resourceListVersionCache.clearCacheEntry(new ResourceListVersionCacheKey(TENANT_RESOURCES_VERSION_SCOPE,
+                tenantDomain != null ? tenantDomain : getCurrentTenantDomain()));
+        resourceListVersionCache.clearCacheEntry(new ResourceListVersionCacheKey(SEARCH_VERSION_SCOPE,
+                MultitenantConstants.SUPER_TENANT_DOMAIN_NAME));
+    }
+
+    private void invalidateResourceTypes() {
+
+        if (!resourceListCache.isEnabled()) {
+            return;
+        }
+        resourceListVersionCache.clearCacheEntry(new ResourceListVersionCacheKey(RESOURCE_TYPES_VERSION_SCOPE,
+                MultitenantConstants.SUPER_TENANT_DOMAIN_NAME));
+        resourceListVersionCache.clearCacheEntry(new ResourceListVersionCacheKey(SEARCH_VERSION_SCOPE,
+                MultitenantConstants.SUPER_TENANT_DOMAIN_NAME));
+    }
+
+    /**
+     * Build the cache key of a search from the query and the data the condition is built into. Returns null for
+     * invalid conditions, which are left to the underlying data access object to report.
+     */
+    private String getSearchKey(Condition condition) {
+
+        if (condition == null) {
+            return null;
+        }
+        try {
+            PlaceholderSQL placeholderSQL = condition.buildQuery(
+                    new PrimitiveConditionValidator(new ResourceSearchBean()));
+            StringBuilder searchKey = new StringBuilder(SEARCH_KEY_PREFIX).append(placeholderSQL.getQuery());
+            for (Object data : placeholderSQL.getData()) {
+                String value = String.valueOf(data);
+                searchKey.append('|').append(data == null ? "null" : data.getClass().getSimpleName())
+                        .append(':').append(value.length()).append(':').append(value);
+            }
+            return searchKey.toString();
+        } catch (PrimitiveConditionValidationException | RuntimeException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Search condition could not be built into a cache key. Search is not cached.", e);
+            }
+            return null;
+        }
+    }
 }
@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.configuration.mgt.core.dao.impl;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.utils.CarbonUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.DEFAULT_FILE_CACHE_MAX_FILE_SIZE;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.DEFAULT_FILE_CACHE_MAX_SIZE;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.FILE_CACHE_DIRECTORY;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.FILE_CACHE_ENABLE;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.FILE_CACHE_MAX_FILE_SIZE;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.FILE_CACHE_MAX_SIZE;
+
+/**
+ * Node local store of the content of configuration resource files.
+ * <p>
+ * Content is stored in a file named by the SHA-256 hash of the content, hence the stored content of a hash never
+ * changes and the hash can be used as the entity tag of the file. Which hash a resource file currently has is kept in
+ * the {@link org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceFileCache}, so that updates are seen by all
+ * nodes. Stored content is read through a {@link FileChannel}. The least recently read content is removed once the
+ * total size of the store exceeds the configured limit. Content larger than the configured file size limit is not
+ * kept, and is served from a temporary file which is removed when the returned stream is closed.
+ */
+class ResourceFileStore {
+
+    private static final Log log = LogFactory.getLog(ResourceFileStore.class);
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String SPOOL_FILE_PREFIX = "spool-";
+    private static final Pattern CONTENT_HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Path directory;
+    private final long maxSize;
+    private final long maxFileSize;
+    // Stored content hash to content size, in least recently read order. Guarded by itself.
+    private final Map<String, Long> storedFiles = new LinkedHashMap<>(16, 0.75f, true);
+    private long storedSize;
+
+    /**
+     * @param directory   Directory to store the content in. The store is disabled if the directory is null.
+     * @param maxSize     Maximum total size of the stored content, in bytes.
+     * @param maxFileSize Maximum size of the content of a single file which is kept in the store, in bytes.
+     */
+    ResourceFileStore(Path directory, long maxSize, long maxFileSize) {
+
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.maxFileSize = Math.min(maxFileSize, maxSize);
+    }
+
+    static ResourceFileStore getInstance() {
+
+        return Holder.INSTANCE;
+    }
+
+    boolean isEnabled() {
+
+        return directory != null;
+    }
+
+    /**
+     * Open the stored content of the given hash.
+     *
+     * @param contentHash Content hash.
+     * @return Stream of the content, or null if the content is not stored on this node.
+     */
+    InputStream read(String contentHash) {
+
+        synchronized (storedFiles) {
+            if (storedFiles.get(contentHash) == null) {
+                return null;
+            }
+        }
+        try {
+            return Channels.newInputStream(FileChannel.open(resolve(contentHash), StandardOpenOption.READ));
+        } catch (NoSuchFileException e) {
+            remove(contentHash);
+            return null;
+        } catch (IOException e) {
+            log.warn("Error while reading the stored resource file content: " + contentHash, e);
+            return null;
+        }
+    }
+
+    /**
+     * Check whether the content of the given hash is stored on this node.
+     *
+     * @param contentHash Content hash.
+     * @return True if the content is stored.
+     */
+    boolean contains(String contentHash) {
+
+        synchronized (storedFiles) {
+            return storedFiles.containsKey(contentHash);
+        }
+    }
+
+    /**
+     * Store the given content. The given stream is read fully and closed.
+     *
+     * @param content Content to be stored.
+     * @return Stored content, with a stream to read the content from.
+     * @throws IOException If the content could not be read or written to the disk.
+     */
+    StoredContent store(InputStream content) throws IOException {
+
+        Path spoolFile = Files.createTempFile(directory, SPOOL_FILE_PREFIX, null);
+        String contentHash;
+        long contentSize = 0;
+        try {
+            MessageDigest digest = newDigest();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (InputStream input = content;
+                 FileChannel output = FileChannel.open(spoolFile, StandardOpenOption.WRITE)) {
+                int read;
+                while ((read = input.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                    ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+                    while (byteBuffer.hasRemaining()) {
+                        output.write(byteBuffer);
+                    }
+                    contentSize += read;
+                }
+            }
+            contentHash = toHex(digest.digest());
+            if (contentSize <= maxFileSize) {
+                InputStream stream = openStoredContent(contentHash, spoolFile);
+                if (stream != null) {
+                    add(contentHash, contentSize);
+                    return new StoredContent(contentHash, stream, true);
+                }
+                if (log.isDebugEnabled()) {
+                    log.debug("Stored resource file content: " + contentHash + " was removed while being stored. " +
+                            "Content is served from the spool file.");
+                }
+            } else if (log.isDebugEnabled()) {
+                log.debug("Resource file content: " + contentHash + " of " + contentSize + " bytes exceeds the " +
+                        "maximum file size of the file cache. Content is not kept in the cache.");
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(spoolFile);
+            throw e;
+        }
+        InputStream stream = Channels.newInputStream(FileChannel.open(spoolFile, StandardOpenOption.READ,
+                StandardOpenOption.DELETE_ON_CLOSE));
+        return new StoredContent(contentHash, stream, false);
+    }
+
+    /**
+     * Move the spool file to the stored file of its content hash, or use the stored file if the same content is
+     * already stored, possibly for another file, and open the stored file.
+     *
+     * @param contentHash Content hash.
+     * @param spoolFile   Spool file with the content.
+     * @return Stream of the stored content, or null if the already stored content was removed concurrently, in which
+     * case the spool file is kept.
+     * @throws IOException If the spool file could not be moved or the stored file could not be opened.
+     */
+    private InputStream openStoredContent(String contentHash, Path spoolFile) throws IOException {
+
+        Path storedFile = resolve(contentHash);
+        if (!Files.exists(storedFile)) {
+            try {
+                Files.move(spoolFile, storedFile, StandardCopyOption.ATOMIC_MOVE);
+                return Channels.newInputStream(FileChannel.open(storedFile, StandardOpenOption.READ));
+            } catch (FileAlreadyExistsException e) {
+                // The same content was stored concurrently.
+            }
+        }
+        InputStream stream;
+        try {
+            // Open the stored file before the spool file is deleted, so that the content is not lost if the stored
+            // file is evicted in between.
+            stream = Channels.newInputStream(FileChannel.open(storedFile, StandardOpenOption.READ));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        deleteQuietly(spoolFile);
+        return stream;
+    }
+
+    /**
+     * Remove all stored content.
+     */
+    void clear() {
+
+        List<String> contentHashes;
+        synchronized (storedFiles) {
+            contentHashes = new ArrayList<>(storedFiles.keySet());
+            storedFiles.clear();
+            storedSize = 0;
+        }
+        for (String contentHash : contentHashes) {
+            deleteQuietly(resolve(contentHash));
+        }
+    }
+
+    long getStoredSize() {
+
+        synchronized (storedFiles) {
+            return storedSize;
+        }
+    }
+
+    private void add(String contentHash, long contentSize) {
+
+        List<String> evictedHashes = new ArrayList<>();
+        synchronized (storedFiles) {
+            Long previousSize = storedFiles.put(contentHash, contentSize);
+            storedSize += contentSize - (previousSize != null ? previousSize : 0);
+            Iterator<Map.Entry<String, Long>> iterator = storedFiles.entrySet().iterator();
+            while (storedSize > maxSize && iterator.hasNext()) {
+                Map.Entry<String, Long> eldest = iterator.next();
+                if (eldest.getKey().equals(contentHash)) {
+                    continue;
+                }
+                iterator.remove();
+                storedSize -= eldest.getValue();
+                evictedHashes.add(eldest.getKey());
+            }
+        }
+        // Streams already opened on evicted content can still be read till they are closed.
+        for (String evictedHash : evictedHashes) {
+            deleteQuietly(resolve(evictedHash));
+        }
+    }
+
+    private void remove(String contentHash) {
+
+        synchronized (storedFiles) {
+            Long contentSize = storedFiles.remove(contentHash);
+            if (contentSize != null) {
+                storedSize -= contentSize;
+            }
+        }
+    }
+
+    private Path resolve(String contentHash) {
+
+        return directory.resolve(contentHash);
+    }
+
+    private static MessageDigest newDigest() {
+
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " is not supported by the JVM.", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    private static void deleteQuietly(Path file) {
+
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error while deleting the resource file cache file: " + file, e);
+            }
+        }
+    }
+
+    /**
+     * @param file File in the store directory.
+     * @return True if the file is stored content or a spool file of the store.
+     */
+    static boolean isStoreFile(Path file) {
+
+        String fileName = file.getFileName().toString();
+        return CONTENT_HASH_PATTERN.matcher(fileName).matches() || fileName.startsWith(SPOOL_FILE_PREFIX);
+    }
+
+    private static ResourceFileStore createStore() {
+
+        if (!IdentityUtil.getPropertyAsBoolean(FILE_CACHE_ENABLE, false)) {
+            return new ResourceFileStore(null, 0, 0);
+        }
+        String configuredDirectory = IdentityUtil.getProperty(FILE_CACHE_DIRECTORY);
+        Path directory = StringUtils.isNotBlank(configuredDirectory) ? Paths.get(configuredDirectory.trim()) :
+                Paths.get(CarbonUtils.getCarbonHome(), "tmp", "configuration-store-files");
+        try {
+            Files.createDirectories(directory);
+            // Content stored by a previous run is not referenced by the cluster cache anymore. Only the files written
+            // by the store are removed, as the configured directory may hold other files.
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, ResourceFileStore::isStoreFile)) {
+                for (Path file : files) {
+                    if (Files.isRegularFile(file)) {
+                        deleteQuietly(file);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.error("Error while preparing the resource file cache directory: " + directory + ". Resource files " +
+                    "will be read from the database.", e);
+            return new ResourceFileStore(null, 0, 0);
+        }
+        return new ResourceFileStore(directory,
+                IdentityUtil.getPropertyAsLong(FILE_CACHE_MAX_SIZE, DEFAULT_FILE_CACHE_MAX_SIZE),
+                IdentityUtil.getPropertyAsLong(FILE_CACHE_MAX_FILE_SIZE, DEFAULT_FILE_CACHE_MAX_FILE_SIZE));
+    }
+
+    /**
+     * Content read into the store.
+     */
+    static class StoredContent {
+
+        private final String contentHash;
+        private final InputStream stream;
+        private final boolean stored;
+
+        StoredContent(String contentHash, InputStream stream, boolean stored) {
+
+            this.contentHash = contentHash;
+            this.stream = stream;
+            this.stored = stored;
+        }
+
+        String getContentHash() {
+
+            return contentHash;
+        }
+
+        InputStream getStream() {
+
+            return stream;
+        }
+
+        /**
+         * @return True if the content is kept in the store after the stream is closed.
+         */
+        boolean isStored() {
+
+            return stored;
+        }
+    }
+
+    /**
+     * Creates the shared store on first use, after the identity configuration is available.
+     */
+    private static final class Holder {
+
+        private static final ResourceFileStore INSTANCE = createStore();
+    }
+}
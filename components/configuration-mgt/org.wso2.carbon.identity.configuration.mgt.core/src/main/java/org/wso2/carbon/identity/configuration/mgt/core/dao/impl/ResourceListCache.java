@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.configuration.mgt.core.dao.impl;
+
+import org.wso2.carbon.identity.configuration.mgt.core.model.Resource;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.DEFAULT_RESOURCE_LIST_CACHE_MAX_ENTRIES;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.RESOURCE_LIST_CACHE_ENABLE;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.RESOURCE_LIST_CACHE_MAX_ENTRIES;
+
+/**
+ * Node local, least recently used cache of resource lists, such as the resources of a type in a tenant and the results
+ * of resource searches.
+ * <p>
+ * Each list is stored together with the version of the resources it was read with. A list is returned only for the
+ * same version, hence lists are invalidated by changing the version instead of by removing them from each node. The
+ * versions are kept in the {@link org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceListVersionCache}.
+ */
+class ResourceListCache {
+
+    private final int maxEntries;
+    // Guarded by itself.
+    private final Map<String, VersionedResources> resourceLists;
+
+    /**
+     * @param maxEntries Maximum number of cached lists. The cache is disabled if the value is 0 or less.
+     */
+    ResourceListCache(int maxEntries) {
+
+        this.maxEntries = maxEntries;
+        this.resourceLists = new LinkedHashMap<String, VersionedResources>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1953614281306517522L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VersionedResources> eldest) {
+
+                return size() > ResourceListCache.this.maxEntries;
+            }
+        };
+    }
+
+    static ResourceListCache getInstance() {
+
+        return Holder.INSTANCE;
+    }
+
+    boolean isEnabled() {
+
+        return maxEntries > 0;
+    }
+
+    /**
+     * Get the resources cached for the given key and version.
+     *
+     * @param key     Key of the list.
+     * @param version Current version of the resources of the list.
+     * @return A copy of the cached list, or null if the list is not cached for the given version.
+     */
+    List<Resource> get(String key, String version) {
+
+        VersionedResources versionedResources;
+        synchronized (resourceLists) {
+            versionedResources = resourceLists.get(key);
+        }
+        if (versionedResources == null || !versionedResources.version.equals(version)) {
+            return null;
+        }
+        return new ArrayList<>(versionedResources.resources);
+    }
+
+    /**
+     * Cache the resources read with the given version.
+     *
+     * @param key       Key of the list.
+     * @param version   Version of the resources the list was read with.
+     * @param resources Resources.
+     */
+    void put(String key, String version, List<Resource> resources) {
+
+        if (!isEnabled()) {
+            return;
+        }
+        VersionedResources versionedResources = new VersionedResources(version, new ArrayList<>(resources));
+        synchronized (resourceLists) {
+            resourceLists.put(key, versionedResources);
+        }
+    }
+
+    void clear() {
+
+        synchronized (resourceLists) {
+            resourceLists.clear();
+        }
+    }
+
+    int size() {
+
+        synchronized (resourceLists) {
+            return resourceLists.size();
+        }
+    }
+
+    private static ResourceListCache createCache() {
+
+        if (!IdentityUtil.getPropertyAsBoolean(RESOURCE_LIST_CACHE_ENABLE, false)) {
+            return new ResourceListCache(0);
+        }
+        return new ResourceListCache(IdentityUtil.getPropertyAsInt(RESOURCE_LIST_CACHE_MAX_ENTRIES,
+                DEFAULT_RESOURCE_LIST_CACHE_MAX_ENTRIES));
+    }
+
+    /**
+     * Resources of a list together with the version they were read with.
+     */
+    private static final class VersionedResources {
+
+        private final String version;
+        private final List<Resource> resources;
+
+        VersionedResources(String version, List<Resource> resources) {
+
+            this.version = version;
+            this.resources = resources;
+        }
+    }
+
+    /**
+     * Creates the shared cache on first use, after the identity configuration is available.
+     */
+    private static final class Holder {
+
+        private static final ResourceListCache INSTANCE = createCache();
+    }
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.configuration.mgt.core.dao.impl;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.application.common.cache.BaseCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByIdCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByNameCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceFileCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceListVersionCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceTypeCache;
+import org.wso2.carbon.identity.configuration.mgt.core.dao.ConfigurationDAO;
+import org.wso2.carbon.identity.configuration.mgt.core.internal.ConfigurationManagerComponentDataHolder;
+import org.wso2.carbon.identity.configuration.mgt.core.model.Resource;
+import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceFile;
+import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceType;
+import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
+import org.wso2.carbon.identity.configuration.mgt.core.search.Condition;
+import org.wso2.carbon.user.core.service.RealmService;
+import org.wso2.carbon.user.core.tenant.TenantManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.wso2.carbon.base.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+import static org.wso2.carbon.base.MultitenantConstants.SUPER_TENANT_ID;
+import static org.wso2.carbon.identity.configuration.mgt.core.util.TestUtils.getSampleSearchCondition;
+
+/**
+ * Unit tests for the caching of {@link CachedBackedConfigurationDAO}. The cluster caches are replaced with in memory
+ * maps.
+ */
+public class CachedBackedConfigurationDAOTest {
+
+    private static final String RESOURCE_TYPE = "publisher";
+    private static final String RESOURCE_NAME = "SMSPublisher";
+    private static final String RESOURCE_ID = "resource-id";
+    private static final String RESOURCE_TYPE_ID = "resource-type-id";
+    private static final String FILE_ID = "file-id";
+    private static final String FILE_CONTENT = "file content";
+
+    private final List<MockedStatic<?>> mockedCaches = new ArrayList<>();
+    private MockedStatic<PrivilegedCarbonContext> privilegedCarbonContext;
+    private Path directory;
+    private ResourceFileStore resourceFileStore;
+    private ConfigurationDAO configurationDAO;
+    private CachedBackedConfigurationDAO cachedBackedConfigurationDAO;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        mockCache(ResourceByIdCache.class, ResourceByIdCache::getInstance);
+        mockCache(ResourceByNameCache.class, ResourceByNameCache::getInstance);
+        mockCache(ResourceFileCache.class, ResourceFileCache::getInstance);
+        mockCache(ResourceTypeCache.class, ResourceTypeCache::getInstance);
+        mockCache(ResourceListVersionCache.class, ResourceListVersionCache::getInstance);
+
+        PrivilegedCarbonContext carbonContext = mock(PrivilegedCarbonContext.class);
+        when(carbonContext.getTenantDomain()).thenReturn(SUPER_TENANT_DOMAIN_NAME);
+        privilegedCarbonContext = mockStatic(PrivilegedCarbonContext.class);
+        privilegedCarbonContext.when(PrivilegedCarbonContext::getThreadLocalCarbonContext).thenReturn(carbonContext);
+
+        RealmService realmService = mock(RealmService.class);
+        TenantManager tenantManager = mock(TenantManager.class);
+        when(realmService.getTenantManager()).thenReturn(tenantManager);
+        when(tenantManager.getDomain(anyInt())).thenReturn(SUPER_TENANT_DOMAIN_NAME);
+        ConfigurationManagerComponentDataHolder.getInstance().setRealmService(realmService);
+
+        directory = Files.createTempDirectory("configuration-store-files");
+        resourceFileStore = new ResourceFileStore(directory, 1024, 1024);
+        configurationDAO = mock(ConfigurationDAO.class);
+        when(configurationDAO.getFileById(anyString(), anyString(), anyString())).thenAnswer(invocation ->
+                new ByteArrayInputStream(FILE_CONTENT.getBytes(StandardCharsets.UTF_8)));
+        cachedBackedConfigurationDAO = new CachedBackedConfigurationDAO(configurationDAO, resourceFileStore,
+                new ResourceListCache(10));
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+
+        for (MockedStatic<?> mockedCache : mockedCaches) {
+            mockedCache.close();
+        }
+        mockedCaches.clear();
+        privilegedCarbonContext.close();
+        resourceFileStore.clear();
+        Files.deleteIfExists(directory);
+    }
+
+    @Test
+    public void testGetFileByIdIsServedFromStore() throws Exception {
+
+        assertEquals(readFile(RESOURCE_NAME), FILE_CONTENT);
+        assertEquals(readFile(RESOURCE_NAME), FILE_CONTENT);
+
+        verify(configurationDAO, times(1)).getFileById(RESOURCE_TYPE, RESOURCE_NAME, FILE_ID);
+        assertNotNull(cachedBackedConfigurationDAO.getFileContentHash(RESOURCE_TYPE, RESOURCE_NAME, FILE_ID));
+    }
+
+    @Test
+    public void testGetFileByIdOfAnotherResourceIsNotServedFromStore() throws Exception {
+
+        assertEquals(readFile(RESOURCE_NAME), FILE_CONTENT);
+        assertEquals(readFile("EmailPublisher"), FILE_CONTENT);
+
+        verify(configurationDAO, times(1)).getFileById(RESOURCE_TYPE, RESOURCE_NAME, FILE_ID);
+        verify(configurationDAO, times(1)).getFileById(RESOURCE_TYPE, "EmailPublisher", FILE_ID);
+        assertNull(cachedBackedConfigurationDAO.getFileContentHash(RESOURCE_TYPE, "OtherPublisher", FILE_ID));
+    }
+
+    @Test
+    public void testDeleteFileByIdInvalidatesFile() throws Exception {
+
+        readFile(RESOURCE_NAME);
+        cachedBackedConfigurationDAO.deleteFileById(RESOURCE_TYPE, RESOURCE_NAME, FILE_ID);
+        readFile(RESOURCE_NAME);
+
+        verify(configurationDAO, times(2)).getFileById(RESOURCE_TYPE, RESOURCE_NAME, FILE_ID);
+    }
+
+    @Test
+    public void testDeleteResourceByIdInvalidatesFiles() throws Exception {
+
+        when(configurationDAO.getFiles(eq(RESOURCE_ID), isNull(), isNull()))
+                .thenReturn(Collections.singletonList(new ResourceFile(FILE_ID, "file")));
+
+        readFile(RESOURCE_NAME);
+        cachedBackedConfigurationDAO.deleteResourceById(-1234, RESOURCE_ID);
+        readFile(RESOURCE_NAME);
+
+        verify(configurationDAO, times(2)).getFileById(RESOURCE_TYPE, RESOURCE_NAME, FILE_ID);
+    }
+
+    @Test
+    public void testDeleteResourceTypeByNameInvalidatesFiles() throws Exception {
+
+        when(configurationDAO.getResourceTypeByName(RESOURCE_TYPE))
+                .thenReturn(new ResourceType(RESOURCE_TYPE, RESOURCE_TYPE_ID, "description"));
+
+        readFile(RESOURCE_NAME);
+        cachedBackedConfigurationDAO.deleteResourceTypeByName(RESOURCE_TYPE);
+        assertNull(cachedBackedConfigurationDAO.getFileContentHash(RESOURCE_TYPE, RESOURCE_NAME, FILE_ID));
+        readFile(RESOURCE_NAME);
+
+        verify(configurationDAO, times(2)).getFileById(RESOURCE_TYPE, RESOURCE_NAME, FILE_ID);
+    }
+
+    @Test
+    public void testResourceTypesAndResourceListsAreServedFromCache() throws Exception {
+
+        Condition condition = mockResourceLists();
+        mockResourceType(RESOURCE_TYPE);
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(cachedBackedConfigurationDAO.getResourceTypeByName(RESOURCE_TYPE).getId(), RESOURCE_TYPE_ID);
+            assertEquals(cachedBackedConfigurationDAO.getResourceTypeById(RESOURCE_TYPE_ID).getName(), RESOURCE_TYPE);
+            assertEquals(cachedBackedConfigurationDAO.getResourcesByType(SUPER_TENANT_ID, RESOURCE_TYPE_ID).size(), 1);
+            assertEquals(cachedBackedConfigurationDAO.getTenantResources(condition).getResources().size(), 1);
+        }
+
+        verify(configurationDAO, times(1)).getResourceTypeByName(RESOURCE_TYPE);
+        verify(configurationDAO, times(0)).getResourceTypeById(RESOURCE_TYPE_ID);
+        verify(configurationDAO, times(1)).getResourcesByType(SUPER_TENANT_ID, RESOURCE_TYPE_ID);
+        verify(configurationDAO, times(1)).getTenantResources(condition);
+    }
+
+    @Test
+    public void testAddResourceInvalidatesResourceLists() throws Exception {
+
+        Condition condition = mockResourceLists();
+        cachedBackedConfigurationDAO.getResourcesByType(SUPER_TENANT_ID, RESOURCE_TYPE_ID);
+        cachedBackedConfigurationDAO.getTenantResources(condition);
+
+        cachedBackedConfigurationDAO.addResource(getResource("NewPublisher", "new-resource-id"));
+        cachedBackedConfigurationDAO.getResourcesByType(SUPER_TENANT_ID, RESOURCE_TYPE_ID);
+        cachedBackedConfigurationDAO.getTenantResources(condition);
+
+        // The tenant and search version tokens are replaced, hence the lists are read again.
+        verify(configurationDAO, times(2)).getResourcesByType(SUPER_TENANT_ID, RESOURCE_TYPE_ID);
+        verify(configurationDAO, times(2)).getTenantResources(condition);
+        // The added resource is cached.
+        assertEquals(cachedBackedConfigurationDAO.getResourceById("new-resource-id").getResourceName(),
+                "NewPublisher");
+        verify(configurationDAO, times(0)).getResourceById("new-resource-id");
+    }
+
+    @Test
+    public void testReplaceResourceTypeInvalidatesResourceTypesAndResourceLists() throws Exception {
+
+        Condition condition = mockResourceLists();
+        mockResourceType(RESOURCE_TYPE);
+        cachedBackedConfigurationDAO.getResourceTypeByName(RESOURCE_TYPE);
+        cachedBackedConfigurationDAO.getResourcesByType(SUPER_TENANT_ID, RESOURCE_TYPE_ID);
+        cachedBackedConfigurationDAO.getTenantResources(condition);
+
+        cachedBackedConfigurationDAO.replaceResourceType(
+                new ResourceType("renamedPublisher", RESOURCE_TYPE_ID, "description"));
+        mockResourceType("renamedPublisher");
+        when(configurationDAO.getResourceTypeByName(RESOURCE_TYPE)).thenReturn(null);
+
+        assertEquals(cachedBackedConfigurationDAO.getResourceTypeById(RESOURCE_TYPE_ID).getName(),
+                "renamedPublisher");
+        assertNull(cachedBackedConfigurationDAO.getResourceTypeByName(RESOURCE_TYPE));
+        cachedBackedConfigurationDAO.getResourcesByType(SUPER_TENANT_ID, RESOURCE_TYPE_ID);
+        cachedBackedConfigurationDAO.getTenantResources(condition);
+
+        // The existing resource type is read from the database once to remove both of its cache entries.
+        verify(configurationDAO, times(2)).getResourceTypeById(RESOURCE_TYPE_ID);
+        verify(configurationDAO, times(2)).getResourceTypeByName(RESOURCE_TYPE);
+        // The resource types and search version tokens are replaced, hence the lists are read again.
+        verify(configurationDAO, times(2)).getResourcesByType(SUPER_TENANT_ID, RESOURCE_TYPE_ID);
+        verify(configurationDAO, times(2)).getTenantResources(condition);
+    }
+
+    @Test
+    public void testDeleteResourceTypeByNameInvalidatesResourceTypesAndResourceLists() throws Exception {
+
+        Condition condition = mockResourceLists();
+        mockResourceType(RESOURCE_TYPE);
+        cachedBackedConfigurationDAO.getResourceTypeByName(RESOURCE_TYPE);
+        cachedBackedConfigurationDAO.getResourcesByType(SUPER_TENANT_ID, RESOURCE_TYPE_ID);
+        cachedBackedConfigurationDAO.getTenantResources(condition);
+
+        cachedBackedConfigurationDAO.deleteResourceTypeByName(RESOURCE_TYPE);
+        when(configurationDAO.getResourceTypeByName(RESOURCE_TYPE)).thenReturn(null);
+        when(configurationDAO.getResourceTypeById(RESOURCE_TYPE_ID)).thenReturn(null);
+
+        assertNull(cachedBackedConfigurationDAO.getResourceTypeByName(RESOURCE_TYPE));
+        assertNull(cachedBackedConfigurationDAO.getResourceTypeById(RESOURCE_TYPE_ID));
+        cachedBackedConfigurationDAO.getResourcesByType(SUPER_TENANT_ID, RESOURCE_TYPE_ID);
+        cachedBackedConfigurationDAO.getTenantResources(condition);
+
+        verify(configurationDAO, times(1)).getResourceTypeById(RESOURCE_TYPE_ID);
+        verify(configurationDAO, times(2)).getResourcesByType(SUPER_TENANT_ID, RESOURCE_TYPE_ID);
+        verify(configurationDAO, times(2)).getTenantResources(condition);
+    }
+
+    private Condition mockResourceLists() throws Exception {
+
+        Condition condition = getSampleSearchCondition();
+        when(configurationDAO.getResourcesByType(SUPER_TENANT_ID, RESOURCE_TYPE_ID))
+                .thenAnswer(invocation -> new ArrayList<>(Collections.singletonList(
+                        getResource(RESOURCE_NAME, RESOURCE_ID))));
+        when(configurationDAO.getTenantResources(condition))
+                .thenAnswer(invocation -> new Resources(new ArrayList<>(Collections.singletonList(
+                        getResource(RESOURCE_NAME, RESOURCE_ID)))));
+        return condition;
+    }
+
+    private void mockResourceType(String resourceTypeName) throws Exception {
+
+        when(configurationDAO.getResourceTypeByName(resourceTypeName))
+                .thenReturn(new ResourceType(resourceTypeName, RESOURCE_TYPE_ID, "description"));
+        when(configurationDAO.getResourceTypeById(RESOURCE_TYPE_ID))
+                .thenReturn(new ResourceType(resourceTypeName, RESOURCE_TYPE_ID, "description"));
+    }
+
+    private static Resource getResource(String resourceName, String resourceId) {
+
+        Resource resource = new Resource(resourceName, RESOURCE_TYPE);
+        resource.setResourceId(resourceId);
+        resource.setTenantDomain(SUPER_TENANT_DOMAIN_NAME);
+        return resource;
+    }
+
+    private String readFile(String resourceName) throws Exception {
+
+        try (InputStream input = cachedBackedConfigurationDAO.getFileById(RESOURCE_TYPE, resourceName, FILE_ID)) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[64];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                output.write(buffer, 0, read);
+            }
+            return new String(output.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Replace the shared instance of the cache with a mock backed by a map.
+     */
+    private <K extends Serializable, V extends Serializable, C extends BaseCache<K, V>> void mockCache(
+            Class<C> cacheClass, MockedStatic.Verification getInstance) {
+
+        Map<Object, Object> entries = new HashMap<>();
+        C cache = mock(cacheClass);
+        doAnswer(invocation -> entries.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(cache).addToCache(any(), any());
+        when(cache.getValueFromCache(any())).thenAnswer(invocation -> entries.get(invocation.getArgument(0)));
+        doAnswer(invocation -> entries.remove(invocation.getArgument(0))).when(cache).clearCacheEntry(any());
+        doAnswer(invocation -> {
+            entries.clear();
+            return null;
+        }).when(cache).clear();
+        MockedStatic<C> mockedCache = mockStatic(cacheClass);
+        mockedCache.when(getInstance).thenReturn(cache);
+        mockedCaches.add(mockedCache);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.configuration.mgt.core.dao.impl;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link ResourceFileStore}.
+ */
+public class ResourceFileStoreTest {
+
+    private Path directory;
+    private ResourceFileStore resourceFileStore;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+
+        directory = Files.createTempDirectory("configuration-store-files");
+        resourceFileStore = new ResourceFileStore(directory, 10, 6);
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+
+        resourceFileStore.clear();
+        Files.deleteIfExists(directory);
+    }
+
+    @Test
+    public void testStoreAndRead() throws IOException {
+
+        ResourceFileStore.StoredContent storedContent = resourceFileStore.store(toStream("abcd"));
+
+        assertTrue(storedContent.isStored());
+        assertEquals(storedContent.getContentHash(),
+                "88d4266fd4e6338d13b845fcf289579d209c897823b9217da3e161936f031589");
+        assertEquals(read(storedContent.getStream()), "abcd");
+        assertEquals(read(resourceFileStore.read(storedContent.getContentHash())), "abcd");
+        assertEquals(resourceFileStore.getStoredSize(), 4);
+    }
+
+    @Test
+    public void testStoreSameContentTwice() throws IOException {
+
+        String firstHash = storeAndClose("abcd");
+        String secondHash = storeAndClose("abcd");
+
+        assertEquals(secondHash, firstHash);
+        assertEquals(resourceFileStore.getStoredSize(), 4);
+        assertEquals(listFiles().length, 1);
+    }
+
+    @Test
+    public void testContentLargerThanMaxFileSizeIsNotKept() throws IOException {
+
+        ResourceFileStore.StoredContent storedContent = resourceFileStore.store(toStream("0123456789"));
+
+        assertFalse(storedContent.isStored());
+        assertEquals(read(storedContent.getStream()), "0123456789");
+        assertFalse(resourceFileStore.contains(storedContent.getContentHash()));
+        assertEquals(listFiles().length, 0);
+    }
+
+    @Test
+    public void testLeastRecentlyReadContentIsEvicted() throws IOException {
+
+        String firstHash = storeAndClose("abcd");
+        String secondHash = storeAndClose("efgh");
+        read(resourceFileStore.read(firstHash));
+        String thirdHash = storeAndClose("ijkl");
+
+        assertTrue(resourceFileStore.contains(firstHash));
+        assertFalse(resourceFileStore.contains(secondHash));
+        assertTrue(resourceFileStore.contains(thirdHash));
+        assertNull(resourceFileStore.read(secondHash));
+        assertEquals(resourceFileStore.getStoredSize(), 8);
+        assertEquals(listFiles().length, 2);
+    }
+
+    @Test
+    public void testReadOfRemovedContent() throws IOException {
+
+        String contentHash = storeAndClose("abcd");
+        Files.delete(directory.resolve(contentHash));
+
+        assertNull(resourceFileStore.read(contentHash));
+        assertFalse(resourceFileStore.contains(contentHash));
+        assertEquals(resourceFileStore.getStoredSize(), 0);
+    }
+
+    @Test
+    public void testDisabledStore() {
+
+        assertFalse(new ResourceFileStore(null, 10, 6).isEnabled());
+        assertTrue(resourceFileStore.isEnabled());
+    }
+
+    @Test
+    public void testOnlyStoreFilesAreRecognized() {
+
+        assertTrue(ResourceFileStore.isStoreFile(
+                directory.resolve("88d4266fd4e6338d13b845fcf289579d209c897823b9217da3e161936f031589")));
+        assertTrue(ResourceFileStore.isStoreFile(directory.resolve("spool-4242.tmp")));
+        assertFalse(ResourceFileStore.isStoreFile(directory.resolve("88d4266fd4e6338d13b845fcf289579d")));
+        assertFalse(ResourceFileStore.isStoreFile(directory.resolve("deployment.toml")));
+    }
+
+    private String storeAndClose(String content) throws IOException {
+
+        ResourceFileStore.StoredContent storedContent = resourceFileStore.store(toStream(content));
+        assertNotNull(storedContent.getStream());
+        storedContent.getStream().close();
+        return storedContent.getContentHash();
+    }
+
+    private File[] listFiles() {
+
+        return directory.toFile().listFiles();
+    }
+
+    private static InputStream toStream(String content) {
+
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(InputStream stream) throws IOException {
+
+        try (InputStream input = stream) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                output.write(buffer, 0, read);
+            }
+            return new String(output.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.configuration.mgt.core.dao.impl;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.configuration.mgt.core.model.Resource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Unit tests for {@link ResourceListCache}.
+ */
+public class ResourceListCacheTest {
+
+    @Test
+    public void testGetWithSameVersion() {
+
+        ResourceListCache resourceListCache = new ResourceListCache(10);
+        Resource resource = new Resource("resource", "type");
+        resourceListCache.put("key", "version-1", Arrays.asList(resource));
+
+        List<Resource> resources = resourceListCache.get("key", "version-1");
+        assertEquals(resources.size(), 1);
+        assertSame(resources.get(0), resource);
+    }
+
+    @Test
+    public void testGetWithChangedVersion() {
+
+        ResourceListCache resourceListCache = new ResourceListCache(10);
+        resourceListCache.put("key", "version-1", Arrays.asList(new Resource("resource", "type")));
+
+        assertNull(resourceListCache.get("key", "version-2"));
+        assertNull(resourceListCache.get("other-key", "version-1"));
+    }
+
+    @Test
+    public void testCachedListIsNotShared() {
+
+        ResourceListCache resourceListCache = new ResourceListCache(10);
+        List<Resource> resources = new ArrayList<>();
+        resources.add(new Resource("resource", "type"));
+        resourceListCache.put("key", "version-1", resources);
+        resources.clear();
+        resourceListCache.get("key", "version-1").clear();
+
+        assertEquals(resourceListCache.get("key", "version-1").size(), 1);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedListIsEvicted() {
+
+        ResourceListCache resourceListCache = new ResourceListCache(2);
+        resourceListCache.put("key-1", "version-1", new ArrayList<>());
+        resourceListCache.put("key-2", "version-1", new ArrayList<>());
+        resourceListCache.get("key-1", "version-1");
+        resourceListCache.put("key-3", "version-1", new ArrayList<>());
+
+        assertEquals(resourceListCache.size(), 2);
+        assertNotNull(resourceListCache.get("key-1", "version-1"));
+        assertNull(resourceListCache.get("key-2", "version-1"));
+    }
+
+    @Test
+    public void testDisabledCache() {
+
+        ResourceListCache resourceListCache = new ResourceListCache(0);
+        resourceListCache.put("key", "version-1", new ArrayList<>());
+
+        assertFalse(resourceListCache.isEnabled());
+        assertNull(resourceListCache.get("key", "version-1"));
+    }
+}
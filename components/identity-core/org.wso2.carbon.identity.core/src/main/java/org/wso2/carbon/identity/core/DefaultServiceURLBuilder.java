@@ -106,6 +106,11 @@ public class DefaultServiceURLBuilder implements ServiceURLBuilder {
 
     private ServiceURL buildServiceURL(String proxyHostName) throws URLBuilderException {
 
+        // Builders which extend this builder may resolve the parts of the URL differently, hence they do not use the
+        // templates.
+        if (getClass() == DefaultServiceURLBuilder.class && ServiceURLTemplateCache.isEnabled()) {
+            return buildServiceURLFromTemplate(proxyHostName);
+        }
         String protocol = fetchProtocol();
         String internalHostName = fetchInternalHostName();
         String authenticationEndpointHostName = fetchAuthenticationEndpointHostName();
@@ -144,6 +149,109 @@ public class DefaultServiceURLBuilder implements ServiceURLBuilder {
                 absoluteInternalUrl, relativePublicUrl, relativeInternalUrl, absolutePublicUrlWithoutURLPath);
     }
 
+    /**
+     * Build the service URL from the cached template of the URL, appending only the query parameters and the
+     * fragment. The template is built and cached if it is not available.
+     */
+    private ServiceURL buildServiceURLFromTemplate(String proxyHostName) throws URLBuilderException {
+
+        String tenantDomain = StringUtils.isNotBlank(tenant) ? tenant : resolveTenantDomain();
+        String rootTenantDomain = (String) IdentityUtil.threadLocalProperties.get()
+                .get(OrganizationManagementConstants.ROOT_TENANT_DOMAIN);
+        String contextOrganizationId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getOrganizationId();
+        ServiceURLTemplateCache.TemplateKey key = new ServiceURLTemplateCache.TemplateKey(proxyHostName,
+                tenantDomain, urlPaths, mandateTenantedPath, orgId, rootTenantDomain, contextOrganizationId);
+        ServiceURLTemplateCache.Snapshot snapshot = ServiceURLTemplateCache.getSnapshot();
+        ServiceURLTemplateCache.URLTemplate template = snapshot.getTemplate(key);
+        if (template == null) {
+            template = buildURLTemplate(proxyHostName, tenantDomain);
+            snapshot.addTemplate(key, template);
+        }
+
+        ServiceURLImpl templateURL = template.getServiceURL();
+        String resolvedFragment = buildFragment(fragment, fragmentParams);
+        String resolvedParamsString = getResolvedParamString(parameters);
+        if (StringUtils.isBlank(resolvedParamsString) && StringUtils.isBlank(resolvedFragment)) {
+            return templateURL;
+        }
+        StringBuilder suffix = new StringBuilder();
+        if (StringUtils.isNotBlank(resolvedParamsString)) {
+            suffix.append("?").append(resolvedParamsString);
+        }
+        if (StringUtils.isNotBlank(resolvedFragment)) {
+            suffix.append("#").append(resolvedFragment);
+        }
+        String relativePublicUrl = templateURL.relativePublicUrl + suffix;
+        String relativeInternalUrl = templateURL.relativeInternalUrl + suffix;
+        return new ServiceURLImpl(templateURL.protocol, templateURL.proxyHostName, templateURL.internalHostName,
+                templateURL.proxyPort, templateURL.transportPort, templateURL.tenantDomain,
+                templateURL.proxyContextPath, templateURL.urlPath, parameters, resolvedFragment,
+                templateURL.absolutePublicUrlWithoutURLPath + relativePublicUrl,
+                template.getAbsoluteInternalUrlWithoutURLPath() + relativeInternalUrl, relativePublicUrl,
+                relativeInternalUrl, templateURL.absolutePublicUrlWithoutURLPath);
+    }
+
+    /**
+     * Build the template of the URL, i.e. the URL without query parameters and fragment, the same way
+     * {@link #build(String)} builds the URL.
+     */
+    private ServiceURLTemplateCache.URLTemplate buildURLTemplate(String proxyHostName, String tenantDomain)
+            throws URLBuilderException {
+
+        String protocol = fetchProtocol();
+        String internalHostName = fetchInternalHostName();
+        String authenticationEndpointHostName = fetchAuthenticationEndpointHostName();
+        String authenticationEndpointPath = fetchAuthenticationEndpointPath();
+        String recoveryEndpointHostName = fetchRecoveryEndpointHostName();
+        String recoveryEndpointPath = fetchRecoveryEndpointPath();
+        int proxyPort = fetchPort();
+        int transportPort = fetchTransportPort();
+        String tenantDomainForPublicUrl = resolveTenantDomainForUrlBuilder(tenantDomain);
+        String proxyContextPath = ServerConfiguration.getInstance().getFirstProperty(PROXY_CONTEXT_PATH);
+        String urlPath = getResolvedUrlPath(tenantDomain);
+        String urlPathForPublicUrl = getResolvedUrlPath(tenantDomainForPublicUrl);
+
+        StringBuilder relativePublicUrl = new StringBuilder();
+        appendContextToUri(relativePublicUrl, proxyContextPath);
+        appendContextToUri(relativePublicUrl, urlPathForPublicUrl);
+        appendParamsToUri(relativePublicUrl, StringUtils.EMPTY, "?");
+        StringBuilder relativeInternalUrl = new StringBuilder();
+        appendContextToUri(relativeInternalUrl, urlPath);
+        appendParamsToUri(relativeInternalUrl, StringUtils.EMPTY, "?");
+
+        String absoluteInternalUrlWithoutURLPath = fetchAbsoluteInternalUrl(protocol, internalHostName,
+                transportPort, StringUtils.EMPTY);
+        String absolutePublicUrlWithoutURLPath = fetchAbsolutePublicUrlWithoutURLPath(protocol, proxyHostName,
+                proxyPort);
+        if (StringUtils.isNotBlank(urlPathForPublicUrl)) {
+            if (authenticationEndpointHostName != null && authenticationEndpointPath != null &&
+                    urlPathForPublicUrl.contains(authenticationEndpointPath)) {
+                absolutePublicUrlWithoutURLPath = fetchAbsolutePublicUrlWithoutURLPath(protocol,
+                        authenticationEndpointHostName, proxyPort);
+            }
+            if (recoveryEndpointHostName != null && recoveryEndpointPath != null &&
+                    urlPathForPublicUrl.contains(recoveryEndpointPath)) {
+                absolutePublicUrlWithoutURLPath = fetchAbsolutePublicUrlWithoutURLPath(protocol,
+                        recoveryEndpointHostName, proxyPort);
+            }
+        }
+        ServiceURLImpl serviceURL = new ServiceURLImpl(protocol, proxyHostName, internalHostName, proxyPort,
+                transportPort, tenantDomain, proxyContextPath, urlPath, Collections.emptyMap(), StringUtils.EMPTY,
+                absolutePublicUrlWithoutURLPath + relativePublicUrl,
+                absoluteInternalUrlWithoutURLPath + relativeInternalUrl, relativePublicUrl.toString(),
+                relativeInternalUrl.toString(), absolutePublicUrlWithoutURLPath);
+        return new ServiceURLTemplateCache.URLTemplate(serviceURL, absoluteInternalUrlWithoutURLPath);
+    }
+
+    /**
+     * Remove the cached templates of service URLs and read the server settings they depend on again, e.g. after the
+     * host name or the proxy configuration is changed at runtime.
+     */
+    public static void clearURLTemplateCache() {
+
+        ServiceURLTemplateCache.clear();
+    }
+
     protected String getResolvedUrlPath(String tenantDomain) {
 
         String resolvedUrlContext = buildUrlPath(urlPaths);
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.base.ServerConfiguration;
+import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Cache of the parts of service URLs built by {@link DefaultServiceURLBuilder} which do not depend on the query
+ * parameters and the fragment of the URL.
+ * <p>
+ * A template is keyed by the host name, tenant domain, organization and paths of the URL. Templates are kept in a
+ * snapshot along with the server settings they are built with, i.e. the proxy context path, the internal,
+ * authentication endpoint and recovery endpoint host names and paths and the tenant qualified URL settings. The
+ * settings are read once per snapshot, and the whole snapshot is replaced when the cache is cleared, e.g. after the
+ * configuration is changed at runtime.
+ */
+final class ServiceURLTemplateCache {
+
+    private static final Log log = LogFactory.getLog(ServiceURLTemplateCache.class);
+    private static final int MAX_TEMPLATES = 1000;
+    private static final AtomicReference<Snapshot> SNAPSHOT = new AtomicReference<>();
+
+    private ServiceURLTemplateCache() {
+
+    }
+
+    static boolean isEnabled() {
+
+        return IdentityUtil.getPropertyAsBoolean(IdentityCoreConstants.ENABLE_SERVICE_URL_TEMPLATE_CACHE, false);
+    }
+
+    /**
+     * @return Current snapshot of the templates, created with the current server settings if there is none.
+     */
+    static Snapshot getSnapshot() {
+
+        while (true) {
+            Snapshot snapshot = SNAPSHOT.get();
+            if (snapshot != null) {
+                return snapshot;
+            }
+            Snapshot newSnapshot = new Snapshot(readServerSettings());
+            if (SNAPSHOT.compareAndSet(null, newSnapshot)) {
+                return newSnapshot;
+            }
+        }
+    }
+
+    /**
+     * Discard the current snapshot, so that the server settings are read again and the templates are rebuilt. Builds
+     * which already obtained the discarded snapshot do not affect the next one.
+     */
+    static void clear() {
+
+        SNAPSHOT.set(null);
+    }
+
+    private static String[] readServerSettings() {
+
+        return new String[]{
+                ServerConfiguration.getInstance().getFirstProperty(IdentityCoreConstants.PROXY_CONTEXT_PATH),
+                IdentityUtil.getProperty(IdentityCoreConstants.SERVER_HOST_NAME),
+                IdentityUtil.getProperty(IdentityCoreConstants.AUTHENTICATION_ENDPOINT_HOST_NAME),
+                IdentityUtil.getProperty(IdentityCoreConstants.AUTHENTICATION_ENDPOINT_PATH),
+                IdentityUtil.getProperty(IdentityCoreConstants.RECOVERY_ENDPOINT_HOST_NAME),
+                IdentityUtil.getProperty(IdentityCoreConstants.RECOVERY_ENDPOINT_PATH),
+                String.valueOf(IdentityTenantUtil.isTenantQualifiedUrlsEnabled()),
+                String.valueOf(IdentityTenantUtil.isSuperTenantRequiredInUrl()),
+                IdentityTenantUtil.getSuperTenantAliasInPublicUrl()
+        };
+    }
+
+    /**
+     * Server settings read at one point in time, along with the templates built while they were current.
+     */
+    static final class Snapshot {
+
+        private final String[] serverSettings;
+        private final Map<TemplateKey, URLTemplate> templates = new ConcurrentHashMap<>();
+
+        private Snapshot(String[] serverSettings) {
+
+            this.serverSettings = serverSettings;
+            if (log.isDebugEnabled()) {
+                log.debug("Created service URL template cache with server settings: " +
+                        Arrays.toString(serverSettings));
+            }
+        }
+
+        URLTemplate getTemplate(TemplateKey key) {
+
+            return templates.get(key);
+        }
+
+        void addTemplate(TemplateKey key, URLTemplate template) {
+
+            if (templates.size() >= MAX_TEMPLATES) {
+                templates.clear();
+            }
+            templates.put(key, template);
+        }
+    }
+
+    /**
+     * Inputs of a service URL other than the server settings, query parameters and fragment.
+     */
+    static final class TemplateKey {
+
+        private final String proxyHostName;
+        private final String tenantDomain;
+        private final String[] urlPaths;
+        private final boolean mandateTenantedPath;
+        private final String orgId;
+        private final String rootTenantDomain;
+        private final String contextOrganizationId;
+        private final int hashCode;
+
+        TemplateKey(String proxyHostName, String tenantDomain, String[] urlPaths, boolean mandateTenantedPath,
+                    String orgId, String rootTenantDomain, String contextOrganizationId) {
+
+            this.proxyHostName = proxyHostName;
+            this.tenantDomain = tenantDomain;
+            this.urlPaths = urlPaths != null ? urlPaths.clone() : null;
+            this.mandateTenantedPath = mandateTenantedPath;
+            this.orgId = orgId;
+            this.rootTenantDomain = rootTenantDomain;
+            this.contextOrganizationId = contextOrganizationId;
+            this.hashCode = Objects.hash(proxyHostName, tenantDomain, Arrays.hashCode(urlPaths), mandateTenantedPath,
+                    orgId, rootTenantDomain, contextOrganizationId);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TemplateKey)) {
+                return false;
+            }
+            TemplateKey that = (TemplateKey) o;
+            return mandateTenantedPath == that.mandateTenantedPath &&
+                    Objects.equals(proxyHostName, that.proxyHostName) &&
+                    Objects.equals(tenantDomain, that.tenantDomain) &&
+                    Arrays.equals(urlPaths, that.urlPaths) &&
+                    Objects.equals(orgId, that.orgId) &&
+                    Objects.equals(rootTenantDomain, that.rootTenantDomain) &&
+                    Objects.equals(contextOrganizationId, that.contextOrganizationId);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return hashCode;
+        }
+    }
+
+    /**
+     * Resolved parts of a service URL, and the service URL itself for a URL without query parameters and fragment.
+     */
+    static final class URLTemplate {
+
+        private final DefaultServiceURLBuilder.ServiceURLImpl serviceURL;
+        private final String absoluteInternalUrlWithoutURLPath;
+
+        URLTemplate(DefaultServiceURLBuilder.ServiceURLImpl serviceURL, String absoluteInternalUrlWithoutURLPath) {
+
+            this.serviceURL = serviceURL;
+            this.absoluteInternalUrlWithoutURLPath = absoluteInternalUrlWithoutURLPath;
+        }
+
+        DefaultServiceURLBuilder.ServiceURLImpl getServiceURL() {
+
+            return serviceURL;
+        }
+
+        String getAbsoluteInternalUrlWithoutURLPath() {
+
+            return absoluteInternalUrlWithoutURLPath;
+        }
+    }
+}
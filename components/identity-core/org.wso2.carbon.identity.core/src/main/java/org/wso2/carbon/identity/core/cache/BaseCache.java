@@ -31,7 +31,14 @@ import org.wso2.carbon.identity.core.util.IdentityUtil;
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
 import javax.cache.Cache;
 import javax.cache.CacheBuilder;
 import javax.cache.CacheConfiguration;
@@ -41,6 +48,16 @@ import javax.cache.Caching;
 /**
  * A base class for all cache implementations in Identity modules. This maintains  caches in the tenanted space.
  * A copy of this class is maintained at org.wso2.carbon.identity.organization.management.service.cache component.
+ * <p>
+ * Values can be read through a {@link CacheEntryLoader}, in which case concurrent loads of the same key are collapsed
+ * into a single call to the loader. When the "nearCacheTimeout" attribute is configured for the cache, found values
+ * are also kept in a node local near cache for that many seconds, and when "negativeCacheTimeout" is configured,
+ * loads which return no value are remembered for that many seconds. As the near cache is not notified of cluster
+ * invalidations, the near cache timeout should be kept short for distributed caches.
+ * <p>
+ * Every write or invalidation of a key bumps the generation of the key, and values loaded or read while the
+ * generation of their key changed are not cached, so that a load or read which raced with an invalidation does not
+ * cache the value from before the invalidation.
  *
  * @param <K> cache key type.
  * @param <V> cache value type.
@@ -49,10 +66,19 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
 
     private static final Log log = LogFactory.getLog(BaseCache.class);
     private static final String CACHE_MANAGER_NAME = "IdentityApplicationManagementCacheManager";
+    private static final int DEFAULT_NEAR_CACHE_CAPACITY = 1000;
+    private static final int GENERATION_STRIPES = 64;
     private CacheBuilder<K, V> cacheBuilder;
     private final List<AbstractCacheListener<K, V>> cacheListeners;
     private String cacheName;
     private final IdentityCacheConfig identityCacheConfig;
+    private final BaseCacheMetrics metrics;
+    private final NearCache<K, V> nearCache;
+    private final Map<NearCache.TenantScopedKey<K>, CompletableFuture<V>> inFlightLoads = new ConcurrentHashMap<>();
+    // Generations of the keys, striped by the hash of the key. Keys sharing a stripe only cause a value to be loaded
+    // again, never a stale value to be cached.
+    private final AtomicLongArray keyGenerations = new AtomicLongArray(GENERATION_STRIPES);
+    private final AtomicLong clearGeneration = new AtomicLong();
 
     public BaseCache(String cacheName) {
 
@@ -85,6 +111,9 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
         } else {
             this.cacheListeners = Collections.emptyList();
         }
+        metrics = BaseCacheMetrics.getInstance(this.cacheName);
+        nearCache = new NearCache<>(getNearCacheTimeout(), getNegativeCacheTimeout(), getNearCacheCapacity(),
+                metrics);
         if (log.isDebugEnabled()) {
             String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
             log.debug("Cache : " + cacheName + "  is initialized for tenant domain : " + tenantDomain);
@@ -147,15 +176,8 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
-        try {
-            startTenantFlow(tenantDomain);
-            Cache<K, V> cache = getBaseCache();
-            if (cache != null) {
-                cache.put(key, entry);
-            }
-        } finally {
-            PrivilegedCarbonContext.endTenantFlow();
-        }
+        bumpGeneration(key);
+        putInBaseCache(key, entry, tenantDomain);
     }
 
     /**
@@ -171,15 +193,8 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
-        try {
-            startTenantFlow(tenantId);
-            Cache<K, V> cache = getBaseCache();
-            if (cache != null) {
-                cache.put(key, entry);
-            }
-        } finally {
-            PrivilegedCarbonContext.endTenantFlow();
-        }
+        bumpGeneration(key);
+        putInBaseCache(key, entry, tenantId);
     }
 
     /**
@@ -199,16 +214,45 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return null;
         }
 
-        try {
-            startTenantFlow(tenantDomain);
-            Cache<K, V> cache = getBaseCache();
-            if (cache != null && cache.get(key) != null) {
-                return cache.get(key);
-            }
+        NearCache.Entry<V> nearCacheEntry = nearCache.get(tenantDomain, key);
+        if (nearCacheEntry != null) {
+            return nearCacheEntry.getValue();
+        }
+        return getValueFromBaseCache(key, tenantDomain);
+    }
+
+    /**
+     * Retrieves a cache entry, loading it with the given loader on a cache miss. Loaded values are added to the
+     * cache. Concurrent loads of the same key are collapsed so that only one of the callers invokes the loader.
+     *
+     * @param key          CacheKey
+     * @param tenantDomain The tenant domain where the cache is maintained.
+     * @param loader       Loader used to retrieve the value on a cache miss.
+     * @param <E>          Exception thrown by the loader.
+     * @return Cached or loaded entry. Null if the loader returned no value.
+     * @throws E If the loader failed to load the value.
+     */
+    public <E extends Exception> V getValueFromCache(K key, String tenantDomain, CacheEntryLoader<K, V, E> loader)
+            throws E {
+
+        if (key == null) {
             return null;
-        } finally {
-            PrivilegedCarbonContext.endTenantFlow();
         }
+
+        if (!isEnabled()) {
+            return loader.load(key);
+        }
+
+        NearCache.Entry<V> nearCacheEntry = nearCache.get(tenantDomain, key);
+        if (nearCacheEntry != null) {
+            return nearCacheEntry.getValue();
+        }
+        V value = getValueFromBaseCache(key, tenantDomain);
+        if (value != null) {
+            return value;
+        }
+        return loadValue(tenantDomain, key, loader, loadedValue -> putInBaseCache(key, loadedValue, tenantDomain),
+                () -> removeFromBaseCache(key, tenantDomain));
     }
 
     /**
@@ -228,16 +272,45 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return null;
         }
 
-        try {
-            startTenantFlow(tenantId);
-            Cache<K, V> cache = getBaseCache();
-            if (cache != null && cache.get(key) != null) {
-                return cache.get(key);
-            }
+        NearCache.Entry<V> nearCacheEntry = nearCache.get(tenantId, key);
+        if (nearCacheEntry != null) {
+            return nearCacheEntry.getValue();
+        }
+        return getValueFromBaseCache(key, tenantId);
+    }
+
+    /**
+     * Retrieves a cache entry, loading it with the given loader on a cache miss. Loaded values are added to the
+     * cache. Concurrent loads of the same key are collapsed so that only one of the callers invokes the loader.
+     *
+     * @param key      CacheKey
+     * @param tenantId The tenant Id where the cache is maintained.
+     * @param loader   Loader used to retrieve the value on a cache miss.
+     * @param <E>      Exception thrown by the loader.
+     * @return Cached or loaded entry. Null if the loader returned no value.
+     * @throws E If the loader failed to load the value.
+     */
+    public <E extends Exception> V getValueFromCache(K key, int tenantId, CacheEntryLoader<K, V, E> loader)
+            throws E {
+
+        if (key == null) {
             return null;
-        } finally {
-            PrivilegedCarbonContext.endTenantFlow();
         }
+
+        if (!isEnabled()) {
+            return loader.load(key);
+        }
+
+        NearCache.Entry<V> nearCacheEntry = nearCache.get(tenantId, key);
+        if (nearCacheEntry != null) {
+            return nearCacheEntry.getValue();
+        }
+        V value = getValueFromBaseCache(key, tenantId);
+        if (value != null) {
+            return value;
+        }
+        return loadValue(tenantId, key, loader, loadedValue -> putInBaseCache(key, loadedValue, tenantId),
+                () -> removeFromBaseCache(key, tenantId));
     }
 
     /**
@@ -252,15 +325,8 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
-        try {
-            startTenantFlow(tenantDomain);
-            Cache<K, V> cache = getBaseCache();
-            if (cache != null) {
-                cache.remove(key);
-            }
-        } finally {
-            PrivilegedCarbonContext.endTenantFlow();
-        }
+        bumpGeneration(key);
+        removeFromBaseCache(key, tenantDomain);
     }
 
     /**
@@ -275,15 +341,8 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
-        try {
-            startTenantFlow(tenantId);
-            Cache<K, V> cache = getBaseCache();
-            if (cache != null) {
-                cache.remove(key);
-            }
-        } finally {
-            PrivilegedCarbonContext.endTenantFlow();
-        }
+        bumpGeneration(key);
+        removeFromBaseCache(key, tenantId);
     }
 
     /**
@@ -297,6 +356,7 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
+        clearGeneration.incrementAndGet();
         try {
             startTenantFlow(tenantDomain);
             Cache<K, V> cache = getBaseCache();
@@ -306,6 +366,7 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
+        nearCache.clear();
     }
 
     /**
@@ -319,6 +380,7 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
+        clearGeneration.incrementAndGet();
         try {
             startTenantFlow(tenantId);
             Cache<K, V> cache = getBaseCache();
@@ -328,6 +390,7 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
+        nearCache.clear();
     }
 
     public boolean isEnabled() {
@@ -346,6 +409,47 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
         return -1;
     }
 
+    /**
+     * Time to keep found values in the node local near cache, in seconds. The near cache is not used for found
+     * values if the timeout is not positive.
+     *
+     * @return Near cache timeout.
+     */
+    public int getNearCacheTimeout() {
+
+        if (identityCacheConfig != null && identityCacheConfig.getNearCacheTimeout() > 0) {
+            return identityCacheConfig.getNearCacheTimeout();
+        }
+        return -1;
+    }
+
+    /**
+     * Maximum number of entries kept in the node local near cache.
+     *
+     * @return Near cache capacity.
+     */
+    public int getNearCacheCapacity() {
+
+        if (identityCacheConfig != null && identityCacheConfig.getNearCacheCapacity() > 0) {
+            return identityCacheConfig.getNearCacheCapacity();
+        }
+        return DEFAULT_NEAR_CACHE_CAPACITY;
+    }
+
+    /**
+     * Time to remember that a read-through load returned no value, in seconds. "Not found" results are not
+     * remembered if the timeout is not positive.
+     *
+     * @return Negative cache timeout.
+     */
+    public int getNegativeCacheTimeout() {
+
+        if (identityCacheConfig != null && identityCacheConfig.getNegativeCacheTimeout() > 0) {
+            return identityCacheConfig.getNegativeCacheTimeout();
+        }
+        return -1;
+    }
+
     public int getCapacity() {
 
         if (identityCacheConfig != null && identityCacheConfig.getCapacity() > 0) {
@@ -361,6 +465,203 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
         }
     }
 
+    private void putInBaseCache(K key, V entry, String tenantDomain) {
+
+        try {
+            startTenantFlow(tenantDomain);
+            Cache<K, V> cache = getBaseCache();
+            if (cache != null) {
+                cache.put(key, entry);
+            }
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+        invalidateNearCacheEntry(key, tenantDomain);
+    }
+
+    private void removeFromBaseCache(K key, String tenantDomain) {
+
+        try {
+            startTenantFlow(tenantDomain);
+            Cache<K, V> cache = getBaseCache();
+            if (cache != null) {
+                cache.remove(key);
+            }
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+        invalidateNearCacheEntry(key, tenantDomain);
+    }
+
+    private void putInBaseCache(K key, V entry, int tenantId) {
+
+        try {
+            startTenantFlow(tenantId);
+            Cache<K, V> cache = getBaseCache();
+            if (cache != null) {
+                cache.put(key, entry);
+            }
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+        invalidateNearCacheEntry(key, tenantId);
+    }
+
+    private void removeFromBaseCache(K key, int tenantId) {
+
+        try {
+            startTenantFlow(tenantId);
+            Cache<K, V> cache = getBaseCache();
+            if (cache != null) {
+                cache.remove(key);
+            }
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+        invalidateNearCacheEntry(key, tenantId);
+    }
+
+    private V getValueFromBaseCache(K key, String tenantDomain) {
+
+        long generation = getGeneration(key);
+        V value = null;
+        try {
+            startTenantFlow(tenantDomain);
+            Cache<K, V> cache = getBaseCache();
+            if (cache != null) {
+                value = cache.get(key);
+            }
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+        recordLookup(value);
+        putInNearCache(tenantDomain, key, value, generation);
+        return value;
+    }
+
+    private V getValueFromBaseCache(K key, int tenantId) {
+
+        long generation = getGeneration(key);
+        V value = null;
+        try {
+            startTenantFlow(tenantId);
+            Cache<K, V> cache = getBaseCache();
+            if (cache != null) {
+                value = cache.get(key);
+            }
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+        recordLookup(value);
+        putInNearCache(tenantId, key, value, generation);
+        return value;
+    }
+
+    private void putInNearCache(Object tenant, K key, V value, long generation) {
+
+        if (getGeneration(key) != generation) {
+            return;
+        }
+        nearCache.put(tenant, key, value);
+        if (getGeneration(key) != generation) {
+            // The key may have been invalidated before the value was put.
+            nearCache.remove(tenant, key);
+        }
+    }
+
+    private long getGeneration(K key) {
+
+        return clearGeneration.get() + keyGenerations.get(getGenerationStripe(key));
+    }
+
+    private void bumpGeneration(K key) {
+
+        keyGenerations.incrementAndGet(getGenerationStripe(key));
+    }
+
+    private static int getGenerationStripe(Object key) {
+
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    private void recordLookup(V value) {
+
+        if (value != null) {
+            metrics.recordHit();
+        } else {
+            metrics.recordMiss();
+        }
+    }
+
+    /**
+     * Load a value with the given loader, making sure that only one load of the same key runs at a time. Callers
+     * which find a load of the key in progress wait for its result, and load the value themselves if it fails. The
+     * loaded value is not cached if the key is written or invalidated while it is loaded.
+     */
+    private <E extends Exception> V loadValue(Object tenant, K key, CacheEntryLoader<K, V, E> loader,
+                                              Consumer<V> cacheWriter, Runnable cacheInvalidator) throws E {
+
+        NearCache.TenantScopedKey<K> scopedKey = new NearCache.TenantScopedKey<>(tenant, key);
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> inFlightLoad = inFlightLoads.putIfAbsent(scopedKey, load);
+        if (inFlightLoad != null) {
+            try {
+                return inFlightLoad.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return loader.load(key);
+            } catch (ExecutionException e) {
+                return loader.load(key);
+            }
+        }
+
+        long generation = getGeneration(key);
+        long startTime = System.nanoTime();
+        try {
+            V value = loader.load(key);
+            metrics.recordLoad(System.nanoTime() - startTime);
+            if (getGeneration(key) == generation) {
+                if (value != null) {
+                    cacheWriter.accept(value);
+                } else {
+                    nearCache.putNotFound(tenant, key);
+                }
+                if (getGeneration(key) != generation) {
+                    // The key may have been invalidated before the loaded value was cached.
+                    cacheInvalidator.run();
+                }
+            }
+            load.complete(value);
+            return value;
+        } catch (Exception e) {
+            metrics.recordLoadFailure();
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            if (!load.isDone()) {
+                load.completeExceptionally(new IllegalStateException("Loading cache entry failed in: " + cacheName));
+            }
+            inFlightLoads.remove(scopedKey, load);
+        }
+    }
+
+    private void invalidateNearCacheEntry(K key, String tenantDomain) {
+
+        if (nearCache.isEnabled()) {
+            nearCache.remove(tenantDomain, key);
+            nearCache.remove(IdentityTenantUtil.getTenantId(tenantDomain), key);
+        }
+    }
+
+    private void invalidateNearCacheEntry(K key, int tenantId) {
+
+        if (nearCache.isEnabled()) {
+            nearCache.remove(tenantId, key);
+            nearCache.remove(IdentityTenantUtil.getTenantDomain(tenantId), key);
+        }
+    }
+
     private void startTenantFlow(String tenantDomain) {
 
         PrivilegedCarbonContext.startTenantFlow();
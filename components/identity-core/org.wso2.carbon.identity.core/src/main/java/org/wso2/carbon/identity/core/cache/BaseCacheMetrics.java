@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Hit, miss, load and eviction counters of a {@link BaseCache}. One instance is kept per cache name and is
+ * registered with the platform MBean server under "org.wso2.carbon.identity:type=IdentityCache,name=cache name".
+ */
+public class BaseCacheMetrics implements BaseCacheMetricsMBean {
+
+    private static final Log log = LogFactory.getLog(BaseCacheMetrics.class);
+    private static final String OBJECT_NAME_PREFIX = "org.wso2.carbon.identity:type=IdentityCache,name=";
+    private static final Map<String, BaseCacheMetrics> metricsByCacheName = new ConcurrentHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder nearCacheHitCount = new LongAdder();
+    private final LongAdder negativeCacheHitCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadTimeNanos = new LongAdder();
+    private final LongAdder nearCacheEvictionCount = new LongAdder();
+
+    private BaseCacheMetrics() {
+
+    }
+
+    /**
+     * Get the metrics of a cache, registering them over JMX on first use.
+     *
+     * @param cacheName Name of the cache.
+     * @return Metrics of the cache.
+     */
+    public static BaseCacheMetrics getInstance(String cacheName) {
+
+        return metricsByCacheName.computeIfAbsent(cacheName, name -> {
+            BaseCacheMetrics metrics = new BaseCacheMetrics();
+            metrics.register(name);
+            return metrics;
+        });
+    }
+
+    private void register(String cacheName) {
+
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME_PREFIX + ObjectName.quote(cacheName));
+            if (!mBeanServer.isRegistered(objectName)) {
+                mBeanServer.registerMBean(this, objectName);
+            }
+        } catch (JMException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error while registering the metrics MBean of cache: " + cacheName, e);
+            }
+        }
+    }
+
+    void recordHit() {
+
+        hitCount.increment();
+    }
+
+    void recordMiss() {
+
+        missCount.increment();
+    }
+
+    void recordNearCacheHit(boolean negative) {
+
+        if (negative) {
+            negativeCacheHitCount.increment();
+        } else {
+            nearCacheHitCount.increment();
+        }
+    }
+
+    void recordLoad(long loadTimeNanos) {
+
+        loadCount.increment();
+        totalLoadTimeNanos.add(loadTimeNanos);
+    }
+
+    void recordLoadFailure() {
+
+        loadFailureCount.increment();
+    }
+
+    void recordNearCacheEviction() {
+
+        nearCacheEvictionCount.increment();
+    }
+
+    @Override
+    public long getHitCount() {
+
+        return hitCount.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+
+        return missCount.sum();
+    }
+
+    @Override
+    public long getNearCacheHitCount() {
+
+        return nearCacheHitCount.sum();
+    }
+
+    @Override
+    public long getNegativeCacheHitCount() {
+
+        return negativeCacheHitCount.sum();
+    }
+
+    @Override
+    public long getLoadCount() {
+
+        return loadCount.sum();
+    }
+
+    @Override
+    public long getLoadFailureCount() {
+
+        return loadFailureCount.sum();
+    }
+
+    @Override
+    public double getAverageLoadTimeMillis() {
+
+        long loads = loadCount.sum();
+        return loads == 0 ? 0 : (double) totalLoadTimeNanos.sum() / TimeUnit.MILLISECONDS.toNanos(1) / loads;
+    }
+
+    @Override
+    public long getNearCacheEvictionCount() {
+
+        return nearCacheEvictionCount.sum();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+/**
+ * JMX view of the counters of a {@link BaseCache}.
+ */
+public interface BaseCacheMetricsMBean {
+
+    /**
+     * @return Number of lookups answered by the underlying cache.
+     */
+    long getHitCount();
+
+    /**
+     * @return Number of lookups that found no entry in the underlying cache.
+     */
+    long getMissCount();
+
+    /**
+     * @return Number of lookups answered by the node local near cache.
+     */
+    long getNearCacheHitCount();
+
+    /**
+     * @return Number of lookups answered by a cached "not found" result.
+     */
+    long getNegativeCacheHitCount();
+
+    /**
+     * @return Number of values loaded through a read-through loader.
+     */
+    long getLoadCount();
+
+    /**
+     * @return Number of read-through loads which failed with an exception.
+     */
+    long getLoadFailureCount();
+
+    /**
+     * @return Average time taken by a read-through load, in milliseconds.
+     */
+    double getAverageLoadTimeMillis();
+
+    /**
+     * @return Number of entries evicted from the near cache to stay within its capacity.
+     */
+    long getNearCacheEvictionCount();
+}
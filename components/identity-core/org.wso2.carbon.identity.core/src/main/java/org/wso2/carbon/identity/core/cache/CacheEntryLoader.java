@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+/**
+ * Loads the value of a cache entry from the underlying store on a cache miss.
+ *
+ * @param <K> Cache key type.
+ * @param <V> Cache value type.
+ * @param <E> Exception thrown when the value cannot be loaded.
+ */
+@FunctionalInterface
+public interface CacheEntryLoader<K, V, E extends Exception> {
+
+    /**
+     * Load the value for the given key.
+     *
+     * @param key Cache key.
+     * @return Loaded value, or null if there is no value for the key.
+     * @throws E If an error occurs while loading the value.
+     */
+    V load(K key) throws E;
+}
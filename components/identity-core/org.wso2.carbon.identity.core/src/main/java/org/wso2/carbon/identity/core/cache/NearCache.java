@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node local, short lived copy of cache entries kept by {@link BaseCache}. Entries are looked up without starting a
+ * tenant flow or resolving the cache manager. The near cache also holds "not found" markers for keys whose
+ * read-through load returned no value.
+ * <p>
+ * Entries are scoped by the tenant identifier used to access them, which is either the tenant domain or the tenant
+ * id. The near cache is bounded; when it is full an arbitrary entry is evicted to make room for a new one.
+ *
+ * @param <K> Cache key type.
+ * @param <V> Cache value type.
+ */
+class NearCache<K, V> {
+
+    private final long timeoutNanos;
+    private final long negativeTimeoutNanos;
+    private final int capacity;
+    private final BaseCacheMetrics metrics;
+    private final Map<TenantScopedKey<K>, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * @param timeoutSeconds         Time to keep found values, in seconds. Values are not kept if not positive.
+     * @param negativeTimeoutSeconds Time to keep "not found" markers, in seconds. Markers are not kept if not positive.
+     * @param capacity               Maximum number of entries.
+     * @param metrics                Metrics of the owning cache.
+     */
+    NearCache(int timeoutSeconds, int negativeTimeoutSeconds, int capacity, BaseCacheMetrics metrics) {
+
+        this.timeoutNanos = TimeUnit.SECONDS.toNanos(Math.max(0, timeoutSeconds));
+        this.negativeTimeoutNanos = TimeUnit.SECONDS.toNanos(Math.max(0, negativeTimeoutSeconds));
+        this.capacity = capacity;
+        this.metrics = metrics;
+    }
+
+    boolean isEnabled() {
+
+        return timeoutNanos > 0 || negativeTimeoutNanos > 0;
+    }
+
+    /**
+     * Get a live entry.
+     *
+     * @param tenant Tenant domain or tenant id used to access the cache.
+     * @param key    Cache key.
+     * @return Entry, or null if there is no live entry for the key.
+     */
+    Entry<V> get(Object tenant, K key) {
+
+        if (!isEnabled()) {
+            return null;
+        }
+        TenantScopedKey<K> scopedKey = new TenantScopedKey<>(tenant, key);
+        Entry<V> entry = entries.get(scopedKey);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            entries.remove(scopedKey, entry);
+            return null;
+        }
+        metrics.recordNearCacheHit(entry.isNotFound());
+        return entry;
+    }
+
+    void put(Object tenant, K key, V value) {
+
+        if (timeoutNanos > 0 && value != null) {
+            store(new TenantScopedKey<>(tenant, key), new Entry<>(value, System.nanoTime() + timeoutNanos));
+        }
+    }
+
+    void putNotFound(Object tenant, K key) {
+
+        if (negativeTimeoutNanos > 0) {
+            store(new TenantScopedKey<>(tenant, key), new Entry<>(null, System.nanoTime() + negativeTimeoutNanos));
+        }
+    }
+
+    void remove(Object tenant, K key) {
+
+        if (isEnabled()) {
+            entries.remove(new TenantScopedKey<>(tenant, key));
+        }
+    }
+
+    void clear() {
+
+        entries.clear();
+    }
+
+    private void store(TenantScopedKey<K> scopedKey, Entry<V> entry) {
+
+        if (entries.size() >= capacity && !entries.containsKey(scopedKey)) {
+            evict();
+        }
+        entries.put(scopedKey, entry);
+    }
+
+    private void evict() {
+
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+        Iterator<TenantScopedKey<K>> iterator = entries.keySet().iterator();
+        while (entries.size() >= capacity && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            metrics.recordNearCacheEviction();
+        }
+    }
+
+    /**
+     * Near cache entry. A null value marks a key which is known to have no value.
+     *
+     * @param <V> Cache value type.
+     */
+    static final class Entry<V> {
+
+        private final V value;
+        private final long expiryNanos;
+
+        private Entry(V value, long expiryNanos) {
+
+            this.value = value;
+            this.expiryNanos = expiryNanos;
+        }
+
+        V getValue() {
+
+            return value;
+        }
+
+        boolean isNotFound() {
+
+            return value == null;
+        }
+
+        private boolean isExpired(long now) {
+
+            return now - expiryNanos >= 0;
+        }
+    }
+
+    /**
+     * Cache key qualified with the tenant domain or tenant id used to access the cache.
+     *
+     * @param <K> Cache key type.
+     */
+    static final class TenantScopedKey<K> {
+
+        private final Object tenant;
+        private final K key;
+
+        TenantScopedKey(Object tenant, K key) {
+
+            this.tenant = tenant;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TenantScopedKey)) {
+                return false;
+            }
+            TenantScopedKey<?> that = (TenantScopedKey<?>) o;
+            return Objects.equals(tenant, that.tenant) && Objects.equals(key, that.key);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return 31 * Objects.hashCode(tenant) + Objects.hashCode(key);
+        }
+    }
+}
@@ -53,6 +53,7 @@ import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.organization.management.service.OrganizationUserResidentResolverService;
 import org.wso2.carbon.registry.core.service.RegistryService;
 import org.wso2.carbon.registry.core.service.TenantRegistryLoader;
+import org.wso2.carbon.stratos.common.listeners.TenantMgtListener;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.utils.ConfigurationContextService;
 
@@ -191,6 +192,9 @@ public class IdentityCoreServiceComponent {
                     .setTenantedSessionsEnabled(Boolean.parseBoolean(IdentityUtil.getProperty(
                             IdentityCoreConstants.ENABLE_TENANTED_SESSIONS)));
 
+            ctxt.getBundleContext().registerService(TenantMgtListener.class.getName(),
+                    new TenantResolutionCacheListener(), null);
+
             // Register initialize service To guarantee the activation order. Component which is referring this
             // service will wait until this component activated.
             ctxt.getBundleContext().registerService(IdentityCoreInitializedEvent.class.getName(),
@@ -213,6 +217,7 @@ public class IdentityCoreServiceComponent {
     protected void deactivate(ComponentContext ctxt) {
         defaultKeystoreManagerServiceRef.unregister();
         IdentityTenantUtil.setBundleContext(null);
+        JDBCPersistenceManager.shutdown();
         if (log.isDebugEnabled()) {
             log.debug("Identity Core bundle is deactivated");
         }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.core.internal;
+
+import org.wso2.carbon.identity.core.AbstractIdentityTenantMgtListener;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.stratos.common.beans.TenantInfoBean;
+
+/**
+ * Keeps the tenant resolution cache of {@link IdentityTenantUtil} in line with the tenants of the server.
+ */
+public class TenantResolutionCacheListener extends AbstractIdentityTenantMgtListener {
+
+    private static final int EXEC_ORDER = 1;
+
+    @Override
+    public void onTenantCreate(TenantInfoBean tenantInfoBean) {
+
+        IdentityTenantUtil.removeUnknownTenantDomain(tenantInfoBean.getTenantDomain());
+    }
+
+    @Override
+    public void onTenantRename(int tenantId, String oldDomainName, String newDomainName) {
+
+        IdentityTenantUtil.removeTenantFromResolutionCache(tenantId);
+        IdentityTenantUtil.removeUnknownTenantDomain(newDomainName);
+    }
+
+    @Override
+    public void onTenantActivation(int tenantId) {
+
+        IdentityTenantUtil.removeTenantFromResolutionCache(tenantId);
+    }
+
+    @Override
+    public void onTenantDeactivation(int tenantId) {
+
+        IdentityTenantUtil.removeTenantFromResolutionCache(tenantId);
+    }
+
+    @Override
+    public void onTenantDelete(int tenantId) {
+
+        IdentityTenantUtil.removeTenantFromResolutionCache(tenantId);
+    }
+
+    @Override
+    public void onPostDelete(int tenantId, String tenantUuid, String userUuid) {
+
+        IdentityTenantUtil.removeTenantFromResolutionCache(tenantId);
+    }
+
+    @Override
+    public int getListenerOrder() {
+
+        return EXEC_ORDER;
+    }
+}
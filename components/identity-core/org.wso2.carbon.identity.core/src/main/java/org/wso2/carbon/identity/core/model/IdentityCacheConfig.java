@@ -25,6 +25,9 @@ public class IdentityCacheConfig {
     private int capacity;
     private boolean isDistributed = true;
     private boolean isTemporary = false;
+    private int nearCacheTimeout;
+    private int nearCacheCapacity;
+    private int negativeCacheTimeout;
 
     public IdentityCacheConfig(IdentityCacheConfigKey identityCacheConfigKey) {
         this.identityCacheConfigKey = identityCacheConfigKey;
@@ -73,4 +76,28 @@ public class IdentityCacheConfig {
     public void setDistributed(boolean isDistributed) {
         this.isDistributed = isDistributed;
     }
+
+    public int getNearCacheTimeout() {
+        return nearCacheTimeout;
+    }
+
+    public void setNearCacheTimeout(int nearCacheTimeout) {
+        this.nearCacheTimeout = nearCacheTimeout;
+    }
+
+    public int getNearCacheCapacity() {
+        return nearCacheCapacity;
+    }
+
+    public void setNearCacheCapacity(int nearCacheCapacity) {
+        this.nearCacheCapacity = nearCacheCapacity;
+    }
+
+    public int getNegativeCacheTimeout() {
+        return negativeCacheTimeout;
+    }
+
+    public void setNegativeCacheTimeout(int negativeCacheTimeout) {
+        this.negativeCacheTimeout = negativeCacheTimeout;
+    }
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.core.persistence;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Wraps a database connection so that the statements created from it record their executions in
+ * {@link QueryStatistics}. Calls not related to executions are passed to the wrapped objects as they are.
+ */
+final class InstrumentedConnection {
+
+    private InstrumentedConnection() {
+
+    }
+
+    /**
+     * Wrap the connection.
+     *
+     * @param connection      Connection to be wrapped.
+     * @param queryStatistics Statistics the executions are recorded in.
+     * @return Wrapped connection.
+     */
+    static Connection wrap(Connection connection, QueryStatistics queryStatistics) {
+
+        if (connection == null || (Proxy.isProxyClass(connection.getClass())
+                && Proxy.getInvocationHandler(connection) instanceof ConnectionHandler)) {
+            return connection;
+        }
+        ConnectionHandler handler = new ConnectionHandler(connection, queryStatistics);
+        Connection proxy = (Connection) Proxy.newProxyInstance(InstrumentedConnection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, handler);
+        handler.proxy = proxy;
+        return proxy;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Wraps the statements created from the connection.
+     */
+    private static final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection connection;
+        private final QueryStatistics queryStatistics;
+        private Connection proxy;
+
+        ConnectionHandler(Connection connection, QueryStatistics queryStatistics) {
+
+            this.connection = connection;
+            this.queryStatistics = queryStatistics;
+        }
+
+        @Override
+        public Object invoke(Object proxyObject, Method method, Object[] args) throws Throwable {
+
+            Object result = InstrumentedConnection.invoke(connection, method, args);
+            if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                // Prepared statements and callable statements carry their SQL, plain statements get it on execution.
+                String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+                return Proxy.newProxyInstance(InstrumentedConnection.class.getClassLoader(),
+                        new Class<?>[]{method.getReturnType()},
+                        new StatementHandler((Statement) result, sql, proxy, queryStatistics));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Times the executions of a statement and wraps the result sets read from it.
+     */
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+        private final String preparedSql;
+        private final Connection connectionProxy;
+        private final QueryStatistics queryStatistics;
+        private String lastSql;
+
+        StatementHandler(Statement statement, String preparedSql, Connection connectionProxy,
+                         QueryStatistics queryStatistics) {
+
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+            this.lastSql = preparedSql;
+            this.connectionProxy = connectionProxy;
+            this.queryStatistics = queryStatistics;
+        }
+
+        @Override
+        public Object invoke(Object proxyObject, Method method, Object[] args) throws Throwable {
+
+            String methodName = method.getName();
+            if ("getConnection".equals(methodName)) {
+                return connectionProxy;
+            }
+            Object result;
+            if (methodName.startsWith("execute")) {
+                String sql = preparedSql;
+                if (args != null && args.length > 0 && args[0] instanceof String) {
+                    // SQL executed as it is may carry values in its literals.
+                    sql = QueryStatistics.normalizeSql((String) args[0]);
+                }
+                lastSql = sql;
+                long start = System.nanoTime();
+                try {
+                    result = InstrumentedConnection.invoke(statement, method, args);
+                } finally {
+                    queryStatistics.recordExecution(sql, System.nanoTime() - start);
+                }
+            } else {
+                result = InstrumentedConnection.invoke(statement, method, args);
+            }
+            if (result instanceof ResultSet && ResultSet.class.equals(method.getReturnType())) {
+                return Proxy.newProxyInstance(InstrumentedConnection.class.getClassLoader(),
+                        new Class<?>[]{ResultSet.class},
+                        new ResultSetHandler((ResultSet) result, lastSql, proxyObject, queryStatistics));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Counts the rows read from a result set.
+     */
+    private static final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet resultSet;
+        private final String sql;
+        private final Object statementProxy;
+        private final QueryStatistics queryStatistics;
+
+        ResultSetHandler(ResultSet resultSet, String sql, Object statementProxy, QueryStatistics queryStatistics) {
+
+            this.resultSet = resultSet;
+            this.sql = sql;
+            this.statementProxy = statementProxy;
+            this.queryStatistics = queryStatistics;
+        }
+
+        @Override
+        public Object invoke(Object proxyObject, Method method, Object[] args) throws Throwable {
+
+            if ("getStatement".equals(method.getName())) {
+                return statementProxy;
+            }
+            Object result = InstrumentedConnection.invoke(resultSet, method, args);
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                queryStatistics.recordRow(sql);
+            }
+            return result;
+        }
+    }
+}
@@ -19,6 +19,7 @@
 package org.wso2.carbon.identity.core.persistence;
 
 import org.apache.axiom.om.OMElement;
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.base.IdentityException;
@@ -26,8 +27,15 @@ import org.wso2.carbon.identity.base.IdentityRuntimeException;
 import org.wso2.carbon.identity.core.util.IdentityConfigParser;
 import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
 
+import java.lang.management.ManagementFactory;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 import javax.naming.Context;
 import javax.naming.InitialContext;
 import javax.naming.NamingException;
@@ -46,10 +54,22 @@ public class JDBCPersistenceManager {
     public static final String SESSION_DATA_PERSIST = "SessionDataPersist";
     public static final String DATA_SOURCE = "DataSource";
     public static final String NAME = "Name";
+    public static final String READ_REPLICAS = "ReadReplicas";
+    public static final String QUERY_INSTRUMENTATION = "QueryInstrumentation";
+    private static final long DEFAULT_REPLICA_MAX_LAG_MILLIS = 1000;
+    private static final long DEFAULT_REPLICA_CHECK_INTERVAL_MILLIS = 5000;
+    private static final long DEFAULT_STICKY_AFTER_WRITE_MILLIS = 5000;
+    private static final long DEFAULT_SLOW_QUERY_THRESHOLD_MILLIS = 500;
+    private static final int DEFAULT_SLOW_QUERY_SAMPLES = 100;
+    private static final int DEFAULT_MAX_TRACKED_QUERIES = 1000;
+    private static final String QUERY_STATISTICS_OBJECT_NAME =
+            "org.wso2.carbon.identity:type=QueryStatistics,name=JDBCPersistenceManager";
     private static Log log = LogFactory.getLog(JDBCPersistenceManager.class);
     private static volatile JDBCPersistenceManager instance;
     private DataSource dataSource;
     private DataSource sessionDataSource;
+    private ReadReplicaRouter readReplicaRouter;
+    private QueryStatistics queryStatistics;
     // This property refers to Active transaction state of postgresql db
     private static final String PG_ACTIVE_SQL_TRANSACTION_STATE = "25001";
     private static final String POSTGRESQL_DATABASE = "PostgreSQL";
@@ -132,12 +152,132 @@ public class JDBCPersistenceManager {
                 }
                 sessionDataSource = dataSource;
             }
+            initReadReplicas(persistenceManagerConfigElem);
+            initQueryInstrumentation(persistenceManagerConfigElem);
         } catch (NamingException e) {
             String errorMsg = "Error when looking up the Identity Data Source.";
             throw IdentityRuntimeException.error(errorMsg, e);
         }
     }
 
+    /**
+     * Look up the read replicas of the identity data source, if configured, as below.
+     * <pre>
+     * &lt;ReadReplicas&gt;
+     *     &lt;DataSource&gt;&lt;Name&gt;jdbc/WSO2IdentityReplicaDB&lt;/Name&gt;&lt;/DataSource&gt;
+     *     &lt;LagQuery&gt;Query returning the replication lag in seconds&lt;/LagQuery&gt;
+     *     &lt;MaxLag&gt;1000&lt;/MaxLag&gt;
+     *     &lt;CheckInterval&gt;5000&lt;/CheckInterval&gt;
+     *     &lt;StickyAfterWrite&gt;5000&lt;/StickyAfterWrite&gt;
+     * &lt;/ReadReplicas&gt;
+     * </pre>
+     */
+    private void initReadReplicas(OMElement persistenceManagerConfigElem) throws NamingException {
+
+        OMElement readReplicasElem = persistenceManagerConfigElem.getFirstChildWithName(
+                new QName(IdentityCoreConstants.IDENTITY_DEFAULT_NAMESPACE, READ_REPLICAS));
+        if (readReplicasElem == null) {
+            return;
+        }
+        List<DataSource> replicaDataSources = new ArrayList<>();
+        Iterator<?> dataSourceElems = readReplicasElem.getChildrenWithName(
+                new QName(IdentityCoreConstants.IDENTITY_DEFAULT_NAMESPACE, DATA_SOURCE));
+        while (dataSourceElems.hasNext()) {
+            String dataSourceName = getChildText((OMElement) dataSourceElems.next(), NAME);
+            if (StringUtils.isNotBlank(dataSourceName)) {
+                Context ctx = new InitialContext();
+                replicaDataSources.add((DataSource) ctx.lookup(dataSourceName.trim()));
+            }
+        }
+        if (replicaDataSources.isEmpty()) {
+            return;
+        }
+        readReplicaRouter = new ReadReplicaRouter(replicaDataSources, getChildText(readReplicasElem, "LagQuery"),
+                getChildLong(readReplicasElem, "MaxLag", DEFAULT_REPLICA_MAX_LAG_MILLIS),
+                getChildLong(readReplicasElem, "CheckInterval", DEFAULT_REPLICA_CHECK_INTERVAL_MILLIS),
+                getChildLong(readReplicasElem, "StickyAfterWrite", DEFAULT_STICKY_AFTER_WRITE_MILLIS));
+        if (log.isDebugEnabled()) {
+            log.debug(replicaDataSources.size() + " read replicas are configured for the Identity data source.");
+        }
+    }
+
+    private void initQueryInstrumentation(OMElement persistenceManagerConfigElem) {
+
+        OMElement instrumentationElem = persistenceManagerConfigElem.getFirstChildWithName(
+                new QName(IdentityCoreConstants.IDENTITY_DEFAULT_NAMESPACE, QUERY_INSTRUMENTATION));
+        if (instrumentationElem == null || !Boolean.parseBoolean(getChildText(instrumentationElem, "Enable"))) {
+            return;
+        }
+        queryStatistics = new QueryStatistics(
+                getChildLong(instrumentationElem, "SlowQueryThreshold", DEFAULT_SLOW_QUERY_THRESHOLD_MILLIS),
+                (int) getChildLong(instrumentationElem, "SlowQuerySamples", DEFAULT_SLOW_QUERY_SAMPLES),
+                (int) getChildLong(instrumentationElem, "MaxTrackedQueries", DEFAULT_MAX_TRACKED_QUERIES));
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(QUERY_STATISTICS_OBJECT_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+            mBeanServer.registerMBean(queryStatistics, objectName);
+        } catch (JMException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error while registering the query statistics MBean.", e);
+            }
+        }
+    }
+
+    /**
+     * Stop checking the replication lag of the read replicas and unregister the query statistics MBean. The next
+     * call to {@link #getInstance()} initializes a new persistence manager.
+     */
+    public static void shutdown() {
+
+        synchronized (JDBCPersistenceManager.class) {
+            if (instance == null) {
+                return;
+            }
+            if (instance.readReplicaRouter != null) {
+                instance.readReplicaRouter.shutdown();
+            }
+            if (instance.queryStatistics != null) {
+                try {
+                    MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+                    ObjectName objectName = new ObjectName(QUERY_STATISTICS_OBJECT_NAME);
+                    if (mBeanServer.isRegistered(objectName)) {
+                        mBeanServer.unregisterMBean(objectName);
+                    }
+                } catch (JMException e) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Error while unregistering the query statistics MBean.", e);
+                    }
+                }
+            }
+            instance = null;
+        }
+    }
+
+    private static String getChildText(OMElement element, String childName) {
+
+        OMElement childElem = element.getFirstChildWithName(
+                new QName(IdentityCoreConstants.IDENTITY_DEFAULT_NAMESPACE, childName));
+        return childElem != null ? StringUtils.trimToNull(childElem.getText()) : null;
+    }
+
+    private static long getChildLong(OMElement element, String childName, long defaultValue) {
+
+        String value = getChildText(element, childName);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value: " + value + " configured for: " + childName + ". Hence using the default " +
+                    "value: " + defaultValue);
+            return defaultValue;
+        }
+    }
+
     public void initializeDatabase() {
 
         IdentityDBInitializer dbInitializer = new IdentityDBInitializer(dataSource);
@@ -186,13 +326,52 @@ public class JDBCPersistenceManager {
                     }
                 }
             }
-            return dbConnection;
+            if (shouldApplyTransaction && readReplicaRouter != null) {
+                readReplicaRouter.recordWrite();
+            }
+            return instrument(dbConnection);
         } catch (SQLException e) {
             String errMsg = "Error when getting a database connection object from the Identity data source.";
             throw DBConnectionException.error(errMsg, e);
         }
     }
 
+    /**
+     * Returns a non-transactional database connection for reads from the Identity data source. The connection is
+     * obtained from a read replica if read replicas are configured, hence it must be used only for reads which
+     * tolerate the configured replication lag. Reads of a thread shortly after it obtained a transactional
+     * connection are served by the primary data source.
+     *
+     * @return Database connection.
+     * @throws IdentityRuntimeException Exception occurred when getting the connection.
+     */
+    public Connection getReadOnlyDBConnection() throws IdentityRuntimeException {
+
+        if (readReplicaRouter == null) {
+            return getDBConnection(false);
+        }
+        DataSource replicaDataSource = readReplicaRouter.selectReplica();
+        if (replicaDataSource == null) {
+            return getDBConnection(false);
+        }
+        try {
+            return instrument(replicaDataSource.getConnection());
+        } catch (SQLException e) {
+            readReplicaRouter.markUnavailable(replicaDataSource);
+            log.warn("Error when getting a database connection object from a read replica of the Identity data " +
+                    "source. Hence using the primary data source.", e);
+            return getDBConnection(false);
+        }
+    }
+
+    private Connection instrument(Connection dbConnection) {
+
+        if (queryStatistics == null) {
+            return dbConnection;
+        }
+        return InstrumentedConnection.wrap(dbConnection, queryStatistics);
+    }
+
     /**
      * Returns an database connection for Session data source.
      *
@@ -219,7 +398,7 @@ public class JDBCPersistenceManager {
                     }
                 }
             }
-            return dbConnection;
+            return instrument(dbConnection);
         } catch (SQLException e) {
             String errMsg = "Error when getting a database connection object from the Session data source.";
             throw IdentityRuntimeException.error(errMsg, e);
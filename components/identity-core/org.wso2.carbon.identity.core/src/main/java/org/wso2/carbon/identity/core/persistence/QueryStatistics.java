@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.persistence;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Statistics of the queries run on the connections of the identity and session data sources, recorded when query
+ * instrumentation is enabled for the JDBC persistence manager.
+ * <p>
+ * For each SQL statement the number of executions, a latency histogram and the number of rows read are kept. The
+ * latest executions which took longer than the slow query threshold are kept as samples. Parameter values are never
+ * recorded, and the string and numeric literals of statements executed with their SQL, which may carry values, are
+ * replaced with "?".
+ */
+public class QueryStatistics implements QueryStatisticsMBean {
+
+    /**
+     * Upper bounds of the latency histogram buckets in milliseconds. The last bucket counts the slower executions.
+     */
+    private static final long[] LATENCY_BUCKETS_MILLIS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000};
+    static final String OTHER_QUERIES = "OTHER";
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:''|[^'])*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w.])\\d+(?:\\.\\d+)?");
+
+    private final long slowQueryThresholdNanos;
+    private final int maxSlowQuerySamples;
+    private final int maxTrackedQueries;
+    private final Map<String, QueryStats> queryStats = new ConcurrentHashMap<>();
+    private final Deque<SlowQuery> slowQueries = new ArrayDeque<>();
+
+    /**
+     * @param slowQueryThresholdMillis Duration after which an execution is sampled as a slow query, in milliseconds.
+     * @param maxSlowQuerySamples      Number of latest slow query samples kept.
+     * @param maxTrackedQueries        Number of distinct statements tracked. Executions of further statements are
+     *                                 recorded under {@link #OTHER_QUERIES}.
+     */
+    QueryStatistics(long slowQueryThresholdMillis, int maxSlowQuerySamples, int maxTrackedQueries) {
+
+        this.slowQueryThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryThresholdMillis);
+        this.maxSlowQuerySamples = Math.max(0, maxSlowQuerySamples);
+        this.maxTrackedQueries = Math.max(1, maxTrackedQueries);
+    }
+
+    /**
+     * Record an execution of a statement.
+     *
+     * @param sql           SQL of the statement.
+     * @param durationNanos Duration of the execution in nanoseconds.
+     */
+    void recordExecution(String sql, long durationNanos) {
+
+        getQueryStats(sql).recordExecution(durationNanos);
+        if (durationNanos >= slowQueryThresholdNanos && maxSlowQuerySamples > 0) {
+            SlowQuery slowQuery = new SlowQuery(sql, TimeUnit.NANOSECONDS.toMillis(durationNanos),
+                    System.currentTimeMillis());
+            synchronized (slowQueries) {
+                if (slowQueries.size() >= maxSlowQuerySamples) {
+                    slowQueries.removeFirst();
+                }
+                slowQueries.addLast(slowQuery);
+            }
+        }
+    }
+
+    /**
+     * Replace the literals of the SQL of a statement with "?", so that values are not recorded and the executions
+     * of the same statement with different values are recorded together.
+     *
+     * @param sql SQL of the statement.
+     * @return SQL without literals.
+     */
+    static String normalizeSql(String sql) {
+
+        if (sql == null) {
+            return null;
+        }
+        String normalizedSql = STRING_LITERAL.matcher(sql).replaceAll("?");
+        return NUMERIC_LITERAL.matcher(normalizedSql).replaceAll("?");
+    }
+
+    /**
+     * Record a row read from the result of a statement.
+     *
+     * @param sql SQL of the statement.
+     */
+    void recordRow(String sql) {
+
+        getQueryStats(sql).rows.increment();
+    }
+
+    /**
+     * @return Statistics of each statement, starting with the statement with the highest total execution time.
+     */
+    public Map<String, QueryStats> getQueryStats() {
+
+        Map<String, QueryStats> stats = new LinkedHashMap<>();
+        queryStats.entrySet().stream()
+                .sorted((first, second) -> Long.compare(second.getValue().getTotalTimeNanos(),
+                        first.getValue().getTotalTimeNanos()))
+                .forEach(entry -> stats.put(entry.getKey(), entry.getValue()));
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * @return Latest slow query samples, oldest first.
+     */
+    public List<SlowQuery> getSlowQueries() {
+
+        synchronized (slowQueries) {
+            return Collections.unmodifiableList(new ArrayList<>(slowQueries));
+        }
+    }
+
+    @Override
+    public String[] getStatementStatistics() {
+
+        return getQueryStats().entrySet().stream()
+                .map(entry -> "executions=" + entry.getValue().getExecutions() +
+                        ", totalMillis=" + TimeUnit.NANOSECONDS.toMillis(entry.getValue().getTotalTimeNanos()) +
+                        ", maxMillis=" + TimeUnit.NANOSECONDS.toMillis(entry.getValue().getMaxTimeNanos()) +
+                        ", rows=" + entry.getValue().getRows() +
+                        ", histogram=" + Arrays.toString(entry.getValue().getLatencyHistogram()) +
+                        ", sql=" + entry.getKey())
+                .toArray(String[]::new);
+    }
+
+    @Override
+    public String[] getSlowQuerySamples() {
+
+        return getSlowQueries().stream()
+                .map(slowQuery -> "timestamp=" + slowQuery.getTimestamp() +
+                        ", durationMillis=" + slowQuery.getDurationMillis() + ", sql=" + slowQuery.getSql())
+                .toArray(String[]::new);
+    }
+
+    /**
+     * @return Upper bounds of the latency histogram buckets in milliseconds. The last bucket of a histogram counts
+     * the slower executions.
+     */
+    @Override
+    public long[] getLatencyBucketsMillis() {
+
+        return LATENCY_BUCKETS_MILLIS.clone();
+    }
+
+    @Override
+    public void reset() {
+
+        queryStats.clear();
+        synchronized (slowQueries) {
+            slowQueries.clear();
+        }
+    }
+
+    private QueryStats getQueryStats(String sql) {
+
+        String key = sql == null ? OTHER_QUERIES : sql;
+        QueryStats stats = queryStats.get(key);
+        if (stats == null) {
+            if (queryStats.size() >= maxTrackedQueries) {
+                key = OTHER_QUERIES;
+            }
+            stats = queryStats.computeIfAbsent(key, k -> new QueryStats());
+        }
+        return stats;
+    }
+
+    /**
+     * Execution statistics of a statement.
+     */
+    public static class QueryStats {
+
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder totalTimeNanos = new LongAdder();
+        private final LongAccumulator maxTimeNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder[] latencyHistogram = new LongAdder[LATENCY_BUCKETS_MILLIS.length + 1];
+
+        QueryStats() {
+
+            for (int i = 0; i < latencyHistogram.length; i++) {
+                latencyHistogram[i] = new LongAdder();
+            }
+        }
+
+        private void recordExecution(long durationNanos) {
+
+            executions.increment();
+            totalTimeNanos.add(durationNanos);
+            maxTimeNanos.accumulate(durationNanos);
+            long durationMillis = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+            int bucket = 0;
+            while (bucket < LATENCY_BUCKETS_MILLIS.length && durationMillis >= LATENCY_BUCKETS_MILLIS[bucket]) {
+                bucket++;
+            }
+            latencyHistogram[bucket].increment();
+        }
+
+        public long getExecutions() {
+
+            return executions.sum();
+        }
+
+        public long getTotalTimeNanos() {
+
+            return totalTimeNanos.sum();
+        }
+
+        public long getMaxTimeNanos() {
+
+            return maxTimeNanos.get();
+        }
+
+        public long getRows() {
+
+            return rows.sum();
+        }
+
+        /**
+         * @return Number of executions in each bucket of {@link QueryStatistics#getLatencyBucketsMillis()},
+         * followed by the number of executions slower than the last bucket.
+         */
+        public long[] getLatencyHistogram() {
+
+            long[] histogram = new long[latencyHistogram.length];
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] = latencyHistogram[i].sum();
+            }
+            return histogram;
+        }
+    }
+
+    /**
+     * Sample of an execution which took longer than the slow query threshold.
+     */
+    public static class SlowQuery {
+
+        private final String sql;
+        private final long durationMillis;
+        private final long timestamp;
+
+        SlowQuery(String sql, long durationMillis, long timestamp) {
+
+            this.sql = sql;
+            this.durationMillis = durationMillis;
+            this.timestamp = timestamp;
+        }
+
+        public String getSql() {
+
+            return sql;
+        }
+
+        public long getDurationMillis() {
+
+            return durationMillis;
+        }
+
+        public long getTimestamp() {
+
+            return timestamp;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.persistence;
+
+/**
+ * JMX view of the {@link QueryStatistics} of the JDBC persistence manager.
+ */
+public interface QueryStatisticsMBean {
+
+    /**
+     * @return One line per statement with its number of executions, total and maximum execution time, number of
+     * rows read and latency histogram, starting with the statement with the highest total execution time.
+     */
+    String[] getStatementStatistics();
+
+    /**
+     * @return One line per latest slow query sample with its timestamp and duration, oldest first.
+     */
+    String[] getSlowQuerySamples();
+
+    /**
+     * @return Upper bounds of the latency histogram buckets in milliseconds.
+     */
+    long[] getLatencyBucketsMillis();
+
+    /**
+     * Remove the recorded statistics.
+     */
+    void reset();
+}
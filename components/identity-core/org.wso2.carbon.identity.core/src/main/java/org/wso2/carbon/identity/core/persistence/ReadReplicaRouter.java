@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.core.persistence;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+/**
+ * Selects the read replica of the identity database which serves a read-only connection.
+ * <p>
+ * Replicas are used in round robin order. A replica is skipped while it is unavailable, i.e. for a check interval after
+ * a connection to it failed, and while its replication lag exceeds the maximum lag. The lag is measured with the
+ * configured lag query by a background thread once per check interval, so that reads never wait for a lag check. A
+ * replica is also skipped until its lag is known, while the lag query fails or returns no lag, and when its lag was
+ * not measured for two check intervals. Reads of a thread which obtained a transactional connection within the
+ * sticky period are served by the primary, so that a flow reads its own writes.
+ */
+final class ReadReplicaRouter {
+
+    private static final Log log = LogFactory.getLog(ReadReplicaRouter.class);
+
+    private final List<Replica> replicas;
+    private final String lagQuery;
+    private final long maxLagMillis;
+    private final long checkIntervalNanos;
+    private final long maxLagCheckAgeNanos;
+    private final long stickyAfterWriteNanos;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ThreadLocal<Long> lastWriteNanos = new ThreadLocal<>();
+    private final ScheduledExecutorService lagChecker;
+
+    /**
+     * @param dataSources            Data sources of the read replicas.
+     * @param lagQuery               Query which returns the replication lag of a replica in seconds. Lag is not
+     *                               checked if the query is empty.
+     * @param maxLagMillis           Maximum replication lag of a replica which serves reads, in milliseconds.
+     * @param checkIntervalMillis    Interval of the lag checks and the time an unavailable replica is skipped, in
+     *                               milliseconds.
+     * @param stickyAfterWriteMillis Period after a transactional connection during which reads of the thread are
+     *                               served by the primary, in milliseconds.
+     */
+    ReadReplicaRouter(List<DataSource> dataSources, String lagQuery, long maxLagMillis, long checkIntervalMillis,
+                      long stickyAfterWriteMillis) {
+
+        this.replicas = new ArrayList<>(dataSources.size());
+        for (DataSource dataSource : dataSources) {
+            replicas.add(new Replica(dataSource));
+        }
+        this.lagQuery = StringUtils.trimToNull(lagQuery);
+        this.maxLagMillis = maxLagMillis;
+        this.checkIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, checkIntervalMillis));
+        this.maxLagCheckAgeNanos = 2 * TimeUnit.MILLISECONDS.toNanos(Math.max(1, checkIntervalMillis));
+        this.stickyAfterWriteNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, stickyAfterWriteMillis));
+        if (this.lagQuery != null) {
+            lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "ReadReplicaLagChecker");
+                thread.setDaemon(true);
+                return thread;
+            });
+            lagChecker.scheduleWithFixedDelay(this::checkReplicationLag, 0, Math.max(1, checkIntervalMillis),
+                    TimeUnit.MILLISECONDS);
+        } else {
+            lagChecker = null;
+        }
+    }
+
+    /**
+     * Select the replica which serves the next read of the current thread.
+     *
+     * @return Data source of the replica, or null if the read should be served by the primary.
+     */
+    DataSource selectReplica() {
+
+        Long lastWrite = lastWriteNanos.get();
+        if (lastWrite != null) {
+            if (System.nanoTime() - lastWrite < stickyAfterWriteNanos) {
+                return null;
+            }
+            lastWriteNanos.remove();
+        }
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (isUsable(replica)) {
+                return replica.dataSource;
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("No read replica is usable. Hence serving the read from the primary data source.");
+        }
+        return null;
+    }
+
+    /**
+     * Record that the current thread obtained a connection to write to the primary.
+     */
+    void recordWrite() {
+
+        if (stickyAfterWriteNanos > 0) {
+            lastWriteNanos.set(System.nanoTime());
+        }
+    }
+
+    /**
+     * Skip the replica for a check interval, as a connection to it could not be obtained.
+     *
+     * @param dataSource Data source of the replica.
+     */
+    void markUnavailable(DataSource dataSource) {
+
+        for (Replica replica : replicas) {
+            if (replica.dataSource == dataSource) {
+                replica.unavailableUntilNanos = System.nanoTime() + checkIntervalNanos;
+                replica.unavailable = true;
+            }
+        }
+    }
+
+    /**
+     * Stop checking the replication lag of the replicas.
+     */
+    void shutdown() {
+
+        if (lagChecker != null) {
+            lagChecker.shutdownNow();
+        }
+    }
+
+    /**
+     * Measure the replication lag of each replica with the lag query.
+     */
+    void checkReplicationLag() {
+
+        for (Replica replica : replicas) {
+            long lagMillis;
+            try {
+                lagMillis = readLagMillis(replica.dataSource);
+            } catch (SQLException | RuntimeException e) {
+                log.warn("Error while checking the replication lag of a read replica. Hence skipping the replica.",
+                        e);
+                lagMillis = Long.MAX_VALUE;
+            }
+            replica.lagMillis = lagMillis;
+            replica.lagCheckedAtNanos = System.nanoTime();
+            replica.lagChecked = true;
+        }
+    }
+
+    private boolean isUsable(Replica replica) {
+
+        long now = System.nanoTime();
+        if (replica.unavailable) {
+            if (now - replica.unavailableUntilNanos < 0) {
+                return false;
+            }
+            replica.unavailable = false;
+        }
+        if (lagQuery == null) {
+            return true;
+        }
+        // Until the first check completes the lag of the replica is not known, and a check which is not repeated
+        // in time is stuck on the replica.
+        return replica.lagChecked && now - replica.lagCheckedAtNanos < maxLagCheckAgeNanos
+                && replica.lagMillis <= maxLagMillis;
+    }
+
+    private long readLagMillis(DataSource dataSource) throws SQLException {
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(lagQuery);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            if (resultSet.next()) {
+                double lagSeconds = resultSet.getDouble(1);
+                if (!resultSet.wasNull()) {
+                    return (long) (lagSeconds * 1000);
+                }
+            }
+            // No lag means that the replica is not replicating, hence its data may be arbitrarily stale.
+            if (log.isDebugEnabled()) {
+                log.debug("The lag query returned no replication lag for a read replica. Hence skipping the replica.");
+            }
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Availability and replication lag of a read replica.
+     */
+    private static final class Replica {
+
+        private final DataSource dataSource;
+        private volatile boolean unavailable;
+        private volatile long unavailableUntilNanos;
+        private volatile boolean lagChecked;
+        private volatile long lagCheckedAtNanos;
+        private volatile long lagMillis;
+
+        Replica(DataSource dataSource) {
+
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.util;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resolved view of the identity configuration read through {@link IdentityUtil}.
+ * <p>
+ * The value of a key is resolved, i.e. URL placeholders are filled, once and kept together with the values parsed from
+ * it, so that repeated reads of a key do no string processing. A resolved value is used only while the key maps to the
+ * same raw value in the configuration it was resolved from, hence changes to the configuration are seen by the next
+ * read. Reads of each key are counted to find the configuration which is read the most.
+ */
+final class IdentityConfigSnapshot {
+
+    private static final Object NOT_A_NUMBER = new Object();
+
+    private final Map<String, Object> configuration;
+    private final Map<String, ResolvedProperty> properties = new ConcurrentHashMap<>();
+
+    IdentityConfigSnapshot(Map<String, Object> configuration) {
+
+        this.configuration = configuration;
+    }
+
+    /**
+     * @return Configuration this snapshot resolves values from.
+     */
+    Map<String, Object> getConfiguration() {
+
+        return configuration;
+    }
+
+    String getProperty(String key) {
+
+        return getResolvedProperty(key).getValue();
+    }
+
+    boolean getBooleanProperty(String key, boolean defaultValue) {
+
+        ResolvedProperty property = getResolvedProperty(key);
+        String value = property.getValue();
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        Boolean booleanValue = property.booleanValue;
+        if (booleanValue == null) {
+            booleanValue = Boolean.parseBoolean(value.trim());
+            property.booleanValue = booleanValue;
+        }
+        return booleanValue;
+    }
+
+    int getIntProperty(String key, int defaultValue) {
+
+        ResolvedProperty property = getResolvedProperty(key);
+        String value = property.getValue();
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        Object intValue = property.intValue;
+        if (intValue == null) {
+            try {
+                intValue = Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                intValue = NOT_A_NUMBER;
+            }
+            property.intValue = intValue;
+        }
+        return intValue == NOT_A_NUMBER ? defaultValue : (Integer) intValue;
+    }
+
+    long getLongProperty(String key, long defaultValue) {
+
+        ResolvedProperty property = getResolvedProperty(key);
+        String value = property.getValue();
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        Object longValue = property.longValue;
+        if (longValue == null) {
+            try {
+                longValue = Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                longValue = NOT_A_NUMBER;
+            }
+            property.longValue = longValue;
+        }
+        return longValue == NOT_A_NUMBER ? defaultValue : (Long) longValue;
+    }
+
+    List<String> getListProperty(String key) {
+
+        ResolvedProperty property = getResolvedProperty(key);
+        List<String> listValue = property.listValue;
+        if (listValue == null) {
+            listValue = toList(property.rawValue);
+            property.listValue = listValue;
+        }
+        return new ArrayList<>(listValue);
+    }
+
+    /**
+     * @return Number of reads of each key, starting with the most read key.
+     */
+    Map<String, Long> getAccessCounts() {
+
+        Map<String, Long> accessCounts = new LinkedHashMap<>();
+        properties.entrySet().stream()
+                .sorted((first, second) -> Long.compare(second.getValue().accessCount.sum(),
+                        first.getValue().accessCount.sum()))
+                .forEach(entry -> accessCounts.put(entry.getKey(), entry.getValue().accessCount.sum()));
+        return Collections.unmodifiableMap(accessCounts);
+    }
+
+    private ResolvedProperty getResolvedProperty(String key) {
+
+        Object rawValue = configuration.get(key);
+        ResolvedProperty property = properties.get(key);
+        if (property == null || property.rawValue != rawValue) {
+            LongAdder accessCount = property != null ? property.accessCount : new LongAdder();
+            property = new ResolvedProperty(rawValue, accessCount);
+            properties.put(key, property);
+        }
+        property.accessCount.increment();
+        return property;
+    }
+
+    private static List<String> toList(Object rawValue) {
+
+        List<String> propertyList = new ArrayList<>();
+        if (rawValue == null) {
+            return propertyList;
+        }
+        if (rawValue instanceof List) {
+            for (Object rawProp : (List) rawValue) {
+                propertyList.add(rawProp instanceof String ? (String) rawProp : String.valueOf(rawProp));
+            }
+        } else {
+            propertyList.add(rawValue instanceof String ? (String) rawValue : String.valueOf(rawValue));
+        }
+        return propertyList;
+    }
+
+    /**
+     * Raw value of a key together with the values resolved and parsed from it. Values are resolved and parsed on
+     * first use.
+     */
+    private static final class ResolvedProperty {
+
+        private final Object rawValue;
+        private final LongAdder accessCount;
+        private volatile boolean resolved;
+        private volatile String value;
+        private volatile Boolean booleanValue;
+        private volatile Object intValue;
+        private volatile Object longValue;
+        private volatile List<String> listValue;
+
+        ResolvedProperty(Object rawValue, LongAdder accessCount) {
+
+            this.rawValue = rawValue;
+            this.accessCount = accessCount;
+        }
+
+        String getValue() {
+
+            if (!resolved) {
+                value = resolve(rawValue);
+                resolved = true;
+            }
+            return value;
+        }
+
+        private static String resolve(Object rawValue) {
+
+            Object value = rawValue;
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof List) {
+                value = ((List) value).get(0);
+            }
+            String strValue = value instanceof String ? (String) value : String.valueOf(value);
+            return IdentityUtil.fillURLPlaceholders(strValue);
+        }
+    }
+}
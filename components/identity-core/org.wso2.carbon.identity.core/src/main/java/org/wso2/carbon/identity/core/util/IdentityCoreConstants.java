@@ -42,6 +42,7 @@ public class IdentityCoreConstants {
             "TenantContext.TenantQualifiedUrls.AppendSuperTenantInCookiePath";
     public static final String ENABLE_TENANTED_SESSIONS = "TenantContext.TenantQualifiedUrls.EnableTenantedSessions";
     public static final String PROXY_CONTEXT_PATH = "ProxyContextPath";
+    public static final String ENABLE_SERVICE_URL_TEMPLATE_CACHE = "ServiceURLBuilder.TemplateCache.Enable";
     public static final int DEFAULT_HTTPS_PORT = 443;
     public static final String UTF_8 = "UTF-8";
     public static final String UTC = "UTC";
@@ -114,6 +115,17 @@ public class IdentityCoreConstants {
     
     public static final int DEFAULT_MAXIMUM_ACTIONS_PER_TYPE = 1;
 
+    // Tenant resolution cache constants.
+    public static final String ENABLE_TENANT_RESOLUTION_CACHE = "TenantResolutionCache.Enable";
+    public static final String TENANT_RESOLUTION_CACHE_PRELOAD = "TenantResolutionCache.Preload";
+    public static final String TENANT_RESOLUTION_CACHE_TIMEOUT = "TenantResolutionCache.Timeout";
+    public static final String TENANT_RESOLUTION_CACHE_UNKNOWN_DOMAIN_TIMEOUT =
+            "TenantResolutionCache.UnknownDomainTimeout";
+    public static final String TENANT_RESOLUTION_CACHE_MAX_UNKNOWN_DOMAINS = "TenantResolutionCache.MaxUnknownDomains";
+    public static final long DEFAULT_TENANT_RESOLUTION_CACHE_TIMEOUT = 900000;
+    public static final long DEFAULT_TENANT_RESOLUTION_CACHE_UNKNOWN_DOMAIN_TIMEOUT = 10000;
+    public static final int DEFAULT_TENANT_RESOLUTION_CACHE_MAX_UNKNOWN_DOMAINS = 10000;
+
     public static class Filter {
 
         public static final String AND = "and";
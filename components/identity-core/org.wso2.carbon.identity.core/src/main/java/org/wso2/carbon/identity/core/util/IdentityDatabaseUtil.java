@@ -57,6 +57,19 @@ public class IdentityDatabaseUtil {
         return JDBCPersistenceManager.getInstance().getDBConnection(shouldApplyTransaction);
     }
 
+    /**
+     * Get a non-transactional database connection for reads from the Identity Persistence Manager. The connection is
+     * obtained from a read replica of the identity database if read replicas are configured, hence use it only for
+     * reads which tolerate replication lag, and not for reads whose result is cached.
+     *
+     * @return Database Connection
+     * @throws IdentityRuntimeException Error when getting a database connection to Identity database
+     */
+    public static Connection getReadOnlyDBConnection() throws IdentityRuntimeException {
+
+        return JDBCPersistenceManager.getInstance().getReadOnlyDBConnection();
+    }
+
     /**
      * Get a database connection instance from the Session Persistence.
      *
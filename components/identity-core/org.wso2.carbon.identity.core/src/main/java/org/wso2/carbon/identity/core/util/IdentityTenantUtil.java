@@ -48,6 +48,8 @@ import org.wso2.carbon.utils.multitenancy.MultitenantUtils;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class IdentityTenantUtil {
@@ -58,6 +60,8 @@ public class IdentityTenantUtil {
     private static TenantRegistryLoader tenantRegistryLoader;
     private static BundleContext bundleContext;
     protected static ConcurrentHashMap<Integer,Boolean> tenantIdMap = new ConcurrentHashMap<Integer,Boolean>();
+    private static volatile TenantResolutionCache tenantResolutionCache;
+    private static volatile boolean tenantResolutionCacheInitialized;
 
     public static TenantRegistryLoader getTenantRegistryLoader() {
         return tenantRegistryLoader;
@@ -201,6 +205,11 @@ public class IdentityTenantUtil {
     @Deprecated
     public static void setRealmService(RealmService realmService) {
         IdentityTenantUtil.realmService = realmService;
+        synchronized (IdentityTenantUtil.class) {
+            // Tenants resolved through the previous realm service are not valid for the new one.
+            tenantResolutionCache = null;
+            tenantResolutionCacheInitialized = false;
+        }
     }
 
     /**
@@ -259,6 +268,16 @@ public class IdentityTenantUtil {
 
     public static int getTenantId(String tenantDomain) throws IdentityRuntimeException {
 
+        TenantResolutionCache cache = tenantDomain != null ? getTenantResolutionCache() : null;
+        if (cache != null) {
+            Integer cachedTenantId = cache.getTenantId(tenantDomain);
+            if (cachedTenantId != null) {
+                return cachedTenantId;
+            }
+            if (cache.isUnknownDomain(tenantDomain)) {
+                throw IdentityRuntimeException.error("Invalid tenant domain " + tenantDomain);
+            }
+        }
         int tenantId = MultitenantConstants.INVALID_TENANT_ID;
         try {
             if (realmService != null) {
@@ -273,8 +292,14 @@ public class IdentityTenantUtil {
                     tenantDomain + e.getMessage(), e);
         }
         if(tenantId == MultitenantConstants.INVALID_TENANT_ID){
+            if (cache != null && realmService != null) {
+                cache.addUnknownDomain(tenantDomain);
+            }
             throw IdentityRuntimeException.error("Invalid tenant domain " + tenantDomain);
         } else {
+            if (cache != null) {
+                cache.addTenantId(tenantDomain, tenantId);
+            }
             return tenantId;
         }
 
@@ -282,6 +307,13 @@ public class IdentityTenantUtil {
 
     public static String getTenantDomain(int tenantId) throws IdentityRuntimeException {
 
+        TenantResolutionCache cache = getTenantResolutionCache();
+        if (cache != null) {
+            String cachedTenantDomain = cache.getTenantDomain(tenantId);
+            if (cachedTenantDomain != null) {
+                return cachedTenantDomain;
+            }
+        }
         String tenantDomain = null;
         try {
             tenantDomain = realmService.getTenantManager().getDomain(tenantId);
@@ -296,11 +328,107 @@ public class IdentityTenantUtil {
         if (tenantDomain == null) {
             throw IdentityRuntimeException.error("Can not find the tenant domain for the tenant id " + tenantId);
         } else {
+            if (cache != null) {
+                cache.addTenant(tenantId, tenantDomain);
+            }
             return tenantDomain;
         }
 
     }
 
+    /**
+     * Remove a tenant from the cache of resolved tenant IDs and domains, e.g. when the tenant is deleted or renamed.
+     *
+     * @param tenantId Tenant ID.
+     */
+    public static void removeTenantFromResolutionCache(int tenantId) {
+
+        TenantResolutionCache cache = tenantResolutionCache;
+        if (cache != null) {
+            cache.removeTenant(tenantId);
+        }
+    }
+
+    /**
+     * Forget that a domain was found not to belong to any tenant, e.g. when a tenant is created with the domain.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public static void removeUnknownTenantDomain(String tenantDomain) {
+
+        TenantResolutionCache cache = tenantResolutionCache;
+        if (cache != null && tenantDomain != null) {
+            cache.removeUnknownDomain(tenantDomain);
+        }
+    }
+
+    /**
+     * Cache of resolved tenant IDs and domains, created on first use after the realm service is available if it is
+     * enabled in the identity.xml. Active tenants are preloaded in the background, so that the first request does
+     * not wait for all the tenants to be loaded.
+     */
+    private static TenantResolutionCache getTenantResolutionCache() {
+
+        if (tenantResolutionCacheInitialized) {
+            return tenantResolutionCache;
+        }
+        if (realmService == null) {
+            return null;
+        }
+        TenantResolutionCache cacheToPreload = null;
+        synchronized (IdentityTenantUtil.class) {
+            if (!tenantResolutionCacheInitialized) {
+                if (IdentityUtil.getPropertyAsBoolean(IdentityCoreConstants.ENABLE_TENANT_RESOLUTION_CACHE, false)) {
+                    TenantResolutionCache cache = new TenantResolutionCache(IdentityUtil.getPropertyAsLong(
+                            IdentityCoreConstants.TENANT_RESOLUTION_CACHE_TIMEOUT,
+                            IdentityCoreConstants.DEFAULT_TENANT_RESOLUTION_CACHE_TIMEOUT),
+                            IdentityUtil.getPropertyAsLong(
+                                    IdentityCoreConstants.TENANT_RESOLUTION_CACHE_UNKNOWN_DOMAIN_TIMEOUT,
+                                    IdentityCoreConstants.DEFAULT_TENANT_RESOLUTION_CACHE_UNKNOWN_DOMAIN_TIMEOUT),
+                            IdentityUtil.getPropertyAsInt(
+                                    IdentityCoreConstants.TENANT_RESOLUTION_CACHE_MAX_UNKNOWN_DOMAINS,
+                                    IdentityCoreConstants.DEFAULT_TENANT_RESOLUTION_CACHE_MAX_UNKNOWN_DOMAINS));
+                    if (IdentityUtil.getPropertyAsBoolean(IdentityCoreConstants.TENANT_RESOLUTION_CACHE_PRELOAD,
+                            true)) {
+                        cacheToPreload = cache;
+                    }
+                    tenantResolutionCache = cache;
+                }
+                tenantResolutionCacheInitialized = true;
+            }
+        }
+        if (cacheToPreload != null) {
+            TenantResolutionCache cache = cacheToPreload;
+            Thread preloader = new Thread(() -> preloadActiveTenants(cache), "TenantResolutionCachePreloader");
+            preloader.setDaemon(true);
+            preloader.start();
+        }
+        return tenantResolutionCache;
+    }
+
+    private static void preloadActiveTenants(TenantResolutionCache cache) {
+
+        Map<Integer, String> activeTenants = new HashMap<>();
+        activeTenants.put(MultitenantConstants.SUPER_TENANT_ID, MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        try {
+            Tenant[] tenants = realmService.getTenantManager().getAllTenants();
+            if (tenants != null) {
+                for (Tenant tenant : tenants) {
+                    if (tenant.isActive() && tenant.getDomain() != null) {
+                        activeTenants.put(tenant.getId(), tenant.getDomain());
+                    }
+                }
+            }
+        } catch (UserStoreException e) {
+            log.warn("Error while loading the active tenants into the tenant resolution cache. Tenants will be " +
+                    "cached on first use.", e);
+        }
+        cache.addTenants(activeTenants);
+        if (log.isDebugEnabled()) {
+            log.debug("Loaded " + activeTenants.size() + " tenants into the tenant resolution cache.");
+        }
+    }
+
     /**
      * Retrieve Tenant object for a given tenant ID.
      *
@@ -85,6 +85,8 @@ import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.temporal.TemporalUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
@@ -142,6 +144,7 @@ public class IdentityUtil {
     private static final String DISABLE_EMAIL_USERNAME_VALIDATION = "DisableEmailUserNameValidation";
     private static Log log = LogFactory.getLog(IdentityUtil.class);
     private static Map<String, Object> configuration = new HashMap<>();
+    private static volatile IdentityConfigSnapshot configSnapshot = new IdentityConfigSnapshot(configuration);
     private static Map<IdentityEventListenerConfigKey, IdentityEventListenerConfig> eventListenerConfiguration = new
             HashMap<>();
     private static Map<IdentityCacheConfigKey, IdentityCacheConfig> identityCacheConfigurationHolder = new HashMap<>();
@@ -199,22 +202,106 @@ public class IdentityUtil {
      */
     public static String getProperty(String key) {
 
-        Object value = configuration.get(key);
-        String strValue;
-
-        if (value == null) {
+        if (key == null) {
             return null;
         }
-        if (value instanceof List) {
-            value = ((List) value).get(0);
+        return getConfigSnapshot().getProperty(key);
+    }
+
+    /**
+     * Read a boolean configuration element from the identity.xml. The parsed value is kept until the element changes.
+     *
+     * @param key          Element name as specified from the parent elements in the XML structure.
+     * @param defaultValue Value returned if the element is not defined or empty.
+     * @return True if the element value is "true", ignoring case.
+     */
+    public static boolean getPropertyAsBoolean(String key, boolean defaultValue) {
+
+        if (key == null) {
+            return defaultValue;
         }
-        if (value instanceof String) {
-            strValue = (String) value;
-        } else {
-            strValue = String.valueOf(value);
+        return getConfigSnapshot().getBooleanProperty(key, defaultValue);
+    }
+
+    /**
+     * Read an integer configuration element from the identity.xml. The parsed value is kept until the element changes.
+     *
+     * @param key          Element name as specified from the parent elements in the XML structure.
+     * @param defaultValue Value returned if the element is not defined, empty or not a valid integer.
+     * @return Integer value of the element.
+     */
+    public static int getPropertyAsInt(String key, int defaultValue) {
+
+        if (key == null) {
+            return defaultValue;
+        }
+        return getConfigSnapshot().getIntProperty(key, defaultValue);
+    }
+
+    /**
+     * Read a long configuration element from the identity.xml. The parsed value is kept until the element changes.
+     *
+     * @param key          Element name as specified from the parent elements in the XML structure.
+     * @param defaultValue Value returned if the element is not defined, empty or not a valid long.
+     * @return Long value of the element.
+     */
+    public static long getPropertyAsLong(String key, long defaultValue) {
+
+        if (key == null) {
+            return defaultValue;
         }
-        strValue = fillURLPlaceholders(strValue);
-        return strValue;
+        return getConfigSnapshot().getLongProperty(key, defaultValue);
+    }
+
+    /**
+     * Read a duration configuration element, given as a number of the given unit, from the identity.xml.
+     *
+     * @param key          Element name as specified from the parent elements in the XML structure.
+     * @param unit         Unit of the element value.
+     * @param defaultValue Value returned if the element is not defined, empty or not a valid long.
+     * @return Duration of the element.
+     */
+    public static Duration getPropertyAsDuration(String key, TemporalUnit unit, Duration defaultValue) {
+
+        if (key == null) {
+            return defaultValue;
+        }
+        String value = getConfigSnapshot().getProperty(key);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Duration.of(Long.parseLong(value.trim()), unit);
+        } catch (NumberFormatException | ArithmeticException e) {
+            log.warn("Invalid duration: " + value + " configured for: " + key + ". Hence using the default value: "
+                    + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Get the number of reads of each configuration element read through this class since the configuration was
+     * last loaded. Useful to find the configuration elements read on hot paths.
+     *
+     * @return Number of reads of each element, starting with the most read element.
+     */
+    public static Map<String, Long> getPropertyAccessCounts() {
+
+        return getConfigSnapshot().getAccessCounts();
+    }
+
+    /**
+     * Resolved view of the current configuration. A new view is created if the configuration has been replaced.
+     */
+    private static IdentityConfigSnapshot getConfigSnapshot() {
+
+        IdentityConfigSnapshot snapshot = configSnapshot;
+        Map<String, Object> currentConfiguration = configuration;
+        if (snapshot.getConfiguration() != currentConfiguration) {
+            snapshot = new IdentityConfigSnapshot(currentConfiguration);
+            configSnapshot = snapshot;
+        }
+        return snapshot;
     }
 
     public static IdentityEventListenerConfig readEventListenerProperty(String type, String name) {
@@ -327,6 +414,7 @@ public class IdentityUtil {
 
     public static void populateProperties() {
         configuration = IdentityConfigParser.getInstance().getConfiguration();
+        configSnapshot = new IdentityConfigSnapshot(configuration);
         eventListenerConfiguration = IdentityConfigParser.getInstance().getEventListenerConfiguration();
         identityCacheConfigurationHolder = IdentityConfigParser.getInstance().getIdentityCacheConfigurationHolder();
         identityCookiesConfigurationHolder = IdentityConfigParser.getIdentityCookieConfigurationHolder();
@@ -345,7 +433,7 @@ public class IdentityUtil {
         byte[] rawPpid = Base64.getDecoder().decode(value);
 
         String algorithm;
-        if (Boolean.parseBoolean(IdentityUtil.getProperty(IdentityConstants.IDENTITY_UTIL_ENABLE_SHA256))) {
+        if (getPropertyAsBoolean(IdentityConstants.IDENTITY_UTIL_ENABLE_SHA256, false)) {
             algorithm = SHA256_ALGORITHM;
         } else {
             algorithm = SHA1_ALGORITHM;
@@ -381,7 +469,7 @@ public class IdentityUtil {
     public static String getHMAC(String secretKey, String baseString) throws SignatureException {
         try {
             String algorithm;
-            if (Boolean.parseBoolean(IdentityUtil.getProperty(IdentityConstants.IDENTITY_UTIL_ENABLE_SHA256))) {
+            if (getPropertyAsBoolean(IdentityConstants.IDENTITY_UTIL_ENABLE_SHA256, false)) {
                 algorithm = HMAC_SHA256_ALGORITHM;
             } else {
                 algorithm = HMAC_SHA1_ALGORITHM;
@@ -433,7 +521,7 @@ public class IdentityUtil {
             String baseString = UUIDGenerator.generateUUID();
 
             String algorithm;
-            if (Boolean.parseBoolean(IdentityUtil.getProperty(IdentityConstants.IDENTITY_UTIL_ENABLE_SHA256))) {
+            if (getPropertyAsBoolean(IdentityConstants.IDENTITY_UTIL_ENABLE_SHA256, false)) {
                 algorithm = HMAC_SHA256_ALGORITHM;
             } else {
                 algorithm = HMAC_SHA1_ALGORITHM;
@@ -1785,7 +1873,7 @@ public class IdentityUtil {
      */
     public static String getClaimUriLocale() {
 
-        if (Boolean.parseBoolean(IdentityUtil.getProperty("UseLegacyLocalizationClaim"))) {
+        if (getPropertyAsBoolean("UseLegacyLocalizationClaim", false)) {
             return "http://wso2.org/claims/locality";
         } else {
             return "http://wso2.org/claims/local";
@@ -1895,27 +1983,10 @@ public class IdentityUtil {
      */
     public static List<String> getPropertyAsList(String key) {
 
-        List<String> propertyList = new ArrayList<>();
-        Object value = configuration.get(key);
-
-        if (value == null) {
-            return propertyList;
-        }
-        if (value instanceof List) {
-            List rawProps = (List) value;
-            for (Object rawProp: rawProps ) {
-                if (rawProp instanceof String) {
-                    propertyList.add((String) rawProp);
-                } else {
-                    propertyList.add(String.valueOf(rawProp));
-                }
-            }
-        } else if (value instanceof String) {
-            propertyList.add((String) value);
-        } else {
-            propertyList.add(String.valueOf(value));
+        if (key == null) {
+            return new ArrayList<>();
         }
-        return propertyList;
+        return getConfigSnapshot().getListProperty(key);
     }
 
     /**
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.core.util;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tenant IDs and tenant domains resolved through the tenant manager, used by {@link IdentityTenantUtil}.
+ * <p>
+ * Each resolved tenant is kept in its own entry of a concurrent map in each direction, so that lookups take no lock
+ * and adding a tenant does not copy the other entries. Domains are case insensitive and are cached in lower case, so
+ * that every case spelling of a domain shares one entry. Resolved tenants expire after a timeout, since tenants
+ * deleted or renamed on another node are not removed from the cache of this node by the tenant listeners. The expiry
+ * of each entry is shortened by a random part of up to a fifth of the timeout, so that the tenants preloaded
+ * together do not expire, and are resolved again, at the same time. Domains which do not belong to any tenant are
+ * remembered for a short period to absorb repeated lookups of unknown domains.
+ */
+final class TenantResolutionCache {
+
+    private static final int EXPIRY_JITTER_DIVISOR = 5;
+
+    private final long tenantTtlNanos;
+    private final long unknownDomainTtlNanos;
+    private final int maxUnknownDomains;
+    private final Map<Integer, TenantDomainEntry> tenantDomains = new ConcurrentHashMap<>();
+    private final Map<String, TenantIdEntry> tenantIds = new ConcurrentHashMap<>();
+    private final Map<String, Long> unknownDomains = new ConcurrentHashMap<>();
+
+    /**
+     * @param tenantTtlMillis        Period a resolved tenant is cached for, in milliseconds.
+     * @param unknownDomainTtlMillis Period an unknown domain is remembered for, in milliseconds.
+     * @param maxUnknownDomains      Maximum number of unknown domains remembered.
+     */
+    TenantResolutionCache(long tenantTtlMillis, long unknownDomainTtlMillis, int maxUnknownDomains) {
+
+        this.tenantTtlNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, tenantTtlMillis));
+        this.unknownDomainTtlNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, unknownDomainTtlMillis));
+        this.maxUnknownDomains = Math.max(0, maxUnknownDomains);
+    }
+
+    /**
+     * @param tenantDomain Tenant domain.
+     * @return Tenant ID of the domain, or null if the domain is not cached or its entry has expired.
+     */
+    Integer getTenantId(String tenantDomain) {
+
+        String key = normalize(tenantDomain);
+        TenantIdEntry entry = tenantIds.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (isExpired(entry.expiry)) {
+            tenantIds.remove(key, entry);
+            return null;
+        }
+        return entry.tenantId;
+    }
+
+    /**
+     * @param tenantId Tenant ID.
+     * @return Tenant domain of the tenant, or null if the tenant is not cached or its entry has expired.
+     */
+    String getTenantDomain(int tenantId) {
+
+        TenantDomainEntry entry = tenantDomains.get(tenantId);
+        if (entry == null) {
+            return null;
+        }
+        if (isExpired(entry.expiry)) {
+            tenantDomains.remove(tenantId, entry);
+            return null;
+        }
+        return entry.tenantDomain;
+    }
+
+    /**
+     * Cache the tenant in both directions. The domain must be the domain of the tenant as returned by the tenant
+     * manager.
+     */
+    void addTenant(int tenantId, String tenantDomain) {
+
+        Integer boxedTenantId = tenantId;
+        tenantDomains.put(boxedTenantId, new TenantDomainEntry(tenantDomain, newExpiry()));
+        tenantIds.put(normalize(tenantDomain), new TenantIdEntry(boxedTenantId, newExpiry()));
+        removeUnknownDomain(tenantDomain);
+    }
+
+    /**
+     * Cache the tenants in both directions. The domains must be the domains of the tenants as returned by the tenant
+     * manager.
+     */
+    void addTenants(Map<Integer, String> tenantsToAdd) {
+
+        for (Map.Entry<Integer, String> tenant : tenantsToAdd.entrySet()) {
+            addTenant(tenant.getKey(), tenant.getValue());
+        }
+    }
+
+    /**
+     * Cache the tenant ID of a domain in the form it was looked up with, which may differ from the domain of the
+     * tenant, e.g. in case.
+     */
+    void addTenantId(String tenantDomain, int tenantId) {
+
+        tenantIds.put(normalize(tenantDomain), new TenantIdEntry(tenantId, newExpiry()));
+    }
+
+    /**
+     * Remove the tenant and every domain mapped to it.
+     */
+    void removeTenant(int tenantId) {
+
+        tenantDomains.remove(tenantId);
+        tenantIds.values().removeIf(entry -> entry.tenantId == tenantId);
+    }
+
+    /**
+     * @param tenantDomain Tenant domain.
+     * @return True if the domain was recently found not to belong to any tenant.
+     */
+    boolean isUnknownDomain(String tenantDomain) {
+
+        String key = normalize(tenantDomain);
+        Long expiry = unknownDomains.get(key);
+        if (expiry == null) {
+            return false;
+        }
+        if (isExpired(expiry)) {
+            unknownDomains.remove(key, expiry);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Remember that the domain does not belong to any tenant.
+     */
+    void addUnknownDomain(String tenantDomain) {
+
+        if (unknownDomainTtlNanos == 0 || maxUnknownDomains == 0) {
+            return;
+        }
+        if (unknownDomains.size() >= maxUnknownDomains) {
+            removeExpiredUnknownDomains();
+            if (unknownDomains.size() >= maxUnknownDomains) {
+                return;
+            }
+        }
+        unknownDomains.put(normalize(tenantDomain), System.nanoTime() + unknownDomainTtlNanos);
+    }
+
+    /**
+     * Forget that the domain does not belong to any tenant, e.g. once a tenant is created with it.
+     */
+    void removeUnknownDomain(String tenantDomain) {
+
+        unknownDomains.remove(normalize(tenantDomain));
+    }
+
+    /**
+     * Remove all cached tenants and unknown domains.
+     */
+    void clear() {
+
+        tenantDomains.clear();
+        tenantIds.clear();
+        unknownDomains.clear();
+    }
+
+    private void removeExpiredUnknownDomains() {
+
+        Iterator<Long> expiries = unknownDomains.values().iterator();
+        while (expiries.hasNext()) {
+            if (isExpired(expiries.next())) {
+                expiries.remove();
+            }
+        }
+    }
+
+    /**
+     * @return Time a new tenant entry expires at, which is the timeout from now shortened by a random part of up to
+     * a fifth of the timeout.
+     */
+    private long newExpiry() {
+
+        long jitter = tenantTtlNanos / EXPIRY_JITTER_DIVISOR;
+        return System.nanoTime() + tenantTtlNanos - (jitter > 0 ? ThreadLocalRandom.current().nextLong(jitter) : 0);
+    }
+
+    /**
+     * Tenant domains are case insensitive. Lower case domains, as returned by the tenant manager, are returned as
+     * they are without creating a new string.
+     */
+    private static String normalize(String tenantDomain) {
+
+        return tenantDomain.toLowerCase(Locale.ENGLISH);
+    }
+
+    private static boolean isExpired(long expiry) {
+
+        return System.nanoTime() - expiry >= 0;
+    }
+
+    /**
+     * Tenant ID of a domain, with the time the entry expires at.
+     */
+    private static final class TenantIdEntry {
+
+        private final Integer tenantId;
+        private final long expiry;
+
+        TenantIdEntry(Integer tenantId, long expiry) {
+
+            this.tenantId = tenantId;
+            this.expiry = expiry;
+        }
+    }
+
+    /**
+     * Domain of a tenant, with the time the entry expires at.
+     */
+    private static final class TenantDomainEntry {
+
+        private final String tenantDomain;
+        private final long expiry;
+
+        TenantDomainEntry(String tenantDomain, long expiry) {
+
+            this.tenantDomain = tenantDomain;
+            this.expiry = expiry;
+        }
+    }
+}
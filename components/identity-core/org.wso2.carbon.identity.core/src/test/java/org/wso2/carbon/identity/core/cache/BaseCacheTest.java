@@ -30,12 +30,21 @@ import org.wso2.carbon.user.core.tenant.TenantManager;
 
 import java.io.File;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 
 /**
  * Test for the Base cache.
@@ -62,6 +71,8 @@ public class BaseCacheTest {
         when(mockTenantManager.getDomain(2)).thenReturn("bar.com");
         when(mockTenantManager.getTenantId("bar.com")).thenReturn(2);
         OSGiDataHolder.getInstance().setUserRealmService(mockRealmService);
+        // Used by the worker threads of concurrent tests, where the static mock below is not active.
+        IdentityTenantUtil.setRealmService(mockRealmService);
 
         identityTenantUtil = mockStatic(IdentityTenantUtil.class);
         identityTenantUtil.when(() -> IdentityTenantUtil.getTenantDomain(1)).thenReturn("foo.com");
@@ -141,4 +152,137 @@ public class BaseCacheTest {
         entry = TestCache.getInstance().getValueFromCache(new TestCacheKey("test2"), "bar.com");
         assertEquals("value2", entry.getValue());
     }
+
+    @Test
+    public void testReadThroughLoad() {
+
+        AtomicInteger loadCount = new AtomicInteger();
+        TestCacheKey key = new TestCacheKey("readThrough");
+        TestCache.getInstance().clearCacheEntry(key, 1);
+
+        TestCacheEntry entry = TestCache.getInstance().getValueFromCache(key, 1, cacheKey -> {
+            loadCount.incrementAndGet();
+            return new TestCacheEntry("loaded");
+        });
+        assertEquals(entry.getValue(), "loaded");
+
+        entry = TestCache.getInstance().getValueFromCache(key, "foo.com", cacheKey -> {
+            loadCount.incrementAndGet();
+            return new TestCacheEntry("reloaded");
+        });
+        assertEquals(entry.getValue(), "loaded");
+        assertEquals(loadCount.get(), 1);
+    }
+
+    @Test
+    public void testNegativeCaching() {
+
+        TestNearCache cache = new TestNearCache();
+        AtomicInteger loadCount = new AtomicInteger();
+        TestCacheKey key = new TestCacheKey("missing");
+
+        assertNull(cache.getValueFromCache(key, 1, cacheKey -> {
+            loadCount.incrementAndGet();
+            return null;
+        }));
+        assertNull(cache.getValueFromCache(key, 1, cacheKey -> {
+            loadCount.incrementAndGet();
+            return null;
+        }));
+        assertEquals(loadCount.get(), 1);
+
+        cache.addToCache(key, new TestCacheEntry("added"), 1);
+        assertEquals(cache.getValueFromCache(key, 1).getValue(), "added");
+        assertEquals(cache.getValueFromCache(key, "foo.com").getValue(), "added");
+    }
+
+    @Test
+    public void testNearCacheInvalidation() {
+
+        TestNearCache cache = new TestNearCache();
+        TestCacheKey key = new TestCacheKey("near");
+        cache.addToCache(key, new TestCacheEntry("value1"), 1);
+        TestCacheEntry entry = cache.getValueFromCache(key, "foo.com");
+        assertEquals(entry.getValue(), "value1");
+        assertSame(cache.getValueFromCache(key, "foo.com"), entry);
+
+        cache.addToCache(key, new TestCacheEntry("value2"), 1);
+        assertEquals(cache.getValueFromCache(key, "foo.com").getValue(), "value2");
+
+        cache.clearCacheEntry(key, "foo.com");
+        assertNull(cache.getValueFromCache(key, 1));
+    }
+
+    @Test
+    public void testConcurrentLoadsAreCollapsed() throws Exception {
+
+        TestCacheKey key = new TestCacheKey("singleFlight");
+        TestCache.getInstance().clearCacheEntry(key, 1);
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<TestCacheEntry>> results = new ArrayList<>();
+            results.add(executorService.submit(() -> TestCache.getInstance().getValueFromCache(key, 1, cacheKey -> {
+                loadCount.incrementAndGet();
+                loadStarted.countDown();
+                releaseLoad.await(5, TimeUnit.SECONDS);
+                return new TestCacheEntry("loaded");
+            })));
+            loadStarted.await(5, TimeUnit.SECONDS);
+            for (int i = 0; i < 3; i++) {
+                results.add(executorService.submit(() -> TestCache.getInstance().getValueFromCache(key, 1,
+                        cacheKey -> {
+                            loadCount.incrementAndGet();
+                            return new TestCacheEntry("loaded");
+                        })));
+            }
+            releaseLoad.countDown();
+            for (Future<TestCacheEntry> result : results) {
+                assertEquals(result.get(5, TimeUnit.SECONDS).getValue(), "loaded");
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertEquals(loadCount.get(), 1);
+    }
+
+    @Test
+    public void testValueInvalidatedWhileLoadingIsNotCached() {
+
+        TestNearCache cache = new TestNearCache();
+        TestCacheKey key = new TestCacheKey("invalidatedWhileLoading");
+        AtomicInteger loadCount = new AtomicInteger();
+
+        TestCacheEntry entry = cache.getValueFromCache(key, 1, cacheKey -> {
+            loadCount.incrementAndGet();
+            // The value is changed and the key invalidated after the loader read the old value.
+            cache.clearCacheEntry(key, 1);
+            return new TestCacheEntry("stale");
+        });
+        assertEquals(entry.getValue(), "stale");
+        assertNull(cache.getValueFromCache(key, 1));
+
+        entry = cache.getValueFromCache(key, 1, cacheKey -> {
+            loadCount.incrementAndGet();
+            return new TestCacheEntry("fresh");
+        });
+        assertEquals(entry.getValue(), "fresh");
+        assertEquals(loadCount.get(), 2);
+    }
+
+    @Test
+    public void testNotFoundInvalidatedWhileLoadingIsNotCached() {
+
+        TestNearCache cache = new TestNearCache();
+        TestCacheKey key = new TestCacheKey("addedWhileLoading");
+
+        assertNull(cache.getValueFromCache(key, 1, cacheKey -> {
+            cache.addToCache(key, new TestCacheEntry("added"), 1);
+            return null;
+        }));
+        assertEquals(cache.getValueFromCache(key, 1).getValue(), "added");
+    }
 }
@@ -33,6 +33,8 @@ import org.testng.annotations.Test;
 import org.wso2.carbon.base.ServerConfiguration;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.base.IdentityConstants;
+import org.wso2.carbon.identity.core.DefaultServiceURLBuilder;
+import org.wso2.carbon.identity.core.ServiceURL;
 import org.wso2.carbon.identity.core.ServiceURLBuilder;
 import org.wso2.carbon.identity.core.URLBuilderException;
 import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
@@ -52,6 +54,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 
 @Listeners(MockitoTestNGListener.class)
 public class DefaultServiceURLBuilderTest {
@@ -526,4 +529,46 @@ public class DefaultServiceURLBuilderTest {
         }
         assertEquals(relativeInternalUrl, expected);
     }
+
+    @Test
+    public void testBuildWithTemplateCache() throws URLBuilderException {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getPropertyAsBoolean(
+                    IdentityCoreConstants.ENABLE_SERVICE_URL_TEMPLATE_CACHE, false)).thenReturn(true);
+            identityUtil.when(() -> IdentityUtil.getProperty(IdentityCoreConstants.SERVER_HOST_NAME))
+                    .thenReturn("internal.wso2.com");
+            carbonUtils.when(CarbonUtils::getManagementTransport).thenReturn(HTTPS);
+            carbonUtils.when(() -> CarbonUtils.getTransportPort(mockAxisConfiguration, HTTPS)).thenReturn(9443);
+            when(mockServerConfiguration.getFirstProperty(IdentityCoreConstants.HOST_NAME))
+                    .thenReturn("www.wso2.com");
+            identityTenantUtil.when(IdentityTenantUtil::isTenantQualifiedUrlsEnabled).thenReturn(true);
+            identityTenantUtil.when(IdentityTenantUtil::getTenantDomainFromContext).thenReturn("abc");
+            lenient().when(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain())
+                    .thenReturn("carbon.super");
+            DefaultServiceURLBuilder.clearURLTemplateCache();
+
+            ServiceURL serviceURL = ServiceURLBuilder.create().addPath("samlsso").build();
+            assertEquals(serviceURL.getAbsolutePublicURL(), "https://www.wso2.com:9443/t/abc/samlsso");
+            assertEquals(serviceURL.getAbsoluteInternalURL(), "https://internal.wso2.com:9443/t/abc/samlsso");
+            assertSame(ServiceURLBuilder.create().addPath("samlsso").build(), serviceURL);
+
+            ServiceURL urlWithParams = ServiceURLBuilder.create().addPath("samlsso").addParameter("key", "value")
+                    .setFragment("fragment").build();
+            assertEquals(urlWithParams.getAbsolutePublicURL(),
+                    "https://www.wso2.com:9443/t/abc/samlsso?key=value#fragment");
+            assertEquals(urlWithParams.getRelativeInternalURL(), "/t/abc/samlsso?key=value#fragment");
+            assertEquals(urlWithParams.getParameter("key"), "value");
+
+            // Templates keep the settings they were built with until the cache is cleared.
+            identityUtil.when(() -> IdentityUtil.getProperty(IdentityCoreConstants.SERVER_HOST_NAME))
+                    .thenReturn("internal2.wso2.com");
+            assertSame(ServiceURLBuilder.create().addPath("samlsso").build(), serviceURL);
+            DefaultServiceURLBuilder.clearURLTemplateCache();
+            assertEquals(ServiceURLBuilder.create().addPath("samlsso").build().getAbsoluteInternalURL(),
+                    "https://internal2.wso2.com:9443/t/abc/samlsso");
+        } finally {
+            DefaultServiceURLBuilder.clearURLTemplateCache();
+        }
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.core.persistence;
+
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link InstrumentedConnection} and {@link QueryStatistics}.
+ */
+public class InstrumentedConnectionTest {
+
+    private static final String SQL = "SELECT NAME FROM IDN_TEST WHERE TENANT_ID = ?";
+
+    @Test
+    public void testExecutionsAndRowsAreRecorded() throws Exception {
+
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+
+        QueryStatistics queryStatistics = new QueryStatistics(0, 10, 100);
+        Connection instrumentedConnection = InstrumentedConnection.wrap(connection, queryStatistics);
+        assertSame(InstrumentedConnection.wrap(instrumentedConnection, queryStatistics), instrumentedConnection);
+
+        try (PreparedStatement statement = instrumentedConnection.prepareStatement(SQL)) {
+            statement.setInt(1, -1234);
+            assertSame(statement.getConnection(), instrumentedConnection);
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    rows.getString(1);
+                }
+            }
+        }
+        instrumentedConnection.commit();
+        verify(preparedStatement).setInt(1, -1234);
+        verify(connection).commit();
+
+        Map<String, QueryStatistics.QueryStats> stats = queryStatistics.getQueryStats();
+        assertEquals(stats.size(), 1);
+        assertEquals(stats.get(SQL).getExecutions(), 1);
+        assertEquals(stats.get(SQL).getRows(), 2);
+        long histogramTotal = 0;
+        for (long count : stats.get(SQL).getLatencyHistogram()) {
+            histogramTotal += count;
+        }
+        assertEquals(histogramTotal, 1);
+        assertEquals(queryStatistics.getSlowQueries().size(), 1);
+        assertEquals(queryStatistics.getSlowQueries().get(0).getSql(), SQL);
+    }
+
+    @Test
+    public void testTrackedQueriesAndSlowQuerySamplesAreBounded() {
+
+        QueryStatistics queryStatistics = new QueryStatistics(0, 2, 2);
+        for (int i = 0; i < 5; i++) {
+            queryStatistics.recordExecution("SELECT " + i, 1000);
+        }
+
+        Map<String, QueryStatistics.QueryStats> stats = queryStatistics.getQueryStats();
+        assertEquals(stats.size(), 3);
+        assertEquals(stats.get(QueryStatistics.OTHER_QUERIES).getExecutions(), 3);
+        assertEquals(queryStatistics.getSlowQueries().size(), 2);
+        assertEquals(queryStatistics.getSlowQueries().get(1).getSql(), "SELECT 4");
+        assertEquals(queryStatistics.getStatementStatistics().length, 3);
+        assertEquals(queryStatistics.getSlowQuerySamples().length, 2);
+        assertTrue(queryStatistics.getSlowQuerySamples()[1].endsWith("sql=SELECT 4"));
+
+        long[] latencyBuckets = queryStatistics.getLatencyBucketsMillis();
+        latencyBuckets[0] = Long.MAX_VALUE;
+        assertEquals(queryStatistics.getLatencyBucketsMillis()[0], 1);
+
+        queryStatistics.reset();
+        assertTrue(queryStatistics.getQueryStats().isEmpty());
+        assertTrue(queryStatistics.getSlowQueries().isEmpty());
+    }
+
+    @Test
+    public void testLiteralsOfPlainStatementsAreNotRecorded() throws Exception {
+
+        Connection connection = mock(Connection.class);
+        Statement plainStatement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(plainStatement);
+
+        QueryStatistics queryStatistics = new QueryStatistics(0, 10, 100);
+        Connection instrumentedConnection = InstrumentedConnection.wrap(connection, queryStatistics);
+        try (Statement statement = instrumentedConnection.createStatement()) {
+            statement.execute("SELECT NAME FROM IDN_TEST WHERE USER_NAME = 'o''brien' AND TENANT_ID = 12");
+            statement.execute("SELECT NAME FROM IDN_TEST WHERE USER_NAME = 'admin' AND TENANT_ID = 1234");
+        }
+
+        String normalizedSql = "SELECT NAME FROM IDN_TEST WHERE USER_NAME = ? AND TENANT_ID = ?";
+        assertEquals(queryStatistics.getQueryStats().get(normalizedSql).getExecutions(), 2);
+        for (QueryStatistics.SlowQuery slowQuery : queryStatistics.getSlowQueries()) {
+            assertEquals(slowQuery.getSql(), normalizedSql);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.core.persistence;
+
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.Collections;
+import javax.sql.DataSource;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link ReadReplicaRouter}.
+ */
+public class ReadReplicaRouterTest {
+
+    @Test
+    public void testSelectReplicaInRoundRobinOrder() {
+
+        DataSource replica1 = mock(DataSource.class);
+        DataSource replica2 = mock(DataSource.class);
+        ReadReplicaRouter router = new ReadReplicaRouter(Arrays.asList(replica1, replica2), null, 1000, 5000, 5000);
+
+        DataSource first = router.selectReplica();
+        DataSource second = router.selectReplica();
+        assertTrue(Arrays.asList(first, second).containsAll(Arrays.asList(replica1, replica2)));
+        assertSame(router.selectReplica(), first);
+    }
+
+    @Test
+    public void testReadsAfterWriteUsePrimary() {
+
+        DataSource replica = mock(DataSource.class);
+        ReadReplicaRouter router = new ReadReplicaRouter(Collections.singletonList(replica), null, 1000, 5000, 5000);
+
+        router.recordWrite();
+        assertNull(router.selectReplica());
+
+        ReadReplicaRouter nonStickyRouter = new ReadReplicaRouter(Collections.singletonList(replica), null, 1000,
+                5000, 0);
+        nonStickyRouter.recordWrite();
+        assertSame(nonStickyRouter.selectReplica(), replica);
+    }
+
+    @Test
+    public void testUnavailableReplicaIsSkipped() {
+
+        DataSource replica1 = mock(DataSource.class);
+        DataSource replica2 = mock(DataSource.class);
+        ReadReplicaRouter router = new ReadReplicaRouter(Arrays.asList(replica1, replica2), null, 1000, 5000, 0);
+
+        router.markUnavailable(replica1);
+        for (int i = 0; i < 4; i++) {
+            assertSame(router.selectReplica(), replica2);
+        }
+        router.markUnavailable(replica2);
+        assertNull(router.selectReplica());
+    }
+
+    @Test
+    public void testLaggingReplicaIsSkipped() throws Exception {
+
+        DataSource laggingReplica = mockReplicaWithLag(5.0);
+        DataSource replica = mockReplicaWithLag(0.2);
+        ReadReplicaRouter router = new ReadReplicaRouter(Arrays.asList(laggingReplica, replica), "SELECT LAG", 1000,
+                60000, 0);
+        try {
+            router.checkReplicationLag();
+            for (int i = 0; i < 4; i++) {
+                assertSame(router.selectReplica(), replica);
+            }
+        } finally {
+            router.shutdown();
+        }
+    }
+
+    @Test
+    public void testReplicaWithoutLagIsSkipped() throws Exception {
+
+        DataSource notReplicatingReplica = mockReplicaWithLag(0);
+        ResultSet resultSet = notReplicatingReplica.getConnection().prepareStatement("SELECT LAG").executeQuery();
+        when(resultSet.wasNull()).thenReturn(true);
+        ReadReplicaRouter router = new ReadReplicaRouter(Collections.singletonList(notReplicatingReplica),
+                "SELECT LAG", 1000, 60000, 0);
+        try {
+            router.checkReplicationLag();
+            assertNull(router.selectReplica());
+        } finally {
+            router.shutdown();
+        }
+    }
+
+    private DataSource mockReplicaWithLag(double lagSeconds) throws Exception {
+
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(lagSeconds);
+        return dataSource;
+    }
+}
@@ -71,6 +71,8 @@ import java.security.PublicKey;
 import java.security.SignatureException;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -272,6 +274,64 @@ public class IdentityUtilTest {
                 "= %s, value = %s", key, String.valueOf(value)));
     }
 
+    @DataProvider
+    public Object[][] getTypedPropertyTestData() {
+        return new Object[][]{
+                {"true", true, 7, 7L},
+                {" 25 ", false, 25, 25L},
+                {"", true, 7, 7L},
+                {null, true, 7, 7L},
+                {"invalid", false, 7, 7L},
+                {"3000000000", false, 7, 3000000000L},
+                {Arrays.asList("15", "20"), false, 15, 15L},
+        };
+    }
+
+    @Test(dataProvider = "getTypedPropertyTestData")
+    public void testGetTypedProperty(Object value, boolean expectedBoolean, int expectedInt, long expectedLong)
+            throws Exception {
+
+        Map<String, Object> mockConfig = new HashMap<>();
+        mockConfig.put("typedKey", value);
+        setPrivateStaticField(IdentityUtil.class, "configuration", mockConfig);
+
+        // Repeated reads return the memoized values.
+        for (int i = 0; i < 2; i++) {
+            assertEquals(IdentityUtil.getPropertyAsBoolean("typedKey", true), expectedBoolean);
+            assertEquals(IdentityUtil.getPropertyAsInt("typedKey", 7), expectedInt);
+            assertEquals(IdentityUtil.getPropertyAsLong("typedKey", 7L), expectedLong);
+        }
+    }
+
+    @Test
+    public void testTypedPropertyReflectsConfigurationChanges() throws Exception {
+
+        Map<String, Object> mockConfig = new HashMap<>();
+        mockConfig.put("Cache.Timeout", "5");
+        mockConfig.put("Cache.Hosts", Arrays.asList("host1", "host2"));
+        setPrivateStaticField(IdentityUtil.class, "configuration", mockConfig);
+
+        assertEquals(IdentityUtil.getPropertyAsInt("Cache.Timeout", 0), 5);
+        assertEquals(IdentityUtil.getPropertyAsDuration("Cache.Timeout", ChronoUnit.SECONDS, Duration.ZERO),
+                Duration.ofSeconds(5));
+        assertEquals(IdentityUtil.getPropertyAsList("Cache.Hosts"), Arrays.asList("host1", "host2"));
+
+        // Configuration changed in place.
+        mockConfig.put("Cache.Timeout", "10");
+        assertEquals(IdentityUtil.getPropertyAsInt("Cache.Timeout", 0), 10);
+        assertEquals(IdentityUtil.getProperty("Cache.Timeout"), "10");
+
+        // Configuration replaced.
+        Map<String, Object> newConfig = new HashMap<>();
+        newConfig.put("Cache.Timeout", "invalid");
+        setPrivateStaticField(IdentityUtil.class, "configuration", newConfig);
+        assertEquals(IdentityUtil.getPropertyAsInt("Cache.Timeout", 0), 0);
+        assertEquals(IdentityUtil.getPropertyAsDuration("Cache.Timeout", ChronoUnit.SECONDS, Duration.ofMinutes(1)),
+                Duration.ofMinutes(1));
+        assertTrue(IdentityUtil.getPropertyAsList("Cache.Hosts").isEmpty());
+        assertEquals(IdentityUtil.getPropertyAccessCounts().get("Cache.Timeout"), Long.valueOf(2));
+    }
+
 
     @Test
     public void testReadEventListenerProperty() throws Exception {
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.core.util;
+
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link TenantResolutionCache}.
+ */
+public class TenantResolutionCacheTest {
+
+    @Test
+    public void testResolveTenantsInBothDirections() {
+
+        TenantResolutionCache cache = new TenantResolutionCache(60000, 10000, 100);
+        Map<Integer, String> tenants = new HashMap<>();
+        tenants.put(-1234, "carbon.super");
+        tenants.put(3, "abc.com");
+        tenants.put(1, "wso2.com");
+        cache.addTenants(tenants);
+        cache.addTenant(2, "xyz.com");
+
+        assertEquals(cache.getTenantDomain(-1234), "carbon.super");
+        assertEquals(cache.getTenantDomain(1), "wso2.com");
+        assertEquals(cache.getTenantDomain(2), "xyz.com");
+        assertEquals(cache.getTenantDomain(3), "abc.com");
+        assertNull(cache.getTenantDomain(4));
+        assertEquals(cache.getTenantId("abc.com"), Integer.valueOf(3));
+        assertNull(cache.getTenantId("unknown.com"));
+    }
+
+    @Test
+    public void testTenantIdOfDomainLookedUpInAnotherForm() {
+
+        TenantResolutionCache cache = new TenantResolutionCache(60000, 10000, 100);
+        cache.addTenantId("WSO2.com", 1);
+
+        assertEquals(cache.getTenantId("WSO2.com"), Integer.valueOf(1));
+        // Every case spelling of the domain shares the entry.
+        assertEquals(cache.getTenantId("wso2.COM"), Integer.valueOf(1));
+        // The domain of the tenant is not taken from the form it was looked up with.
+        assertNull(cache.getTenantDomain(1));
+
+        cache.addTenant(1, "wso2.com");
+        cache.removeTenant(1);
+        assertNull(cache.getTenantId("WSO2.com"));
+        assertNull(cache.getTenantId("wso2.com"));
+        assertNull(cache.getTenantDomain(1));
+    }
+
+    @Test
+    public void testUnknownDomains() throws Exception {
+
+        TenantResolutionCache cache = new TenantResolutionCache(60000, 50, 2);
+        cache.addUnknownDomain("unknown1.com");
+        cache.addUnknownDomain("unknown2.com");
+        cache.addUnknownDomain("unknown3.com");
+
+        assertTrue(cache.isUnknownDomain("unknown1.com"));
+        assertTrue(cache.isUnknownDomain("unknown2.com"));
+        assertFalse(cache.isUnknownDomain("unknown3.com"), "Unknown domains beyond the maximum should be ignored.");
+
+        assertTrue(cache.isUnknownDomain("UNKNOWN1.com"));
+
+        cache.removeUnknownDomain("unknown1.com");
+        assertFalse(cache.isUnknownDomain("unknown1.com"));
+        cache.addTenant(5, "unknown2.com");
+        assertFalse(cache.isUnknownDomain("unknown2.com"));
+
+        cache.addUnknownDomain("unknown4.com");
+        Thread.sleep(100);
+        assertFalse(cache.isUnknownDomain("unknown4.com"));
+    }
+
+    @Test
+    public void testTenantsExpire() throws Exception {
+
+        TenantResolutionCache cache = new TenantResolutionCache(50, 10000, 100);
+        cache.addTenant(1, "wso2.com");
+        cache.addTenantId("WSO2.com", 1);
+        assertEquals(cache.getTenantId("wso2.com"), Integer.valueOf(1));
+        assertEquals(cache.getTenantDomain(1), "wso2.com");
+
+        Thread.sleep(100);
+        assertNull(cache.getTenantId("wso2.com"));
+        assertNull(cache.getTenantId("WSO2.com"));
+        assertNull(cache.getTenantDomain(1));
+
+        // A tenant resolved again after its entry expired is cached again.
+        cache.addTenant(1, "wso2.com");
+        assertEquals(cache.getTenantId("wso2.com"), Integer.valueOf(1));
+        assertEquals(cache.getTenantDomain(1), "wso2.com");
+    }
+}
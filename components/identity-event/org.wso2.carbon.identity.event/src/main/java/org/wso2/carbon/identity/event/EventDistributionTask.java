@@ -33,7 +33,11 @@ import java.util.concurrent.LinkedBlockingDeque;
 /**
  * This has a queue inside. All publishers add events to this queue and this event distribution task is responsible
  * for distributing these events to Notification sending modules
+ *
+ * @deprecated Asynchronous events are dispatched through the per handler {@link EventHandlerLane}s of
+ * {@link org.wso2.carbon.identity.event.services.IdentityEventServiceImpl}.
  */
+@Deprecated
 public class EventDistributionTask implements Runnable {
 
     private static final Log log = LogFactory.getLog(EventDistributionTask.class);
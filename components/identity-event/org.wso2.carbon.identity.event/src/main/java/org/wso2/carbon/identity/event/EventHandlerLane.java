@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Asynchronous dispatch lane of a single event handler.
+ * <p>
+ * Each lane owns a bounded queue and its own worker threads, so a slow handler only backs up its own lane and
+ * cannot delay the asynchronous handling of other handlers. When the queue of a lane is full, the event is handled
+ * in the publishing thread instead of being dropped, which throttles the publishers of that handler's events.
+ */
+public class EventHandlerLane implements EventHandlerLaneMBean {
+
+    private static final Log log = LogFactory.getLog(EventHandlerLane.class);
+    private static final String OBJECT_NAME_PREFIX = "org.wso2.carbon.identity:type=IdentityEventHandlerLane,name=";
+    private static final long[] LATENCY_BOUNDS_MILLIS = {1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    private final AbstractEventHandler handler;
+    private volatile int concurrency;
+    private final int queueCapacity;
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong submittedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private final AtomicLongArray latencyHistogram = new AtomicLongArray(LATENCY_BOUNDS_MILLIS.length + 1);
+
+    /**
+     * @param handler       Event handler served by the lane.
+     * @param concurrency   Maximum number of events handled concurrently.
+     * @param queueCapacity Maximum number of events waiting to be handled.
+     */
+    public EventHandlerLane(AbstractEventHandler handler, int concurrency, int queueCapacity) {
+
+        this.handler = handler;
+        this.concurrency = Math.max(1, concurrency);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.executor = new ThreadPoolExecutor(this.concurrency, this.concurrency, IDLE_THREAD_KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(this.queueCapacity),
+                new LaneThreadFactory(handler.getName()));
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Queue an event to be handled by the lane's handler. If the lane is full or shut down, the event is handled in
+     * the calling thread.
+     *
+     * @param event Event to be handled.
+     */
+    public void submit(final Event event) {
+
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+
+                handle(event);
+            }
+        };
+        try {
+            executor.execute(task);
+            submittedCount.incrementAndGet();
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            if (log.isDebugEnabled()) {
+                log.debug("Event queue of handler " + handler.getName() + " is full. Handling event " +
+                        event.getEventName() + " in the publishing thread.");
+            }
+            task.run();
+        }
+    }
+
+    /**
+     * Change the maximum number of events handled concurrently by the lane.
+     *
+     * @param concurrency Maximum number of events handled concurrently.
+     */
+    public synchronized void setConcurrency(int concurrency) {
+
+        int newConcurrency = Math.max(1, concurrency);
+        if (newConcurrency == this.concurrency) {
+            return;
+        }
+        // The core pool size may never exceed the maximum pool size, hence the order of the updates.
+        if (newConcurrency > this.concurrency) {
+            executor.setMaximumPoolSize(newConcurrency);
+            executor.setCorePoolSize(newConcurrency);
+        } else {
+            executor.setCorePoolSize(newConcurrency);
+            executor.setMaximumPoolSize(newConcurrency);
+        }
+        this.concurrency = newConcurrency;
+    }
+
+    private void handle(Event event) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Executing " + handler.getName() + " on event " + event.getEventName());
+        }
+        long startTime = System.nanoTime();
+        try {
+            handler.handleEvent(event);
+        } catch (IdentityEventException | RuntimeException e) {
+            failedCount.incrementAndGet();
+            log.error("Error while invoking event handler " + handler.getName() + " for event " +
+                    event.getEventName(), e);
+        } finally {
+            recordLatency(System.nanoTime() - startTime);
+        }
+    }
+
+    private void recordLatency(long latencyNanos) {
+
+        completedCount.incrementAndGet();
+        totalLatencyNanos.addAndGet(latencyNanos);
+        maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+        long latencyMillis = TimeUnit.NANOSECONDS.toMillis(latencyNanos);
+        int bucket = 0;
+        while (bucket < LATENCY_BOUNDS_MILLIS.length && latencyMillis > LATENCY_BOUNDS_MILLIS[bucket]) {
+            bucket++;
+        }
+        latencyHistogram.incrementAndGet(bucket);
+    }
+
+    /**
+     * Register the lane with the platform MBean server. Registration failures are logged and ignored, since the
+     * metrics are not required for event dispatching.
+     */
+    public void register() {
+
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = getObjectName();
+            if (!mBeanServer.isRegistered(objectName)) {
+                mBeanServer.registerMBean(this, objectName);
+            }
+        } catch (JMException e) {
+            log.warn("Error while registering event handler lane MBean for handler: " + handler.getName(), e);
+        }
+    }
+
+    /**
+     * Stop accepting events and unregister the lane from the platform MBean server. Events already in the queue are
+     * still handled.
+     */
+    public void shutdown() {
+
+        executor.shutdown();
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = getObjectName();
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            log.warn("Error while unregistering event handler lane MBean for handler: " + handler.getName(), e);
+        }
+    }
+
+    private ObjectName getObjectName() throws JMException {
+
+        return new ObjectName(OBJECT_NAME_PREFIX + ObjectName.quote(handler.getName()));
+    }
+
+    /**
+     * @return Event handler served by the lane.
+     */
+    public AbstractEventHandler getHandler() {
+
+        return handler;
+    }
+
+    @Override
+    public String getHandlerName() {
+
+        return handler.getName();
+    }
+
+    @Override
+    public int getConcurrency() {
+
+        return concurrency;
+    }
+
+    @Override
+    public int getQueueCapacity() {
+
+        return queueCapacity;
+    }
+
+    @Override
+    public int getQueueDepth() {
+
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public int getActiveCount() {
+
+        return executor.getActiveCount();
+    }
+
+    @Override
+    public long getSubmittedCount() {
+
+        return submittedCount.get();
+    }
+
+    @Override
+    public long getRejectedCount() {
+
+        return rejectedCount.get();
+    }
+
+    @Override
+    public long getCompletedCount() {
+
+        return completedCount.get();
+    }
+
+    @Override
+    public long getFailedCount() {
+
+        return failedCount.get();
+    }
+
+    @Override
+    public double getAverageLatencyMillis() {
+
+        long completed = completedCount.get();
+        return completed == 0 ? 0 : toMillis(totalLatencyNanos.get()) / completed;
+    }
+
+    @Override
+    public double getMaxLatencyMillis() {
+
+        return toMillis(maxLatencyNanos.get());
+    }
+
+    @Override
+    public long[] getLatencyHistogramBoundsMillis() {
+
+        return LATENCY_BOUNDS_MILLIS.clone();
+    }
+
+    @Override
+    public long[] getLatencyHistogram() {
+
+        long[] histogram = new long[latencyHistogram.length()];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = latencyHistogram.get(i);
+        }
+        return histogram;
+    }
+
+    private static double toMillis(long nanos) {
+
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Thread factory which names the lane workers after the handler, to make them identifiable in thread dumps.
+     */
+    private static class LaneThreadFactory implements ThreadFactory {
+
+        private final String namePrefix;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        LaneThreadFactory(String handlerName) {
+
+            this.namePrefix = "IdentityEventLane-" + handlerName + "-";
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            return new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+/**
+ * JMX view of the asynchronous dispatch lane of an event handler.
+ */
+public interface EventHandlerLaneMBean {
+
+    /**
+     * @return Name of the event handler served by the lane.
+     */
+    String getHandlerName();
+
+    /**
+     * @return Maximum number of events handled concurrently by the lane.
+     */
+    int getConcurrency();
+
+    /**
+     * @return Maximum number of events that can wait in the lane queue.
+     */
+    int getQueueCapacity();
+
+    /**
+     * @return Number of events currently waiting in the lane queue.
+     */
+    int getQueueDepth();
+
+    /**
+     * @return Number of events currently being handled by the lane.
+     */
+    int getActiveCount();
+
+    /**
+     * @return Number of events accepted into the lane.
+     */
+    long getSubmittedCount();
+
+    /**
+     * @return Number of events that did not fit in the lane and were handled by the publishing thread.
+     */
+    long getRejectedCount();
+
+    /**
+     * @return Number of events handled by the lane, including failed ones.
+     */
+    long getCompletedCount();
+
+    /**
+     * @return Number of events for which the handler failed.
+     */
+    long getFailedCount();
+
+    /**
+     * @return Average time taken by the handler to handle an event, in milliseconds.
+     */
+    double getAverageLatencyMillis();
+
+    /**
+     * @return Maximum time taken by the handler to handle an event, in milliseconds.
+     */
+    double getMaxLatencyMillis();
+
+    /**
+     * @return Upper bounds of the latency histogram buckets, in milliseconds.
+     */
+    long[] getLatencyHistogramBoundsMillis();
+
+    /**
+     * @return Number of handled events per latency histogram bucket. The last bucket counts the events which took
+     * longer than the largest bound.
+     */
+    long[] getLatencyHistogram();
+}
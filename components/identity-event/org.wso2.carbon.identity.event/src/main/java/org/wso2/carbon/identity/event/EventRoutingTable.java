@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
+import org.wso2.carbon.identity.event.bean.Subscription;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Immutable index from event name to the handlers which may handle the event, in handler priority order.
+ * <p>
+ * Subscriptions are resolved once from the module configurations, so dispatching an event does not need to scan the
+ * subscriptions of every registered handler. Handlers which override {@link AbstractEventHandler#canHandle} are
+ * routed for every event and still decide on each event themselves. Handlers which override
+ * {@link AbstractEventHandler#isAssociationAsync}, {@link AbstractEventHandler#getSubscriptionProperty} or
+ * {@link AbstractEventHandler#getSubscriptionProperties} resolve whether an event is handled asynchronously through
+ * {@link AbstractEventHandler#isAssociationAsync} at dispatch time.
+ */
+public final class EventRoutingTable {
+
+    private static final Log log = LogFactory.getLog(EventRoutingTable.class);
+    private static final String OPERATION_ASYNC_PROPERTY = "operationAsync";
+    private static final EventRoute[] NO_ROUTES = new EventRoute[0];
+
+    private final List<AbstractEventHandler> source;
+    private final int sourceSize;
+    private final Map<String, EventRoute[]> routes;
+    private final EventRoute[] unsubscribedEventRoutes;
+
+    private EventRoutingTable(List<AbstractEventHandler> source, int sourceSize, Map<String, EventRoute[]> routes,
+                              EventRoute[] unsubscribedEventRoutes) {
+
+        this.source = source;
+        this.sourceSize = sourceSize;
+        this.routes = routes;
+        this.unsubscribedEventRoutes = unsubscribedEventRoutes;
+    }
+
+    /**
+     * Build the routing table of the given handlers.
+     *
+     * @param handlers             Registered event handlers, in priority order.
+     * @param moduleConfigurations Module configurations by module name.
+     * @return Routing table of the handlers.
+     */
+    public static EventRoutingTable build(List<AbstractEventHandler> handlers,
+                                          Map<String, ModuleConfiguration> moduleConfigurations) {
+
+        List<AbstractEventHandler> snapshot = new ArrayList<>(handlers);
+        List<HandlerInfo> handlerInfos = new ArrayList<>(snapshot.size());
+        Set<String> eventNames = new LinkedHashSet<>();
+        for (AbstractEventHandler handler : snapshot) {
+            HandlerInfo handlerInfo = new HandlerInfo(handler, getSubscriptions(handler, moduleConfigurations));
+            handlerInfos.add(handlerInfo);
+            eventNames.addAll(handlerInfo.subscriptions.keySet());
+        }
+
+        Map<String, EventRoute[]> routes = new HashMap<>();
+        for (String eventName : eventNames) {
+            routes.put(eventName, buildRoutes(eventName, handlerInfos));
+        }
+        EventRoute[] unsubscribedEventRoutes = buildRoutes(null, handlerInfos);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Built event routing table for " + snapshot.size() + " handlers and " + routes.size() +
+                    " subscribed events.");
+        }
+        return new EventRoutingTable(handlers, snapshot.size(), Collections.unmodifiableMap(routes),
+                unsubscribedEventRoutes);
+    }
+
+    private static EventRoute[] buildRoutes(String eventName, List<HandlerInfo> handlerInfos) {
+
+        List<EventRoute> eventRoutes = new ArrayList<>();
+        for (HandlerInfo handlerInfo : handlerInfos) {
+            Properties subscriptionProperties = eventName == null ? null : handlerInfo.subscriptions.get(eventName);
+            if (subscriptionProperties == null && !handlerInfo.canHandleOverridden) {
+                continue;
+            }
+            if (subscriptionProperties == null) {
+                subscriptionProperties = new Properties();
+            }
+            Boolean async = null;
+            if (!handlerInfo.asyncResolvedByHandler) {
+                async = Boolean.parseBoolean(subscriptionProperties.getProperty(handlerInfo.handler.getName() +
+                        ".subscription." + eventName + "." + OPERATION_ASYNC_PROPERTY));
+            }
+            eventRoutes.add(new EventRoute(handlerInfo.handler, handlerInfo.canHandleOverridden, async,
+                    subscriptionProperties));
+        }
+        return eventRoutes.isEmpty() ? NO_ROUTES : eventRoutes.toArray(new EventRoute[0]);
+    }
+
+    /**
+     * Subscription properties of a handler by event name. The first subscription of an event wins, as in
+     * {@link AbstractEventHandler#getSubscriptionProperties(String)}.
+     */
+    private static Map<String, Properties> getSubscriptions(AbstractEventHandler handler,
+                                                            Map<String, ModuleConfiguration> moduleConfigurations) {
+
+        ModuleConfiguration moduleConfiguration = moduleConfigurations == null ? null :
+                moduleConfigurations.get(handler.getName());
+        if (moduleConfiguration == null || moduleConfiguration.getSubscriptions() == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, Properties> subscriptions = new HashMap<>();
+        for (Subscription subscription : moduleConfiguration.getSubscriptions()) {
+            if (!subscriptions.containsKey(subscription.getSubscriptionName())) {
+                Properties properties = subscription.getSubscriptionProperties();
+                subscriptions.put(subscription.getSubscriptionName(), properties == null ? new Properties() :
+                        properties);
+            }
+        }
+        return subscriptions;
+    }
+
+    private static boolean isOverridden(AbstractEventHandler handler, String methodName, Class<?>... parameterTypes) {
+
+        try {
+            return handler.getClass().getMethod(methodName, parameterTypes).getDeclaringClass() !=
+                    AbstractEventHandler.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    /**
+     * @param eventName Name of the event.
+     * @return Handlers which may handle the event, in priority order.
+     */
+    public EventRoute[] getRoutes(String eventName) {
+
+        EventRoute[] eventRoutes = eventName == null ? null : routes.get(eventName);
+        return eventRoutes == null ? unsubscribedEventRoutes : eventRoutes;
+    }
+
+    /**
+     * Check whether this table reflects the current contents of the given handler list.
+     *
+     * @param handlers Registered event handlers.
+     * @return True if the table was built from the given list and the list has not changed in size since.
+     */
+    public boolean isBuiltFrom(List<AbstractEventHandler> handlers) {
+
+        return source == handlers && sourceSize == handlers.size();
+    }
+
+    /**
+     * Routing related facts of a handler, resolved once per build.
+     */
+    private static final class HandlerInfo {
+
+        private final AbstractEventHandler handler;
+        private final Map<String, Properties> subscriptions;
+        private final boolean canHandleOverridden;
+        private final boolean asyncResolvedByHandler;
+
+        HandlerInfo(AbstractEventHandler handler, Map<String, Properties> subscriptions) {
+
+            this.handler = handler;
+            this.subscriptions = subscriptions;
+            this.canHandleOverridden = isOverridden(handler, "canHandle", MessageContext.class);
+            this.asyncResolvedByHandler = isOverridden(handler, "isAssociationAsync", String.class)
+                    || isOverridden(handler, "getSubscriptionProperty", String.class, String.class)
+                    || isOverridden(handler, "getSubscriptionProperties", String.class);
+        }
+    }
+
+    /**
+     * Route of an event to a handler.
+     */
+    public static final class EventRoute {
+
+        private final AbstractEventHandler handler;
+        private final boolean canHandleOverridden;
+        private final Boolean async;
+        private final Properties subscriptionProperties;
+
+        EventRoute(AbstractEventHandler handler, boolean canHandleOverridden, Boolean async,
+                   Properties subscriptionProperties) {
+
+            this.handler = handler;
+            this.canHandleOverridden = canHandleOverridden;
+            this.async = async;
+            this.subscriptionProperties = subscriptionProperties;
+        }
+
+        public AbstractEventHandler getHandler() {
+
+            return handler;
+        }
+
+        /**
+         * @param messageContext Message context of the event.
+         * @return True if the handler accepts the event.
+         */
+        public boolean canHandle(MessageContext messageContext) {
+
+            return !canHandleOverridden || handler.canHandle(messageContext);
+        }
+
+        /**
+         * @param eventName Name of the event.
+         * @return True if the handler should handle the event asynchronously.
+         * @throws IdentityEventException If the handler fails to resolve the association.
+         */
+        public boolean isAsync(String eventName) throws IdentityEventException {
+
+            return async != null ? async : handler.isAssociationAsync(eventName);
+        }
+
+        /**
+         * @return Subscription properties of the handler for the routed event.
+         */
+        public Properties getSubscriptionProperties() {
+
+            return subscriptionProperties;
+        }
+    }
+}
@@ -62,6 +62,10 @@ public class IdentityEventConfigBuilder {
      * Thread pool size for message sending task
      */
     private String threadPoolSize;
+    /**
+     * Default queue size of the asynchronous dispatch lane of each event handler
+     */
+    private String asyncQueueSize;
 
     private static IdentityEventConfigBuilder notificationMgtConfigBuilder = new IdentityEventConfigBuilder();
 
@@ -96,6 +100,8 @@ public class IdentityEventConfigBuilder {
      */
     private void setThreadPoolSize() {
         threadPoolSize = (String) notificationMgtConfigProperties.remove("threadPool.size");
+        asyncQueueSize = (String) notificationMgtConfigProperties.remove(
+                IdentityEventConstants.PropertyConfig.ASYNC_QUEUE_SIZE);
     }
 
     /**
@@ -222,6 +228,10 @@ public class IdentityEventConfigBuilder {
         return threadPoolSize;
     }
 
+    public String getAsyncQueueSize() {
+        return asyncQueueSize;
+    }
+
     /**
      * There can be sensitive information like passwords in configuration file. If they are encrypted using secure
      * vault, this method will resolve them and replace with original values.
@@ -18,44 +18,237 @@
 
 package org.wso2.carbon.identity.event.services;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
-import org.wso2.carbon.identity.event.EventDistributionTask;
+import org.wso2.carbon.identity.event.EventHandlerLane;
+import org.wso2.carbon.identity.event.EventRoutingTable;
+import org.wso2.carbon.identity.event.EventRoutingTable.EventRoute;
+import org.wso2.carbon.identity.event.IdentityEventConfigBuilder;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
 import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.event.internal.IdentityEventServiceComponent;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class IdentityEventServiceImpl implements IdentityEventService {
 
     private static final Log log = LogFactory.getLog(IdentityEventServiceImpl.class);
-    private EventDistributionTask eventDistributionTask;
+    /**
+     * Asynchronous dispatch lanes, one per event handler name. Lanes are created when a handler first receives an
+     * asynchronous event.
+     */
+    private final ConcurrentMap<String, EventHandlerLane> eventHandlerLanes = new ConcurrentHashMap<>();
+    /**
+     * Lanes without a thread pool size of their own, which share the total thread pool size. Guarded by itself.
+     */
+    private final Set<EventHandlerLane> sharedPoolLanes = new HashSet<>();
+    private final int threadPoolSize;
+    private final int defaultLaneQueueSize;
+    /**
+     * Event to handler routing table, rebuilt lazily after the registered handlers change.
+     */
+    private volatile EventRoutingTable routingTable;
 
     public IdentityEventServiceImpl(List<AbstractEventHandler> handlerList, int threadPoolSize) {
-        this.eventDistributionTask = new EventDistributionTask(handlerList, threadPoolSize);
+
+        this(handlerList, threadPoolSize, IdentityEventConstants.PropertyConfig.DEFAULT_ASYNC_QUEUE_SIZE);
+    }
+
+    /**
+     * @param handlerList    Registered event handlers.
+     * @param threadPoolSize Total number of threads, divided equally between the asynchronous dispatch lanes of the
+     *                       handlers which have no thread pool size of their own.
+     * @param queueSize      Default queue size of the asynchronous dispatch lane of each handler.
+     */
+    public IdentityEventServiceImpl(List<AbstractEventHandler> handlerList, int threadPoolSize, int queueSize) {
+
+        this.threadPoolSize = threadPoolSize;
+        this.defaultLaneQueueSize = queueSize;
         if (log.isDebugEnabled()) {
-            log.debug("Starting event distribution task from Notification Management component");
+            log.debug("Initialized event service with per handler dispatch lanes. Total shared thread pool size: "
+                    + threadPoolSize + ", default lane queue size: " + queueSize);
         }
-        new Thread(eventDistributionTask).start();
     }
+
     @Override
     public void handleEvent(Event event) throws IdentityEventException {
 
-        List<AbstractEventHandler> eventHandlerList = IdentityEventServiceComponent.eventHandlerList;
+        EventRoute[] eventRoutes = getRoutingTable().getRoutes(event.getEventName());
+        if (eventRoutes.length == 0) {
+            return;
+        }
         IdentityEventMessageContext eventContext = new IdentityEventMessageContext(event);
-        for (final AbstractEventHandler handler : eventHandlerList) {
+        for (EventRoute eventRoute : eventRoutes) {
 
-            if (handler.canHandle(eventContext)) {
-                if (handler.isAssociationAsync(event.getEventName())) {
-                    eventDistributionTask.addEventToQueue(event);
+            if (eventRoute.canHandle(eventContext)) {
+                AbstractEventHandler handler = eventRoute.getHandler();
+                if (eventRoute.isAsync(event.getEventName())) {
+                    if (handler.isEnabled(eventContext)) {
+                        getEventHandlerLane(handler).submit(event);
+                    }
                 } else {
                     handler.handleEvent(event);
                 }
             }
         }
     }
+
+    /**
+     * Discard the current event routing table, so that it is rebuilt on the next event. To be called whenever an
+     * event handler is registered or unregistered.
+     */
+    public void invalidateRoutingTable() {
+
+        routingTable = null;
+    }
+
+    private EventRoutingTable getRoutingTable() throws IdentityEventException {
+
+        List<AbstractEventHandler> eventHandlerList = IdentityEventServiceComponent.eventHandlerList;
+        EventRoutingTable currentRoutingTable = routingTable;
+        if (currentRoutingTable == null || !currentRoutingTable.isBuiltFrom(eventHandlerList)) {
+            currentRoutingTable = EventRoutingTable.build(eventHandlerList,
+                    IdentityEventConfigBuilder.getInstance().getModuleConfiguration());
+            routingTable = currentRoutingTable;
+        }
+        return currentRoutingTable;
+    }
+
+    /**
+     * Stop the asynchronous dispatch lanes of all handlers.
+     */
+    public void shutdown() {
+
+        for (EventHandlerLane eventHandlerLane : eventHandlerLanes.values()) {
+            eventHandlerLane.shutdown();
+        }
+        eventHandlerLanes.clear();
+        synchronized (sharedPoolLanes) {
+            sharedPoolLanes.clear();
+        }
+    }
+
+    /**
+     * Stop and discard the asynchronous dispatch lane of an event handler. To be called when the handler is
+     * unregistered. A lane which already serves another instance of a handler with the same name is left untouched.
+     *
+     * @param handler Unregistered event handler.
+     */
+    public void removeEventHandlerLane(AbstractEventHandler handler) {
+
+        EventHandlerLane eventHandlerLane = eventHandlerLanes.get(handler.getName());
+        if (eventHandlerLane != null && eventHandlerLane.getHandler() == handler &&
+                eventHandlerLanes.remove(handler.getName(), eventHandlerLane)) {
+            eventHandlerLane.shutdown();
+            removeSharedPoolLane(eventHandlerLane);
+            if (log.isDebugEnabled()) {
+                log.debug("Removed event dispatch lane of handler: " + handler.getName());
+            }
+        }
+    }
+
+    private EventHandlerLane getEventHandlerLane(AbstractEventHandler handler) {
+
+        while (true) {
+            EventHandlerLane eventHandlerLane = eventHandlerLanes.get(handler.getName());
+            if (eventHandlerLane != null && eventHandlerLane.getHandler() == handler) {
+                return eventHandlerLane;
+            }
+            int laneConcurrency = getLaneProperty(handler.getName(),
+                    IdentityEventConstants.PropertyConfig.ASYNC_THREAD_POOL_SIZE, 0);
+            EventHandlerLane newLane = new EventHandlerLane(handler, laneConcurrency,
+                    getLaneProperty(handler.getName(), IdentityEventConstants.PropertyConfig.ASYNC_QUEUE_SIZE,
+                            defaultLaneQueueSize));
+            boolean added;
+            if (eventHandlerLane == null) {
+                added = eventHandlerLanes.putIfAbsent(handler.getName(), newLane) == null;
+            } else {
+                // The handler was registered again, so the lane still points to the previous handler instance.
+                added = eventHandlerLanes.replace(handler.getName(), eventHandlerLane, newLane);
+                if (added) {
+                    eventHandlerLane.shutdown();
+                    removeSharedPoolLane(eventHandlerLane);
+                }
+            }
+            if (!added) {
+                newLane.shutdown();
+                continue;
+            }
+            if (laneConcurrency <= 0) {
+                addSharedPoolLane(newLane);
+            }
+            newLane.register();
+            if (log.isDebugEnabled()) {
+                log.debug("Created event dispatch lane for handler: " + handler.getName() + " with thread pool size: "
+                        + newLane.getConcurrency() + " and queue size: " + newLane.getQueueCapacity());
+            }
+            return newLane;
+        }
+    }
+
+    private void addSharedPoolLane(EventHandlerLane eventHandlerLane) {
+
+        synchronized (sharedPoolLanes) {
+            sharedPoolLanes.add(eventHandlerLane);
+            resizeSharedPoolLanes();
+        }
+    }
+
+    private void removeSharedPoolLane(EventHandlerLane eventHandlerLane) {
+
+        synchronized (sharedPoolLanes) {
+            if (sharedPoolLanes.remove(eventHandlerLane)) {
+                resizeSharedPoolLanes();
+            }
+        }
+    }
+
+    /**
+     * Divide the total thread pool size equally between the lanes sharing it, giving each lane at least one thread.
+     */
+    private void resizeSharedPoolLanes() {
+
+        if (sharedPoolLanes.isEmpty()) {
+            return;
+        }
+        int laneConcurrency = Math.max(1, threadPoolSize / sharedPoolLanes.size());
+        for (EventHandlerLane eventHandlerLane : sharedPoolLanes) {
+            eventHandlerLane.setConcurrency(laneConcurrency);
+        }
+    }
+
+    /**
+     * Read a lane setting of a handler, configured in identity-event.properties as
+     * {@code <module name>.async.threadPool.size} or {@code <module name>.async.queue.size}.
+     */
+    private int getLaneProperty(String handlerName, String propertyName, int defaultValue) {
+
+        try {
+            ModuleConfiguration moduleConfiguration =
+                    IdentityEventConfigBuilder.getInstance().getModuleConfigurations(handlerName);
+            if (moduleConfiguration == null) {
+                return defaultValue;
+            }
+            Properties moduleProperties = moduleConfiguration.getModuleProperties();
+            String value = moduleProperties.getProperty(handlerName + "." + propertyName);
+            if (StringUtils.isNotBlank(value)) {
+                return Integer.parseInt(value.trim());
+            }
+        } catch (IdentityEventException | NumberFormatException e) {
+            log.warn("Invalid value configured for " + handlerName + "." + propertyName + ". Using the default value: "
+                    + defaultValue, e);
+        }
+        return defaultValue;
+    }
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.testutil.IdentityBaseTest;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class EventHandlerLaneTest extends IdentityBaseTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Test
+    public void testSubmit() throws Exception {
+
+        TestLaneHandler handler = new TestLaneHandler(null);
+        EventHandlerLane lane = new EventHandlerLane(handler, 2, 10);
+        try {
+            for (int i = 0; i < 3; i++) {
+                lane.submit(new Event("event" + i));
+            }
+            waitForCompletion(lane, 3);
+
+            assertEquals(handler.handledEvents.size(), 3);
+            assertEquals(lane.getSubmittedCount(), 3);
+            assertEquals(lane.getRejectedCount(), 0);
+            assertEquals(lane.getFailedCount(), 0);
+            assertEquals(sum(lane.getLatencyHistogram()), 3);
+            assertEquals(lane.getLatencyHistogram().length, lane.getLatencyHistogramBoundsMillis().length + 1);
+        } finally {
+            lane.shutdown();
+        }
+    }
+
+    @Test
+    public void testSubmitToFullLane() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        TestLaneHandler handler = new TestLaneHandler(release);
+        EventHandlerLane lane = new EventHandlerLane(handler, 1, 1);
+        try {
+            // The first event blocks the only worker and the second one fills the queue.
+            lane.submit(new Event("event1"));
+            lane.submit(new Event("event2"));
+            lane.submit(new Event("event3"));
+
+            assertEquals(lane.getRejectedCount(), 1);
+            assertTrue(handler.handledEvents.contains("event3"), "Rejected event should be handled by the caller.");
+
+            release.countDown();
+            waitForCompletion(lane, 3);
+            assertEquals(handler.handledEvents.size(), 3);
+            assertEquals(lane.getSubmittedCount(), 2);
+        } finally {
+            release.countDown();
+            lane.shutdown();
+        }
+    }
+
+    @Test
+    public void testFailedEvent() throws Exception {
+
+        TestLaneHandler handler = new TestLaneHandler(null);
+        EventHandlerLane lane = new EventHandlerLane(handler, 1, 10);
+        try {
+            lane.submit(new Event(TestLaneHandler.FAILING_EVENT));
+            lane.submit(new Event("event"));
+            waitForCompletion(lane, 2);
+
+            assertEquals(lane.getFailedCount(), 1);
+            assertEquals(handler.handledEvents.size(), 2);
+        } finally {
+            lane.shutdown();
+        }
+    }
+
+    private static void waitForCompletion(EventHandlerLane lane, long expectedCount) throws InterruptedException {
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (lane.getCompletedCount() < expectedCount && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(lane.getCompletedCount(), expectedCount);
+    }
+
+    private static long sum(long[] values) {
+
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    private static class TestLaneHandler extends AbstractEventHandler {
+
+        private static final String FAILING_EVENT = "failingEvent";
+
+        private final List<String> handledEvents = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+
+        TestLaneHandler(CountDownLatch release) {
+
+            this.release = release;
+        }
+
+        @Override
+        public void handleEvent(Event event) throws IdentityEventException {
+
+            handledEvents.add(event.getEventName());
+            if (release != null && Thread.currentThread().getName().startsWith("IdentityEventLane-")) {
+                try {
+                    release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (FAILING_EVENT.equals(event.getEventName())) {
+                throw new IdentityEventException("Failed to handle event");
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.EventRoutingTable.EventRoute;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
+import org.wso2.carbon.identity.event.bean.Subscription;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.testutil.IdentityBaseTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class EventRoutingTableTest extends IdentityBaseTest {
+
+    private static final String ASYNC_EVENT = "asyncEvent";
+    private static final String SYNC_EVENT = "syncEvent";
+
+    private SubscribedHandler subscribedHandler;
+    private FilteringHandler filteringHandler;
+    private OtherSubscribedHandler otherSubscribedHandler;
+    private List<AbstractEventHandler> handlers;
+    private Map<String, ModuleConfiguration> moduleConfigurations;
+
+    @BeforeMethod
+    public void setUp() {
+
+        subscribedHandler = new SubscribedHandler();
+        filteringHandler = new FilteringHandler();
+        otherSubscribedHandler = new OtherSubscribedHandler();
+        handlers = new ArrayList<>(Arrays.asList(subscribedHandler, filteringHandler, otherSubscribedHandler));
+
+        Properties asyncProperties = new Properties();
+        asyncProperties.setProperty("SubscribedHandler.subscription." + ASYNC_EVENT + ".operationAsync", "true");
+        moduleConfigurations = new HashMap<>();
+        moduleConfigurations.put("SubscribedHandler", new ModuleConfiguration(new Properties(), Arrays.asList(
+                new Subscription(ASYNC_EVENT, asyncProperties), new Subscription(SYNC_EVENT, new Properties()))));
+        moduleConfigurations.put("OtherSubscribedHandler", new ModuleConfiguration(new Properties(),
+                Arrays.asList(new Subscription(SYNC_EVENT, new Properties()))));
+    }
+
+    @Test
+    public void testGetRoutes() throws Exception {
+
+        EventRoutingTable routingTable = EventRoutingTable.build(handlers, moduleConfigurations);
+
+        EventRoute[] asyncEventRoutes = routingTable.getRoutes(ASYNC_EVENT);
+        assertEquals(asyncEventRoutes.length, 2);
+        assertSame(asyncEventRoutes[0].getHandler(), subscribedHandler);
+        assertTrue(asyncEventRoutes[0].isAsync(ASYNC_EVENT));
+        assertSame(asyncEventRoutes[1].getHandler(), filteringHandler);
+        assertFalse(asyncEventRoutes[1].isAsync(ASYNC_EVENT));
+
+        EventRoute[] syncEventRoutes = routingTable.getRoutes(SYNC_EVENT);
+        assertEquals(syncEventRoutes.length, 3);
+        assertSame(syncEventRoutes[0].getHandler(), subscribedHandler);
+        assertFalse(syncEventRoutes[0].isAsync(SYNC_EVENT));
+        assertSame(syncEventRoutes[2].getHandler(), otherSubscribedHandler);
+
+        EventRoute[] unknownEventRoutes = routingTable.getRoutes("unknownEvent");
+        assertEquals(unknownEventRoutes.length, 1);
+        assertSame(unknownEventRoutes[0].getHandler(), filteringHandler);
+    }
+
+    @Test
+    public void testCanHandle() {
+
+        EventRoutingTable routingTable = EventRoutingTable.build(handlers, moduleConfigurations);
+        EventRoute[] routes = routingTable.getRoutes(ASYNC_EVENT);
+        MessageContext messageContext = new IdentityEventMessageContext(new Event(ASYNC_EVENT));
+
+        assertTrue(routes[0].canHandle(messageContext));
+        assertFalse(routes[1].canHandle(messageContext), "Overridden canHandle should be evaluated per event.");
+        assertEquals(filteringHandler.canHandleCount, 1);
+    }
+
+    @Test
+    public void testIsAsyncResolvedThroughOverriddenSubscriptionProperty() throws Exception {
+
+        PropertyResolvingHandler propertyResolvingHandler = new PropertyResolvingHandler();
+        moduleConfigurations.put("PropertyResolvingHandler", new ModuleConfiguration(new Properties(),
+                Arrays.asList(new Subscription(SYNC_EVENT, new Properties()))));
+        EventRoutingTable routingTable = EventRoutingTable.build(
+                Arrays.asList(subscribedHandler, propertyResolvingHandler), moduleConfigurations);
+
+        EventRoute[] routes = routingTable.getRoutes(SYNC_EVENT);
+        assertEquals(routes.length, 2);
+        assertFalse(routes[0].isAsync(SYNC_EVENT));
+        assertSame(routes[1].getHandler(), propertyResolvingHandler);
+        assertTrue(routes[1].isAsync(SYNC_EVENT), "Overridden subscription property should decide the association.");
+    }
+
+    @Test
+    public void testIsBuiltFrom() {
+
+        EventRoutingTable routingTable = EventRoutingTable.build(handlers, moduleConfigurations);
+        assertTrue(routingTable.isBuiltFrom(handlers));
+
+        handlers.remove(otherSubscribedHandler);
+        assertFalse(routingTable.isBuiltFrom(handlers));
+        assertFalse(routingTable.isBuiltFrom(new ArrayList<>(handlers)));
+    }
+
+    private static class SubscribedHandler extends AbstractEventHandler {
+
+        @Override
+        public void handleEvent(Event event) {
+
+        }
+    }
+
+    private static class OtherSubscribedHandler extends AbstractEventHandler {
+
+        @Override
+        public void handleEvent(Event event) {
+
+        }
+    }
+
+    private static class PropertyResolvingHandler extends AbstractEventHandler {
+
+        @Override
+        public String getSubscriptionProperty(String propertyName, String eventName) {
+
+            return "operationAsync".equals(propertyName) ? "true" : null;
+        }
+
+        @Override
+        public void handleEvent(Event event) {
+
+        }
+    }
+
+    private static class FilteringHandler extends AbstractEventHandler {
+
+        private int canHandleCount;
+
+        @Override
+        public boolean canHandle(MessageContext messageContext) {
+
+            canHandleCount++;
+            return false;
+        }
+
+        @Override
+        public void handleEvent(Event event) {
+
+        }
+    }
+}
@@ -27,9 +27,13 @@ import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.event.internal.IdentityEventServiceComponent;
 import org.wso2.carbon.identity.testutil.IdentityBaseTest;
 
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+
+import javax.management.ObjectName;
+
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.any;
@@ -68,4 +72,107 @@ public class IdentityEventServiceImplTest extends IdentityBaseTest {
 
         Mockito.verify(abstractEventHandler).canHandle(any(MessageContext.class));
     }
+
+    @Test
+    public void testHandleAsyncEventOncePerHandler() throws Exception {
+
+        Event event = new Event("eventName");
+        AbstractEventHandler firstHandler = mockAsyncHandler("firstHandler");
+        AbstractEventHandler secondHandler = mockAsyncHandler("secondHandler");
+
+        List<AbstractEventHandler> handlers = new ArrayList<>();
+        handlers.add(firstHandler);
+        handlers.add(secondHandler);
+        IdentityEventServiceComponent.eventHandlerList = handlers;
+
+        IdentityEventServiceImpl identityEventService = new IdentityEventServiceImpl(handlers, 1, 10);
+        try {
+            identityEventService.handleEvent(event);
+
+            Mockito.verify(firstHandler, Mockito.timeout(10000)).handleEvent(event);
+            Mockito.verify(secondHandler, Mockito.timeout(10000)).handleEvent(event);
+            Thread.sleep(100);
+            Mockito.verify(firstHandler, Mockito.times(1)).handleEvent(event);
+            Mockito.verify(secondHandler, Mockito.times(1)).handleEvent(event);
+        } finally {
+            identityEventService.shutdown();
+        }
+    }
+
+    @Test
+    public void testHandleAsyncEventAfterHandlerReRegistration() throws Exception {
+
+        Event event = new Event("eventName");
+        AbstractEventHandler previousHandler = mockAsyncHandler("reRegisteredHandler");
+        List<AbstractEventHandler> handlers = new ArrayList<>();
+        handlers.add(previousHandler);
+        IdentityEventServiceComponent.eventHandlerList = handlers;
+
+        IdentityEventServiceImpl identityEventService = new IdentityEventServiceImpl(handlers, 1, 10);
+        try {
+            identityEventService.handleEvent(event);
+            Mockito.verify(previousHandler, Mockito.timeout(10000)).handleEvent(event);
+
+            AbstractEventHandler currentHandler = mockAsyncHandler("reRegisteredHandler");
+            List<AbstractEventHandler> currentHandlers = new ArrayList<>();
+            currentHandlers.add(currentHandler);
+            IdentityEventServiceComponent.eventHandlerList = currentHandlers;
+            identityEventService.removeEventHandlerLane(previousHandler);
+            identityEventService.invalidateRoutingTable();
+            identityEventService.handleEvent(event);
+
+            Mockito.verify(currentHandler, Mockito.timeout(10000)).handleEvent(event);
+            Thread.sleep(100);
+            Mockito.verify(previousHandler, Mockito.times(1)).handleEvent(event);
+        } finally {
+            identityEventService.shutdown();
+        }
+    }
+
+    @Test
+    public void testThreadPoolSizeIsSharedBetweenLanes() throws Exception {
+
+        Event event = new Event("eventName");
+        AbstractEventHandler firstHandler = mockAsyncHandler("firstSharedHandler");
+        AbstractEventHandler secondHandler = mockAsyncHandler("secondSharedHandler");
+        List<AbstractEventHandler> handlers = new ArrayList<>();
+        handlers.add(firstHandler);
+        IdentityEventServiceComponent.eventHandlerList = handlers;
+
+        IdentityEventServiceImpl identityEventService = new IdentityEventServiceImpl(handlers, 10, 10);
+        try {
+            identityEventService.handleEvent(event);
+            Assert.assertEquals(getLaneConcurrency(firstHandler), 10);
+
+            List<AbstractEventHandler> currentHandlers = new ArrayList<>(handlers);
+            currentHandlers.add(secondHandler);
+            IdentityEventServiceComponent.eventHandlerList = currentHandlers;
+            identityEventService.invalidateRoutingTable();
+            identityEventService.handleEvent(event);
+            Assert.assertEquals(getLaneConcurrency(firstHandler), 5);
+            Assert.assertEquals(getLaneConcurrency(secondHandler), 5);
+
+            identityEventService.removeEventHandlerLane(secondHandler);
+            Assert.assertEquals(getLaneConcurrency(firstHandler), 10);
+        } finally {
+            identityEventService.shutdown();
+        }
+    }
+
+    private static int getLaneConcurrency(AbstractEventHandler handler) throws Exception {
+
+        ObjectName objectName = new ObjectName("org.wso2.carbon.identity:type=IdentityEventHandlerLane,name=" +
+                ObjectName.quote(handler.getName()));
+        return (Integer) ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "Concurrency");
+    }
+
+    private AbstractEventHandler mockAsyncHandler(String name) throws IdentityEventException {
+
+        AbstractEventHandler handler = mock(AbstractEventHandler.class);
+        doReturn(name).when(handler).getName();
+        doReturn(true).when(handler).canHandle(any(MessageContext.class));
+        doReturn(true).when(handler).isEnabled(any(MessageContext.class));
+        doReturn(true).when(handler).isAssociationAsync(anyString());
+        return handler;
+    }
 }
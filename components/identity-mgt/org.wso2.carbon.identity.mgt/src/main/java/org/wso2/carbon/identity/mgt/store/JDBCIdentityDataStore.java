@@ -36,6 +36,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * //TODO remove method when user is deleted
@@ -73,105 +74,97 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
         super.store(userIdentityDTO, userStoreManager);
 
         Map<String, String> data = userIdentityDTO.getUserDataMap();
-
-        for (Map.Entry<String, String> entry : data.entrySet()) {
-            String key = entry.getKey();
-            String value = entry.getValue();
-            boolean isUserExists = false;
-            try {
-                isUserExists = isExistingUserDataValue(userName, tenantId, key);
-            } catch (SQLException e) {
-                throw IdentityException.error("Error occurred while checking if user existing", e);
+        boolean isUsernameCaseSensitive = IdentityUtil.isUserStoreInUsernameCaseSensitive(userName, tenantId);
+        try {
+            storeUserDataValues(userName, tenantId, data, isUsernameCaseSensitive);
+        } catch (SQLException e) {
+            // A concurrent store of the same user may have added some of the keys, hence retry once with the keys
+            // which exist now.
+            if (log.isDebugEnabled()) {
+                log.debug("Error while persisting user data of user: " + userName + ". Retrying.", e);
             }
             try {
-                if (isUserExists) {
-                    updateUserDataValue(userName, tenantId, key, value);
-                } else {
-                    addUserDataValue(userName, tenantId, key, value);
-                }
-            } catch (SQLException e) {
-                throw IdentityException.error("Error occurred while persisting user data", e);
+                storeUserDataValues(userName, tenantId, data, isUsernameCaseSensitive);
+            } catch (SQLException e1) {
+                throw IdentityException.error("Error occurred while persisting user data", e1);
             }
         }
     }
 
-    private boolean isExistingUserDataValue(String userName, int tenantId, String key) throws SQLException {
+    /**
+     * Store the user data values in a single transaction. The existing values of the user are read with one query,
+     * then new values are inserted and changed values are updated in batches. Unchanged values are not written.
+     */
+    private void storeUserDataValues(String userName, int tenantId, Map<String, String> data,
+                                     boolean isUsernameCaseSensitive) throws SQLException {
 
-        Connection connection = IdentityDatabaseUtil.getDBConnection(false);
-        PreparedStatement prepStmt = null;
-        ResultSet results;
-        boolean isUsernameCaseSensitive = IdentityUtil.isUserStoreInUsernameCaseSensitive(userName, tenantId);
-        try {
-            String query;
-            if (isUsernameCaseSensitive) {
-                query = SQLQuery.CHECK_EXIST_USER_DATA;
-            } else {
-                query = SQLQuery.CHECK_EXIST_USER_DATA_CASE_INSENSITIVE;
-            }
-            prepStmt = connection.prepareStatement(query);
-            prepStmt.setInt(1, tenantId);
-            prepStmt.setString(2, userName);
-            prepStmt.setString(3, key);
-            results = prepStmt.executeQuery();
-            if (results.next()) {
-                return true;
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            try {
+                Map<String, String> existingData = getUserDataValues(connection, userName, tenantId,
+                        isUsernameCaseSensitive);
+                Map<String, String> newData = new HashMap<>();
+                Map<String, String> changedData = new HashMap<>();
+                for (Map.Entry<String, String> entry : data.entrySet()) {
+                    if (!existingData.containsKey(entry.getKey())) {
+                        newData.put(entry.getKey(), entry.getValue());
+                    } else if (!Objects.equals(existingData.get(entry.getKey()), entry.getValue())) {
+                        changedData.put(entry.getKey(), entry.getValue());
+                    }
+                }
+                if (!newData.isEmpty()) {
+                    try (PreparedStatement prepStmt = connection.prepareStatement(SQLQuery.STORE_USER_DATA)) {
+                        for (Map.Entry<String, String> entry : newData.entrySet()) {
+                            prepStmt.setInt(1, tenantId);
+                            prepStmt.setString(2, userName);
+                            prepStmt.setString(3, entry.getKey());
+                            prepStmt.setString(4, entry.getValue());
+                            prepStmt.addBatch();
+                        }
+                        prepStmt.executeBatch();
+                    }
+                }
+                if (!changedData.isEmpty()) {
+                    String query = isUsernameCaseSensitive ? SQLQuery.UPDATE_USER_DATA :
+                            SQLQuery.UPDATE_USER_DATA_CASE_INSENSITIVE;
+                    try (PreparedStatement prepStmt = connection.prepareStatement(query)) {
+                        for (Map.Entry<String, String> entry : changedData.entrySet()) {
+                            prepStmt.setString(1, entry.getValue());
+                            prepStmt.setInt(2, tenantId);
+                            prepStmt.setString(3, userName);
+                            prepStmt.setString(4, entry.getKey());
+                            prepStmt.addBatch();
+                        }
+                        prepStmt.executeBatch();
+                    }
+                }
+                IdentityDatabaseUtil.commitTransaction(connection);
+                if (log.isDebugEnabled()) {
+                    log.debug("Stored identity data of user: " + userName + " in tenant: " + tenantId + ". Added: " +
+                            newData.size() + ", updated: " + changedData.size() + ", unchanged: " +
+                            (data.size() - newData.size() - changedData.size()));
+                }
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw e;
             }
-        } finally {
-            IdentityDatabaseUtil.closeStatement(prepStmt);
-            IdentityDatabaseUtil.closeConnection(connection);
         }
-        return false;
     }
 
+    private Map<String, String> getUserDataValues(Connection connection, String userName, int tenantId,
+                                                  boolean isUsernameCaseSensitive) throws SQLException {
 
-    private void addUserDataValue(String userName, int tenantId, String key, String value) throws SQLException {
-
-        Connection connection = IdentityDatabaseUtil.getDBConnection();
-        PreparedStatement prepStmt = null;
-
-        try {
-            prepStmt = connection.prepareStatement(SQLQuery.STORE_USER_DATA);
+        String query = isUsernameCaseSensitive ? SQLQuery.LOAD_USER_DATA : SQLQuery.LOAD_USER_DATA_CASE_INSENSITIVE;
+        Map<String, String> data = new HashMap<>();
+        try (PreparedStatement prepStmt = connection.prepareStatement(query)) {
             prepStmt.setInt(1, tenantId);
             prepStmt.setString(2, userName);
-            prepStmt.setString(3, key);
-            prepStmt.setString(4, value);
-            prepStmt.execute();
-            IdentityDatabaseUtil.commitTransaction(connection);
-        } catch (SQLException e) {
-            IdentityDatabaseUtil.rollbackTransaction(connection);
-        } finally {
-            IdentityDatabaseUtil.closeStatement(prepStmt);
-            IdentityDatabaseUtil.closeConnection(connection);
-        }
-    }
-
-
-    private void updateUserDataValue(String userName, int tenantId, String key, String value) throws SQLException {
-
-        Connection connection = IdentityDatabaseUtil.getDBConnection();
-        PreparedStatement prepStmt = null;
-        boolean isUsernameCaseSensitive = IdentityUtil.isUserStoreInUsernameCaseSensitive(userName, tenantId);
-        try {
-            String query;
-            if (isUsernameCaseSensitive) {
-                query = SQLQuery.UPDATE_USER_DATA;
-            } else {
-                query = SQLQuery.UPDATE_USER_DATA_CASE_INSENSITIVE;
+            try (ResultSet results = prepStmt.executeQuery()) {
+                while (results.next()) {
+                    data.put(results.getString(1), results.getString(2));
+                }
             }
-            prepStmt = connection.prepareStatement(query);
-            prepStmt.setString(1, value);
-            prepStmt.setInt(2, tenantId);
-            prepStmt.setString(3, userName);
-            prepStmt.setString(4, key);
-            prepStmt.executeUpdate();
-            IdentityDatabaseUtil.commitTransaction(connection);
-        } catch (SQLException e) {
-            IdentityDatabaseUtil.rollbackTransaction(connection);
-        } finally {
-            IdentityDatabaseUtil.closeStatement(prepStmt);
-            IdentityDatabaseUtil.closeConnection(connection);
         }
-
+        return data;
     }
 
     @Override
@@ -271,11 +264,6 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
      * The primary key is tenantId, userName, DatKey combination
      */
     private static class SQLQuery {
-        public static final String CHECK_EXIST_USER_DATA = "SELECT DATA_VALUE FROM IDN_IDENTITY_USER_DATA WHERE " +
-                "TENANT_ID = ? AND USER_NAME = ? AND DATA_KEY = ?";
-        public static final String CHECK_EXIST_USER_DATA_CASE_INSENSITIVE = "SELECT DATA_VALUE FROM " +
-                "IDN_IDENTITY_USER_DATA WHERE TENANT_ID = ? AND LOWER(USER_NAME) = LOWER(?) AND DATA_KEY = ?";
-
         public static final String STORE_USER_DATA = "INSERT INTO IDN_IDENTITY_USER_DATA (TENANT_ID, USER_NAME, " +
                 "DATA_KEY, DATA_VALUE) VALUES (?,?,?,?)";
 
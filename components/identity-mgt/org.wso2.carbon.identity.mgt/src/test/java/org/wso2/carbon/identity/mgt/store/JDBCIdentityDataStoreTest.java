@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.mgt.store;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.base.IdentityException;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.mgt.dto.UserIdentityClaimsDO;
+import org.wso2.carbon.user.api.RealmConfiguration;
+import org.wso2.carbon.user.core.UserCoreConstants;
+import org.wso2.carbon.user.core.UserStoreManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for JDBCIdentityDataStore test cases.
+ */
+public class JDBCIdentityDataStoreTest {
+
+    private static final String USER_NAME = "testUser";
+    private static final int TENANT_ID = -1234;
+
+    private MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil;
+    private MockedStatic<IdentityUtil> identityUtil;
+    private MockedStatic<PrivilegedCarbonContext> privilegedCarbonContext;
+    private UserStoreManager userStoreManager;
+    private Connection connection;
+    private PreparedStatement selectStatement;
+    private PreparedStatement insertStatement;
+    private PreparedStatement updateStatement;
+    private JDBCIdentityDataStore identityDataStore;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+        identityUtil = mockStatic(IdentityUtil.class);
+        privilegedCarbonContext = mockStatic(PrivilegedCarbonContext.class);
+        privilegedCarbonContext.when(PrivilegedCarbonContext::getThreadLocalCarbonContext)
+                .thenReturn(mock(PrivilegedCarbonContext.class));
+        identityUtil.when(() -> IdentityUtil.isUserStoreInUsernameCaseSensitive(anyString(), anyInt()))
+                .thenReturn(true);
+
+        userStoreManager = mock(UserStoreManager.class);
+        RealmConfiguration realmConfiguration = mock(RealmConfiguration.class);
+        when(userStoreManager.getRealmConfiguration()).thenReturn(realmConfiguration);
+        when(realmConfiguration.getUserStoreProperty(UserCoreConstants.RealmConfig.PROPERTY_DOMAIN_NAME))
+                .thenReturn(UserCoreConstants.PRIMARY_DEFAULT_DOMAIN_NAME);
+        when(userStoreManager.getTenantId()).thenReturn(TENANT_ID);
+
+        connection = mock(Connection.class);
+        selectStatement = mock(PreparedStatement.class);
+        insertStatement = mock(PreparedStatement.class);
+        updateStatement = mock(PreparedStatement.class);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(true)).thenReturn(connection);
+        when(connection.prepareStatement(startsWith("SELECT"))).thenReturn(selectStatement);
+        when(connection.prepareStatement(startsWith("INSERT"))).thenReturn(insertStatement);
+        when(connection.prepareStatement(startsWith("UPDATE"))).thenReturn(updateStatement);
+
+        identityDataStore = spy(new JDBCIdentityDataStore());
+        doReturn(null).when(identityDataStore).getCache();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        identityDatabaseUtil.close();
+        identityUtil.close();
+        privilegedCarbonContext.close();
+    }
+
+    @Test
+    public void testStoreWritesOnlyNewAndChangedValuesInOneTransaction() throws Exception {
+
+        mockExistingValues("key1", "value1", "key2", "value2");
+        Map<String, String> data = new HashMap<>();
+        data.put("key1", "value1");
+        data.put("key2", "newValue2");
+        data.put("key3", "value3");
+        data.put("key4", "value4");
+
+        identityDataStore.store(new UserIdentityClaimsDO(USER_NAME, data), userStoreManager);
+
+        identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.getDBConnection(true), times(1));
+        verify(selectStatement, times(1)).executeQuery();
+        verify(insertStatement, times(2)).addBatch();
+        verify(insertStatement, times(1)).executeBatch();
+        verify(updateStatement, times(1)).addBatch();
+        verify(updateStatement).setString(1, "newValue2");
+        verify(updateStatement, times(1)).executeBatch();
+        identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.commitTransaction(connection), times(1));
+    }
+
+    @Test
+    public void testStoreUnchangedValues() throws Exception {
+
+        mockExistingValues("key1", "value1");
+        Map<String, String> data = new HashMap<>();
+        data.put("key1", "value1");
+
+        identityDataStore.store(new UserIdentityClaimsDO(USER_NAME, data), userStoreManager);
+
+        verify(connection, never()).prepareStatement(startsWith("INSERT"));
+        verify(connection, never()).prepareStatement(startsWith("UPDATE"));
+    }
+
+    @Test
+    public void testStoreRetriesOnceAfterFailure() throws Exception {
+
+        mockExistingValues();
+        when(insertStatement.executeBatch()).thenThrow(new SQLException("Duplicate key")).thenReturn(new int[]{1});
+        Map<String, String> data = new HashMap<>();
+        data.put("key1", "value1");
+
+        identityDataStore.store(new UserIdentityClaimsDO(USER_NAME, data), userStoreManager);
+
+        identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.rollbackTransaction(connection), times(1));
+        identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.commitTransaction(connection), times(1));
+    }
+
+    @Test(expectedExceptions = IdentityException.class)
+    public void testStoreFailure() throws Exception {
+
+        mockExistingValues();
+        when(insertStatement.executeBatch()).thenThrow(new SQLException("Error"));
+        Map<String, String> data = new HashMap<>();
+        data.put("key1", "value1");
+
+        identityDataStore.store(new UserIdentityClaimsDO(USER_NAME, data), userStoreManager);
+    }
+
+    private void mockExistingValues(String... keysAndValues) throws SQLException {
+
+        ResultSet resultSet = mock(ResultSet.class);
+        when(selectStatement.executeQuery()).thenReturn(resultSet);
+        Boolean[] hasNext = new Boolean[keysAndValues.length / 2 + 1];
+        for (int i = 0; i < hasNext.length; i++) {
+            hasNext[i] = i < hasNext.length - 1;
+        }
+        when(resultSet.next()).thenReturn(hasNext[0], Arrays.copyOfRange(hasNext, 1, hasNext.length));
+        if (keysAndValues.length > 0) {
+            String[] keys = new String[keysAndValues.length / 2];
+            String[] values = new String[keysAndValues.length / 2];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = keysAndValues[2 * i];
+                values[i] = keysAndValues[2 * i + 1];
+            }
+            when(resultSet.getString(1)).thenReturn(keys[0], Arrays.copyOfRange(keys, 1, keys.length));
+            when(resultSet.getString(2)).thenReturn(values[0],
+                    Arrays.copyOfRange(values, 1, values.length));
+        }
+    }
+}
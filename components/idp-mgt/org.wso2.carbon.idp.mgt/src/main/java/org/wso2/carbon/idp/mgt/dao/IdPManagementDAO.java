@@ -96,6 +96,7 @@ import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -133,6 +134,8 @@ public class IdPManagementDAO {
             = "OnDemandConfig.OnInitialUse.EnableSMSOTPPasswordRecoveryIfConnectorEnabled";
     private static final String ENABLE_SMS_USERNAME_RECOVERY_IF_CONNECTOR_ENABLED
             = "OnDemandConfig.OnInitialUse.EnableSMSUsernameRecoveryIfConnectorEnabled";
+    // Maximum number of IDP Ids bound to a single IDP properties query.
+    private static final int IDP_PROPERTIES_BATCH_SIZE = 100;
 
     /**
      * @param dbConnection
@@ -197,16 +200,13 @@ public class IdPManagementDAO {
                     identityProvider.setDisplayName(rs.getString("DISPLAY_NAME"));
 
                     identityProvider.setId(rs.getString("ID"));
-                    List<IdentityProviderProperty> propertyList = getIdentityPropertiesByIdpId(dbConnection,
-                            Integer.parseInt(identityProvider.getId()), tenantId);
-                    identityProvider
-                            .setIdpProperties(propertyList.toArray(new IdentityProviderProperty[0]));
                     identityProvider.setImageUrl(rs.getString("IMAGE_URL"));
                     identityProvider.setResourceId(rs.getString("UUID"));
                     idps.add(identityProvider);
                 }
 
             }
+            setIdentityProperties(dbConnection, idps, tenantId);
             return idps;
         } catch (SQLException e) {
             throw new IdentityProviderManagementException("Error occurred while retrieving registered Identity " +
@@ -293,10 +293,6 @@ public class IdPManagementDAO {
                     }
                     identityProvider.setDisplayName(rs.getString("DISPLAY_NAME"));
                     identityProvider.setId(rs.getString("ID"));
-                    List<IdentityProviderProperty> propertyList = getIdentityPropertiesByIdpId(
-                            dbConnection, Integer.parseInt(identityProvider.getId()), tenantId);
-                    identityProvider.setIdpProperties(propertyList
-                            .toArray(new IdentityProviderProperty[0]));
                     identityProvider.setImageUrl(rs.getString("IMAGE_URL"));
                     identityProvider.setResourceId(rs.getString("UUID"));
                     if (!IdentityApplicationConstants.RESIDENT_IDP_RESERVED_NAME
@@ -305,6 +301,7 @@ public class IdPManagementDAO {
                     }
                 }
             }
+            setIdentityProperties(dbConnection, idps, tenantId);
             IdentityDatabaseUtil.commitTransaction(dbConnection);
             return idps;
         } catch (SQLException e) {
@@ -691,13 +688,35 @@ public class IdPManagementDAO {
                     .equals(identityProvider.getIdentityProviderName())) {
                 identityProviderList.add(identityProvider);
             }
-            List<IdentityProviderProperty> propertyList = getIdentityPropertiesByIdpId(dbConnection,
-                    Integer.parseInt(resultSet.getString("ID")), tenantId);
-            identityProvider.setIdpProperties(propertyList.toArray(new IdentityProviderProperty[0]));
         }
+        setIdentityProperties(dbConnection, identityProviderList, tenantId);
         return identityProviderList;
     }
 
+    /**
+     * Set the Identity properties of the given identity providers, read with a query per batch of identity
+     * providers rather than a query per identity provider.
+     *
+     * @param dbConnection      Database Connection.
+     * @param identityProviders Identity providers with their IDs set.
+     * @param tenantId          Tenant Id of the identity providers.
+     * @throws SQLException Database Exception.
+     */
+    private void setIdentityProperties(Connection dbConnection, List<IdentityProvider> identityProviders,
+                                       int tenantId) throws SQLException {
+
+        List<Integer> idpIds = new ArrayList<>(identityProviders.size());
+        for (IdentityProvider identityProvider : identityProviders) {
+            idpIds.add(Integer.parseInt(identityProvider.getId()));
+        }
+        Map<Integer, List<IdentityProviderProperty>> idpProperties =
+                getIdentityPropertiesByIdpIds(dbConnection, idpIds, tenantId);
+        for (IdentityProvider identityProvider : identityProviders) {
+            identityProvider.setIdpProperties(idpProperties.get(Integer.parseInt(identityProvider.getId()))
+                    .toArray(new IdentityProviderProperty[0]));
+        }
+    }
+
     /**
      * @param resultSet          ResultSet.
      * @param dbConnection       Database Connection.
@@ -1003,14 +1022,6 @@ public class IdPManagementDAO {
         PreparedStatement prepStmt = null;
         ResultSet rs = null;
         List<IdentityProviderProperty> idpProperties = new ArrayList<IdentityProviderProperty>();
-        boolean isRecoveryNotificationPasswordRecoveryEnabled = false;
-        boolean isEmailLinkNotificationPasswordRecoveryEnabled = false;
-        boolean isSmsOtpNotificationPasswordRecoveryEnabled = false;
-
-        boolean isUsernameRecoveryEnabled = false;
-        boolean isEmailUsernameRecoveryEnabled = false;
-        boolean isSmsUsernameRecoveryEnabled = false;
-
         try {
             String sqlStmt = isH2DB() ? IdPManagementConstants.SQLQueries.GET_IDP_METADATA_BY_IDP_ID_H2 :
                     IdPManagementConstants.SQLQueries.GET_IDP_METADATA_BY_IDP_ID;
@@ -1018,50 +1029,126 @@ public class IdPManagementDAO {
             prepStmt.setInt(1, idpId);
             rs = prepStmt.executeQuery();
             while (rs.next()) {
-                IdentityProviderProperty property = new IdentityProviderProperty();
-                property.setName(rs.getString("NAME"));
-                if (IdPManagementConstants.NOTIFICATION_PASSWORD_ENABLE_PROPERTY.equals(property.getName())) {
-                    isRecoveryNotificationPasswordRecoveryEnabled =
-                            Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                if (IdPManagementConstants.EMAIL_LINK_PASSWORD_RECOVERY_PROPERTY.equals(property.getName())) {
-                    isEmailLinkNotificationPasswordRecoveryEnabled =
-                            Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                if (IdPManagementConstants.SMS_OTP_PASSWORD_RECOVERY_PROPERTY.equals(property.getName())) {
-                    isSmsOtpNotificationPasswordRecoveryEnabled =
-                            Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                if (IdPManagementConstants.USERNAME_RECOVERY_PROPERTY.equals(property.getName())) {
-                    isUsernameRecoveryEnabled = Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                if (IdPManagementConstants.EMAIL_USERNAME_RECOVERY_PROPERTY.equals(property.getName())) {
-                    isEmailUsernameRecoveryEnabled = Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                if (IdPManagementConstants.SMS_USERNAME_RECOVERY_PROPERTY.equals(property.getName())) {
-                    isSmsUsernameRecoveryEnabled = Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                property.setValue(rs.getString("VALUE"));
-                property.setDisplayName(rs.getString("DISPLAY_NAME"));
-                idpProperties.add(property);
-            }
-            // If recovery notification are inconsistent, correct the configurations.
-            if (isRecoveryNotificationPasswordRecoveryEnabled && !isEmailLinkNotificationPasswordRecoveryEnabled
-                    && !isSmsOtpNotificationPasswordRecoveryEnabled) {
-                performConfigCorrectionForPasswordRecoveryConfigs(dbConnection, tenantId, idpId, idpProperties);
-            }
-            // If username recovery configs are inconsistent, correct the configurations.
-            if (isUsernameRecoveryEnabled && !isEmailUsernameRecoveryEnabled && !isSmsUsernameRecoveryEnabled) {
-                performConfigCorrectionForUsernameRecoveryConfigs(dbConnection, tenantId, idpId, idpProperties);
+                idpProperties.add(buildIdentityProviderProperty(rs));
             }
         } catch (DataAccessException e) {
             throw new SQLException("Error while retrieving IDP properties for IDP ID: " + idpId, e);
         } finally {
             IdentityDatabaseUtil.closeAllConnections(null, rs, prepStmt);
         }
+        correctRecoveryConfigs(dbConnection, idpId, tenantId, idpProperties);
         return idpProperties;
     }
 
+    /**
+     * Get the Identity properties of a set of identity providers. The properties are read with one query per
+     * {@link #IDP_PROPERTIES_BATCH_SIZE} identity providers instead of one query per identity provider.
+     *
+     * @param dbConnection database connection
+     * @param idpIds       IDP Ids
+     * @param tenantId     tenant Id
+     * @return Identity provider properties keyed by IDP Id. Every given IDP Id has an entry.
+     */
+    private Map<Integer, List<IdentityProviderProperty>> getIdentityPropertiesByIdpIds(Connection dbConnection,
+                                                                                       List<Integer> idpIds,
+                                                                                       int tenantId)
+            throws SQLException {
+
+        Map<Integer, List<IdentityProviderProperty>> idpPropertiesMap = new LinkedHashMap<>();
+        for (Integer idpId : idpIds) {
+            idpPropertiesMap.put(idpId, new ArrayList<>());
+        }
+        if (idpPropertiesMap.isEmpty()) {
+            return idpPropertiesMap;
+        }
+        List<Integer> distinctIdpIds = new ArrayList<>(idpPropertiesMap.keySet());
+        try {
+            String baseSqlStmt = isH2DB() ? IdPManagementConstants.SQLQueries.GET_IDP_METADATA_BY_IDP_IDS_H2 :
+                    IdPManagementConstants.SQLQueries.GET_IDP_METADATA_BY_IDP_IDS;
+            for (int from = 0; from < distinctIdpIds.size(); from += IDP_PROPERTIES_BATCH_SIZE) {
+                List<Integer> batch = distinctIdpIds.subList(from,
+                        Math.min(from + IDP_PROPERTIES_BATCH_SIZE, distinctIdpIds.size()));
+                String sqlStmt = baseSqlStmt.replace(IdPManagementConstants.IDP_ID_LIST_PLACEHOLDER,
+                        String.join(",", Collections.nCopies(batch.size(), "?")));
+                try (PreparedStatement prepStmt = dbConnection.prepareStatement(sqlStmt)) {
+                    for (int i = 0; i < batch.size(); i++) {
+                        prepStmt.setInt(i + 1, batch.get(i));
+                    }
+                    try (ResultSet rs = prepStmt.executeQuery()) {
+                        while (rs.next()) {
+                            idpPropertiesMap.get(rs.getInt("IDP_ID")).add(buildIdentityProviderProperty(rs));
+                        }
+                    }
+                }
+            }
+        } catch (DataAccessException e) {
+            throw new SQLException("Error while retrieving IDP properties for IDP IDs: " + distinctIdpIds, e);
+        }
+        for (Map.Entry<Integer, List<IdentityProviderProperty>> entry : idpPropertiesMap.entrySet()) {
+            correctRecoveryConfigs(dbConnection, entry.getKey(), tenantId, entry.getValue());
+        }
+        return idpPropertiesMap;
+    }
+
+    private IdentityProviderProperty buildIdentityProviderProperty(ResultSet rs) throws SQLException {
+
+        IdentityProviderProperty property = new IdentityProviderProperty();
+        property.setName(rs.getString("NAME"));
+        property.setValue(rs.getString("VALUE"));
+        property.setDisplayName(rs.getString("DISPLAY_NAME"));
+        return property;
+    }
+
+    /**
+     * Correct the recovery notification configurations of an identity provider if they are inconsistent.
+     *
+     * @param dbConnection  database connection
+     * @param idpId         IDP Id
+     * @param tenantId      tenant Id
+     * @param idpProperties Identity provider properties read from the database
+     */
+    private void correctRecoveryConfigs(Connection dbConnection, int idpId, int tenantId,
+                                        List<IdentityProviderProperty> idpProperties) throws SQLException {
+
+        boolean isRecoveryNotificationPasswordRecoveryEnabled = false;
+        boolean isEmailLinkNotificationPasswordRecoveryEnabled = false;
+        boolean isSmsOtpNotificationPasswordRecoveryEnabled = false;
+
+        boolean isUsernameRecoveryEnabled = false;
+        boolean isEmailUsernameRecoveryEnabled = false;
+        boolean isSmsUsernameRecoveryEnabled = false;
+
+        for (IdentityProviderProperty property : idpProperties) {
+            if (IdPManagementConstants.NOTIFICATION_PASSWORD_ENABLE_PROPERTY.equals(property.getName())) {
+                isRecoveryNotificationPasswordRecoveryEnabled = Boolean.parseBoolean(property.getValue());
+            }
+            if (IdPManagementConstants.EMAIL_LINK_PASSWORD_RECOVERY_PROPERTY.equals(property.getName())) {
+                isEmailLinkNotificationPasswordRecoveryEnabled = Boolean.parseBoolean(property.getValue());
+            }
+            if (IdPManagementConstants.SMS_OTP_PASSWORD_RECOVERY_PROPERTY.equals(property.getName())) {
+                isSmsOtpNotificationPasswordRecoveryEnabled = Boolean.parseBoolean(property.getValue());
+            }
+            if (IdPManagementConstants.USERNAME_RECOVERY_PROPERTY.equals(property.getName())) {
+                isUsernameRecoveryEnabled = Boolean.parseBoolean(property.getValue());
+            }
+            if (IdPManagementConstants.EMAIL_USERNAME_RECOVERY_PROPERTY.equals(property.getName())) {
+                isEmailUsernameRecoveryEnabled = Boolean.parseBoolean(property.getValue());
+            }
+            if (IdPManagementConstants.SMS_USERNAME_RECOVERY_PROPERTY.equals(property.getName())) {
+                isSmsUsernameRecoveryEnabled = Boolean.parseBoolean(property.getValue());
+            }
+        }
+        // If recovery notification are inconsistent, correct the configurations.
+        if (isRecoveryNotificationPasswordRecoveryEnabled && !isEmailLinkNotificationPasswordRecoveryEnabled
+                && !isSmsOtpNotificationPasswordRecoveryEnabled) {
+            performConfigCorrectionForPasswordRecoveryConfigs(dbConnection, tenantId, idpId, idpProperties);
+        }
+        // If username recovery configs are inconsistent, correct the configurations.
+        if (isUsernameRecoveryEnabled && !isEmailUsernameRecoveryEnabled && !isSmsUsernameRecoveryEnabled) {
+            performConfigCorrectionForUsernameRecoveryConfigs(dbConnection, tenantId, idpId, idpProperties);
+        }
+    }
+
     /**
      * Add Identity provider properties
      *
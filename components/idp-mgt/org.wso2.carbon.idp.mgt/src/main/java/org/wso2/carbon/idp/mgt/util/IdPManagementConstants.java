@@ -26,6 +26,7 @@ public class IdPManagementConstants {
     public static final String SHARED_IDP_PREFIX = "SHARED_";
     public static final String SCOPE_LIST_PLACEHOLDER = "_SCOPE_LIST_";
     public static final String IDP_GROUP_LIST_PLACEHOLDER = "_IDP_GROUP_LIST_";
+    public static final String IDP_ID_LIST_PLACEHOLDER = "_IDP_ID_LIST_";
     public static final String MULTI_VALUED_PROPERTY_CHARACTER = ".";
     public static final String IS_TRUE_VALUE = "1";
     public static final String IS_FALSE_VALUE = "0";
@@ -493,6 +494,10 @@ public class IdPManagementConstants {
                 "IDP_METADATA WHERE IDP_ID = ?";
         public static final String GET_IDP_METADATA_BY_IDP_ID_H2 = "SELECT ID, NAME, `VALUE`, DISPLAY_NAME FROM " +
                 "IDP_METADATA WHERE IDP_ID = ?";
+        public static final String GET_IDP_METADATA_BY_IDP_IDS = "SELECT IDP_ID, ID, NAME, VALUE, DISPLAY_NAME " +
+                "FROM IDP_METADATA WHERE IDP_ID IN (" + IDP_ID_LIST_PLACEHOLDER + ") ORDER BY IDP_ID, ID";
+        public static final String GET_IDP_METADATA_BY_IDP_IDS_H2 = "SELECT IDP_ID, ID, NAME, `VALUE`, DISPLAY_NAME " +
+                "FROM IDP_METADATA WHERE IDP_ID IN (" + IDP_ID_LIST_PLACEHOLDER + ") ORDER BY IDP_ID, ID";
         public static final String ADD_IDP_METADATA = "INSERT INTO IDP_METADATA (IDP_ID, NAME, VALUE, DISPLAY_NAME, " +
                 "TENANT_ID) VALUES (?, ?, ?, ?, ?)";
         public static final String ADD_IDP_METADATA_H2 = "INSERT INTO IDP_METADATA (IDP_ID, NAME, `VALUE`, DISPLAY_NAME, " +
@@ -239,6 +239,32 @@ public class IdPManagementDAOTest {
         }
     }
 
+    @Test
+    public void testGetIdPsWithIdpProperties() throws Exception {
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             Connection connection = getConnection(DB_NAME)) {
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection);
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDataSource).thenReturn(dataSourceMap.get(DB_NAME));
+            addTestIdps();
+
+            List<IdentityProvider> idps = idPManagementDAO.getIdPs(connection, SAMPLE_TENANT_ID, TENANT_DOMAIN);
+            assertEquals(idps.size(), 2);
+            for (IdentityProvider idp : idps) {
+                boolean hasTestProperty = false;
+                for (IdentityProviderProperty property : idp.getIdpProperties()) {
+                    if ("idpPropertyName".equals(property.getName())) {
+                        assertEquals(property.getValue(), "idpPropertyValue");
+                        assertEquals(property.getDisplayName(), "idpDisplayName");
+                        hasTestProperty = true;
+                    }
+                }
+                // Only testIdP1 is added with the property, it must not be mapped to the other IdP.
+                assertEquals(hasTestProperty, "testIdP1".equals(idp.getIdentityProviderName()));
+            }
+        }
+    }
+
     @Test(dataProvider = "getIdPsData")
     public void testGetIdPsException(int tenantId, String tenantDomain, int resultCount) throws Exception {
 
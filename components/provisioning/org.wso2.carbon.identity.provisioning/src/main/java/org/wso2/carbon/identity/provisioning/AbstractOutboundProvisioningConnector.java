@@ -27,6 +27,7 @@ import org.wso2.carbon.identity.application.common.model.Property;
 import org.wso2.carbon.user.core.UserCoreConstants;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -56,6 +57,46 @@ public abstract class AbstractOutboundProvisioningConnector implements Serializa
     public abstract ProvisionedIdentifier provision(ProvisioningEntity provisioningEntity)
             throws IdentityProvisioningException;
 
+    /**
+     * Override if the connector can provision several entities with a single bulk request to the identity provider,
+     * together with {@link #provisionBatch(List)}.
+     *
+     * @return True if non-blocking provisioning operations may be handed to the connector in batches.
+     */
+    public boolean isBatchProvisioningSupported() {
+
+        return false;
+    }
+
+    /**
+     * Provision the given entities. The default implementation provisions the entities one by one. Implementations
+     * should throw a {@link BatchProvisioningException} carrying the identifiers of the provisioned entities if only
+     * some of the entities could be provisioned, otherwise the whole batch is considered failed.
+     *
+     * @param provisioningEntities Entities to be provisioned.
+     * @return Provisioned identifiers, in the order of the given entities.
+     * @throws IdentityProvisioningException If provisioning of any of the entities failed.
+     */
+    public List<ProvisionedIdentifier> provisionBatch(List<ProvisioningEntity> provisioningEntities)
+            throws IdentityProvisioningException {
+
+        List<ProvisionedIdentifier> provisionedIdentifiers = new ArrayList<>(provisioningEntities.size());
+        for (ProvisioningEntity provisioningEntity : provisioningEntities) {
+            try {
+                provisionedIdentifiers.add(provision(provisioningEntity));
+            } catch (IdentityProvisioningException | RuntimeException e) {
+                Map<Integer, ProvisionedIdentifier> provisioned = new HashMap<>();
+                for (int i = 0; i < provisionedIdentifiers.size(); i++) {
+                    provisioned.put(i, provisionedIdentifiers.get(i));
+                }
+                throw new BatchProvisioningException("Provisioning of entity: " + provisioningEntity.getEntityName()
+                        + " failed after provisioning " + provisioned.size() + " entities of the batch.", e,
+                        provisioned);
+            }
+        }
+        return provisionedIdentifiers;
+    }
+
     /**
      * override only if needed - if claims are controlled by the identity provider, this will return
      * null. If it is connector specific this must return the corresponding claim dialect.
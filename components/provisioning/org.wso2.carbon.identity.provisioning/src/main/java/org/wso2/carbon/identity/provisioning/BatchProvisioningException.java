@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Thrown when a batch of entities was provisioned only in part. Carries the provisioned identifiers of the entities
+ * which were provisioned before or despite the failure, so that only the rest is provisioned again.
+ */
+public class BatchProvisioningException extends IdentityProvisioningException {
+
+    private static final long serialVersionUID = -3326081726517362318L;
+
+    private final HashMap<Integer, ProvisionedIdentifier> provisionedIdentifiers;
+
+    /**
+     * @param message                Error message.
+     * @param cause                  Cause of the failure.
+     * @param provisionedIdentifiers Provisioned identifiers of the provisioned entities, keyed by the index of the
+     *                               entity in the batch. The identifier may be null if the connector returned none.
+     */
+    public BatchProvisioningException(String message, Throwable cause,
+                                      Map<Integer, ProvisionedIdentifier> provisionedIdentifiers) {
+
+        super(message, cause);
+        this.provisionedIdentifiers = provisionedIdentifiers == null ? new HashMap<>() :
+                new HashMap<>(provisionedIdentifiers);
+    }
+
+    /**
+     * @return Provisioned identifiers of the provisioned entities, keyed by the index of the entity in the batch.
+     */
+    public Map<Integer, ProvisionedIdentifier> getProvisionedIdentifiers() {
+
+        return Collections.unmodifiableMap(provisionedIdentifiers);
+    }
+}
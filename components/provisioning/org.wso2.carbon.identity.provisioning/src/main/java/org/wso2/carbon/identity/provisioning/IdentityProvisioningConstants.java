@@ -50,6 +50,17 @@ public class IdentityProvisioningConstants {
     public static final String USE_USER_TENANT_DOMAIN_FOR_OUTBOUND_PROVISIONING_IN_SAAS_APPS = "OutboundProvisioning.useUserTenantDomainInSaasApps";
     public static final String APPLICATION_BASED_OUTBOUND_PROVISIONING_ENABLED = "OutboundProvisioning.enableApplicationBasedOutboundProvisioning";
     public static final String FAIL_ON_BLOCKING_OUTBOUND_PROVISION_FAILURE = "OutboundProvisioning.FailOnBlockingOutboundProvisionFailure";
+    public static final String OUTBOUND_PROVISIONING_POOL_SIZE = "OutboundProvisioning.Executor.PoolSize";
+    public static final String OUTBOUND_PROVISIONING_MAX_PENDING_OPERATIONS =
+            "OutboundProvisioning.Executor.MaxPendingOperations";
+    public static final String OUTBOUND_PROVISIONING_BATCH_SIZE = "OutboundProvisioning.Executor.BatchSize";
+    public static final String OUTBOUND_PROVISIONING_MAX_RETRIES = "OutboundProvisioning.Executor.MaxRetries";
+    public static final String OUTBOUND_PROVISIONING_RETRY_INTERVAL = "OutboundProvisioning.Executor.RetryInterval";
+    public static final int DEFAULT_OUTBOUND_PROVISIONING_POOL_SIZE = 5;
+    public static final int DEFAULT_OUTBOUND_PROVISIONING_MAX_PENDING_OPERATIONS = 10000;
+    public static final int DEFAULT_OUTBOUND_PROVISIONING_BATCH_SIZE = 50;
+    public static final int DEFAULT_OUTBOUND_PROVISIONING_MAX_RETRIES = 0;
+    public static final long DEFAULT_OUTBOUND_PROVISIONING_RETRY_INTERVAL = 1000L;
 
     public static class SQLQueries {
 
@@ -79,6 +90,20 @@ public class IdentityProvisioningConstants {
                                                                                     "AND APP.TENANT_ID = PC.TENANT_ID" +
                                                                                     " AND APP.TENANT_ID = ?";
 
+        public static final String ADD_QUEUED_PROVISIONING_OPERATION_SQL = "INSERT INTO IDP_PROVISIONING_QUEUE " +
+                "(OPERATION_ID, IDP_NAME, CONNECTOR_TYPE, TENANT_ID, ENTITY_TENANT_ID, OPERATION_DATA, TIME_CREATED) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+        public static final String UPDATE_QUEUED_PROVISIONING_OPERATION_SQL = "UPDATE IDP_PROVISIONING_QUEUE SET " +
+                "OPERATION_DATA=? WHERE OPERATION_ID=?";
+
+        public static final String DELETE_QUEUED_PROVISIONING_OPERATION_SQL = "DELETE FROM IDP_PROVISIONING_QUEUE " +
+                "WHERE OPERATION_ID=?";
+
+        public static final String GET_QUEUED_PROVISIONING_OPERATIONS_SQL = "SELECT OPERATION_ID, IDP_NAME, " +
+                "TENANT_ID, ENTITY_TENANT_ID, OPERATION_DATA FROM IDP_PROVISIONING_QUEUE WHERE CONNECTOR_TYPE=? " +
+                "ORDER BY ID";
+
         private SQLQueries(){}
     }
 
@@ -0,0 +1,659 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.provisioning.dao.OutboundProvisioningQueueDAO;
+import org.wso2.carbon.identity.provisioning.dao.OutboundProvisioningQueueDAO.QueuedOperation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_OUTBOUND_PROVISIONING_BATCH_SIZE;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_OUTBOUND_PROVISIONING_MAX_PENDING_OPERATIONS;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_OUTBOUND_PROVISIONING_MAX_RETRIES;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_OUTBOUND_PROVISIONING_POOL_SIZE;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_OUTBOUND_PROVISIONING_RETRY_INTERVAL;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_BATCH_SIZE;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_MAX_PENDING_OPERATIONS;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_MAX_RETRIES;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_POOL_SIZE;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_RETRY_INTERVAL;
+
+/**
+ * Runs non-blocking outbound provisioning operations.
+ * <p>
+ * Operations are run by a bounded thread pool shared by all identity providers using the same connector type. The
+ * operations for an identity provider are queued and run in the order they were submitted, one batch at a time, so
+ * that the identity provider does not receive more than one request of the server at a time. A user update which is
+ * submitted while an earlier update of the same user is still queued is merged into the earlier update, hence
+ * several updates result in a single request carrying the latest values. Connectors which support batch provisioning
+ * receive consecutive queued operations in a single call. Failed operations are retried with an exponentially
+ * growing interval and logged as errors once the retries are exhausted. A retry is scheduled instead of waited for,
+ * so that the pool threads serve the other identity providers meanwhile, and it stays ahead of the operations queued
+ * after it. If the queue of an identity provider is full, the submitting thread waits until there is room for the
+ * operation, since running it right away could overtake queued operations of the same entity.
+ * <p>
+ * Queued operations are also stored in the database until they have been run, or have failed after the retries, so
+ * that the operations which are still pending when the server stops are not lost. The stored operations of a
+ * connector type are queued again by {@link #restoreQueuedOperations(String)} once the connector is available after
+ * the next start.
+ */
+public class OutboundProvisioningExecutor {
+
+    private static final Log log = LogFactory.getLog(OutboundProvisioningExecutor.class);
+    private static final int MAX_RETRY_INTERVAL_SHIFT = 5;
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 60L;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30L;
+
+    private final int poolSize;
+    private final int maxPendingOperations;
+    private final int batchSize;
+    private final int maxRetries;
+    private final long retryIntervalMillis;
+    private final Map<String, ThreadPoolExecutor> connectorPools = new ConcurrentHashMap<>();
+    private final Map<String, OperationQueue> operationQueues = new ConcurrentHashMap<>();
+    private final ScheduledThreadPoolExecutor retryScheduler;
+    private final OutboundProvisioningQueueDAO queueDAO;
+    private final Set<String> restoredConnectorTypes = ConcurrentHashMap.newKeySet();
+    private volatile boolean shutdown;
+
+    OutboundProvisioningExecutor(int poolSize, int maxPendingOperations, int batchSize, int maxRetries,
+                                 long retryIntervalMillis) {
+
+        this(poolSize, maxPendingOperations, batchSize, maxRetries, retryIntervalMillis, null);
+    }
+
+    /**
+     * @param queueDAO DAO storing the queued operations, or null if the queued operations should not be stored.
+     */
+    OutboundProvisioningExecutor(int poolSize, int maxPendingOperations, int batchSize, int maxRetries,
+                                 long retryIntervalMillis, OutboundProvisioningQueueDAO queueDAO) {
+
+        this.queueDAO = queueDAO;
+        this.poolSize = Math.max(1, poolSize);
+        this.maxPendingOperations = Math.max(1, maxPendingOperations);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryIntervalMillis = Math.max(0, retryIntervalMillis);
+        this.retryScheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "OutboundProvisioning-RetryScheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Retries which are not due yet are dropped on shutdown, and logged together with the queued operations.
+        this.retryScheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    public static OutboundProvisioningExecutor getInstance() {
+
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Queue a non-blocking provisioning operation and store it until it has been run. If the queue of the identity
+     * provider is full, waits until there is room for the operation.
+     *
+     * @param operation Provisioning operation.
+     */
+    void submit(ProvisioningThread operation) {
+
+        OperationQueue queue = operationQueues.computeIfAbsent(getQueueKey(operation),
+                key -> new OperationQueue(operation.getConnectorType()));
+        boolean schedule = false;
+        synchronized (queue) {
+            ProvisioningThread queuedOperation = queue.coalesce(operation);
+            if (queuedOperation != null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Merged the outbound provisioning operation: " + operation.getProvisioningEntity()
+                            .getOperation() + " of entity: " + operation.getProvisioningEntity().getEntityName() +
+                            " for IdP: " + operation.getIdPName() + " into a queued operation.");
+                }
+                updateStoredOperation(queuedOperation);
+                return;
+            }
+            if (!shutdown && queue.operations.size() >= maxPendingOperations && log.isDebugEnabled()) {
+                log.debug("Outbound provisioning queue of IdP: " + operation.getIdPName() + " is full. Waiting " +
+                        "for room to queue the provisioning operation.");
+            }
+            try {
+                while (!shutdown && queue.operations.size() >= maxPendingOperations) {
+                    queue.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (shutdown || Thread.currentThread().isInterrupted()) {
+                if (shutdown) {
+                    // Stored to be run once outbound provisioning is started again.
+                    storeOperation(operation);
+                }
+                logDropped(operation);
+                return;
+            }
+            // Stored while holding the lock of the queue, so that the operation cannot be run and deleted before
+            // it has been stored.
+            storeOperation(operation);
+            queue.add(operation);
+            if (!queue.scheduled) {
+                queue.scheduled = true;
+                schedule = true;
+            }
+        }
+        if (schedule) {
+            schedule(queue);
+        }
+    }
+
+    /**
+     * Queue the operations of a connector type which were stored but not run before the server was stopped. The
+     * stored operations of a connector type are queued once, before any new operation is submitted for them, so
+     * that they are run ahead of the new operations of the same entities. The stored operations of identity
+     * providers which are no longer enabled are discarded.
+     *
+     * @param connectorType Type of the provisioning connector.
+     */
+    public void restoreQueuedOperations(String connectorType) {
+
+        if (queueDAO == null || shutdown || !restoredConnectorTypes.add(connectorType)) {
+            return;
+        }
+        List<QueuedOperation> storedOperations;
+        try {
+            storedOperations = queueDAO.getOperations(connectorType);
+        } catch (IdentityProvisioningException e) {
+            restoredConnectorTypes.remove(connectorType);
+            log.error("Error while reading the queued outbound provisioning operations of connector type: " +
+                    connectorType, e);
+            return;
+        }
+        List<String> discardedOperationIds = new ArrayList<>();
+        int restoredOperations = 0;
+        for (QueuedOperation storedOperation : storedOperations) {
+            ProvisioningThread operation;
+            try {
+                operation = storedOperation.getEntity() == null ? null :
+                        restoreOperation(storedOperation, connectorType);
+            } catch (IdentityProvisioningException | RuntimeException e) {
+                // Kept in the database, to be queued again after the next start.
+                log.error("Error while restoring the queued outbound provisioning operation: " +
+                        storedOperation.getOperationId() + " for IdP: " + storedOperation.getIdPName(), e);
+                continue;
+            }
+            if (operation == null) {
+                log.warn("Discarded the queued outbound provisioning operation: " + storedOperation.getOperationId() +
+                        " for IdP: " + storedOperation.getIdPName() + " with connector: " + connectorType +
+                        " as it cannot be run anymore.");
+                discardedOperationIds.add(storedOperation.getOperationId());
+                continue;
+            }
+            operation.setOperationId(storedOperation.getOperationId());
+            queueRestoredOperation(operation);
+            restoredOperations++;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Restored " + restoredOperations + " queued outbound provisioning operation(s) of connector " +
+                    "type: " + connectorType);
+        }
+        deleteStoredOperationIds(discardedOperationIds);
+    }
+
+    /**
+     * Stop the provisioning threads. Queued operations are still run for a bounded time. Operations which are left
+     * in the queues after that are not run, and are kept in the database to be run after the next start.
+     */
+    public void shutdown() {
+
+        shutdown = true;
+        for (OperationQueue queue : operationQueues.values()) {
+            synchronized (queue) {
+                // Release the threads waiting for room in the queue.
+                queue.notifyAll();
+            }
+        }
+        retryScheduler.shutdown();
+        connectorPools.values().forEach(ThreadPoolExecutor::shutdown);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SHUTDOWN_TIMEOUT_SECONDS);
+        try {
+            for (ThreadPoolExecutor pool : connectorPools.values()) {
+                pool.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        connectorPools.values().forEach(ThreadPoolExecutor::shutdownNow);
+        for (OperationQueue queue : operationQueues.values()) {
+            List<ProvisioningThread> droppedOperations = new ArrayList<>();
+            synchronized (queue) {
+                if (queue.retryBatch != null) {
+                    droppedOperations.addAll(queue.retryBatch);
+                    queue.retryBatch = null;
+                }
+                droppedOperations.addAll(queue.operations);
+                queue.operations.clear();
+                queue.lastOperations.clear();
+            }
+            droppedOperations.forEach(this::logDropped);
+        }
+    }
+
+    /**
+     * Provision the entities of the given operations with a single call to their connector.
+     *
+     * @return Operations whose entities could not be provisioned.
+     */
+    List<ProvisioningThread> runBatch(List<ProvisioningThread> operations) {
+
+        return ProvisioningThread.callBatch(operations);
+    }
+
+    /**
+     * Create the provisioning thread of a stored operation.
+     *
+     * @return Provisioning thread, or null if the identity provider or its connector is no longer enabled.
+     */
+    ProvisioningThread restoreOperation(QueuedOperation storedOperation, String connectorType)
+            throws IdentityProvisioningException {
+
+        String tenantDomain = IdentityTenantUtil.getTenantDomain(storedOperation.getTenantId());
+        String entityTenantDomain = storedOperation.getEntityTenantId() == null ? null :
+                IdentityTenantUtil.getTenantDomain(storedOperation.getEntityTenantId());
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain, true);
+            return OutboundProvisioningManager.getInstance().getQueuedProvisioningThread(
+                    storedOperation.getEntity(), storedOperation.getIdPName(), connectorType, tenantDomain,
+                    entityTenantDomain);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    /**
+     * Queue a restored operation. It is not merged into other operations, and it is queued even if the queue is
+     * full, since it has been accepted before the restart already.
+     */
+    private void queueRestoredOperation(ProvisioningThread operation) {
+
+        OperationQueue queue = operationQueues.computeIfAbsent(getQueueKey(operation),
+                key -> new OperationQueue(operation.getConnectorType()));
+        boolean schedule = false;
+        synchronized (queue) {
+            queue.add(operation);
+            if (!queue.scheduled) {
+                queue.scheduled = true;
+                schedule = true;
+            }
+        }
+        if (schedule) {
+            schedule(queue);
+        }
+    }
+
+    private void schedule(OperationQueue queue) {
+
+        try {
+            getPool(queue.connectorType).execute(() -> {
+                if (drainNext(queue)) {
+                    schedule(queue);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // The pool has been shut down, hence run the queued operations in the calling thread.
+            while (drainNext(queue)) {
+                // Continue until the queue is empty.
+            }
+        }
+    }
+
+    /**
+     * Run the next batch of queued operations, or the retry of the last batch. The rest is scheduled separately, so
+     * that the identity providers sharing the pool get their turns.
+     *
+     * @return True if more operations are queued and the queue should be scheduled again.
+     */
+    private boolean drainNext(OperationQueue queue) {
+
+        List<ProvisioningThread> batch;
+        int attempt;
+        synchronized (queue) {
+            if (queue.retryBatch != null) {
+                batch = queue.retryBatch;
+                attempt = queue.retryAttempt + 1;
+                queue.retryBatch = null;
+            } else {
+                batch = queue.poll(batchSize);
+                attempt = 1;
+                // Wake up the threads waiting for room in the queue.
+                queue.notifyAll();
+            }
+        }
+        if (!batch.isEmpty()) {
+            List<ProvisioningThread> failedOperations = run(batch);
+            List<ProvisioningThread> completedOperations = new ArrayList<>(batch);
+            completedOperations.removeAll(failedOperations);
+            deleteStoredOperations(completedOperations);
+            if (!failedOperations.isEmpty()) {
+                if (attempt > maxRetries) {
+                    logFailure(failedOperations, attempt);
+                    deleteStoredOperations(failedOperations);
+                } else if (shutdown) {
+                    failedOperations.forEach(this::logDropped);
+                } else if (scheduleRetry(queue, failedOperations, attempt)) {
+                    // The queue stays scheduled until the retry has run, so that the operations queued after the
+                    // failed ones are not run before them.
+                    return false;
+                }
+            }
+        }
+        synchronized (queue) {
+            queue.scheduled = !queue.operations.isEmpty();
+            return queue.scheduled;
+        }
+    }
+
+    /**
+     * Schedule the failed operations of a queue to be run again once the retry interval has elapsed.
+     *
+     * @return False if the retry could not be scheduled as the executor is shutting down, in which case the
+     * operations are logged as not run.
+     */
+    private boolean scheduleRetry(OperationQueue queue, List<ProvisioningThread> failedOperations, int attempt) {
+
+        synchronized (queue) {
+            queue.retryBatch = failedOperations;
+            queue.retryAttempt = attempt;
+        }
+        try {
+            retryScheduler.schedule(() -> schedule(queue),
+                    retryIntervalMillis << Math.min(attempt - 1, MAX_RETRY_INTERVAL_SHIFT), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (RejectedExecutionException e) {
+            synchronized (queue) {
+                queue.retryBatch = null;
+            }
+            failedOperations.forEach(this::logDropped);
+            return false;
+        }
+    }
+
+    /**
+     * Run the given operations once.
+     *
+     * @return Operations which failed.
+     */
+    private List<ProvisioningThread> run(List<ProvisioningThread> operations) {
+
+        try {
+            if (operations.size() == 1) {
+                return operations.get(0).call() ? Collections.emptyList() : operations;
+            }
+            return runBatch(operations);
+        } catch (Exception e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error while running " + operations.size() + " outbound provisioning operation(s).", e);
+            }
+            return operations;
+        }
+    }
+
+    private void logFailure(List<ProvisioningThread> operations, int attempts) {
+
+        for (ProvisioningThread operation : operations) {
+            log.error("Outbound provisioning of entity: " + operation.getProvisioningEntity().getEntityName() +
+                    " for operation: " + operation.getProvisioningEntity().getOperation() + " failed for IdP: " +
+                    operation.getIdPName() + " with connector: " + operation.getConnectorType() + " after " +
+                    attempts + " attempt(s).");
+        }
+    }
+
+    private void logDropped(ProvisioningThread operation) {
+
+        String message = "Outbound provisioning of entity: " + operation.getProvisioningEntity().getEntityName() +
+                " for operation: " + operation.getProvisioningEntity().getOperation() + " was not run for IdP: " +
+                operation.getIdPName() + " with connector: " + operation.getConnectorType() +
+                " as outbound provisioning is shutting down.";
+        if (operation.getOperationId() != null) {
+            log.warn(message + " The operation is run once outbound provisioning is started again.");
+        } else {
+            log.error(message);
+        }
+    }
+
+    /**
+     * Store an operation in the database until it has been run. A failure is logged but not propagated, in which
+     * case the operation is still run, but is lost if the server stops before that.
+     */
+    private void storeOperation(ProvisioningThread operation) {
+
+        if (queueDAO == null) {
+            return;
+        }
+        String operationId = UUID.randomUUID().toString();
+        try {
+            Integer entityTenantId = operation.getProvisioningEntityTenantDomainName() == null ? null :
+                    IdentityTenantUtil.getTenantId(operation.getProvisioningEntityTenantDomainName());
+            queueDAO.addOperation(operationId, operation.getIdPName(), operation.getConnectorType(),
+                    IdentityTenantUtil.getTenantId(operation.getTenantDomainName()), entityTenantId,
+                    operation.getProvisioningEntity());
+            operation.setOperationId(operationId);
+        } catch (IdentityProvisioningException | RuntimeException e) {
+            log.error("Error while storing the outbound provisioning operation: " + operation.getProvisioningEntity()
+                    .getOperation() + " of entity: " + operation.getProvisioningEntity().getEntityName() +
+                    " for IdP: " + operation.getIdPName(), e);
+        }
+    }
+
+    /**
+     * Store the entity of a queued operation again, once another operation has been merged into it.
+     */
+    private void updateStoredOperation(ProvisioningThread operation) {
+
+        if (queueDAO == null || operation.getOperationId() == null) {
+            return;
+        }
+        try {
+            queueDAO.updateOperation(operation.getOperationId(), operation.getProvisioningEntity());
+        } catch (IdentityProvisioningException | RuntimeException e) {
+            log.error("Error while updating the stored outbound provisioning operation: " +
+                    operation.getOperationId() + " for IdP: " + operation.getIdPName(), e);
+        }
+    }
+
+    private void deleteStoredOperations(List<ProvisioningThread> operations) {
+
+        List<String> operationIds = new ArrayList<>();
+        for (ProvisioningThread operation : operations) {
+            if (operation.getOperationId() != null) {
+                operationIds.add(operation.getOperationId());
+            }
+        }
+        deleteStoredOperationIds(operationIds);
+    }
+
+    private void deleteStoredOperationIds(List<String> operationIds) {
+
+        if (queueDAO == null || operationIds.isEmpty()) {
+            return;
+        }
+        try {
+            queueDAO.deleteOperations(operationIds);
+        } catch (IdentityProvisioningException | RuntimeException e) {
+            // The operations are run again after the next start.
+            log.error("Error while deleting " + operationIds.size() + " completed outbound provisioning " +
+                    "operation(s) from the database.", e);
+        }
+    }
+
+    private ThreadPoolExecutor getPool(String connectorType) {
+
+        return connectorPools.computeIfAbsent(connectorType, type -> {
+            AtomicInteger threadCount = new AtomicInteger();
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize, IDLE_THREAD_TIMEOUT_SECONDS,
+                    TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "OutboundProvisioning-" + type + "-" +
+                                threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            pool.allowCoreThreadTimeOut(true);
+            return pool;
+        });
+    }
+
+    private static String getQueueKey(ProvisioningThread operation) {
+
+        return operation.getConnectorType() + ":" + operation.getIdPName() + ":" + operation.getTenantDomainName();
+    }
+
+    private static String getEntityKey(ProvisioningThread operation) {
+
+        ProvisioningEntity entity = operation.getProvisioningEntity();
+        return entity.getEntityType() + ":" + operation.getProvisioningEntityTenantDomainName() + ":" +
+                entity.getEntityName();
+    }
+
+    /**
+     * Operations queued for an identity provider, in the order they were submitted.
+     */
+    private static final class OperationQueue {
+
+        private final String connectorType;
+        private final Deque<ProvisioningThread> operations = new ArrayDeque<>();
+        private final Map<String, ProvisioningThread> lastOperations = new HashMap<>();
+        private boolean scheduled;
+        private List<ProvisioningThread> retryBatch;
+        private int retryAttempt;
+
+        OperationQueue(String connectorType) {
+
+            this.connectorType = connectorType;
+        }
+
+        void add(ProvisioningThread operation) {
+
+            operations.addLast(operation);
+            lastOperations.put(getEntityKey(operation), operation);
+        }
+
+        /**
+         * Merge a user update into the last queued operation of the same user, if that is an update as well. The
+         * values of the later update take precedence.
+         *
+         * @return Queued operation into which the operation was merged, or null if it was not merged.
+         */
+        ProvisioningThread coalesce(ProvisioningThread operation) {
+
+            ProvisioningThread queuedOperation = lastOperations.get(getEntityKey(operation));
+            if (queuedOperation == null || !isUserUpdate(queuedOperation) || !isUserUpdate(operation) ||
+                    queuedOperation.getConnector() != operation.getConnector() ||
+                    queuedOperation.getProvisioningEntity().isJitProvisioning() !=
+                            operation.getProvisioningEntity().isJitProvisioning()) {
+                return null;
+            }
+            ProvisioningEntity queuedEntity = queuedOperation.getProvisioningEntity();
+            Map<ClaimMapping, List<String>> attributes = new HashMap<>();
+            if (queuedEntity.getAttributes() != null) {
+                attributes.putAll(queuedEntity.getAttributes());
+            }
+            if (operation.getProvisioningEntity().getAttributes() != null) {
+                attributes.putAll(operation.getProvisioningEntity().getAttributes());
+            }
+            queuedEntity.setAttributes(attributes);
+            return queuedOperation;
+        }
+
+        /**
+         * Take the next operation, together with the operations following it which can be provisioned in the same
+         * call to the connector.
+         */
+        List<ProvisioningThread> poll(int maxBatchSize) {
+
+            List<ProvisioningThread> batch = new ArrayList<>();
+            ProvisioningThread first = operations.peekFirst();
+            if (first == null) {
+                return batch;
+            }
+            int limit = first.getConnector().isBatchProvisioningSupported() ? maxBatchSize : 1;
+            while (batch.size() < limit && !operations.isEmpty() && canBatch(first, operations.peekFirst())) {
+                ProvisioningThread operation = operations.pollFirst();
+                String entityKey = getEntityKey(operation);
+                if (lastOperations.get(entityKey) == operation) {
+                    lastOperations.remove(entityKey);
+                }
+                batch.add(operation);
+            }
+            return batch;
+        }
+
+        private static boolean canBatch(ProvisioningThread first, ProvisioningThread operation) {
+
+            return first == operation || first.getConnector() == operation.getConnector() &&
+                    Objects.equals(first.getTenantDomainName(), operation.getTenantDomainName()) &&
+                    Objects.equals(first.getProvisioningEntityTenantDomainName(),
+                            operation.getProvisioningEntityTenantDomainName());
+        }
+
+        private static boolean isUserUpdate(ProvisioningThread operation) {
+
+            ProvisioningEntity entity = operation.getProvisioningEntity();
+            return ProvisioningEntityType.USER == entity.getEntityType() &&
+                    ProvisioningOperation.PUT == entity.getOperation();
+        }
+    }
+
+    /**
+     * Creates the shared executor on first use, after the identity configuration is available.
+     */
+    private static final class Holder {
+
+        private static final OutboundProvisioningExecutor INSTANCE = new OutboundProvisioningExecutor(
+                IdentityUtil.getPropertyAsInt(OUTBOUND_PROVISIONING_POOL_SIZE, DEFAULT_OUTBOUND_PROVISIONING_POOL_SIZE),
+                IdentityUtil.getPropertyAsInt(OUTBOUND_PROVISIONING_MAX_PENDING_OPERATIONS,
+                        DEFAULT_OUTBOUND_PROVISIONING_MAX_PENDING_OPERATIONS),
+                IdentityUtil.getPropertyAsInt(OUTBOUND_PROVISIONING_BATCH_SIZE,
+                        DEFAULT_OUTBOUND_PROVISIONING_BATCH_SIZE),
+                IdentityUtil.getPropertyAsInt(OUTBOUND_PROVISIONING_MAX_RETRIES,
+                        DEFAULT_OUTBOUND_PROVISIONING_MAX_RETRIES),
+                IdentityUtil.getPropertyAsLong(OUTBOUND_PROVISIONING_RETRY_INTERVAL,
+                        DEFAULT_OUTBOUND_PROVISIONING_RETRY_INTERVAL),
+                new OutboundProvisioningQueueDAO());
+    }
+}
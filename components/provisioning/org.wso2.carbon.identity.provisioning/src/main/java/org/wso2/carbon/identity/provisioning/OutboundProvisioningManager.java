@@ -19,7 +19,6 @@
 package org.wso2.carbon.identity.provisioning;
 
 import org.apache.commons.collections.CollectionUtils;
-import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
@@ -68,9 +67,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.CONSOLE_APPLICATION_NAME;
@@ -211,7 +207,7 @@ public class OutboundProvisioningManager {
                             enableJitProvisioning = true;
                         }
 
-                        connector = getOutboundProvisioningConnector(fIdP,
+                        connector = getOutboundProvisioningConnector(fIdP, connectorType,
                                                                      registeredConnectorFactories, tenantDomain,
                                                                      enableJitProvisioning);
                         // add to the provisioning connectors list. there will be one item for each
@@ -248,6 +244,7 @@ public class OutboundProvisioningManager {
 
     /**
      * @param fIdP
+     * @param connectorType
      * @param registeredConnectorFactories
      * @param tenantDomainName
      * @param enableJitProvisioning
@@ -256,16 +253,13 @@ public class OutboundProvisioningManager {
      * @throws UserStoreException
      */
     private AbstractOutboundProvisioningConnector getOutboundProvisioningConnector(
-            IdentityProvider fIdP,
+            IdentityProvider fIdP, String connectorType,
             Map<String, AbstractProvisioningConnectorFactory> registeredConnectorFactories,
             String tenantDomainName, boolean enableJitProvisioning)
             throws IdentityProviderManagementException, IdentityProvisioningException {
 
         String idpName = fIdP.getIdentityProviderName();
 
-        // name of the default provisioning connector.
-        String connectorType = fIdP.getDefaultProvisioningConnectorConfig().getName();
-
         // get identity provider configuration.
         fIdP = IdentityProviderManager.getInstance().getEnabledIdPByName(idpName, tenantDomainName);
 
@@ -337,6 +331,43 @@ public class OutboundProvisioningManager {
         return null;
     }
 
+    /**
+     * Create the provisioning thread of a non-blocking operation which was queued before the server was restarted.
+     *
+     * @param provisioningEntity                 Outbound provisioning entity.
+     * @param idPName                            Name of the provisioning identity provider.
+     * @param connectorType                      Type of the provisioning connector.
+     * @param spTenantDomainName                 Tenant domain of the service provider.
+     * @param provisioningEntityTenantDomainName Tenant domain of the provisioned entity.
+     * @return Provisioning thread, or null if the identity provider or its connector is no longer enabled.
+     * @throws IdentityProvisioningException If an error occurred while creating the provisioning connector.
+     */
+    ProvisioningThread getQueuedProvisioningThread(ProvisioningEntity provisioningEntity, String idPName,
+                                                   String connectorType, String spTenantDomainName,
+                                                   String provisioningEntityTenantDomainName)
+            throws IdentityProvisioningException {
+
+        try {
+            IdentityProvider identityProvider = IdentityProviderManager.getInstance()
+                    .getEnabledIdPByName(idPName, spTenantDomainName);
+            if (identityProvider == null) {
+                return null;
+            }
+            boolean enableJitProvisioning = identityProvider.getJustInTimeProvisioningConfig() != null &&
+                    identityProvider.getJustInTimeProvisioningConfig().isProvisioningEnabled();
+            AbstractOutboundProvisioningConnector connector = getOutboundProvisioningConnector(identityProvider,
+                    connectorType, IdentityProvisionServiceComponent.getConnectorFactories(), spTenantDomainName,
+                    enableJitProvisioning);
+            if (connector == null) {
+                return null;
+            }
+            return new ProvisioningThread(provisioningEntity, spTenantDomainName, provisioningEntityTenantDomainName,
+                    connector, connectorType, idPName, dao);
+        } catch (IdentityProviderManagementException e) {
+            throw new IdentityProvisioningException("Error while retrieving idp configuration for " + idPName, e);
+        }
+    }
+
     /**
      * Outbound provisioning method.
      *
@@ -395,12 +426,6 @@ public class OutboundProvisioningManager {
 
             ProvisioningEntity outboundProEntity;
 
-            ExecutorService executors = null;
-
-            if (MapUtils.isNotEmpty(connectors)) {
-                executors = Executors.newFixedThreadPool(connectors.size());
-            }
-
             for (Iterator<Entry<String, RuntimeProvisioningConfig>> iterator = connectors
                     .entrySet().iterator(); iterator.hasNext(); ) {
 
@@ -534,12 +559,12 @@ public class OutboundProvisioningManager {
 
                         outboundProEntity = new ProvisioningEntity(ProvisioningEntityType.USER,
                                                                    user, ProvisioningOperation.POST, mappedUserClaims);
-                        Callable<Boolean> proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
+                        ProvisioningThread proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
                                 provisioningEntityTenantDomainName, connector, connectorType, idPName, dao);
                         outboundProEntity.setIdentifier(provisionedIdentifier);
                         outboundProEntity.setJitProvisioning(jitProvisioning);
                         boolean isBlocking = entry.getValue().isBlocking();
-                        executeOutboundProvisioning(provisioningEntity, executors, connectorType, idPName, proThread, isBlocking);
+                        executeOutboundProvisioning(provisioningEntity, connectorType, idPName, proThread, isBlocking);
 
                     }
 
@@ -559,12 +584,12 @@ public class OutboundProvisioningManager {
 
                             outboundProEntity = new ProvisioningEntity(ProvisioningEntityType.USER,
                                                                        user, ProvisioningOperation.DELETE, mappedUserClaims);
-                            Callable<Boolean> proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
+                            ProvisioningThread proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
                                     provisioningEntityTenantDomainName, connector, connectorType, idPName, dao);
                             outboundProEntity.setIdentifier(provisionedUserIdentifier);
                             outboundProEntity.setJitProvisioning(jitProvisioning);
                             boolean isBlocking = entry.getValue().isBlocking();
-                            executeOutboundProvisioning(provisioningEntity, executors, connectorType, idPName, proThread, isBlocking);
+                            executeOutboundProvisioning(provisioningEntity, connectorType, idPName, proThread, isBlocking);
                         }
                     }
 
@@ -585,7 +610,7 @@ public class OutboundProvisioningManager {
                         outboundProEntity = new ProvisioningEntity(provisioningEntity.getEntityType(),
                                 provisioningEntity.getEntityName(), provisioningOp, mapppedClaims);
 
-                        Callable<Boolean> proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
+                        ProvisioningThread proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
                                 provisioningEntityTenantDomainName, connector, connectorType, idPName, dao);
                         outboundProEntity.setIdentifier(provisionedIdentifier);
                         outboundProEntity.setJitProvisioning(jitProvisioning);
@@ -606,16 +631,12 @@ public class OutboundProvisioningManager {
                         }
 
                         if (isAllowed) {
-                            executeOutboundProvisioning(provisioningEntity, executors, connectorType, idPName, proThread, isBlocking);
+                            executeOutboundProvisioning(provisioningEntity, connectorType, idPName, proThread, isBlocking);
                         }
                     }
                 }
             }
 
-            if (executors != null) {
-                executors.shutdown();
-            }
-
         } catch (CarbonException | IdentityApplicationManagementException | IdentityProviderManagementException | UserStoreException e) {
             throw new IdentityProvisioningException("Error occurred while checking for user " +
                                                     "provisioning", e);
@@ -654,9 +675,8 @@ public class OutboundProvisioningManager {
         return true;
     }
 
-    private void executeOutboundProvisioning(ProvisioningEntity provisioningEntity, ExecutorService executors,
-                                             String connectorType,
-                                             String idPName, Callable<Boolean> proThread, boolean isBlocking)
+    private void executeOutboundProvisioning(ProvisioningEntity provisioningEntity, String connectorType,
+                                             String idPName, ProvisioningThread proThread, boolean isBlocking)
             throws IdentityProvisioningException {
 
         if (!isBlocking && needToWaitForUserProvisioning(provisioningEntity)) {
@@ -667,18 +687,15 @@ public class OutboundProvisioningManager {
                     //DO not roll back since non-blocking configuration was enabled.
                 }
             } catch (Exception e) {
-                handleException(idPName, connectorType, provisioningEntity, executors, e);
+                handleException(idPName, connectorType, provisioningEntity, e);
             }
         } else if (!isBlocking) {
-            executors.submit(proThread);
+            OutboundProvisioningExecutor.getInstance().submit(proThread);
         } else {
             try {
 
                 boolean success = proThread.call();
                 if (!success) {
-                    if (executors != null) {
-                        executors.shutdown();
-                    }
                     throw new IdentityProvisioningException
                             (generateMessageOnFailureProvisioningOperation(idPName,
                                                                            connectorType, provisioningEntity));
@@ -688,7 +705,7 @@ public class OutboundProvisioningManager {
                 if (isFailOnBlockingOutBoundProvisionEnabled()) {
                     throw new IdentityProvisioningException(e.getMessage());
                 }
-                handleException(idPName, connectorType, provisioningEntity, executors, e);
+                handleException(idPName, connectorType, provisioningEntity, e);
             }
         }
     }
@@ -1076,11 +1093,10 @@ public class OutboundProvisioningManager {
      * @param idPName
      * @param connectorType
      * @param provisioningEntity
-     * @param executors
      * @param e
      */
     protected void handleException(String idPName, String connectorType, ProvisioningEntity provisioningEntity,
-                                   ExecutorService executors, Exception e) {
+                                   Exception e) {
 
         if (log.isDebugEnabled()) {
             log.debug(generateMessageOnFailureProvisioningOperation(idPName, connectorType, provisioningEntity), e);
@@ -95,6 +95,13 @@ public class ProvisioningEntity implements Serializable {
         return attributes;
     }
 
+    /**
+     * @param attributes
+     */
+    public void setAttributes(Map<ClaimMapping, List<String>> attributes) {
+        this.attributes = attributes;
+    }
+
     /**
      * @return
      */
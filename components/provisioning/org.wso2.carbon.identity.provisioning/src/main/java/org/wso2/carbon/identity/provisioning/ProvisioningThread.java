@@ -26,6 +26,9 @@ import org.wso2.carbon.identity.application.common.IdentityApplicationManagement
 import org.wso2.carbon.identity.provisioning.dao.CacheBackedProvisioningMgtDAO;
 import org.wso2.carbon.idp.mgt.util.IdPManagementUtil;
 import org.wso2.carbon.user.api.UserStoreException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 
@@ -40,6 +43,7 @@ public class ProvisioningThread implements Callable<Boolean> {
     private String connectorType;
     private String idPName;
     private CacheBackedProvisioningMgtDAO dao;
+    private String operationId;
     private static final Log log = LogFactory.getLog(ProvisioningThread.class);
 
     public ProvisioningThread(ProvisioningEntity provisioningEntity, String tenantDomainName,
@@ -67,55 +71,22 @@ public class ProvisioningThread implements Callable<Boolean> {
     public Boolean call() throws IdentityProvisioningException {
 
         boolean success = false;
-        String tenantDomainName = this.tenantDomainName;
-        String provisioningEntityTenantDomainName = this.provisioningEntityTenantDomainName;
         boolean isUserTenantBasedOutboundProvisioningEnabled = isUserTenantBasedOutboundProvisioningEnabled();
 
         try {
 
-            PrivilegedCarbonContext.startTenantFlow();
-            if (isUserTenantBasedOutboundProvisioningEnabled && provisioningEntityTenantDomainName != null) {
-                PrivilegedCarbonContext.getThreadLocalCarbonContext()
-                        .setTenantDomain(provisioningEntityTenantDomainName, true);
-            } else {
-                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomainName, true);
-            }
+            startTenantFlow(isUserTenantBasedOutboundProvisioningEnabled);
 
             /* Skip outbound provisioning triggered for JIT provisioning flow, where the JIT outbound is disabled for
                the configured connector. */
-            if (provisioningEntity.isJitProvisioning() && !connector.isJitProvisioningEnabled()) {
+            if (isSkipped()) {
                 return true;
             }
             ProvisionedIdentifier provisionedIdentifier = null;
             // real provisioning happens now.
             provisionedIdentifier = connector.provision(provisioningEntity);
 
-            if (provisioningEntity.getOperation() == ProvisioningOperation.DELETE) {
-                deleteProvisionedEntityIdentifier(idPName, connectorType, provisioningEntity,
-                        tenantDomainName);
-            } else if (provisioningEntity.getOperation() == ProvisioningOperation.POST) {
-
-                if (provisionedIdentifier == null || provisionedIdentifier.getIdentifier() == null) {
-                    provisionedIdentifier = new ProvisionedIdentifier();
-                    provisionedIdentifier.setIdentifier(UUID.randomUUID().toString());
-                }
-
-                provisioningEntity.setIdentifier(provisionedIdentifier);
-
-                // store provisioned identifier for future reference.
-                storeProvisionedEntityIdentifier(idPName, connectorType, provisioningEntity,
-                        tenantDomainName);
-            } else if (provisioningEntity.getEntityType() == ProvisioningEntityType.GROUP &&
-                       provisioningEntity.getOperation() == ProvisioningOperation.PUT) {
-
-                String newGroupName = ProvisioningUtil.getAttributeValue(provisioningEntity,
-                                                                IdentityProvisioningConstants.NEW_GROUP_NAME_CLAIM_URI);
-                if(newGroupName != null){
-                    // update provisioned entity name for future reference. this is applicable for only
-                    // group name update
-                    dao.updateProvisionedEntityName(provisioningEntity);
-                }
-            }
+            postProvision(provisionedIdentifier);
             success = true;
         } catch (Exception e) {
             String errMsg = " Provisioning for Entity " + provisioningEntity.getEntityName() +
@@ -123,16 +94,189 @@ public class ProvisioningThread implements Callable<Boolean> {
             log.error(errMsg, e);
             throw new IdentityProvisioningException(errMsg, e);
         } finally {
-            PrivilegedCarbonContext.endTenantFlow();
+            endTenantFlow(isUserTenantBasedOutboundProvisioningEnabled);
+        }
 
-            if (isUserTenantBasedOutboundProvisioningEnabled && provisioningEntityTenantDomainName != null) {
-                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(provisioningEntityTenantDomainName, true);
-            }else if (tenantDomainName != null) {
-                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomainName, true);
+        return success;
+    }
+
+    /**
+     * Provision the entities of the given provisioning threads with a single call to the connector. All threads
+     * should share the same connector and tenant domains, which are taken from the first thread.
+     * <p>
+     * The provisioned identifiers of the entities which were provisioned are stored even if provisioning of other
+     * entities of the batch failed, so that only the failed entities are provisioned again.
+     *
+     * @param provisioningThreads Provisioning threads.
+     * @return Provisioning threads whose entities could not be provisioned. Empty if all entities were provisioned.
+     */
+    static List<ProvisioningThread> callBatch(List<ProvisioningThread> provisioningThreads) {
+
+        ProvisioningThread firstThread = provisioningThreads.get(0);
+        boolean isUserTenantBasedOutboundProvisioningEnabled = isUserTenantBasedOutboundProvisioningEnabled();
+        try {
+            firstThread.startTenantFlow(isUserTenantBasedOutboundProvisioningEnabled);
+
+            List<ProvisioningThread> threadsToProvision = new ArrayList<>(provisioningThreads.size());
+            List<ProvisioningEntity> entitiesToProvision = new ArrayList<>(provisioningThreads.size());
+            for (ProvisioningThread provisioningThread : provisioningThreads) {
+                if (!provisioningThread.isSkipped()) {
+                    threadsToProvision.add(provisioningThread);
+                    entitiesToProvision.add(provisioningThread.provisioningEntity);
+                }
+            }
+            if (entitiesToProvision.isEmpty()) {
+                return Collections.emptyList();
+            }
+            List<ProvisionedIdentifier> provisionedIdentifiers;
+            try {
+                provisionedIdentifiers = firstThread.connector.provisionBatch(entitiesToProvision);
+            } catch (BatchProvisioningException e) {
+                log.error(" Provisioning of " + (threadsToProvision.size() - e.getProvisionedIdentifiers().size()) +
+                        " of a batch of " + threadsToProvision.size() + " entities for IdP: " + firstThread.idPName, e);
+                List<ProvisioningThread> failedThreads = new ArrayList<>();
+                for (int i = 0; i < threadsToProvision.size(); i++) {
+                    if (e.getProvisionedIdentifiers().containsKey(i)) {
+                        threadsToProvision.get(i).postBatchProvision(e.getProvisionedIdentifiers().get(i));
+                    } else {
+                        failedThreads.add(threadsToProvision.get(i));
+                    }
+                }
+                return failedThreads;
+            }
+            for (int i = 0; i < threadsToProvision.size(); i++) {
+                ProvisionedIdentifier provisionedIdentifier = provisionedIdentifiers != null &&
+                        i < provisionedIdentifiers.size() ? provisionedIdentifiers.get(i) : null;
+                threadsToProvision.get(i).postBatchProvision(provisionedIdentifier);
             }
+            return Collections.emptyList();
+        } catch (Exception e) {
+            log.error(" Provisioning of a batch of " + provisioningThreads.size() + " entities for IdP: " +
+                    firstThread.idPName, e);
+            // Skipped entities are skipped again when the batch is retried.
+            return provisioningThreads;
+        } finally {
+            firstThread.endTenantFlow(isUserTenantBasedOutboundProvisioningEnabled);
         }
+    }
 
-        return success;
+    /**
+     * Store the provisioned identifier of an entity provisioned in a batch. A failure is logged but not propagated,
+     * since the entity has been provisioned and provisioning it again would create a duplicate.
+     */
+    private void postBatchProvision(ProvisionedIdentifier provisionedIdentifier) {
+
+        try {
+            postProvision(provisionedIdentifier);
+        } catch (IdentityApplicationManagementException | RuntimeException e) {
+            log.error("Error while storing the outbound provisioning result of entity: " +
+                    provisioningEntity.getEntityName() + " for operation: " + provisioningEntity.getOperation() +
+                    " for IdP: " + idPName, e);
+        }
+    }
+
+    ProvisioningEntity getProvisioningEntity() {
+
+        return provisioningEntity;
+    }
+
+    AbstractOutboundProvisioningConnector getConnector() {
+
+        return connector;
+    }
+
+    String getConnectorType() {
+
+        return connectorType;
+    }
+
+    String getIdPName() {
+
+        return idPName;
+    }
+
+    String getTenantDomainName() {
+
+        return tenantDomainName;
+    }
+
+    String getProvisioningEntityTenantDomainName() {
+
+        return provisioningEntityTenantDomainName;
+    }
+
+    /**
+     * @return Identifier under which the operation is stored while it is queued, or null if it is not stored.
+     */
+    String getOperationId() {
+
+        return operationId;
+    }
+
+    void setOperationId(String operationId) {
+
+        this.operationId = operationId;
+    }
+
+    private void startTenantFlow(boolean isUserTenantBasedOutboundProvisioningEnabled) {
+
+        PrivilegedCarbonContext.startTenantFlow();
+        if (isUserTenantBasedOutboundProvisioningEnabled && provisioningEntityTenantDomainName != null) {
+            PrivilegedCarbonContext.getThreadLocalCarbonContext()
+                    .setTenantDomain(provisioningEntityTenantDomainName, true);
+        } else {
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomainName, true);
+        }
+    }
+
+    private void endTenantFlow(boolean isUserTenantBasedOutboundProvisioningEnabled) {
+
+        PrivilegedCarbonContext.endTenantFlow();
+
+        if (isUserTenantBasedOutboundProvisioningEnabled && provisioningEntityTenantDomainName != null) {
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(provisioningEntityTenantDomainName, true);
+        }else if (tenantDomainName != null) {
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomainName, true);
+        }
+    }
+
+    private boolean isSkipped() throws IdentityProvisioningException {
+
+        return provisioningEntity.isJitProvisioning() && !connector.isJitProvisioningEnabled();
+    }
+
+    /**
+     * Store or update the provisioned identifier of the entity once the connector has provisioned it.
+     */
+    private void postProvision(ProvisionedIdentifier provisionedIdentifier)
+            throws IdentityApplicationManagementException {
+
+        if (provisioningEntity.getOperation() == ProvisioningOperation.DELETE) {
+            deleteProvisionedEntityIdentifier(idPName, connectorType, provisioningEntity,
+                    tenantDomainName);
+        } else if (provisioningEntity.getOperation() == ProvisioningOperation.POST) {
+
+            if (provisionedIdentifier == null || provisionedIdentifier.getIdentifier() == null) {
+                provisionedIdentifier = new ProvisionedIdentifier();
+                provisionedIdentifier.setIdentifier(UUID.randomUUID().toString());
+            }
+
+            provisioningEntity.setIdentifier(provisionedIdentifier);
+
+            // store provisioned identifier for future reference.
+            storeProvisionedEntityIdentifier(idPName, connectorType, provisioningEntity,
+                    tenantDomainName);
+        } else if (provisioningEntity.getEntityType() == ProvisioningEntityType.GROUP &&
+                   provisioningEntity.getOperation() == ProvisioningOperation.PUT) {
+
+            String newGroupName = ProvisioningUtil.getAttributeValue(provisioningEntity,
+                                                            IdentityProvisioningConstants.NEW_GROUP_NAME_CLAIM_URI);
+            if(newGroupName != null){
+                // update provisioned entity name for future reference. this is applicable for only
+                // group name update
+                dao.updateProvisionedEntityName(provisioningEntity);
+            }
+        }
     }
 
     /**
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning.dao;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants;
+import org.wso2.carbon.identity.provisioning.IdentityProvisioningException;
+import org.wso2.carbon.identity.provisioning.ProvisioningEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Stores the non-blocking outbound provisioning operations which are queued but not run yet in the
+ * IDP_PROVISIONING_QUEUE table, so that they are run again after a restart of the server.
+ */
+public class OutboundProvisioningQueueDAO {
+
+    private static final Log log = LogFactory.getLog(OutboundProvisioningQueueDAO.class);
+
+    /**
+     * Store a queued provisioning operation.
+     *
+     * @param operationId    Identifier of the operation.
+     * @param idPName        Name of the identity provider the entity is provisioned to.
+     * @param connectorType  Type of the provisioning connector.
+     * @param tenantId       Id of the tenant of the service provider.
+     * @param entityTenantId Id of the tenant of the provisioned entity, or null if it is not known.
+     * @param entity         Provisioning entity.
+     * @throws IdentityProvisioningException If an error occurred while storing the operation.
+     */
+    public void addOperation(String operationId, String idPName, String connectorType, int tenantId,
+                             Integer entityTenantId, ProvisioningEntity entity)
+            throws IdentityProvisioningException {
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            try (PreparedStatement prepStmt = connection.prepareStatement(
+                    IdentityProvisioningConstants.SQLQueries.ADD_QUEUED_PROVISIONING_OPERATION_SQL)) {
+                prepStmt.setString(1, operationId);
+                prepStmt.setString(2, idPName);
+                prepStmt.setString(3, connectorType);
+                prepStmt.setInt(4, tenantId);
+                if (entityTenantId != null) {
+                    prepStmt.setInt(5, entityTenantId);
+                } else {
+                    prepStmt.setNull(5, Types.INTEGER);
+                }
+                prepStmt.setBytes(6, serialize(entity));
+                prepStmt.setLong(7, System.currentTimeMillis());
+                prepStmt.execute();
+                IdentityDatabaseUtil.commitTransaction(connection);
+            } catch (SQLException | IOException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw new IdentityProvisioningException("Error while storing the queued outbound provisioning " +
+                        "operation: " + operationId + " for IdP: " + idPName, e);
+            }
+        } catch (SQLException e) {
+            throw new IdentityProvisioningException("Error while closing the connection after storing the queued " +
+                    "outbound provisioning operation: " + operationId, e);
+        }
+    }
+
+    /**
+     * Replace the provisioning entity of a stored operation, once a later operation has been merged into it.
+     *
+     * @param operationId Identifier of the operation.
+     * @param entity      Provisioning entity.
+     * @throws IdentityProvisioningException If an error occurred while updating the operation.
+     */
+    public void updateOperation(String operationId, ProvisioningEntity entity) throws IdentityProvisioningException {
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            try (PreparedStatement prepStmt = connection.prepareStatement(
+                    IdentityProvisioningConstants.SQLQueries.UPDATE_QUEUED_PROVISIONING_OPERATION_SQL)) {
+                prepStmt.setBytes(1, serialize(entity));
+                prepStmt.setString(2, operationId);
+                prepStmt.executeUpdate();
+                IdentityDatabaseUtil.commitTransaction(connection);
+            } catch (SQLException | IOException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw new IdentityProvisioningException("Error while updating the queued outbound provisioning " +
+                        "operation: " + operationId, e);
+            }
+        } catch (SQLException e) {
+            throw new IdentityProvisioningException("Error while closing the connection after updating the queued " +
+                    "outbound provisioning operation: " + operationId, e);
+        }
+    }
+
+    /**
+     * Delete the given operations, once they have been run.
+     *
+     * @param operationIds Identifiers of the operations.
+     * @throws IdentityProvisioningException If an error occurred while deleting the operations.
+     */
+    public void deleteOperations(Collection<String> operationIds) throws IdentityProvisioningException {
+
+        if (operationIds.isEmpty()) {
+            return;
+        }
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            try (PreparedStatement prepStmt = connection.prepareStatement(
+                    IdentityProvisioningConstants.SQLQueries.DELETE_QUEUED_PROVISIONING_OPERATION_SQL)) {
+                for (String operationId : operationIds) {
+                    prepStmt.setString(1, operationId);
+                    prepStmt.addBatch();
+                }
+                prepStmt.executeBatch();
+                IdentityDatabaseUtil.commitTransaction(connection);
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw new IdentityProvisioningException("Error while deleting " + operationIds.size() +
+                        " queued outbound provisioning operation(s).", e);
+            }
+        } catch (SQLException e) {
+            throw new IdentityProvisioningException("Error while closing the connection after deleting the queued " +
+                    "outbound provisioning operations.", e);
+        }
+    }
+
+    /**
+     * Get the stored operations of a connector type, in the order they were queued.
+     *
+     * @param connectorType Type of the provisioning connector.
+     * @return Stored operations. The entity of an operation is null if it could not be read.
+     * @throws IdentityProvisioningException If an error occurred while reading the operations.
+     */
+    public List<QueuedOperation> getOperations(String connectorType) throws IdentityProvisioningException {
+
+        List<QueuedOperation> operations = new ArrayList<>();
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+             PreparedStatement prepStmt = connection.prepareStatement(
+                     IdentityProvisioningConstants.SQLQueries.GET_QUEUED_PROVISIONING_OPERATIONS_SQL)) {
+            prepStmt.setString(1, connectorType);
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                while (resultSet.next()) {
+                    String operationId = resultSet.getString(1);
+                    String idPName = resultSet.getString(2);
+                    int tenantId = resultSet.getInt(3);
+                    Integer entityTenantId = resultSet.getInt(4);
+                    if (resultSet.wasNull()) {
+                        entityTenantId = null;
+                    }
+                    ProvisioningEntity entity = null;
+                    try {
+                        entity = deserialize(resultSet.getBytes(5));
+                    } catch (IOException | ClassNotFoundException e) {
+                        log.error("Error while reading the queued outbound provisioning operation: " + operationId +
+                                " for IdP: " + idPName, e);
+                    }
+                    operations.add(new QueuedOperation(operationId, idPName, tenantId, entityTenantId, entity));
+                }
+            }
+        } catch (SQLException e) {
+            throw new IdentityProvisioningException("Error while reading the queued outbound provisioning " +
+                    "operations of connector type: " + connectorType, e);
+        }
+        return operations;
+    }
+
+    private static byte[] serialize(ProvisioningEntity entity) throws IOException {
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(entity);
+        }
+        return baos.toByteArray();
+    }
+
+    private static ProvisioningEntity deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            Object objectRead = ois.readObject();
+            return objectRead instanceof ProvisioningEntity ? (ProvisioningEntity) objectRead : null;
+        }
+    }
+
+    /**
+     * A stored provisioning operation.
+     */
+    public static final class QueuedOperation {
+
+        private final String operationId;
+        private final String idPName;
+        private final int tenantId;
+        private final Integer entityTenantId;
+        private final ProvisioningEntity entity;
+
+        public QueuedOperation(String operationId, String idPName, int tenantId, Integer entityTenantId,
+                               ProvisioningEntity entity) {
+
+            this.operationId = operationId;
+            this.idPName = idPName;
+            this.tenantId = tenantId;
+            this.entityTenantId = entityTenantId;
+            this.entity = entity;
+        }
+
+        public String getOperationId() {
+
+            return operationId;
+        }
+
+        public String getIdPName() {
+
+            return idPName;
+        }
+
+        public int getTenantId() {
+
+            return tenantId;
+        }
+
+        public Integer getEntityTenantId() {
+
+            return entityTenantId;
+        }
+
+        public ProvisioningEntity getEntity() {
+
+            return entity;
+        }
+    }
+}
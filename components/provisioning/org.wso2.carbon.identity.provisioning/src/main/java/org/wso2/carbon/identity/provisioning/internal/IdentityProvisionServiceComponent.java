@@ -32,6 +32,7 @@ import org.wso2.carbon.identity.application.common.model.ProvisioningConnectorCo
 import org.wso2.carbon.identity.application.mgt.listener.ApplicationMgtListener;
 import org.wso2.carbon.identity.provisioning.rules.ProvisioningHandler;
 import org.wso2.carbon.identity.provisioning.AbstractProvisioningConnectorFactory;
+import org.wso2.carbon.identity.provisioning.OutboundProvisioningExecutor;
 import org.wso2.carbon.identity.provisioning.listener.DefaultInboundUserProvisioningListener;
 import org.wso2.carbon.identity.provisioning.listener.ProvisioningApplicationMgtListener;
 import org.wso2.carbon.identity.provisioning.listener.ProvisioningErrorListener;
@@ -45,6 +46,7 @@ import org.wso2.carbon.user.core.listener.UserOperationEventListener;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.user.mgt.RolePermissionManagementService;
 
+import java.util.ArrayList;
 import java.util.Map;
 
 @Component(
@@ -53,6 +55,7 @@ import java.util.Map;
 public class IdentityProvisionServiceComponent {
 
     private static final Log log = LogFactory.getLog(IdentityProvisionServiceComponent.class);
+    private volatile boolean active;
 
     /**
      * @return
@@ -91,6 +94,11 @@ public class IdentityProvisionServiceComponent {
     protected void activate(ComponentContext context) {
         try {
             ProvisioningServiceDataHolder.getInstance().setBundleContext(context.getBundleContext());
+            // Queue the operations left from the last run before the listeners submit new ones.
+            active = true;
+            for (String connectorType : new ArrayList<>(getConnectorFactories().keySet())) {
+                OutboundProvisioningExecutor.getInstance().restoreQueuedOperations(connectorType);
+            }
             DefaultInboundUserProvisioningListener provisioningListener = new DefaultInboundUserProvisioningListener();
             ProvisioningServiceDataHolder.getInstance().setDefaultInboundUserProvisioningListener(provisioningListener);
             ProvisioningServiceDataHolder.getInstance().getBundleContext()
@@ -125,6 +133,8 @@ public class IdentityProvisionServiceComponent {
      */
     @Deactivate
     protected void deactivate(ComponentContext context) {
+        active = false;
+        OutboundProvisioningExecutor.getInstance().shutdown();
         if (log.isDebugEnabled()) {
             log.debug("Identity Provision bundle is de-activated");
         }
@@ -156,6 +166,10 @@ public class IdentityProvisionServiceComponent {
         Property[] property = new Property[connectorFactory.getConfigurationProperties().size()];
         provisioningConnectorConfig.setProvisioningProperties(connectorFactory.getConfigurationProperties().toArray(property));
         ProvisioningConnectorService.getInstance().addProvisioningConnectorConfigs(provisioningConnectorConfig);
+        if (active) {
+            // The queued operations of the connectors registered before the activation are restored on activation.
+            OutboundProvisioningExecutor.getInstance().restoreQueuedOperations(connectorFactory.getConnectorType());
+        }
     }
 
     protected void unsetProvisioningConnectorFactory(AbstractProvisioningConnectorFactory connectorFactory) {
@@ -0,0 +1,463 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.provisioning.dao.OutboundProvisioningQueueDAO;
+import org.wso2.carbon.identity.provisioning.dao.OutboundProvisioningQueueDAO.QueuedOperation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.identity.provisioning.ProvisioningEntityType.USER;
+import static org.wso2.carbon.identity.provisioning.ProvisioningOperation.DELETE;
+import static org.wso2.carbon.identity.provisioning.ProvisioningOperation.POST;
+import static org.wso2.carbon.identity.provisioning.ProvisioningOperation.PUT;
+
+/**
+ * Test class for OutboundProvisioningExecutor test cases.
+ */
+public class OutboundProvisioningExecutorTest {
+
+    private static final String CONNECTOR_TYPE = "testConnectorType";
+    private static final String IDP_NAME = "testIdpName";
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final int TENANT_ID = -1234;
+
+    private final List<ProvisioningEntity> provisionedEntities = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeMethod
+    public void setUp() {
+
+        provisionedEntities.clear();
+    }
+
+    @Test
+    public void testQueuedUserUpdatesAreMerged() throws Exception {
+
+        OutboundProvisioningExecutor executor = new OutboundProvisioningExecutor(1, 100, 10, 0, 0);
+        AbstractOutboundProvisioningConnector connector = mock(AbstractOutboundProvisioningConnector.class);
+        CountDownLatch gate = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        try {
+            executor.submit(new TestProvisioningThread(createEntity("user0", POST, "claim1", "a"), connector, gate,
+                    0, done));
+            executor.submit(new TestProvisioningThread(createEntity("user1", PUT, "claim1", "a"), connector, null,
+                    0, done));
+            executor.submit(new TestProvisioningThread(createEntity("user1", PUT, "claim2", "b"), connector, null,
+                    0, done));
+            executor.submit(new TestProvisioningThread(createEntity("user1", PUT, "claim1", "c"), connector, null,
+                    0, done));
+            gate.countDown();
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertEquals(provisionedEntities.size(), 2);
+            Map<ClaimMapping, List<String>> attributes = provisionedEntities.get(1).getAttributes();
+            assertEquals(attributes.size(), 2);
+            assertEquals(attributes.get(claim("claim1")), Collections.singletonList("c"));
+            assertEquals(attributes.get(claim("claim2")), Collections.singletonList("b"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testOperationsAreRunInOrder() throws Exception {
+
+        OutboundProvisioningExecutor executor = new OutboundProvisioningExecutor(2, 100, 10, 0, 0);
+        AbstractOutboundProvisioningConnector connector = mock(AbstractOutboundProvisioningConnector.class);
+        CountDownLatch gate = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(4);
+        try {
+            executor.submit(new TestProvisioningThread(createEntity("user1", POST, "claim1", "a"), connector, gate,
+                    0, done));
+            executor.submit(new TestProvisioningThread(createEntity("user1", PUT, "claim1", "b"), connector, null,
+                    0, done));
+            executor.submit(new TestProvisioningThread(createEntity("user1", DELETE, "claim1", "b"), connector, null,
+                    0, done));
+            executor.submit(new TestProvisioningThread(createEntity("user1", PUT, "claim1", "c"), connector, null,
+                    0, done));
+            gate.countDown();
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            List<ProvisioningOperation> operations = new ArrayList<>();
+            for (ProvisioningEntity entity : provisionedEntities) {
+                operations.add(entity.getOperation());
+            }
+            List<ProvisioningOperation> expected = new ArrayList<>();
+            Collections.addAll(expected, POST, PUT, DELETE, PUT);
+            assertEquals(operations, expected);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testFailedOperationIsRetried() throws Exception {
+
+        OutboundProvisioningExecutor executor = new OutboundProvisioningExecutor(1, 100, 10, 2, 1);
+        AbstractOutboundProvisioningConnector connector = mock(AbstractOutboundProvisioningConnector.class);
+        CountDownLatch done = new CountDownLatch(1);
+        try {
+            TestProvisioningThread operation = new TestProvisioningThread(createEntity("user1", POST, "claim1", "a"),
+                    connector, null, 2, done);
+            executor.submit(operation);
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertEquals(operation.attempts.get(), 3);
+            assertEquals(provisionedEntities.size(), 1);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testQueuedOperationsAreBatched() throws Exception {
+
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(4);
+        OutboundProvisioningExecutor executor = new OutboundProvisioningExecutor(1, 100, 2, 0, 0) {
+
+            @Override
+            List<ProvisioningThread> runBatch(List<ProvisioningThread> operations) {
+
+                batchSizes.add(operations.size());
+                for (ProvisioningThread operation : operations) {
+                    provisionedEntities.add(operation.getProvisioningEntity());
+                    done.countDown();
+                }
+                return Collections.emptyList();
+            }
+        };
+        AbstractOutboundProvisioningConnector connector = mock(AbstractOutboundProvisioningConnector.class);
+        when(connector.isBatchProvisioningSupported()).thenReturn(true);
+        CountDownLatch gate = new CountDownLatch(1);
+        try {
+            TestProvisioningThread firstOperation = new TestProvisioningThread(
+                    createEntity("user0", POST, "claim1", "a"), connector, gate, 0, done);
+            executor.submit(firstOperation);
+            // Queue the rest while the first operation is running.
+            assertTrue(firstOperation.started.await(10, TimeUnit.SECONDS));
+            for (int i = 1; i <= 3; i++) {
+                executor.submit(new TestProvisioningThread(createEntity("user" + i, POST, "claim1", "a"), connector,
+                        null, 0, done));
+            }
+            gate.countDown();
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            // The last queued operation does not fill a batch of its own and is provisioned alone.
+            assertEquals(batchSizes, Collections.singletonList(2));
+            assertEquals(provisionedEntities.size(), 4);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testOnlyFailedOperationsOfBatchAreRetried() throws Exception {
+
+        List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(2);
+        OutboundProvisioningExecutor executor = new OutboundProvisioningExecutor(1, 100, 3, 1, 1) {
+
+            @Override
+            List<ProvisioningThread> runBatch(List<ProvisioningThread> operations) {
+
+                List<String> entityNames = new ArrayList<>();
+                for (ProvisioningThread operation : operations) {
+                    entityNames.add(operation.getProvisioningEntity().getEntityName());
+                }
+                batches.add(entityNames);
+                done.countDown();
+                // The last entity of the first batch fails.
+                return batches.size() == 1 ? operations.subList(2, 3) : Collections.emptyList();
+            }
+        };
+        AbstractOutboundProvisioningConnector connector = mock(AbstractOutboundProvisioningConnector.class);
+        when(connector.isBatchProvisioningSupported()).thenReturn(true);
+        CountDownLatch gate = new CountDownLatch(1);
+        CountDownLatch firstDone = new CountDownLatch(1);
+        try {
+            TestProvisioningThread firstOperation = new TestProvisioningThread(
+                    createEntity("user0", POST, "claim1", "a"), connector, gate, 0, firstDone);
+            executor.submit(firstOperation);
+            assertTrue(firstOperation.started.await(10, TimeUnit.SECONDS));
+            for (int i = 1; i <= 3; i++) {
+                executor.submit(new TestProvisioningThread(createEntity("user" + i, POST, "claim1", "a"), connector,
+                        null, 0, done));
+            }
+            gate.countDown();
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertEquals(batches.get(0), Arrays.asList("user1", "user2", "user3"));
+            assertEquals(batches.get(1), Collections.singletonList("user3"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testRetryDoesNotHoldPoolThread() throws Exception {
+
+        OutboundProvisioningExecutor executor = new OutboundProvisioningExecutor(1, 100, 10, 1, 5000);
+        AbstractOutboundProvisioningConnector connector = mock(AbstractOutboundProvisioningConnector.class);
+        CountDownLatch failingDone = new CountDownLatch(1);
+        CountDownLatch otherDone = new CountDownLatch(1);
+        try {
+            TestProvisioningThread failingOperation = new TestProvisioningThread(
+                    createEntity("user1", POST, "claim1", "a"), connector, null, 1, failingDone, "failingIdp");
+            executor.submit(failingOperation);
+            assertTrue(failingOperation.started.await(10, TimeUnit.SECONDS));
+            executor.submit(new TestProvisioningThread(createEntity("user2", POST, "claim1", "a"), connector, null,
+                    0, otherDone, "otherIdp"));
+
+            // The other IdP is served by the only pool thread while the failed operation waits for its retry.
+            assertTrue(otherDone.await(2, TimeUnit.SECONDS));
+            assertEquals(failingOperation.attempts.get(), 1);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testFullQueueWaitsInsteadOfRunningOutOfOrder() throws Exception {
+
+        OutboundProvisioningExecutor executor = new OutboundProvisioningExecutor(1, 1, 10, 0, 0);
+        AbstractOutboundProvisioningConnector connector = mock(AbstractOutboundProvisioningConnector.class);
+        CountDownLatch gate = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(3);
+        try {
+            TestProvisioningThread firstOperation = new TestProvisioningThread(
+                    createEntity("user1", POST, "claim1", "a"), connector, gate, 0, done);
+            executor.submit(firstOperation);
+            assertTrue(firstOperation.started.await(10, TimeUnit.SECONDS));
+            // Fills the queue while the first operation is running.
+            executor.submit(new TestProvisioningThread(createEntity("user1", PUT, "claim1", "b"), connector, null,
+                    0, done));
+            Thread submitter = new Thread(() -> executor.submit(new TestProvisioningThread(
+                    createEntity("user1", DELETE, "claim1", "b"), connector, null, 0, done)));
+            submitter.start();
+            submitter.join(200);
+            assertTrue(submitter.isAlive(), "Submitting to a full queue should wait for room.");
+            gate.countDown();
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            List<ProvisioningOperation> operations = new ArrayList<>();
+            for (ProvisioningEntity entity : provisionedEntities) {
+                operations.add(entity.getOperation());
+            }
+            assertEquals(operations, Arrays.asList(POST, PUT, DELETE));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testShutdownRunsQueuedOperations() throws Exception {
+
+        OutboundProvisioningExecutor executor = new OutboundProvisioningExecutor(1, 100, 10, 0, 0);
+        AbstractOutboundProvisioningConnector connector = mock(AbstractOutboundProvisioningConnector.class);
+        CountDownLatch gate = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(3);
+        TestProvisioningThread firstOperation = new TestProvisioningThread(createEntity("user0", POST, "claim1", "a"),
+                connector, gate, 0, done);
+        executor.submit(firstOperation);
+        assertTrue(firstOperation.started.await(10, TimeUnit.SECONDS));
+        for (int i = 1; i <= 2; i++) {
+            executor.submit(new TestProvisioningThread(createEntity("user" + i, POST, "claim1", "a"), connector,
+                    null, 0, done));
+        }
+        gate.countDown();
+        executor.shutdown();
+
+        assertEquals(provisionedEntities.size(), 3);
+    }
+
+    @Test
+    public void testOperationIsStoredUntilRun() throws Exception {
+
+        OutboundProvisioningQueueDAO queueDAO = mock(OutboundProvisioningQueueDAO.class);
+        OutboundProvisioningExecutor executor = new OutboundProvisioningExecutor(1, 100, 10, 0, 0, queueDAO);
+        AbstractOutboundProvisioningConnector connector = mock(AbstractOutboundProvisioningConnector.class);
+        CountDownLatch done = new CountDownLatch(1);
+        try (MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class)) {
+            identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(TENANT_DOMAIN)).thenReturn(TENANT_ID);
+            ProvisioningEntity entity = createEntity("user1", POST, "claim1", "a");
+            TestProvisioningThread operation = new TestProvisioningThread(entity, connector, null, 0, done);
+            executor.submit(operation);
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            verify(queueDAO).addOperation(eq(operation.getOperationId()), eq(IDP_NAME), eq(CONNECTOR_TYPE),
+                    eq(TENANT_ID), isNull(), same(entity));
+            verify(queueDAO, timeout(10000)).deleteOperations(
+                    Collections.singletonList(operation.getOperationId()));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testOperationSubmittedOnShutdownIsKept() throws Exception {
+
+        OutboundProvisioningQueueDAO queueDAO = mock(OutboundProvisioningQueueDAO.class);
+        OutboundProvisioningExecutor executor = new OutboundProvisioningExecutor(1, 100, 10, 0, 0, queueDAO);
+        AbstractOutboundProvisioningConnector connector = mock(AbstractOutboundProvisioningConnector.class);
+        executor.shutdown();
+        try (MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class)) {
+            identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(TENANT_DOMAIN)).thenReturn(TENANT_ID);
+            TestProvisioningThread operation = new TestProvisioningThread(createEntity("user1", POST, "claim1", "a"),
+                    connector, null, 0, new CountDownLatch(1));
+            executor.submit(operation);
+
+            assertEquals(operation.attempts.get(), 0);
+            verify(queueDAO).addOperation(anyString(), eq(IDP_NAME), eq(CONNECTOR_TYPE), eq(TENANT_ID), isNull(),
+                    any(ProvisioningEntity.class));
+            verify(queueDAO, never()).deleteOperations(any());
+        }
+    }
+
+    @Test
+    public void testStoredOperationsAreRestored() throws Exception {
+
+        OutboundProvisioningQueueDAO queueDAO = mock(OutboundProvisioningQueueDAO.class);
+        AbstractOutboundProvisioningConnector connector = mock(AbstractOutboundProvisioningConnector.class);
+        CountDownLatch done = new CountDownLatch(2);
+        when(queueDAO.getOperations(CONNECTOR_TYPE)).thenReturn(Arrays.asList(
+                new QueuedOperation("operation1", IDP_NAME, TENANT_ID, null,
+                        createEntity("user1", POST, "claim1", "a")),
+                new QueuedOperation("operation2", "removedIdp", TENANT_ID, null,
+                        createEntity("user2", POST, "claim1", "a")),
+                new QueuedOperation("operation3", IDP_NAME, TENANT_ID, null,
+                        createEntity("user1", PUT, "claim1", "b"))));
+        OutboundProvisioningExecutor executor = new OutboundProvisioningExecutor(1, 100, 1, 0, 0, queueDAO) {
+
+            @Override
+            ProvisioningThread restoreOperation(QueuedOperation storedOperation, String connectorType) {
+
+                if (!IDP_NAME.equals(storedOperation.getIdPName())) {
+                    return null;
+                }
+                return new TestProvisioningThread(storedOperation.getEntity(), connector, null, 0, done);
+            }
+        };
+        try {
+            executor.restoreQueuedOperations(CONNECTOR_TYPE);
+            executor.restoreQueuedOperations(CONNECTOR_TYPE);
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            List<ProvisioningOperation> operations = new ArrayList<>();
+            for (ProvisioningEntity entity : provisionedEntities) {
+                operations.add(entity.getOperation());
+            }
+            assertEquals(operations, Arrays.asList(POST, PUT));
+            verify(queueDAO, times(1)).getOperations(CONNECTOR_TYPE);
+            verify(queueDAO).deleteOperations(Collections.singletonList("operation2"));
+            verify(queueDAO, timeout(10000)).deleteOperations(Collections.singletonList("operation1"));
+            verify(queueDAO, timeout(10000)).deleteOperations(Collections.singletonList("operation3"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private ProvisioningEntity createEntity(String userName, ProvisioningOperation operation, String claim,
+                                            String value) {
+
+        Map<ClaimMapping, List<String>> attributes = new HashMap<>();
+        attributes.put(claim(claim), Collections.singletonList(value));
+        return new ProvisioningEntity(USER, userName, operation, attributes);
+    }
+
+    private static ClaimMapping claim(String claimUri) {
+
+        return ClaimMapping.build(claimUri, claimUri, null, false);
+    }
+
+    /**
+     * Provisioning thread which records the provisioned entity instead of calling the connector.
+     */
+    private class TestProvisioningThread extends ProvisioningThread {
+
+        private final CountDownLatch gate;
+        private final CountDownLatch done;
+        private final AtomicInteger failures;
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        TestProvisioningThread(ProvisioningEntity provisioningEntity, AbstractOutboundProvisioningConnector connector,
+                               CountDownLatch gate, int failures, CountDownLatch done) {
+
+            this(provisioningEntity, connector, gate, failures, done, IDP_NAME);
+        }
+
+        TestProvisioningThread(ProvisioningEntity provisioningEntity, AbstractOutboundProvisioningConnector connector,
+                               CountDownLatch gate, int failures, CountDownLatch done, String idPName) {
+
+            super(provisioningEntity, TENANT_DOMAIN, connector, CONNECTOR_TYPE, idPName, null);
+            this.gate = gate;
+            this.failures = new AtomicInteger(failures);
+            this.done = done;
+        }
+
+        @Override
+        public Boolean call() throws IdentityProvisioningException {
+
+            attempts.incrementAndGet();
+            started.countDown();
+            try {
+                if (gate != null) {
+                    gate.await(10, TimeUnit.SECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (failures.getAndDecrement() > 0) {
+                throw new IdentityProvisioningException("Provisioning failed.");
+            }
+            provisionedEntities.add(getProvisioningEntity());
+            done.countDown();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.role.v2.mgt.core.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.utils.CarbonUtils;
+
+/**
+ * Cache of the ID of the everyone role of a tenant, keyed by the everyone role name.
+ */
+public class EveryOneRoleIdCache extends BaseCache<String, String> {
+
+    private static final String CACHE_NAME = "EveryOneRoleIdCache";
+
+    private static final EveryOneRoleIdCache INSTANCE = new EveryOneRoleIdCache();
+
+    private EveryOneRoleIdCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get everyone role ID cache instance.
+     *
+     * @return Everyone role ID cache instance.
+     */
+    public static EveryOneRoleIdCache getInstance() {
+
+        CarbonUtils.checkSecurity();
+        return INSTANCE;
+    }
+}
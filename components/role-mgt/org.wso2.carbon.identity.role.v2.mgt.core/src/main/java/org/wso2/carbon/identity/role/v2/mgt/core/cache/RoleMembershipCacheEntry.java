@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.role.v2.mgt.core.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleBasicInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cache entry for the roles of a user or a group. The roles are copied in and out of the entry, so that callers
+ * which modify the returned roles do not modify the cached roles.
+ */
+public class RoleMembershipCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 7318204569726741538L;
+    private final List<RoleBasicInfo> roles;
+
+    public RoleMembershipCacheEntry(List<RoleBasicInfo> roles) {
+
+        this.roles = copyRoles(roles);
+    }
+
+    public List<RoleBasicInfo> getRoles() {
+
+        return copyRoles(roles);
+    }
+
+    private static List<RoleBasicInfo> copyRoles(List<RoleBasicInfo> roles) {
+
+        List<RoleBasicInfo> copies = new ArrayList<>(roles.size());
+        for (RoleBasicInfo role : roles) {
+            RoleBasicInfo copy = new RoleBasicInfo(role.getId(), role.getName());
+            copy.setAudience(role.getAudience());
+            copy.setAudienceId(role.getAudienceId());
+            copy.setAudienceName(role.getAudienceName());
+            copies.add(copy);
+        }
+        return copies;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.role.v2.mgt.core.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+/**
+ * Cache key for the roles of a user or a group.
+ */
+public class RoleMembershipCacheKey extends CacheKey {
+
+    public static final String USER = "USER";
+    public static final String GROUP = "GROUP";
+
+    private static final long serialVersionUID = 4261895308416723705L;
+    private final String memberType;
+    private final String memberId;
+
+    /**
+     * @param memberType {@link #USER} or {@link #GROUP}.
+     * @param memberId   ID of the user or the group.
+     */
+    public RoleMembershipCacheKey(String memberType, String memberId) {
+
+        this.memberType = memberType;
+        this.memberId = memberId;
+    }
+
+    public String getMemberType() {
+
+        return memberType;
+    }
+
+    public String getMemberId() {
+
+        return memberId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (!(o instanceof RoleMembershipCacheKey)) {
+            return false;
+        }
+        RoleMembershipCacheKey that = (RoleMembershipCacheKey) o;
+        return memberType.equals(that.memberType) && memberId.equals(that.memberId);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return 31 * memberType.hashCode() + memberId.hashCode();
+    }
+}
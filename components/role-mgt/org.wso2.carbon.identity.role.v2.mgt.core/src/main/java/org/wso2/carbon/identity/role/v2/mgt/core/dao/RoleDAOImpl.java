@@ -42,6 +42,10 @@ import org.wso2.carbon.identity.organization.management.service.exception.Organi
 import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
 import org.wso2.carbon.identity.role.v2.mgt.core.FilterQueryBuilder;
 import org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.EveryOneRoleIdCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleMembershipCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleMembershipCacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleMembershipCacheKey;
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementClientException;
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementException;
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementServerException;
@@ -282,6 +286,8 @@ public class RoleDAOImpl implements RoleDAO {
                     addRoleInfo(roleId, roleName, permissions, audience, audienceId, audienceRefId, tenantDomain);
 
                     IdentityDatabaseUtil.commitUserDBTransaction(connection);
+                    clearRoleMembershipCache(RoleMembershipCacheKey.USER, userList, tenantId);
+                    clearRoleMembershipCache(RoleMembershipCacheKey.GROUP, groupList, tenantId);
                 } catch (SQLException | IdentityRoleManagementException e) {
                     IdentityDatabaseUtil.rollbackTransaction(connection);
                     String errorMessage = "Error while creating the role: %s in the tenantDomain: %s";
@@ -766,6 +772,7 @@ public class RoleDAOImpl implements RoleDAO {
                     String.format(message, roleName, tenantDomain), e);
         }
         clearUserRolesCacheByTenant(tenantId);
+        EveryOneRoleIdCache.getInstance().clear(tenantId);
     }
 
     /**
@@ -1073,6 +1080,13 @@ public class RoleDAOImpl implements RoleDAO {
     public List<RoleBasicInfo> getRoleListOfUser(String userId, String tenantDomain)
             throws IdentityRoleManagementException {
 
+        RoleMembershipCacheKey cacheKey = new RoleMembershipCacheKey(RoleMembershipCacheKey.USER, userId);
+        RoleMembershipCacheEntry cacheEntry = RoleMembershipCache.getInstance().getValueFromCache(cacheKey,
+                tenantDomain);
+        if (cacheEntry != null) {
+            return cacheEntry.getRoles();
+        }
+
         String userName = getUsernameByUserID(userId, tenantDomain);
         String primaryDomainName = IdentityUtil.getPrimaryDomainName();
         if (primaryDomainName != null) {
@@ -1102,7 +1116,6 @@ public class RoleDAOImpl implements RoleDAO {
                     RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, roleName);
                     roleBasicInfo.setAudience(audience);
                     roleBasicInfo.setAudienceId(audienceId);
-                    roleBasicInfo.setAudienceName(getAudienceName(audience, audienceId, tenantDomain));
                     roles.add(roleBasicInfo);
                 }
             }
@@ -1114,6 +1127,8 @@ public class RoleDAOImpl implements RoleDAO {
                     "Error while retrieving role list of user by id: " + userId + " and tenantDomain : " + tenantDomain;
             throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
         }
+        setAudienceNames(roles, tenantDomain);
+        RoleMembershipCache.getInstance().addToCache(cacheKey, new RoleMembershipCacheEntry(roles), tenantDomain);
         return roles;
     }
 
@@ -1145,18 +1160,17 @@ public class RoleDAOImpl implements RoleDAO {
      * Get everyone role basic info.
      *
      * @param tenantDomain Tenant domain.
-     * @return basic info of every one role.
+     * @return basic info of every one role, without the audience name.
      * @throws IdentityRoleManagementException if error occurred while retrieving everyone role.
      */
     private RoleBasicInfo getEveryOneRole(String tenantDomain) throws IdentityRoleManagementException {
 
         String everyOneRoleName = getEveryOneRoleName(tenantDomain);
         String orgId = getOrganizationId(tenantDomain);
-        String roleId = getRoleIdByName(everyOneRoleName, ORGANIZATION, orgId, tenantDomain);
+        String roleId = getEveryOneRoleId(everyOneRoleName, orgId, tenantDomain);
         RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, everyOneRoleName);
         roleBasicInfo.setAudience(ORGANIZATION);
-        roleBasicInfo.setAudienceId(getOrganizationId(tenantDomain));
-        roleBasicInfo.setAudienceName(getOrganizationName(orgId));
+        roleBasicInfo.setAudienceId(orgId);
         return roleBasicInfo;
     }
 
@@ -1171,7 +1185,30 @@ public class RoleDAOImpl implements RoleDAO {
 
         String everyOneRoleName = getEveryOneRoleName(tenantDomain);
         String orgId = getOrganizationId(tenantDomain);
-        return getRoleIdByName(everyOneRoleName, ORGANIZATION, orgId, tenantDomain);
+        return getEveryOneRoleId(everyOneRoleName, orgId, tenantDomain);
+    }
+
+    /**
+     * Get everyone role id from the cache, or from the database if it is not cached.
+     *
+     * @param everyOneRoleName Everyone role name.
+     * @param orgId            Organization id of the tenant.
+     * @param tenantDomain     Tenant domain.
+     * @return every one role id.
+     * @throws IdentityRoleManagementException if error occurred while retrieving everyone role id.
+     */
+    private String getEveryOneRoleId(String everyOneRoleName, String orgId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        EveryOneRoleIdCache everyOneRoleIdCache = EveryOneRoleIdCache.getInstance();
+        String roleId = everyOneRoleIdCache.getValueFromCache(everyOneRoleName, tenantDomain);
+        if (roleId == null) {
+            roleId = getRoleIdByName(everyOneRoleName, ORGANIZATION, orgId, tenantDomain);
+            if (roleId != null) {
+                everyOneRoleIdCache.addToCache(everyOneRoleName, roleId, tenantDomain);
+            }
+        }
+        return roleId;
     }
 
     private String getUsernameByUserID(String userId, String tenantDomain) throws IdentityRoleManagementException {
@@ -1183,17 +1220,35 @@ public class RoleDAOImpl implements RoleDAO {
     public List<RoleBasicInfo> getRoleListOfGroups(List<String> groupIds, String tenantDomain)
             throws IdentityRoleManagementException {
 
-        Map<String, String> groupIdsToNames = getGroupNamesByIDs(groupIds, tenantDomain);
-        List<String> groupNamesList = new ArrayList<>(groupIdsToNames.values());
+        List<RoleBasicInfo> roles = new ArrayList<>();
+        List<String> uncachedGroupIds = new ArrayList<>();
+        RoleMembershipCache roleMembershipCache = RoleMembershipCache.getInstance();
+        for (String groupId : groupIds) {
+            RoleMembershipCacheEntry cacheEntry = roleMembershipCache.getValueFromCache(
+                    new RoleMembershipCacheKey(RoleMembershipCacheKey.GROUP, groupId), tenantDomain);
+            if (cacheEntry != null) {
+                roles.addAll(cacheEntry.getRoles());
+            } else {
+                uncachedGroupIds.add(groupId);
+            }
+        }
+        if (uncachedGroupIds.isEmpty()) {
+            return getDistinctRoles(roles);
+        }
+
+        Map<String, String> groupIdsToNames = getGroupNamesByIDs(uncachedGroupIds, tenantDomain);
         String primaryDomainName = IdentityUtil.getPrimaryDomainName();
         if (primaryDomainName != null) {
             primaryDomainName = primaryDomainName.toUpperCase(Locale.ENGLISH);
         }
         int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
-        List<RoleBasicInfo> roles = new ArrayList<>();
+        Map<String, List<RoleBasicInfo>> rolesOfGroups = new HashMap<>();
+        List<RoleBasicInfo> loadedRoles = new ArrayList<>();
         try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false);
              NamedPreparedStatement statement = new NamedPreparedStatement(connection, GET_ROLE_LIST_OF_GROUP_SQL)) {
-            for (String groupName : groupNamesList) {
+            for (Map.Entry<String, String> groupIdToName : groupIdsToNames.entrySet()) {
+                List<RoleBasicInfo> rolesOfGroup = new ArrayList<>();
+                String groupName = groupIdToName.getValue();
                 // Add domain if not set.
                 groupName = UserCoreUtil.addDomainToName(groupName, primaryDomainName);
                 // Get domain from name.
@@ -1214,10 +1269,11 @@ public class RoleDAOImpl implements RoleDAO {
                         RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, roleName);
                         roleBasicInfo.setAudience(audience);
                         roleBasicInfo.setAudienceId(audienceId);
-                        roleBasicInfo.setAudienceName(getAudienceName(audience, audienceId, tenantDomain));
-                        roles.add(roleBasicInfo);
+                        rolesOfGroup.add(roleBasicInfo);
                     }
                 }
+                rolesOfGroups.put(groupIdToName.getKey(), rolesOfGroup);
+                loadedRoles.addAll(rolesOfGroup);
             }
         } catch (SQLException e) {
             String errorMessage =
@@ -1225,9 +1281,13 @@ public class RoleDAOImpl implements RoleDAO {
                             + " and tenantDomain : " + tenantDomain;
             throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
         }
-        return new ArrayList<>(roles.stream()
-                .collect(Collectors.toMap(RoleBasicInfo::getId, role -> role, (existing, replacement) -> existing))
-                .values());
+        setAudienceNames(loadedRoles, tenantDomain);
+        for (Map.Entry<String, List<RoleBasicInfo>> rolesOfGroup : rolesOfGroups.entrySet()) {
+            roleMembershipCache.addToCache(new RoleMembershipCacheKey(RoleMembershipCacheKey.GROUP,
+                    rolesOfGroup.getKey()), new RoleMembershipCacheEntry(rolesOfGroup.getValue()), tenantDomain);
+        }
+        roles.addAll(loadedRoles);
+        return getDistinctRoles(roles);
     }
 
     @Override
@@ -1251,7 +1311,6 @@ public class RoleDAOImpl implements RoleDAO {
                         RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, roleName);
                         roleBasicInfo.setAudience(audience);
                         roleBasicInfo.setAudienceId(audienceId);
-                        roleBasicInfo.setAudienceName(getAudienceName(audience, audienceId, tenantDomain));
                         roles.add(roleBasicInfo);
                     }
                 }
@@ -1262,6 +1321,19 @@ public class RoleDAOImpl implements RoleDAO {
                             + " and tenantDomain : " + tenantDomain;
             throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
         }
+        List<RoleBasicInfo> distinctRoles = getDistinctRoles(roles);
+        setAudienceNames(distinctRoles, tenantDomain);
+        return distinctRoles;
+    }
+
+    /**
+     * Remove the duplicates of roles assigned through more than one group.
+     *
+     * @param roles Roles.
+     * @return distinct roles.
+     */
+    private List<RoleBasicInfo> getDistinctRoles(List<RoleBasicInfo> roles) {
+
         return new ArrayList<>(roles.stream()
                 .collect(Collectors.toMap(RoleBasicInfo::getId, role -> role, (existing, replacement) -> existing))
                 .values());
@@ -1407,6 +1479,7 @@ public class RoleDAOImpl implements RoleDAO {
             throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(),
                     message, e);
         }
+        RoleMembershipCache.getInstance().clear(tenantDomain);
     }
 
     @Override
@@ -2397,6 +2470,31 @@ public class RoleDAOImpl implements RoleDAO {
         return null;
     }
 
+    /**
+     * Set the audience names of the roles, resolving the name of each distinct audience only once.
+     *
+     * @param roles        Roles.
+     * @param tenantDomain Tenant Domain.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    private void setAudienceNames(List<RoleBasicInfo> roles, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        Map<String, String> organizationNames = new HashMap<>();
+        for (RoleBasicInfo role : roles) {
+            if (!ORGANIZATION.equalsIgnoreCase(role.getAudience())) {
+                role.setAudienceName(getAudienceName(role.getAudience(), role.getAudienceId(), tenantDomain));
+                continue;
+            }
+            String organizationName = organizationNames.get(role.getAudienceId());
+            if (organizationName == null) {
+                organizationName = getAudienceName(role.getAudience(), role.getAudienceId(), tenantDomain);
+                organizationNames.put(role.getAudienceId(), organizationName);
+            }
+            role.setAudienceName(organizationName);
+        }
+    }
+
     /**
      * Get organization name.
      *
@@ -2686,11 +2784,10 @@ public class RoleDAOImpl implements RoleDAO {
             if (roleAudience != null) {
                 roleBasicInfo.setAudience(roleAudience.getAudience());
                 roleBasicInfo.setAudienceId(roleAudience.getAudienceId());
-                roleBasicInfo.setAudienceName(getAudienceName(roleAudience.getAudience(),
-                        roleAudience.getAudienceId(), tenantDomain));
             }
             roles.add(roleBasicInfo);
         }
+        setAudienceNames(roles, tenantDomain);
         return roles;
     }
 
@@ -3176,6 +3273,8 @@ public class RoleDAOImpl implements RoleDAO {
                 clearUserRolesCache(username, tenantId);
             }
         }
+        clearRoleMembershipCache(RoleMembershipCacheKey.USER, deletedUserIDList, tenantId);
+        clearRoleMembershipCache(RoleMembershipCacheKey.USER, newUserIDList, tenantId);
     }
 
     /**
@@ -3507,6 +3606,26 @@ public class RoleDAOImpl implements RoleDAO {
 
         AuthorizationCache authorizationCache = AuthorizationCache.getInstance();
         authorizationCache.clearCacheByTenant(tenantId);
+
+        RoleMembershipCache.getInstance().clear(tenantId);
+    }
+
+    /**
+     * Clear the cached roles of the given users or groups.
+     *
+     * @param memberType {@link RoleMembershipCacheKey#USER} or {@link RoleMembershipCacheKey#GROUP}.
+     * @param memberIds  User or group IDs.
+     * @param tenantId   Tenant ID.
+     */
+    private void clearRoleMembershipCache(String memberType, List<String> memberIds, int tenantId) {
+
+        if (CollectionUtils.isEmpty(memberIds)) {
+            return;
+        }
+        RoleMembershipCache roleMembershipCache = RoleMembershipCache.getInstance();
+        for (String memberId : memberIds) {
+            roleMembershipCache.clearCacheEntry(new RoleMembershipCacheKey(memberType, memberId), tenantId);
+        }
     }
 
     /**
@@ -46,10 +46,15 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.EveryOneRoleIdCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleMembershipCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleMembershipCacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleMembershipCacheKey;
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementClientException;
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementException;
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementServerException;
 import org.wso2.carbon.identity.role.v2.mgt.core.internal.RoleManagementServiceComponentHolder;
+import org.wso2.carbon.identity.role.v2.mgt.core.listener.RoleMembershipCacheInvalidationListener;
 import org.wso2.carbon.identity.role.v2.mgt.core.model.IdpGroup;
 import org.wso2.carbon.identity.role.v2.mgt.core.model.Permission;
 import org.wso2.carbon.identity.role.v2.mgt.core.model.Role;
@@ -62,6 +67,7 @@ import org.wso2.carbon.user.api.AuthorizationManager;
 import org.wso2.carbon.user.api.RealmConfiguration;
 import org.wso2.carbon.user.api.UserRealm;
 import org.wso2.carbon.user.api.UserStoreException;
+import org.wso2.carbon.user.core.UserStoreManager;
 import org.wso2.carbon.user.core.authorization.AuthorizationCache;
 import org.wso2.carbon.user.core.authorization.JDBCAuthorizationManager;
 import org.wso2.carbon.user.core.common.UserRolesCache;
@@ -143,6 +149,8 @@ public class RoleDAOTest {
     private List<String> userIDsList = new ArrayList<>();
     private List<String> groupIDsList = new ArrayList<>();
     private List<Permission> permissions = new ArrayList<>();
+    private final Map<RoleMembershipCacheKey, RoleMembershipCacheEntry> roleMembershipCacheEntries = new HashMap<>();
+    private final Map<String, String> everyOneRoleIdCacheEntries = new HashMap<>();
 
     private MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil;
     private MockedStatic<IdentityTenantUtil> identityTenantUtil;
@@ -151,6 +159,8 @@ public class RoleDAOTest {
     private MockedStatic<UserCoreUtil> userCoreUtil;
     private MockedStatic<UserRolesCache> userRolesCache;
     private MockedStatic<AuthorizationCache> authorizationCache;
+    private MockedStatic<RoleMembershipCache> roleMembershipCache;
+    private MockedStatic<EveryOneRoleIdCache> everyOneRoleIdCache;
 
     @Mock
     UserRealm mockUserRealm;
@@ -185,6 +195,7 @@ public class RoleDAOTest {
         carbonContext = mockStatic(CarbonContext.class);
         userRolesCache = mockStatic(UserRolesCache.class);
         authorizationCache = mockStatic(AuthorizationCache.class);
+        mockRoleMembershipCaches();
 
         initializeDataSource(getFilePath("h2.sql"));
         populateData();
@@ -203,6 +214,8 @@ public class RoleDAOTest {
         groupNamesList = new ArrayList<>();
         groupIDsList = new ArrayList<>();
         permissions = new ArrayList<>();
+        roleMembershipCacheEntries.clear();
+        everyOneRoleIdCacheEntries.clear();
         clearDataSource();
         identityDatabaseUtil.close();
         identityTenantUtil.close();
@@ -212,6 +225,8 @@ public class RoleDAOTest {
         userCoreUtil.close();
         userRolesCache.close();
         authorizationCache.close();
+        roleMembershipCache.close();
+        everyOneRoleIdCache.close();
     }
 
     @Test
@@ -949,6 +964,118 @@ public class RoleDAOTest {
         assertEquals(roles.size(), 2);
     }
 
+    @Test
+    public void testGetRoleListOfUserFromCache() throws Exception {
+
+        RoleDAOImpl roleDAO = spy(new RoleDAOImpl());
+        mockRoleMembershipLookup(roleDAO);
+        RoleBasicInfo everyOneRole = addRole("everyone", ORGANIZATION_AUD, SAMPLE_ORG_ID, roleDAO);
+        mockRealmConfiguration();
+        mockMemberNameResolution(roleDAO);
+
+        assertEquals(roleDAO.getRoleListOfUser("userID1", SAMPLE_TENANT_DOMAIN).size(), 3);
+        assertTrue(roleMembershipCacheEntries.containsKey(
+                new RoleMembershipCacheKey(RoleMembershipCacheKey.USER, "userID1")));
+        assertEquals(everyOneRoleIdCacheEntries.get("everyone"), everyOneRole.getId());
+
+        // Memberships removed behind the DAO are not visible until the cache entry is invalidated.
+        deleteAllRows("UM_HYBRID_USER_ROLE");
+        assertEquals(roleDAO.getRoleListOfUser("userID1", SAMPLE_TENANT_DOMAIN).size(), 3);
+    }
+
+    @Test
+    public void testUpdateUserListOfRoleInvalidatesRoleMembershipCache() throws Exception {
+
+        RoleDAOImpl roleDAO = spy(new RoleDAOImpl());
+        RoleBasicInfo role = mockRoleMembershipLookup(roleDAO);
+        addRole("everyone", ORGANIZATION_AUD, SAMPLE_ORG_ID, roleDAO);
+        mockRealmConfiguration();
+        mockMemberNameResolution(roleDAO);
+
+        assertEquals(roleDAO.getRoleListOfUser("userID1", SAMPLE_TENANT_DOMAIN).size(), 3);
+        assertEquals(roleDAO.getRoleListOfUser("userID2", SAMPLE_TENANT_DOMAIN).size(), 3);
+
+        roleDAO.updateUserListOfRole(role.getId(), Collections.emptyList(),
+                Collections.singletonList("userID1"), SAMPLE_TENANT_DOMAIN);
+        assertFalse(roleMembershipCacheEntries.containsKey(
+                new RoleMembershipCacheKey(RoleMembershipCacheKey.USER, "userID1")));
+        assertTrue(roleMembershipCacheEntries.containsKey(
+                new RoleMembershipCacheKey(RoleMembershipCacheKey.USER, "userID2")));
+
+        List<String> roleNames = getRoleNamesList(roleDAO.getRoleListOfUser("userID1", SAMPLE_TENANT_DOMAIN));
+        assertEquals(roleNames, Arrays.asList("everyone", roleNamesList.get(1)));
+    }
+
+    @Test
+    public void testGetRoleListOfGroupsFromCache() throws Exception {
+
+        RoleDAOImpl roleDAO = spy(new RoleDAOImpl());
+        RoleBasicInfo role = mockRoleMembershipLookup(roleDAO);
+        mockMemberNameResolution(roleDAO);
+        List<String> groupIds = Collections.singletonList("groupID1");
+
+        assertEquals(roleDAO.getRoleListOfGroups(groupIds, SAMPLE_TENANT_DOMAIN).size(), 2);
+        assertTrue(roleMembershipCacheEntries.containsKey(
+                new RoleMembershipCacheKey(RoleMembershipCacheKey.GROUP, "groupID1")));
+
+        deleteAllRows("UM_HYBRID_GROUP_ROLE");
+        assertEquals(roleDAO.getRoleListOfGroups(groupIds, SAMPLE_TENANT_DOMAIN).size(), 2);
+
+        // Group membership changes clear the cached memberships of the whole tenant.
+        roleDAO.updateGroupListOfRole(role.getId(), Collections.emptyList(), groupIds, SAMPLE_TENANT_DOMAIN);
+        assertTrue(roleMembershipCacheEntries.isEmpty());
+        assertTrue(roleDAO.getRoleListOfGroups(groupIds, SAMPLE_TENANT_DOMAIN).isEmpty());
+    }
+
+    @Test
+    public void testDeleteRoleInvalidatesRoleCaches() throws Exception {
+
+        RoleDAOImpl roleDAO = spy(new RoleDAOImpl());
+        RoleBasicInfo role = mockRoleMembershipLookup(roleDAO);
+        addRole("everyone", ORGANIZATION_AUD, SAMPLE_ORG_ID, roleDAO);
+        mockRealmConfiguration();
+        mockMemberNameResolution(roleDAO);
+        AuthorizationManager authorizationManager = mock(JDBCAuthorizationManager.class);
+        when(mockUserRealm.getAuthorizationManager()).thenReturn(authorizationManager);
+
+        assertEquals(roleDAO.getRoleListOfUser("userID1", SAMPLE_TENANT_DOMAIN).size(), 3);
+        assertFalse(everyOneRoleIdCacheEntries.isEmpty());
+
+        roleDAO.deleteRole(role.getId(), SAMPLE_TENANT_DOMAIN);
+        assertTrue(roleMembershipCacheEntries.isEmpty());
+        assertTrue(everyOneRoleIdCacheEntries.isEmpty());
+
+        List<String> roleNames = getRoleNamesList(roleDAO.getRoleListOfUser("userID1", SAMPLE_TENANT_DOMAIN));
+        assertEquals(roleNames, Arrays.asList("everyone", roleNamesList.get(1)));
+    }
+
+    @Test
+    public void testRoleMembershipCacheInvalidationListener() throws Exception {
+
+        RoleDAOImpl roleDAO = spy(new RoleDAOImpl());
+        mockRoleMembershipLookup(roleDAO);
+        mockMemberNameResolution(roleDAO);
+        UserStoreManager userStoreManager = mock(UserStoreManager.class);
+        when(userStoreManager.getTenantId()).thenReturn(SAMPLE_TENANT_ID);
+        RoleMembershipCacheInvalidationListener listener = new RoleMembershipCacheInvalidationListener();
+
+        roleDAO.getRoleListOfGroups(groupIDsList, SAMPLE_TENANT_DOMAIN);
+        assertFalse(roleMembershipCacheEntries.isEmpty());
+        assertTrue(listener.doPostDeleteUser(userNamesList.get(0), userStoreManager));
+        assertTrue(roleMembershipCacheEntries.isEmpty());
+
+        roleDAO.getRoleListOfGroups(groupIDsList, SAMPLE_TENANT_DOMAIN);
+        assertFalse(roleMembershipCacheEntries.isEmpty());
+        assertTrue(listener.doPostUpdateUserListOfRole(roleNamesList.get(0), new String[]{userNamesList.get(0)},
+                new String[0], userStoreManager));
+        assertTrue(roleMembershipCacheEntries.isEmpty());
+
+        roleDAO.getRoleListOfGroups(groupIDsList, SAMPLE_TENANT_DOMAIN);
+        assertFalse(roleMembershipCacheEntries.isEmpty());
+        assertTrue(listener.doPostDeleteRole(roleNamesList.get(0), userStoreManager));
+        assertTrue(roleMembershipCacheEntries.isEmpty());
+    }
+
     @Test
     public void testGetRoleListOfIdpGroups() throws Exception {
 
@@ -1326,6 +1453,98 @@ public class RoleDAOTest {
         RoleManagementServiceComponentHolder.getInstance().setRealmService(mockRealmService);
     }
 
+    private void mockRoleMembershipCaches() {
+
+        RoleMembershipCache mockRoleMembershipCache = mock(RoleMembershipCache.class);
+        lenient().doAnswer(invocation -> roleMembershipCacheEntries.get(invocation.getArgument(0)))
+                .when(mockRoleMembershipCache).getValueFromCache(any(RoleMembershipCacheKey.class), anyString());
+        lenient().doAnswer(invocation -> roleMembershipCacheEntries.put(invocation.getArgument(0),
+                invocation.getArgument(1))).when(mockRoleMembershipCache)
+                .addToCache(any(RoleMembershipCacheKey.class), any(RoleMembershipCacheEntry.class), anyString());
+        lenient().doAnswer(invocation -> roleMembershipCacheEntries.remove(invocation.getArgument(0)))
+                .when(mockRoleMembershipCache).clearCacheEntry(any(RoleMembershipCacheKey.class), anyInt());
+        lenient().doAnswer(invocation -> {
+            roleMembershipCacheEntries.clear();
+            return null;
+        }).when(mockRoleMembershipCache).clear(anyInt());
+        lenient().doAnswer(invocation -> {
+            roleMembershipCacheEntries.clear();
+            return null;
+        }).when(mockRoleMembershipCache).clear(anyString());
+        roleMembershipCache = mockStatic(RoleMembershipCache.class, invocation -> mockRoleMembershipCache);
+
+        EveryOneRoleIdCache mockEveryOneRoleIdCache = mock(EveryOneRoleIdCache.class);
+        lenient().doAnswer(invocation -> everyOneRoleIdCacheEntries.get(invocation.getArgument(0)))
+                .when(mockEveryOneRoleIdCache).getValueFromCache(anyString(), anyString());
+        lenient().doAnswer(invocation -> everyOneRoleIdCacheEntries.put(invocation.getArgument(0),
+                invocation.getArgument(1))).when(mockEveryOneRoleIdCache)
+                .addToCache(anyString(), anyString(), anyString());
+        lenient().doAnswer(invocation -> {
+            everyOneRoleIdCacheEntries.clear();
+            return null;
+        }).when(mockEveryOneRoleIdCache).clear(anyInt());
+        everyOneRoleIdCache = mockStatic(EveryOneRoleIdCache.class, invocation -> mockEveryOneRoleIdCache);
+    }
+
+    private RoleBasicInfo mockRoleMembershipLookup(RoleDAOImpl roleDAO) throws Exception {
+
+        mockCacheClearing(roleDAO);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getUserDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityUtil.when(IdentityUtil::getPrimaryDomainName).thenReturn(USER_DOMAIN_PRIMARY);
+        identityUtil.when(() -> IdentityUtil.extractDomainFromName(anyString())).thenCallRealMethod();
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenReturn(SAMPLE_TENANT_ID);
+        userCoreUtil.when(() -> UserCoreUtil.isEveryoneRole(anyString(), any(RealmConfiguration.class)))
+                .thenReturn(false);
+        userCoreUtil.when(() -> UserCoreUtil.removeDomainFromName(anyString())).thenCallRealMethod();
+        userCoreUtil.when(() -> UserCoreUtil.extractDomainFromName(anyString())).thenCallRealMethod();
+        userCoreUtil.when(() -> UserCoreUtil.addDomainToName(anyString(), anyString())).thenCallRealMethod();
+        RoleBasicInfo role = addRole(roleNamesList.get(0), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+        addRole(roleNamesList.get(1), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+        return role;
+    }
+
+    /**
+     * Resolve only the requested user and group IDs, so that membership updates touch the given members alone.
+     */
+    private void mockMemberNameResolution(RoleDAOImpl roleDAO) throws Exception {
+
+        OrganizationManager organizationManager = mock(OrganizationManager.class);
+        RoleManagementServiceComponentHolder.getInstance().setOrganizationManager(organizationManager);
+        lenient().when(organizationManager.getOrganizationNameById(anyString())).thenReturn("test-org");
+        lenient().when(organizationManager.resolveOrganizationId(anyString())).thenReturn(SAMPLE_ORG_ID);
+
+        UserIDResolver userIDResolver = mock(UserIDResolver.class);
+        setPrivateFinalField(RoleDAOImpl.class, "userIDResolver", roleDAO, userIDResolver);
+        lenient().when(userIDResolver.getNameByID(anyString(), anyString()))
+                .thenAnswer(invocation -> userNamesList.get(userIDsList.indexOf(invocation.getArgument(0))));
+        lenient().when(userIDResolver.getNamesByIDs(anyList(), anyString())).thenAnswer(invocation -> {
+            List<String> userIDs = invocation.getArgument(0);
+            return userIDs.stream().map(userID -> userNamesList.get(userIDsList.indexOf(userID)))
+                    .collect(Collectors.toList());
+        });
+
+        GroupIDResolver groupIDResolver = mock(GroupIDResolver.class);
+        setPrivateFinalField(RoleDAOImpl.class, "groupIDResolver", roleDAO, groupIDResolver);
+        lenient().when(groupIDResolver.getNamesByIDs(anyList(), anyString())).thenAnswer(invocation -> {
+            List<String> groupIDs = invocation.getArgument(0);
+            Map<String, String> groupIdsToNames = new HashMap<>();
+            for (String groupID : groupIDs) {
+                groupIdsToNames.put(groupID, groupNamesMap.get(groupID));
+            }
+            return groupIdsToNames;
+        });
+    }
+
+    private void deleteAllRows(String tableName) throws Exception {
+
+        try (Connection connection = getConnection()) {
+            connection.createStatement().executeUpdate("DELETE FROM " + tableName);
+        }
+    }
+
     private void mockRealmConfiguration() throws UserStoreException {
 
         CarbonContext mockCarbonContext = mock(CarbonContext.class);
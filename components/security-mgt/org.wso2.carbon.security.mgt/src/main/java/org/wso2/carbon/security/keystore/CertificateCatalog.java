@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.security.keystore;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.lang.ref.WeakReference;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Index of the certificates of a keystore.
+ * <p>
+ * The alias, subject, issuer, expiry and fingerprint of each certificate are read once when the catalog is built, so
+ * that certificates can be filtered, paged and queried by expiry without reading every certificate of the keystore on
+ * each request. A catalog is used only for the keystore instance it was built from and while the keystore has the
+ * same number of entries, hence a keystore reloaded by the {@link org.wso2.carbon.core.util.KeyStoreManager} gets a
+ * new catalog. Catalogs are also invalidated when certificates are imported to or removed from the keystore.
+ */
+final class CertificateCatalog {
+
+    private static final Log log = LogFactory.getLog(CertificateCatalog.class);
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+    private static final Map<String, CertificateCatalog> CATALOGS = new ConcurrentHashMap<>();
+    // Incremented on each invalidation, so that catalogs built during an invalidation are not kept.
+    private static final AtomicLong INVALIDATIONS = new AtomicLong();
+
+    private final WeakReference<KeyStore> keyStore;
+    private final int keyStoreSize;
+    private final List<CertificateEntry> certificateEntries;
+    private final List<CertificateEntry> keyEntries;
+    private final CertificateEntry[] entriesByExpiry;
+
+    private CertificateCatalog(KeyStore keyStore, int keyStoreSize, List<CertificateEntry> certificateEntries,
+                               List<CertificateEntry> keyEntries) {
+
+        this.keyStore = new WeakReference<>(keyStore);
+        this.keyStoreSize = keyStoreSize;
+        this.certificateEntries = Collections.unmodifiableList(certificateEntries);
+        this.keyEntries = Collections.unmodifiableList(keyEntries);
+        List<CertificateEntry> allEntries = new ArrayList<>(certificateEntries);
+        allEntries.addAll(keyEntries);
+        this.entriesByExpiry = allEntries.toArray(new CertificateEntry[0]);
+        Arrays.sort(this.entriesByExpiry, Comparator.comparingLong(CertificateEntry::getNotAfterTime));
+    }
+
+    /**
+     * Get the catalog of the given keystore, building it if there is no valid catalog for the keystore.
+     *
+     * @param tenantId     Tenant id.
+     * @param keyStoreName Name of the keystore.
+     * @param keyStore     Loaded keystore.
+     * @return Catalog of the keystore.
+     * @throws KeyStoreException If the keystore is not loaded.
+     */
+    static CertificateCatalog getCatalog(int tenantId, String keyStoreName, KeyStore keyStore)
+            throws KeyStoreException {
+
+        String catalogKey = getCatalogKey(tenantId, keyStoreName);
+        CertificateCatalog catalog = CATALOGS.get(catalogKey);
+        if (catalog != null && catalog.isBuiltFrom(keyStore)) {
+            return catalog;
+        }
+        long invalidations = INVALIDATIONS.get();
+        catalog = build(keyStore);
+        if (INVALIDATIONS.get() == invalidations) {
+            CATALOGS.put(catalogKey, catalog);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Built the certificate catalog of keystore: " + keyStoreName + " of tenant: " + tenantId +
+                    " with " + catalog.entriesByExpiry.length + " certificates.");
+        }
+        return catalog;
+    }
+
+    /**
+     * Remove the catalog of the given keystore. Must be called after the keystore is changed.
+     *
+     * @param tenantId     Tenant id.
+     * @param keyStoreName Name of the keystore.
+     */
+    static void invalidate(int tenantId, String keyStoreName) {
+
+        INVALIDATIONS.incrementAndGet();
+        CATALOGS.remove(getCatalogKey(tenantId, keyStoreName));
+    }
+
+    /**
+     * @return Entries of the trusted certificates, in the order of the keystore aliases.
+     */
+    List<CertificateEntry> getCertificateEntries() {
+
+        return certificateEntries;
+    }
+
+    /**
+     * @return Entries of the certificates of the private keys, in the order of the keystore aliases.
+     */
+    List<CertificateEntry> getKeyEntries() {
+
+        return keyEntries;
+    }
+
+    /**
+     * Get the certificates which expire within the given period, in the order of their expiry.
+     *
+     * @param from Start of the period, inclusive.
+     * @param to   End of the period, inclusive.
+     * @return Entries of the certificates.
+     */
+    List<CertificateEntry> getEntriesExpiringBetween(Date from, Date to) {
+
+        long fromTime = from.getTime();
+        long toTime = to.getTime();
+        List<CertificateEntry> entries = new ArrayList<>();
+        for (int i = firstExpiringAtOrAfter(fromTime); i < entriesByExpiry.length &&
+                entriesByExpiry[i].getNotAfterTime() <= toTime; i++) {
+            entries.add(entriesByExpiry[i]);
+        }
+        return entries;
+    }
+
+    /**
+     * Filter entries by alias. The filter matches aliases case insensitively, and '*' in the filter matches any
+     * sequence of characters.
+     *
+     * @param entries Entries to filter.
+     * @param filter  Alias filter.
+     * @return Entries with a matching alias.
+     */
+    static List<CertificateEntry> filterByAlias(List<CertificateEntry> entries, String filter) {
+
+        if (entries.isEmpty()) {
+            return entries;
+        }
+        Pattern aliasPattern = Pattern.compile(filter.replace("*", ".*").toLowerCase());
+        List<CertificateEntry> filteredEntries = new ArrayList<>();
+        for (CertificateEntry entry : entries) {
+            if (aliasPattern.matcher(entry.getAlias().toLowerCase()).matches()) {
+                filteredEntries.add(entry);
+            }
+        }
+        return filteredEntries;
+    }
+
+    private boolean isBuiltFrom(KeyStore keyStore) throws KeyStoreException {
+
+        return this.keyStore.get() == keyStore && keyStoreSize == keyStore.size();
+    }
+
+    private int firstExpiringAtOrAfter(long time) {
+
+        int low = 0;
+        int high = entriesByExpiry.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (entriesByExpiry[middle].getNotAfterTime() < time) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static CertificateCatalog build(KeyStore keyStore) throws KeyStoreException {
+
+        int keyStoreSize = keyStore.size();
+        List<CertificateEntry> certificateEntries = new ArrayList<>();
+        List<CertificateEntry> keyEntries = new ArrayList<>();
+        Enumeration<String> aliases = keyStore.aliases();
+        while (aliases.hasMoreElements()) {
+            String alias = aliases.nextElement();
+            boolean certificateEntry = keyStore.isCertificateEntry(alias);
+            if (!certificateEntry && !keyStore.isKeyEntry(alias)) {
+                continue;
+            }
+            Certificate certificate = keyStore.getCertificate(alias);
+            if (!(certificate instanceof X509Certificate)) {
+                continue;
+            }
+            CertificateEntry entry = new CertificateEntry(alias, (X509Certificate) certificate);
+            if (certificateEntry) {
+                certificateEntries.add(entry);
+            } else {
+                keyEntries.add(entry);
+            }
+        }
+        return new CertificateCatalog(keyStore, keyStoreSize, certificateEntries, keyEntries);
+    }
+
+    private static String getCatalogKey(int tenantId, String keyStoreName) {
+
+        return tenantId + ":" + keyStoreName;
+    }
+
+    private static String calculateFingerprint(X509Certificate certificate) {
+
+        try {
+            byte[] digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM).digest(certificate.getEncoded());
+            StringBuilder fingerprint = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                fingerprint.append(Character.toUpperCase(Character.forDigit((b >> 4) & 0xF, 16)))
+                        .append(Character.toUpperCase(Character.forDigit(b & 0xF, 16)));
+            }
+            return fingerprint.toString();
+        } catch (NoSuchAlgorithmException | CertificateEncodingException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error while calculating the fingerprint of the certificate: " +
+                        certificate.getSubjectDN().getName(), e);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Indexed details of a certificate of a keystore.
+     */
+    static final class CertificateEntry {
+
+        private final String alias;
+        private final String subjectDN;
+        private final String issuerDN;
+        private final long notAfterTime;
+        private final String fingerprint;
+
+        private CertificateEntry(String alias, X509Certificate certificate) {
+
+            this.alias = alias;
+            this.subjectDN = certificate.getSubjectDN().getName();
+            this.issuerDN = certificate.getIssuerDN().getName();
+            this.notAfterTime = certificate.getNotAfter().getTime();
+            this.fingerprint = calculateFingerprint(certificate);
+        }
+
+        public String getAlias() {
+
+            return alias;
+        }
+
+        public String getSubjectDN() {
+
+            return subjectDN;
+        }
+
+        public String getIssuerDN() {
+
+            return issuerDN;
+        }
+
+        public Date getNotAfter() {
+
+            return new Date(notAfterTime);
+        }
+
+        /**
+         * @return Hex encoded SHA-256 fingerprint of the encoded certificate, or null if it could not be calculated.
+         */
+        public String getFingerprint() {
+
+            return fingerprint;
+        }
+
+        long getNotAfterTime() {
+
+            return notAfterTime;
+        }
+    }
+}
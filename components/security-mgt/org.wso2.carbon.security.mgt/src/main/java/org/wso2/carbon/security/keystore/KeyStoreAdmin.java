@@ -58,6 +58,7 @@ import java.security.cert.X509Certificate;
 import java.text.Format;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.Enumeration;
 import java.util.List;
 
@@ -65,10 +66,12 @@ public class KeyStoreAdmin {
 
     private static final Log log = LogFactory.getLog(KeyStoreAdmin.class);
     private final KeyStoreManager keyStoreManager;
+    private final int tenantId;
     private boolean includeCert = false;
 
     public KeyStoreAdmin(int tenantId, Registry registry) {
 
+        this.tenantId = tenantId;
         keyStoreManager = KeyStoreManager.getInstance(tenantId);
     }
 
@@ -143,6 +146,7 @@ public class KeyStoreAdmin {
 
         try {
             keyStoreManager.addKeyStore(content, filename, password, provider, type, pvtkeyPass);
+            CertificateCatalog.invalidate(tenantId, filename);
         } catch (SecurityException e) {
             String msg = "Error when adding a keyStore";
             log.error(msg, e);
@@ -161,6 +165,7 @@ public class KeyStoreAdmin {
 
         try {
             keyStoreManager.addKeyStore(content, filename, password, provider, type, null);
+            CertificateCatalog.invalidate(tenantId, filename);
         } catch (SecurityException e) {
             String msg = "Error when adding a trustStore";
             log.error(msg, e);
@@ -172,6 +177,7 @@ public class KeyStoreAdmin {
 
         try {
             keyStoreManager.deleteStore(keyStoreName);
+            CertificateCatalog.invalidate(tenantId, keyStoreName);
         } catch (SecurityException e) {
             String msg = "Error when deleting a keyStore";
             log.error(msg, e);
@@ -196,6 +202,7 @@ public class KeyStoreAdmin {
             }
 
             ks.setCertificateEntry(fileName, cert);
+            CertificateCatalog.invalidate(tenantId, keyStoreName);
 
             this.keyStoreManager.updateKeyStore(keyStoreName, ks);
 
@@ -232,6 +239,7 @@ public class KeyStoreAdmin {
             }
             alias = cert.getSubjectDN().getName();
             ks.setCertificateEntry(alias, cert);
+            CertificateCatalog.invalidate(tenantId, keyStoreName);
 
             this.keyStoreManager.updateKeyStore(keyStoreName, ks);
 
@@ -264,6 +272,7 @@ public class KeyStoreAdmin {
             }
 
             ks.deleteEntry(alias);
+            CertificateCatalog.invalidate(tenantId, keyStoreName);
             this.keyStoreManager.updateKeyStore(keyStoreName, ks);
 
             if (KeyStoreUtil.isTrustStore(keyStoreName)) {
@@ -478,34 +487,41 @@ public class KeyStoreAdmin {
     }
 
     /**
-     * This method is used internally to do the pagination purposes.
+     * This method is used internally to do the pagination purposes. Certificate data is built only for the entries
+     * in the returned pages.
      *
-     * @param pageNumber  page Number
-     * @param certDataSet set of keyStoreData
-     * @return PaginatedPolicySetDTO object containing the number of pages and the set of policies
-     * that reside in the given page.
+     * @param pageNumber page Number
+     * @param entries    catalog entries of the certificates
+     * @param keyStore   keystore the entries were catalogued from
+     * @return PaginatedCertData object containing the number of pages and the certificates that reside in the given
+     * page.
+     * @throws KeyStoreException            if a certificate cannot be read from the keystore.
+     * @throws CertificateEncodingException if the public key of a certificate cannot be encoded.
      */
-    private PaginatedCertData doPaging(int pageNumber, CertData[] certDataSet) {
+    private PaginatedCertData doPaging(int pageNumber, List<CertificateCatalog.CertificateEntry> entries,
+                                       KeyStore keyStore) throws KeyStoreException, CertificateEncodingException {
 
         PaginatedCertData paginatedCertData = new PaginatedCertData();
-        if (certDataSet.length == 0) {
+        if (entries.isEmpty()) {
             paginatedCertData.setCertDataSet(new CertData[0]);
             return paginatedCertData;
         }
         int itemsPerPageInt = SecurityConstants.ITEMS_PER_PAGE;
-        int numberOfPages = (int) Math.ceil((double) certDataSet.length / itemsPerPageInt);
+        int numberOfPages = (int) Math.ceil((double) entries.size() / itemsPerPageInt);
         if (pageNumber > numberOfPages - 1) {
             pageNumber = numberOfPages - 1;
         }
         int startIndex = pageNumber * itemsPerPageInt;
-        int endIndex = certDataSet.length;
+        int endIndex = entries.size();
         if (numberOfPages > SecurityConstants.CACHING_PAGE_SIZE) {
             endIndex = (pageNumber + SecurityConstants.CACHING_PAGE_SIZE) * itemsPerPageInt;
         }
         CertData[] returnedCertDataSet = new CertData[endIndex];
+        Format formatter = new SimpleDateFormat("dd/MM/yyyy");
 
-        for (int i = startIndex, j = 0; i < endIndex && i < certDataSet.length; i++, j++) {
-            returnedCertDataSet[j] = certDataSet[i];
+        for (int i = startIndex, j = 0; i < endIndex && i < entries.size(); i++, j++) {
+            String alias = entries.get(i).getAlias();
+            returnedCertDataSet[j] = fillCertData((X509Certificate) keyStore.getCertificate(alias), alias, formatter);
         }
 
         paginatedCertData.setCertDataSet(returnedCertDataSet);
@@ -514,31 +530,6 @@ public class KeyStoreAdmin {
         return paginatedCertData;
     }
 
-    /**
-     * This method is used internally for the filtering purposes.
-     *
-     * @param filter      Filter string.
-     * @param certDataSet Certificate or key array.
-     * @return Cert Data array after filtering.
-     */
-    private static CertData[] doFilter(String filter, CertData[] certDataSet) {
-
-        if (certDataSet != null && certDataSet.length != 0) {
-            String regPattern = filter.replace("*", ".*");
-            List<CertData> certDataList = new ArrayList<CertData>();
-
-            for (CertData cert : certDataSet) {
-                if (cert != null && cert.getAlias().toLowerCase().matches(regPattern.toLowerCase())) {
-                    certDataList.add(cert);
-                }
-            }
-
-            return (CertData[]) certDataList.toArray(new CertData[0]);
-        } else {
-            return new CertData[0];
-        }
-    }
-
     /**
      * Gets the keystore info by keystore name with its certificates and key certificates.
      *
@@ -560,19 +551,13 @@ public class KeyStoreAdmin {
             // Get keystore type.
             String keyStoreType = keyStore.getType();
 
-            // Extract certificates from aliases as list.
-            List<CertData> certDataList = getCertificates(keyStore);
-            List<CertData> keyCertDataList = getKeyCertificates(keyStore);
+            // Get the certificates of the keystore from its catalog.
+            CertificateCatalog catalog = CertificateCatalog.getCatalog(tenantId, keyStoreName, keyStore);
 
-            // Create a certificate array.
-            CertData[] certs = certDataList.toArray(new CertData[certDataList.size()]);
             // Get paginated certificates.
-            PaginatedCertData paginatedCerts = doPaging(pageNumber, certs);
-
-            // Create a key certificate array.
-            CertData[] keyCerts = keyCertDataList.toArray(new CertData[keyCertDataList.size()]);
+            PaginatedCertData paginatedCerts = doPaging(pageNumber, catalog.getCertificateEntries(), keyStore);
             // Get paginated key certificates.
-            PaginatedCertData paginatedKeyCerts = doPaging(pageNumber, keyCerts);
+            PaginatedCertData paginatedKeyCerts = doPaging(pageNumber, catalog.getKeyEntries(), keyStore);
 
             // Fill information about the keystore to PaginatedKeyStoreData.
             PaginatedKeyStoreData keyStoreData = fillPaginatedKeyStoreData(keyStoreName, keyStoreType,
@@ -608,12 +593,13 @@ public class KeyStoreAdmin {
             // Get keystore type.
             String keyStoreType = keyStore.getType();
 
-            // Extract certificates from aliases as list.
-            List<CertData> certDataList = getCertificates(keyStore);
-            List<CertData> keyCertDataList = getKeyCertificates(keyStore);
+            // Get the certificates of the keystore from its catalog.
+            CertificateCatalog catalog = CertificateCatalog.getCatalog(tenantId, keyStoreName, keyStore);
             // Filter and paginate certs and keyCerts.
-            PaginatedCertData paginatedCerts = filterAndPaginateCerts(certDataList, filter, pageNumber);
-            PaginatedCertData paginatedKeyCerts = filterAndPaginateCerts(keyCertDataList, filter, pageNumber);
+            PaginatedCertData paginatedCerts = doPaging(pageNumber,
+                    CertificateCatalog.filterByAlias(catalog.getCertificateEntries(), filter), keyStore);
+            PaginatedCertData paginatedKeyCerts = doPaging(pageNumber,
+                    CertificateCatalog.filterByAlias(catalog.getKeyEntries(), filter), keyStore);
             // Fill information about the keystore to PaginatedKeyStoreData.
             PaginatedKeyStoreData keyStoreData = fillPaginatedKeyStoreData(keyStoreName, keyStoreType,
                     paginatedCerts, paginatedKeyCerts);
@@ -646,72 +632,39 @@ public class KeyStoreAdmin {
     }
 
     /**
-     * Get certificates related to alias from the keystore.
+     * Gets the certificates and key certificates of the keystore which expire within the given period.
      *
-     * @param keyStore Keystore
-     * @return List of certificate data.
-     * @throws KeyStoreException
-     * @throws CertificateEncodingException
+     * @param keyStoreName The name of the keystore.
+     * @param from         Start of the period, inclusive.
+     * @param to           End of the period, inclusive.
+     * @return Certificate data of the certificates, in the order of their expiry.
+     * @throws SecurityConfigException will be thrown.
      */
-    private List<CertData> getCertificates(KeyStore keyStore)
-            throws KeyStoreException, CertificateEncodingException {
-
-        Enumeration<String> aliases = keyStore.aliases();
-        // Create lists for cert and key lists.
-        List<CertData> certDataList = new ArrayList<>();
-        Format formatter = new SimpleDateFormat("dd/MM/yyyy");
+    public CertData[] getCertificatesExpiringBetween(String keyStoreName, Date from, Date to)
+            throws SecurityConfigException {
 
-        while (aliases.hasMoreElements()) {
-            String alias = aliases.nextElement();
-            X509Certificate cert = (X509Certificate) keyStore.getCertificate(alias);
-            if (keyStore.isCertificateEntry(alias)) {
-                certDataList.add(fillCertData(cert, alias, formatter));
-            }
+        if (StringUtils.isEmpty(keyStoreName)) {
+            throw new SecurityConfigException("Keystore name cannot be empty or null.");
+        }
+        if (from == null || to == null) {
+            throw new SecurityConfigException("Expiry period cannot be null.");
         }
-        return certDataList;
-    }
-
-    /**
-     * Get key certificates related to alias from the keystore.
-     *
-     * @param keyStore Keystore
-     * @return List of certificate data.
-     * @throws KeyStoreException
-     * @throws CertificateEncodingException
-     */
-    private List<CertData> getKeyCertificates(KeyStore keyStore)
-            throws KeyStoreException, CertificateEncodingException {
 
-        Enumeration<String> aliases = keyStore.aliases();
-        // Create lists for cert and key lists.
-        List<CertData> certDataList = new ArrayList<>();
-        Format formatter = new SimpleDateFormat("dd/MM/yyyy");
+        try {
+            KeyStore keyStore = this.keyStoreManager.getKeyStore(keyStoreName);
+            List<CertificateCatalog.CertificateEntry> entries = CertificateCatalog.getCatalog(tenantId, keyStoreName,
+                    keyStore).getEntriesExpiringBetween(from, to);
 
-        while (aliases.hasMoreElements()) {
-            String alias = aliases.nextElement();
-            X509Certificate cert = (X509Certificate) keyStore.getCertificate(alias);
-            if (keyStore.isKeyEntry(alias)) {
-                certDataList.add(fillCertData(cert, alias, formatter));
+            CertData[] certDataSet = new CertData[entries.size()];
+            Format formatter = new SimpleDateFormat("dd/MM/yyyy");
+            for (int i = 0; i < entries.size(); i++) {
+                String alias = entries.get(i).getAlias();
+                certDataSet[i] = fillCertData((X509Certificate) keyStore.getCertificate(alias), alias, formatter);
             }
+            return certDataSet;
+        } catch (Exception e) {
+            throw new SecurityConfigException(e.getMessage());
         }
-        return certDataList;
-    }
-
-    /**
-     * Filter and paginate certificate list.
-     *
-     * @param certDataList Certificate list.
-     * @param filterString Filter text.
-     * @param pageNumber   Page number.
-     * @return Paginated and Filtered Certificate Data.
-     */
-    private PaginatedCertData filterAndPaginateCerts(List<CertData> certDataList, String filterString, int pageNumber) {
-
-        PaginatedCertData paginatedCerts;
-        CertData[] certs = certDataList.toArray(new CertData[0]);
-        certs = (doFilter(filterString, certs));
-        paginatedCerts = doPaging(pageNumber, certs);
-        return paginatedCerts;
     }
 
     /**
@@ -27,6 +27,8 @@ import org.wso2.carbon.core.util.KeyStoreManager;
 import org.wso2.carbon.security.SecurityConfigException;
 import org.wso2.carbon.security.keystore.KeyStoreAdmin;
 
+import java.util.Date;
+
 public class KeyStoreAdminServiceImpl extends AbstractAdmin implements KeyStoreAdminInterface {
 
     @Override
@@ -126,4 +128,21 @@ public class KeyStoreAdminServiceImpl extends AbstractAdmin implements KeyStoreA
                 getGovernanceSystemRegistry());
         return admin.getFilteredPaginatedKeyStoreInfo(keyStoreName, pageNumber, filter);
     }
+
+    /**
+     * Calls method to get the certificates of the keystore which expire within the given period.
+     *
+     * @param keyStoreName Keystore name.
+     * @param from         Start of the period, inclusive.
+     * @param to           End of the period, inclusive.
+     * @return Certificates of the keystore, in the order of their expiry.
+     * @throws SecurityConfigException
+     */
+    public CertData[] getCertificatesExpiringBetween(String keyStoreName, Date from, Date to)
+            throws SecurityConfigException {
+
+        KeyStoreAdmin admin = new KeyStoreAdmin(CarbonContext.getThreadLocalCarbonContext().getTenantId(),
+                getGovernanceSystemRegistry());
+        return admin.getCertificatesExpiringBetween(keyStoreName, from, to);
+    }
 }
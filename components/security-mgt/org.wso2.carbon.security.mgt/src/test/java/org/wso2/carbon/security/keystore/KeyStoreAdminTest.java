@@ -49,7 +49,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.Key;
 import java.security.KeyStore;
+import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 import static org.junit.Assert.assertNotNull;
@@ -240,6 +242,30 @@ public class KeyStoreAdminTest extends IdentityBaseTest {
         }
     }
 
+    @Test
+    public void testGetCertificatesExpiringBetween() throws Exception {
+
+        try (MockedStatic<KeyStoreManager> keyStoreManagerMockedStatic = mockStatic(KeyStoreManager.class)) {
+
+            keyStoreManagerMockedStatic.when(() -> KeyStoreManager.getInstance(tenantID)).thenReturn(keyStoreManager);
+            when(keyStoreManager.getKeyStore(anyString()))
+                    .thenReturn(getKeyStoreFromFile(KEYSTORE_NAME, KEYSTORE_PASSWORD));
+
+            keyStoreAdmin = new KeyStoreAdmin(tenantID, null);
+            SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
+            CertData[] expiringCerts = keyStoreAdmin.getCertificatesExpiringBetween(KEYSTORE_NAME,
+                    dateFormat.parse("2019-08-01"), dateFormat.parse("2019-08-31"));
+            assertEquals(expiringCerts.length, 2, "Incorrect number of expiring certificates");
+            assertEquals(expiringCerts[0].getAlias(), "secondkey");
+            assertEquals(expiringCerts[1].getAlias(), "thirdkey");
+            assertNotNull(expiringCerts[0].getPublicKey());
+
+            CertData[] allCerts = keyStoreAdmin.getCertificatesExpiringBetween(KEYSTORE_NAME, new Date(0),
+                    new Date(Long.MAX_VALUE));
+            assertEquals(allCerts.length, 38, "Incorrect number of certificates");
+        }
+    }
+
     @Test
     public void testGetKeystoresInfo() throws Exception {
 
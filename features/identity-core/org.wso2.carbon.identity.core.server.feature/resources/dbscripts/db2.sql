@@ -1001,6 +1001,29 @@ CREATE TRIGGER IDP_PROV_ENTITY_TRIG NO CASCADE
                     SET (NEW.ID) = (NEXTVAL FOR IDP_PROV_ENTITY_SEQ);
                 END
 /
+CREATE TABLE IDP_PROVISIONING_QUEUE (
+            ID INTEGER NOT NULL,
+            OPERATION_ID VARCHAR(255) NOT NULL,
+            IDP_NAME VARCHAR(254) NOT NULL,
+            CONNECTOR_TYPE VARCHAR(255) NOT NULL,
+            TENANT_ID INTEGER NOT NULL,
+            ENTITY_TENANT_ID INTEGER,
+            OPERATION_DATA BLOB,
+            TIME_CREATED BIGINT,
+            PRIMARY KEY (ID),
+            UNIQUE (OPERATION_ID))
+/
+CREATE SEQUENCE IDP_PROV_QUEUE_SEQ START WITH 1 INCREMENT BY 1 NOCACHE
+/
+CREATE TRIGGER IDP_PROV_QUEUE_TRIG NO CASCADE
+            BEFORE INSERT
+            ON IDP_PROVISIONING_QUEUE
+            REFERENCING NEW AS NEW
+            FOR EACH ROW MODE DB2SQL
+                BEGIN ATOMIC
+                    SET (NEW.ID) = (NEXTVAL FOR IDP_PROV_QUEUE_SEQ);
+                END
+/
 CREATE TABLE IDP_LOCAL_CLAIM (
             ID INTEGER NOT NULL,
             TENANT_ID INTEGER NOT NULL,
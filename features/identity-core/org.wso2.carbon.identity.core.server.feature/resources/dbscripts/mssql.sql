@@ -751,6 +751,20 @@ CREATE TABLE IDP_PROVISIONING_ENTITY (
   FOREIGN KEY (PROVISIONING_CONFIG_ID) REFERENCES IDP_PROVISIONING_CONFIG(ID) ON DELETE CASCADE
 );
 
+IF NOT  EXISTS (SELECT * FROM SYS.OBJECTS WHERE OBJECT_ID = OBJECT_ID(N'[DBO].[IDP_PROVISIONING_QUEUE]') AND TYPE IN (N'U'))
+CREATE TABLE IDP_PROVISIONING_QUEUE (
+  ID INTEGER IDENTITY,
+  OPERATION_ID VARCHAR(255) NOT NULL,
+  IDP_NAME VARCHAR(254) NOT NULL,
+  CONNECTOR_TYPE VARCHAR(255) NOT NULL,
+  TENANT_ID INTEGER NOT NULL,
+  ENTITY_TENANT_ID INTEGER,
+  OPERATION_DATA VARBINARY(MAX),
+  TIME_CREATED BIGINT,
+  PRIMARY KEY (ID),
+  UNIQUE (OPERATION_ID)
+);
+
 IF NOT  EXISTS (SELECT * FROM SYS.OBJECTS WHERE OBJECT_ID = OBJECT_ID(N'[DBO].[IDP_LOCAL_CLAIM]') AND TYPE IN (N'U'))
 CREATE TABLE IDP_LOCAL_CLAIM (
   ID INTEGER IDENTITY,
@@ -796,6 +796,20 @@ CREATE TABLE IF NOT EXISTS IDP_PROVISIONING_ENTITY (
 )
   ENGINE NDB;
 
+CREATE TABLE IF NOT EXISTS IDP_PROVISIONING_QUEUE (
+  ID               INTEGER AUTO_INCREMENT,
+  OPERATION_ID     VARCHAR(255) NOT NULL,
+  IDP_NAME         VARCHAR(254) NOT NULL,
+  CONNECTOR_TYPE   VARCHAR(255) NOT NULL,
+  TENANT_ID        INTEGER      NOT NULL,
+  ENTITY_TENANT_ID INTEGER,
+  OPERATION_DATA   BLOB,
+  TIME_CREATED     BIGINT,
+  PRIMARY KEY (ID),
+  UNIQUE (OPERATION_ID)
+)
+  ENGINE NDB;
+
 CREATE TABLE IF NOT EXISTS IDP_LOCAL_CLAIM (
   ID            INTEGER      AUTO_INCREMENT,
   TENANT_ID     INTEGER,
@@ -1017,6 +1017,29 @@ CREATE OR REPLACE TRIGGER IDP_PROV_ENTITY_TRIG
                    SELECT IDP_PROV_ENTITY_SEQ.nextval INTO :NEW.ID FROM dual;
                END;
 /
+CREATE TABLE IDP_PROVISIONING_QUEUE (
+            ID INTEGER,
+            OPERATION_ID VARCHAR(255) NOT NULL,
+            IDP_NAME VARCHAR(254) NOT NULL,
+            CONNECTOR_TYPE VARCHAR(255) NOT NULL,
+            TENANT_ID INTEGER NOT NULL,
+            ENTITY_TENANT_ID INTEGER,
+            OPERATION_DATA BLOB,
+            TIME_CREATED NUMBER(19),
+            PRIMARY KEY (ID),
+            UNIQUE (OPERATION_ID))
+/
+CREATE SEQUENCE IDP_PROV_QUEUE_SEQ START WITH 1 INCREMENT BY 1 CACHE 20
+/
+CREATE OR REPLACE TRIGGER IDP_PROV_QUEUE_TRIG
+            BEFORE INSERT
+            ON IDP_PROVISIONING_QUEUE
+            REFERENCING NEW AS NEW
+            FOR EACH ROW
+               BEGIN
+                   SELECT IDP_PROV_QUEUE_SEQ.nextval INTO :NEW.ID FROM dual;
+               END;
+/
 CREATE TABLE IDP_LOCAL_CLAIM (
             ID INTEGER,
             TENANT_ID INTEGER,
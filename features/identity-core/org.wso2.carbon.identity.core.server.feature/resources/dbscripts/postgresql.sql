@@ -816,6 +816,21 @@ CREATE TABLE IDP_PROVISIONING_ENTITY (
             UNIQUE (PROVISIONING_CONFIG_ID, ENTITY_TYPE, ENTITY_VALUE),
             FOREIGN KEY (PROVISIONING_CONFIG_ID) REFERENCES IDP_PROVISIONING_CONFIG(ID) ON DELETE CASCADE);
 
+DROP TABLE IF EXISTS IDP_PROVISIONING_QUEUE;
+DROP SEQUENCE IF EXISTS IDP_PROV_QUEUE_SEQ;
+CREATE SEQUENCE IDP_PROV_QUEUE_SEQ;
+CREATE TABLE IDP_PROVISIONING_QUEUE (
+            ID INTEGER DEFAULT NEXTVAL('IDP_PROV_QUEUE_SEQ'),
+            OPERATION_ID VARCHAR(255) NOT NULL,
+            IDP_NAME VARCHAR(254) NOT NULL,
+            CONNECTOR_TYPE VARCHAR(255) NOT NULL,
+            TENANT_ID INTEGER NOT NULL,
+            ENTITY_TENANT_ID INTEGER,
+            OPERATION_DATA BYTEA,
+            TIME_CREATED BIGINT,
+            PRIMARY KEY (ID),
+            UNIQUE (OPERATION_ID));
+
 DROP TABLE IF EXISTS IDP_LOCAL_CLAIM;
 DROP SEQUENCE IF EXISTS IDP_LOCAL_CLAIM_SEQ;
 CREATE SEQUENCE IDP_LOCAL_CLAIM_SEQ;